@@ -0,0 +1,188 @@
+package com.runfit.domain.crew.repository;
+
+import com.runfit.domain.crew.entity.CrewRole;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 세션 목록 한 페이지(20개 세션 x 참여자 미리보기 3명)의 참여자 역할 조회 비교.
+ * - perParticipant: 참여자마다 단건 조회 + "userId_crewId" 문자열 키 HashMap (기존 방식)
+ * - batched: IN 조회 한 번 + MembershipRoleMap
+ *
+ * <p>queries 보조 카운터가 호출당 쿼리 수, gc 프로파일러의 gc.alloc.rate.norm이 호출당 할당량이다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MembershipRoleLookupBenchmark {
+
+    private static final int USERS = 5_000;
+    private static final int CREWS = 200;
+    private static final int SESSIONS_PER_PAGE = 20;
+    private static final int PREVIEW_SIZE = 3;
+
+    private static final String SINGLE_SQL = "SELECT role FROM memberships WHERE user_id = ? AND crew_id = ?";
+
+    private Connection connection;
+
+    // 페이지에 노출되는 (userId, crewId) 쌍
+    private long[] pageUserIds;
+    private long[] pageCrewIds;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class QueryCounter {
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            queries = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:membership-bench;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE memberships (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    user_id BIGINT NOT NULL,
+                    crew_id BIGINT NOT NULL,
+                    role VARCHAR(20) NOT NULL,
+                    CONSTRAINT uk_memberships_user_crew UNIQUE (user_id, crew_id)
+                )
+                """);
+        }
+
+        Random random = new Random(42);
+        List<long[]> memberships = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO memberships (user_id, crew_id, role) VALUES (?, ?, ?)")) {
+            for (long userId = 1; userId <= USERS; userId++) {
+                Set<Long> crews = new LinkedHashSet<>();
+                while (crews.size() < 3) {
+                    crews.add((long) random.nextInt(CREWS) + 1);
+                }
+                for (Long crewId : crews) {
+                    CrewRole role = CrewRole.values()[random.nextInt(CrewRole.values().length)];
+                    statement.setLong(1, userId);
+                    statement.setLong(2, crewId);
+                    statement.setString(3, role.name());
+                    statement.addBatch();
+                    memberships.add(new long[]{userId, crewId});
+                }
+            }
+            statement.executeBatch();
+        }
+
+        Collections.shuffle(memberships, random);
+        int pairs = SESSIONS_PER_PAGE * PREVIEW_SIZE;
+        pageUserIds = new long[pairs];
+        pageCrewIds = new long[pairs];
+        for (int i = 0; i < pairs; i++) {
+            pageUserIds[i] = memberships.get(i)[0];
+            pageCrewIds[i] = memberships.get(i)[1];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int perParticipant(QueryCounter counter) throws SQLException {
+        Map<String, CrewRole> roleMap = new HashMap<>();
+        for (int i = 0; i < pageUserIds.length; i++) {
+            String key = pageUserIds[i] + "_" + pageCrewIds[i];
+            if (!roleMap.containsKey(key)) {
+                try (PreparedStatement statement = connection.prepareStatement(SINGLE_SQL)) {
+                    statement.setLong(1, pageUserIds[i]);
+                    statement.setLong(2, pageCrewIds[i]);
+                    counter.queries++;
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        roleMap.put(key, resultSet.next() ? CrewRole.valueOf(resultSet.getString(1)) : CrewRole.MEMBER);
+                    }
+                }
+            }
+        }
+
+        int leaders = 0;
+        for (int i = 0; i < pageUserIds.length; i++) {
+            if (roleMap.getOrDefault(pageUserIds[i] + "_" + pageCrewIds[i], CrewRole.MEMBER) == CrewRole.LEADER) {
+                leaders++;
+            }
+        }
+        return leaders;
+    }
+
+    @Benchmark
+    public int batched(QueryCounter counter) throws SQLException {
+        Set<Long> userIds = new LinkedHashSet<>();
+        Set<Long> crewIds = new LinkedHashSet<>();
+        for (int i = 0; i < pageUserIds.length; i++) {
+            userIds.add(pageUserIds[i]);
+            crewIds.add(pageCrewIds[i]);
+        }
+
+        String sql = "SELECT user_id, crew_id, role FROM memberships WHERE user_id IN ("
+            + placeholders(userIds.size()) + ") AND crew_id IN (" + placeholders(crewIds.size()) + ")";
+
+        MembershipRoleMap roleMap = new MembershipRoleMap(pageUserIds.length);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (Long userId : userIds) {
+                statement.setLong(index++, userId);
+            }
+            for (Long crewId : crewIds) {
+                statement.setLong(index++, crewId);
+            }
+            counter.queries++;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    roleMap.put(resultSet.getLong(1), resultSet.getLong(2), CrewRole.valueOf(resultSet.getString(3)));
+                }
+            }
+        }
+
+        int leaders = 0;
+        for (int i = 0; i < pageUserIds.length; i++) {
+            if (roleMap.get(pageUserIds[i], pageCrewIds[i], CrewRole.MEMBER) == CrewRole.LEADER) {
+                leaders++;
+            }
+        }
+        return leaders;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
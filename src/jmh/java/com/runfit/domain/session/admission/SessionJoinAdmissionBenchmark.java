@@ -0,0 +1,214 @@
+package com.runfit.domain.session.admission;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 인기 세션 하나에 참가 신청이 몰릴 때의 처리량과 지연 비교.
+ * - synchronous: 요청마다 자기 커넥션으로 조건부 UPDATE + INSERT + COMMIT (SessionService.joinSession과 같은 문장)
+ * - queued: SessionAdmissionQueue에 넣고 결과를 기다린다. 워커가 세션 행을 잠그고 묶음 단위로 INSERT + COMMIT
+ *
+ * <p>64개 스레드가 동시에 신청하며, synchronous는 스레드마다 커넥션을 하나씩 쥐고 있어 풀 64개를 다 쓰는 상황이다.
+ * queued는 워커 수만큼의 커넥션만 쓴다. Throughput이 초당 처리량, SampleTime의 p0.99가 p99 지연이다.
+ * (H2 인메모리 - 커밋 비용이 실제 MySQL보다 훨씬 작아 묶음 커밋의 이득이 작게 나온다)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+public class SessionJoinAdmissionBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:admission-bench;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000";
+    private static final long SESSION_ID = 1L;
+    private static final int WORKERS = 4;
+    private static final int BATCH_SIZE = 50;
+
+    private static final String RESERVE_SQL = """
+        UPDATE sessions SET participant_count = participant_count + 1
+        WHERE id = ? AND status = 'OPEN' AND participant_count < max_participant_count
+        """;
+    private static final String LOCK_SQL =
+        "SELECT participant_count, max_participant_count FROM sessions WHERE id = ? FOR UPDATE";
+    private static final String ADD_SQL = "UPDATE sessions SET participant_count = participant_count + ? WHERE id = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO session_participants (session_id, user_id, joined_at) VALUES (?, ?, CURRENT_TIMESTAMP)";
+
+    private final AtomicLong userSequence = new AtomicLong();
+    private final Map<String, CompletableFuture<Boolean>> pending = new ConcurrentHashMap<>();
+    private final List<Connection> workerConnections = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Connection> workerConnection = new ThreadLocal<>();
+
+    private Connection connection;
+    private SessionAdmissionQueue queue;
+
+    @State(Scope.Thread)
+    public static class Client {
+        private Connection connection;
+
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            connection = DriverManager.getConnection(URL);
+            connection.setAutoCommit(false);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE sessions (
+                    id BIGINT PRIMARY KEY,
+                    status VARCHAR(20) NOT NULL,
+                    participant_count BIGINT NOT NULL,
+                    max_participant_count INT NOT NULL
+                )
+                """);
+            statement.execute("""
+                CREATE TABLE session_participants (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    session_id BIGINT NOT NULL REFERENCES sessions (id),
+                    user_id BIGINT NOT NULL,
+                    joined_at TIMESTAMP NOT NULL,
+                    CONSTRAINT uk_session_participants UNIQUE (session_id, user_id)
+                )
+                """);
+            // 정원 마감으로 실패하는 신청 없이 좌석 확보 경로만 비교한다
+            statement.execute("INSERT INTO sessions VALUES (" + SESSION_ID + ", 'OPEN', 0, " + Integer.MAX_VALUE + ")");
+        }
+
+        queue = new SessionAdmissionQueue(WORKERS, 100_000, BATCH_SIZE, this::commitBatch);
+        queue.start();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetParticipants() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM session_participants");
+            statement.execute("UPDATE sessions SET participant_count = 0");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        queue.shutdown(Duration.ZERO);
+        for (Connection worker : workerConnections) {
+            worker.close();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean synchronous(Client client) throws SQLException {
+        long userId = userSequence.incrementAndGet();
+        try (PreparedStatement reserve = client.connection.prepareStatement(RESERVE_SQL);
+             PreparedStatement insert = client.connection.prepareStatement(INSERT_SQL)) {
+            reserve.setLong(1, SESSION_ID);
+            if (reserve.executeUpdate() == 0) {
+                client.connection.rollback();
+                return false;
+            }
+            insert.setLong(1, SESSION_ID);
+            insert.setLong(2, userId);
+            insert.executeUpdate();
+            client.connection.commit();
+            return true;
+        } catch (SQLException e) {
+            client.connection.rollback();
+            throw e;
+        }
+    }
+
+    @Benchmark
+    public boolean queued() throws InterruptedException, ExecutionException {
+        long userId = userSequence.incrementAndGet();
+        String ticketId = Long.toString(userId);
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        pending.put(ticketId, result);
+        if (!queue.offer(new JoinRequest(ticketId, SESSION_ID, userId))) {
+            pending.remove(ticketId);
+            throw new IllegalStateException("admission queue is full");
+        }
+        return result.get();
+    }
+
+    private void commitBatch(List<JoinRequest> batch) {
+        try {
+            Connection worker = workerConnection();
+            try (PreparedStatement lock = worker.prepareStatement(LOCK_SQL);
+                 PreparedStatement insert = worker.prepareStatement(INSERT_SQL);
+                 PreparedStatement add = worker.prepareStatement(ADD_SQL)) {
+                lock.setLong(1, SESSION_ID);
+                long seats;
+                try (ResultSet resultSet = lock.executeQuery()) {
+                    resultSet.next();
+                    seats = resultSet.getLong(2) - resultSet.getLong(1);
+                }
+
+                int admitted = (int) Math.min(seats, batch.size());
+                for (int i = 0; i < admitted; i++) {
+                    insert.setLong(1, SESSION_ID);
+                    insert.setLong(2, batch.get(i).userId());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                add.setLong(1, admitted);
+                add.setLong(2, SESSION_ID);
+                add.executeUpdate();
+                worker.commit();
+
+                for (int i = 0; i < batch.size(); i++) {
+                    pending.remove(batch.get(i).ticketId()).complete(i < admitted);
+                }
+            } catch (SQLException e) {
+                worker.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            batch.forEach(request -> pending.remove(request.ticketId()).completeExceptionally(e));
+        }
+    }
+
+    private Connection workerConnection() throws SQLException {
+        Connection worker = workerConnection.get();
+        if (worker == null) {
+            worker = DriverManager.getConnection(URL);
+            worker.setAutoCommit(false);
+            workerConnection.set(worker);
+            workerConnections.add(worker);
+        }
+        return worker;
+    }
+}
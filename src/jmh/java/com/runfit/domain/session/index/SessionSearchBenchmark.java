@@ -0,0 +1,224 @@
+package com.runfit.domain.session.index;
+
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 모집중 세션 검색: 컬럼 인덱스(OpenSessionIndex) vs DB 조회 비교.
+ * DB 쪽은 SessionRepositoryCustomImpl.searchSessions가 생성하는 것과 같은 조건/정렬/인덱스로
+ * id 페이지를 조회한다. (H2 인메모리 - 실제 MySQL보다 DB에 유리한 조건)
+ *
+ * <p>실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionSearchBenchmark {
+
+    private static final String[] CITIES = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "경기"};
+    private static final int DISTRICTS_PER_CITY = 20;
+    private static final PageRequest PAGE = PageRequest.of(0, 20);
+
+    private static final String CITY_LEVEL_SQL = """
+        SELECT s.id FROM sessions s
+        WHERE s.deleted IS NULL AND s.city IN (?) AND s.level = ? AND s.status = 'OPEN'
+        ORDER BY s.created_at DESC, s.id DESC
+        LIMIT 21
+        """;
+
+    private static final String DAY_TIME_SQL = """
+        SELECT s.id FROM sessions s
+        WHERE s.deleted IS NULL AND s.status = 'OPEN'
+        AND s.session_day_of_week IN (6, 7) AND s.session_minute_of_day BETWEEN ? AND ?
+        ORDER BY s.session_at ASC, s.id ASC
+        LIMIT 21
+        """;
+
+    @Param({"10000", "100000"})
+    private int sessionCount;
+
+    private Path directory;
+    private OpenSessionIndex index;
+    private Connection connection;
+
+    private SessionSearchCondition cityLevelCondition;
+    private SessionSearchCondition dayTimeCondition;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("session-index-bench");
+        index = new OpenSessionIndex(directory);
+        connection = DriverManager.getConnection("jdbc:h2:mem:bench" + sessionCount + ";DB_CLOSE_DELAY=-1");
+
+        createTable();
+        seed();
+
+        cityLevelCondition = SessionSearchCondition.of(
+            List.of("서울"), null, null, SessionLevel.BEGINNER, SessionStatus.OPEN,
+            null, null, null, null, null
+        );
+        dayTimeCondition = SessionSearchCondition.of(
+            null, null, null, null, SessionStatus.OPEN, null, null,
+            LocalTime.of(6, 0), LocalTime.of(9, 0), List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), "sessionAtAsc",
+            null, null, null
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        index.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public SessionIdPage index_cityAndLevel() {
+        return index.search(cityLevelCondition, null, PAGE);
+    }
+
+    @Benchmark
+    public List<Long> database_cityAndLevel() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(CITY_LEVEL_SQL)) {
+            statement.setString(1, "서울");
+            statement.setString(2, SessionLevel.BEGINNER.name());
+            return fetchIds(statement);
+        }
+    }
+
+    @Benchmark
+    public SessionIdPage index_weekendMorning() {
+        return index.search(dayTimeCondition, null, PAGE);
+    }
+
+    @Benchmark
+    public List<Long> database_weekendMorning() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DAY_TIME_SQL)) {
+            statement.setInt(1, 6 * 60);
+            statement.setInt(2, 9 * 60);
+            return fetchIds(statement);
+        }
+    }
+
+    private List<Long> fetchIds(PreparedStatement statement) throws SQLException {
+        List<Long> ids = new ArrayList<>(21);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    // Session 엔티티의 검색 관련 컬럼과 인덱스만 옮겨 둔 테이블
+    private void createTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE sessions (
+                    id BIGINT PRIMARY KEY,
+                    crew_id BIGINT NOT NULL,
+                    city VARCHAR(255),
+                    district VARCHAR(255),
+                    level VARCHAR(20),
+                    status VARCHAR(20),
+                    session_at TIMESTAMP NOT NULL,
+                    register_by TIMESTAMP NOT NULL,
+                    session_minute_of_day INT,
+                    session_day_of_week INT,
+                    latitude DOUBLE,
+                    longitude DOUBLE,
+                    created_at TIMESTAMP NOT NULL,
+                    deleted TIMESTAMP
+                )
+                """);
+            statement.execute("CREATE INDEX idx_sessions_city_session_at_minute ON sessions (city, session_at, session_minute_of_day)");
+            statement.execute("CREATE INDEX idx_sessions_session_at_minute ON sessions (session_at, session_minute_of_day)");
+            statement.execute("CREATE INDEX idx_sessions_day_of_week_minute ON sessions (session_day_of_week, session_minute_of_day)");
+        }
+    }
+
+    private void seed() throws SQLException {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        SessionLevel[] levels = SessionLevel.values();
+
+        try (PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO sessions VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NULL)")) {
+            for (long id = 1; id <= sessionCount; id++) {
+                long crewId = random.nextInt(500) + 1;
+                String city = CITIES[random.nextInt(CITIES.length)];
+                String district = city + "-" + random.nextInt(DISTRICTS_PER_CITY);
+                SessionLevel level = levels[random.nextInt(levels.length)];
+                // 실제 서비스처럼 대부분은 마감된 세션이고 일부만 모집중
+                SessionStatus status = random.nextInt(5) == 0 ? SessionStatus.OPEN : SessionStatus.CLOSED;
+                LocalDateTime sessionAt = base.plusMinutes(random.nextInt(365 * 24 * 4) * 15L);
+                LocalDateTime registerBy = sessionAt.minusDays(1);
+                LocalDateTime createdAt = base.minusDays(30).plusSeconds(id);
+                double latitude = 35.0 + random.nextDouble() * 3;
+                double longitude = 126.5 + random.nextDouble() * 3;
+
+                statement.setLong(1, id);
+                statement.setLong(2, crewId);
+                statement.setString(3, city);
+                statement.setString(4, district);
+                statement.setString(5, level.name());
+                statement.setString(6, status.name());
+                statement.setTimestamp(7, Timestamp.valueOf(sessionAt));
+                statement.setTimestamp(8, Timestamp.valueOf(registerBy));
+                statement.setInt(9, sessionAt.getHour() * 60 + sessionAt.getMinute());
+                statement.setInt(10, sessionAt.getDayOfWeek().getValue());
+                statement.setDouble(11, latitude);
+                statement.setDouble(12, longitude);
+                statement.setTimestamp(13, Timestamp.valueOf(createdAt));
+                statement.addBatch();
+
+                if (id % 1000 == 0) {
+                    statement.executeBatch();
+                }
+
+                index.apply(new SessionIndexEntry(
+                    id, crewId, city, district, level, status,
+                    sessionAt, registerBy, createdAt, latitude, longitude
+                ), false);
+            }
+            statement.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.runfit.domain.session.repository;
+
+import com.runfit.RunfitApplication;
+import com.runfit.domain.crew.entity.Crew;
+import com.runfit.domain.crew.entity.Membership;
+import com.runfit.domain.crew.repository.CrewRepository;
+import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.session.controller.dto.request.Coords;
+import com.runfit.domain.session.controller.dto.request.SessionCreateRequest;
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionParticipant;
+import com.runfit.domain.session.service.SessionService;
+import com.runfit.domain.user.entity.User;
+import com.runfit.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 엔티티 id 채번 방식에 따른 대량 쓰기 비교. 애플리케이션 컨텍스트를 H2 인메모리 DB로 띄우고 실제 서비스와 리포지토리를 호출한다.
+ * - createSession: SessionService.createSession (세션 생성 + 호스트 자동 참가 + 참가자 수 증가)
+ * - bulkJoin: 대기열 묶음 배정(SessionAdmissionService.admit)과 같은 순서로 세션 하나를 만들고 participants명의 참가 행을
+ *   saveAll한 뒤 참가자 수를 한 번에 올린다
+ *
+ * <p>statements 보조 카운터가 호출당 Hibernate가 준비한 JDBC 문장 수(시퀀스 테이블 조회 포함)이며, bulkJoin의 초당 행 수는
+ * 처리량 x participants다. 변경 전(IDENTITY, 배치 없음) 수치는 이 벤치마크를 그대로 둔 채 src/main만 id 채번 변경 직전
+ * 커밋으로 되돌려(git checkout &lt;커밋&gt;^ -- src/main) 같은 명령으로 잰다.
+ * (H2 인메모리 - 네트워크 왕복이 없어 시간 차이는 실제 MySQL보다 훨씬 작게 나온다. MySQL에서는
+ * rewriteBatchedStatements가 배치를 다중 VALUES INSERT 한 문장으로 바꿔 차이가 더 벌어진다)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EntityIdBatchWriteBenchmark {
+
+    @Param({"50", "500"})
+    public int participants;
+
+    private ConfigurableApplicationContext context;
+    private SessionService sessionService;
+    private SessionRepository sessionRepository;
+    private SessionParticipantRepository sessionParticipantRepository;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    private User host;
+    private Crew crew;
+    private List<User> joiners;
+    private SessionCreateRequest createRequest;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RunfitApplication.class)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:id-batch-bench;DB_CLOSE_DELAY=-1",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "spring.docker.compose.enabled=false",
+                "spring.cloud.aws.s3.bucket=bench-bucket",
+                "spring.cloud.aws.credentials.access-key=bench-access-key",
+                "spring.cloud.aws.credentials.secret-key=bench-secret-key",
+                "server.port=0",
+                "runfit.session-index.enabled=false",
+                "logging.level.org.hibernate.SQL=warn",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn")
+            .run();
+
+        sessionService = context.getBean(SessionService.class);
+        sessionRepository = context.getBean(SessionRepository.class);
+        sessionParticipantRepository = context.getBean(SessionParticipantRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        CrewRepository crewRepository = context.getBean(CrewRepository.class);
+        MembershipRepository membershipRepository = context.getBean(MembershipRepository.class);
+
+        host = userRepository.save(User.create("host@bench.com", "password", "호스트"));
+        crew = crewRepository.save(Crew.create("벤치마크 크루", "설명", "서울", null));
+        membershipRepository.save(Membership.createLeader(host, crew));
+
+        // bulkJoin은 호출마다 새 세션에 같은 사용자들을 넣으므로 (세션, 사용자) 유니크 제약에 걸리지 않는다
+        List<User> users = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            users.add(User.create("joiner" + i + "@bench.com", "password", "참가자" + i));
+        }
+        joiners = userRepository.saveAll(users);
+
+        LocalDateTime sessionAt = LocalDateTime.now().plusDays(7);
+        createRequest = new SessionCreateRequest(
+            crew.getId(), "벤치마크 세션", "설명", null,
+            "서울", "강남구", null, new Coords(37.4979, 127.0276),
+            sessionAt, sessionAt.minusDays(1),
+            SessionLevel.BEGINNER, participants + 1, 390, null, null
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long createSession(StatementCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        long sessionId = sessionService.createSession(host.getUserId(), createRequest, false).id();
+        counter.statements += statistics.getPrepareStatementCount() - before;
+        return sessionId;
+    }
+
+    @Benchmark
+    public long bulkJoin(StatementCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        Long sessionId = transactionTemplate.execute(status -> {
+            Session session = sessionRepository.save(Session.create(
+                crew, host, "벤치마크 세션", "설명", null,
+                "서울", "강남구", null, 37.4979, 127.0276,
+                createRequest.sessionAt(), createRequest.registerBy(),
+                SessionLevel.BEGINNER, 390, participants + 1
+            ));
+            sessionParticipantRepository.saveAll(joiners.stream()
+                .map(joiner -> SessionParticipant.create(session, joiner))
+                .toList());
+            sessionRepository.increaseParticipantCountBy(session.getId(), participants);
+            sessionParticipantRepository.flush();
+            return session.getId();
+        });
+        counter.statements += statistics.getPrepareStatementCount() - before;
+        return sessionId;
+    }
+}
@@ -21,6 +21,10 @@ public enum ErrorCode {
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 존재하지 않습니다."),
 
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "요청 데이터가 유효하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key는 1~255자여야 합니다."),
+    IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 아직 처리 중입니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청 본문을 보낼 수 없습니다."),
 
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 회원입니다."),
     INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 일치하지 않습니다."),
@@ -33,7 +37,9 @@ public enum ErrorCode {
     MEMBERSHIP_NOT_FOUND(HttpStatus.NOT_FOUND, "크루 멤버십을 찾을 수 없습니다."),
     MEMBERSHIP_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 해당 크루에 가입되어 있습니다."),
     CREW_ROLE_FORBIDDEN(HttpStatus.FORBIDDEN, "크루 역할 변경 권한이 없습니다."),
+    CREW_EXPORT_FORBIDDEN(HttpStatus.FORBIDDEN, "크루 데이터를 내보낼 권한이 없습니다."),
     LEADER_CANNOT_LEAVE(HttpStatus.BAD_REQUEST, "크루장은 탈퇴 전에 리더 권한을 위임해야 합니다."),
+    INVALID_MEMBER_IMPORT(HttpStatus.BAD_REQUEST, "가져올 이메일은 1개 이상 1,000개 이하여야 합니다."),
 
     // Session
     SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "세션을 찾을 수 없습니다."),
@@ -45,6 +51,12 @@ public enum ErrorCode {
     ALREADY_LIKED_SESSION(HttpStatus.BAD_REQUEST, "이미 찜한 세션입니다."),
     SESSION_LIKE_NOT_FOUND(HttpStatus.NOT_FOUND, "찜한 세션을 찾을 수 없습니다."),
     SESSION_DELETE_FORBIDDEN(HttpStatus.FORBIDDEN, "세션을 삭제할 권한이 없습니다."),
+    INVALID_LOCATION(HttpStatus.BAD_REQUEST, "위도(-90~90)와 경도(-180~180)를 함께 입력해야 합니다."),
+    JOIN_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "참가 신청 대기표를 찾을 수 없습니다."),
+    JOIN_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "참가 신청이 몰리고 있습니다. 잠시 후 다시 시도해 주세요."),
+    JOIN_ALREADY_PENDING(HttpStatus.CONFLICT, "이미 처리 중인 참가 신청이 있습니다. 대기표로 결과를 확인해 주세요."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "조회 기간은 시작일부터 종료일까지 최대 62일이어야 합니다."),
+    INVALID_RECURRENCE(HttpStatus.BAD_REQUEST, "반복 일정이 올바르지 않습니다. 종료일은 첫 세션 날짜 이후여야 하며 최대 100회까지 만들 수 있습니다."),
 
     // Review
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "리뷰를 찾을 수 없습니다."),
@@ -0,0 +1,91 @@
+package com.runfit.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 레코드 스트림을 한 행씩 CSV 또는 NDJSON으로 써 내려간다. 행을 모아두지 않으므로 메모리는 버퍼 크기로 고정된다.
+ * CSV 열은 레코드 컴포넌트 순서를 따르며, 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙인다.
+ */
+public final class RecordExportWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private RecordExportWriter() {
+    }
+
+    /**
+     * 모든 행을 쓰고 출력 스트림을 flush한다. 스트림을 닫는 것은 호출한 쪽의 책임이다.
+     */
+    public static <T extends Record> long write(
+        Stream<T> rows, Class<T> type, ExportFormat format, OutputStream out, ObjectMapper objectMapper)
+        throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RecordComponent[] components = type.getRecordComponents();
+
+        if (format == ExportFormat.CSV) {
+            writer.write(BYTE_ORDER_MARK);
+            for (int i = 0; i < components.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(components[i].getName());
+            }
+            writer.write('\n');
+        }
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, components, row);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, RecordComponent[] components, Record row) throws IOException {
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = read(components[i], row);
+            if (value != null) {
+                writer.write(value instanceof String text ? escape(text) : value.toString());
+            }
+        }
+    }
+
+    // 구분자/따옴표/줄바꿈은 따옴표로 감싸고, 스프레드시트가 수식으로 해석할 수 있는 값은 작은따옴표를 앞에 붙인다
+    static String escape(String text) {
+        String value = !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0 ? "'" + text : text;
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static Object read(RecordComponent component, Record row) {
+        try {
+            return component.getAccessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read export column " + component.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.runfit.common.geo;
+
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+
+/**
+ * 위치 검색 조건의 좌표 검증과 두 좌표 사이의 대원 거리(하버사인) 계산.
+ * DB 쿼리와 메모리 인덱스가 같은 기준으로 반경을 판단하도록 한곳에 둔다.
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoDistance() {
+    }
+
+    public static double haversineKm(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double dLat = Math.toRadians(toLatitude - fromLatitude);
+        double dLng = Math.toRadians(toLongitude - fromLongitude);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+            + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+            * Math.pow(Math.sin(dLng / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+
+    /**
+     * 위도/경도는 둘 다 없거나 둘 다 범위 안에 있어야 한다.
+     */
+    public static void validateCoordinates(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+
+        if (latitude == null || longitude == null
+            || latitude < -90 || latitude > 90
+            || longitude < -180 || longitude > 180) {
+            throw new BusinessException(ErrorCode.INVALID_LOCATION);
+        }
+    }
+}
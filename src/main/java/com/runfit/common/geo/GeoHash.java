@@ -0,0 +1,112 @@
+package com.runfit.common.geo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 위도/경도를 Geohash 문자열로 변환하고, 반경 검색 후보 셀을 계산한다.
+ * 같은 접두어를 가진 Geohash는 같은 격자 셀에 속하므로 접두어 LIKE 검색으로 인덱스 범위 스캔이 가능하다.
+ */
+public final class GeoHash {
+
+    public static final int PRECISION = 8;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    index = index * 2 + 1;
+                    minLng = mid;
+                } else {
+                    index = index * 2;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = index * 2 + 1;
+                    minLat = mid;
+                } else {
+                    index = index * 2;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[index]);
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 중심 좌표에서 radiusKm 이내의 모든 점을 포함하는 Geohash 접두어 목록(중심 셀 + 인접 8셀)을 반환한다.
+     * 셀 한 변이 반경 이상이 되는 가장 정밀한 자릿수를 선택하므로 3x3 셀이 원 전체를 덮는다.
+     */
+    public static List<String> coveringCells(double latitude, double longitude, double radiusKm) {
+        int precision = precisionFor(latitude, radiusKm);
+        double latStep = cellHeightDegrees(precision);
+        double lngStep = cellWidthDegrees(precision);
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            for (int dLng = -1; dLng <= 1; dLng++) {
+                double lat = Math.max(-90, Math.min(90 - 1e-9, latitude + dLat * latStep));
+                double lng = normalizeLongitude(longitude + dLng * lngStep);
+                cells.add(encode(lat, lng, precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    static int precisionFor(double latitude, double radiusKm) {
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        for (int precision = PRECISION; precision > 1; precision--) {
+            double heightKm = cellHeightDegrees(precision) * KM_PER_DEGREE;
+            double widthKm = cellWidthDegrees(precision) * KM_PER_DEGREE * cosLat;
+            if (Math.min(heightKm, widthKm) >= radiusKm) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    private static double cellHeightDegrees(int precision) {
+        int latBits = (precision * 5) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    private static double cellWidthDegrees(int precision) {
+        int lngBits = (precision * 5 + 1) / 2;
+        return 360.0 / (1L << lngBits);
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        if (longitude >= 180) {
+            return longitude - 360;
+        }
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude;
+    }
+}
@@ -0,0 +1,79 @@
+package com.runfit.common.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 노드가 공유하는 Idempotency-Key 저장소. 선점은 key_hash 유니크 제약에 맡기고,
+ * 만료된 기록은 선점 시 지우거나 주기적으로 일괄 삭제한다.
+ * 처리 중 기록은 in-progress-lease-seconds 동안만 유효해, 응답 전에 노드가 죽어도 재시도가 ttl-seconds 내내 409로 막히지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "runfit.idempotency.store", havingValue = "database")
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository recordRepository;
+
+    @Value("${runfit.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds = 86_400;
+
+    @Value("${runfit.idempotency.in-progress-lease-seconds:60}")
+    private long inProgressLeaseSeconds = 60;
+
+    // 트랜잭션 없이 호출해 유니크 제약 위반이 롤백 전용 트랜잭션을 남기지 않게 한다
+    @Override
+    public IdempotentResponse claim(String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                recordRepository.saveAndFlush(
+                    IdempotencyRecord.claim(key, requestHash, now, now.plusSeconds(inProgressLeaseSeconds)));
+                return null;
+            } catch (DataIntegrityViolationException e) {
+                Optional<IdempotencyRecord> existing = recordRepository.findByKeyHash(key);
+                if (existing.isPresent() && !existing.get().isExpired(now)) {
+                    return existing.get().matchesRequest(requestHash)
+                        ? existing.get().toResponse()
+                        : IdempotentResponse.REQUEST_MISMATCH;
+                }
+                // 만료되었거나(선점 기한이 지난 처리 중 기록 포함) 그 사이 해제된 키는 지우고 한 번 더 선점을 시도한다
+                existing.ifPresent(recordRepository::delete);
+            }
+        }
+        return IdempotentResponse.IN_PROGRESS;
+    }
+
+    @Override
+    @Transactional
+    public void complete(String key, IdempotentResponse response) {
+        recordRepository.complete(key, response.status(), response.contentType(), response.location(), response.body(),
+            LocalDateTime.now().plusSeconds(ttlSeconds));
+    }
+
+    @Override
+    @Transactional
+    public void release(String key) {
+        recordRepository.deleteInProgress(key);
+    }
+
+    @Scheduled(fixedDelayString = "${runfit.idempotency.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeExpired() {
+        int purgedCount = recordRepository.deleteAllExpired(LocalDateTime.now());
+
+        if (purgedCount > 0) {
+            log.info("Purged {} expired idempotency records", purgedCount);
+        }
+    }
+}
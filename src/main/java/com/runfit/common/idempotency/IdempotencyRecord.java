@@ -0,0 +1,87 @@
+package com.runfit.common.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 모드의 Idempotency-Key 기록. key_hash 유니크 제약으로 여러 노드 중 한 요청만 키를 선점한다.
+ * 처리 중인 기록의 expires_at은 짧은 선점 기한이고, 응답을 저장하면 ttl-seconds 뒤로 늘어난다.
+ * 운영 DB(ddl-auto none)에는 테이블, 유니크 키, expires_at 인덱스와 ID 채번 테이블을 직접 만들어야 한다.
+ */
+@Entity
+@Getter
+@Table(name = "idempotency_records", indexes = {
+    @Index(name = "idx_idempotency_records_expires_at", columnList = "expires_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotency_records_seq")
+    @SequenceGenerator(name = "idempotency_records_seq", sequenceName = "idempotency_records_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "key_hash", nullable = false, unique = true, length = 64)
+    private String keyHash;
+
+    // 컬럼 추가 전에 선점된 기록은 null이며, 본문 비교 없이 응답을 돌려준다 (ttl 안에 모두 만료된다)
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    // 0이면 처리 중
+    @Column(name = "status", nullable = false)
+    private int status;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "location", length = 500)
+    private String location;
+
+    @Column(name = "body", columnDefinition = "BLOB")
+    private byte[] body;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private IdempotencyRecord(String keyHash, String requestHash, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.keyHash = keyHash;
+        this.requestHash = requestHash;
+        this.status = IdempotentResponse.IN_PROGRESS.status();
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static IdempotencyRecord claim(String keyHash, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(keyHash, requestHash, now, expiresAt);
+    }
+
+    // 처리 중인 기록은 선점 기한이 지나면 만료되어, 응답 전에 죽은 노드의 키를 재시도가 넘겨받을 수 있다
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean matchesRequest(String requestHash) {
+        return this.requestHash == null || this.requestHash.equals(requestHash);
+    }
+
+    public IdempotentResponse toResponse() {
+        if (status == IdempotentResponse.IN_PROGRESS.status()) {
+            return IdempotentResponse.IN_PROGRESS;
+        }
+        return new IdempotentResponse(status, contentType, location, body);
+    }
+}
@@ -0,0 +1,37 @@
+package com.runfit.common.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByKeyHash(String keyHash);
+
+    @Modifying
+    @Query("""
+        update IdempotencyRecord r
+        set r.status = :status, r.contentType = :contentType, r.location = :location, r.body = :body,
+            r.expiresAt = :expiresAt
+        where r.keyHash = :keyHash
+        """)
+    int complete(
+        @Param("keyHash") String keyHash,
+        @Param("status") int status,
+        @Param("contentType") String contentType,
+        @Param("location") String location,
+        @Param("body") byte[] body,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.keyHash = :keyHash and r.status = 0")
+    int deleteInProgress(@Param("keyHash") String keyHash);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
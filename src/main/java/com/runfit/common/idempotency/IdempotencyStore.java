@@ -0,0 +1,22 @@
+package com.runfit.common.idempotency;
+
+/**
+ * Idempotency-Key 저장소. 키는 사용자/메서드/경로/헤더 값을 해시한 값이다.
+ * 단일 노드는 메모리({@code runfit.idempotency.store=memory}), 여러 노드는 DB({@code database}) 구현을 사용한다.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 처음 보는 키면 요청 본문 해시와 함께 처리 중으로 선점하고 null을 반환한다.
+     * 이미 있는 키면 저장된 응답을, 다른 요청이 처리 중이면 {@link IdempotentResponse#IN_PROGRESS}를,
+     * 선점할 때와 본문 해시가 다르면 {@link IdempotentResponse#REQUEST_MISMATCH}를 반환한다.
+     */
+    IdempotentResponse claim(String key, String requestHash);
+
+    void complete(String key, IdempotentResponse response);
+
+    /**
+     * 처리 중 표시를 지워 같은 키로 다시 실행할 수 있게 한다. 저장된 응답은 지우지 않는다.
+     */
+    void release(String key);
+}
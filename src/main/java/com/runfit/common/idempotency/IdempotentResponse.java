@@ -0,0 +1,23 @@
+package com.runfit.common.idempotency;
+
+/**
+ * Idempotency-Key로 처리된 요청의 응답 스냅샷. 같은 키의 재시도에는 서비스를 다시 실행하지 않고 이 값을 그대로 돌려준다.
+ * status가 0이면 첫 요청이 아직 처리 중이라는 표시이고, -1이면 같은 키에 다른 요청 본문이 왔다는 표시다.
+ */
+public record IdempotentResponse(
+    int status,
+    String contentType,
+    String location,
+    byte[] body
+) {
+    public static final IdempotentResponse IN_PROGRESS = new IdempotentResponse(0, null, null, new byte[0]);
+    public static final IdempotentResponse REQUEST_MISMATCH = new IdempotentResponse(-1, null, null, new byte[0]);
+
+    public boolean isInProgress() {
+        return status == IN_PROGRESS.status;
+    }
+
+    public boolean isRequestMismatch() {
+        return status == REQUEST_MISMATCH.status;
+    }
+}
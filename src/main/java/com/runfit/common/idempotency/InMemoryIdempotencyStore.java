@@ -0,0 +1,70 @@
+package com.runfit.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 Idempotency-Key 저장소. 크기와 TTL이 제한된 Caffeine 캐시에 응답 스냅샷을 둔다.
+ *
+ * <p>메트릭: cache.gets{cache=idempotencyKeys,result=hit|miss} 등 Caffeine 통계
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "runfit.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    static final String CACHE_NAME = "idempotencyKeys";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${runfit.idempotency.maximum-size:50000}")
+    private long maximumSize = 50_000;
+
+    @Value("${runfit.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds = 86_400;
+
+    private Cache<String, Claim> cache;
+
+    @PostConstruct
+    void initialize() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public IdempotentResponse claim(String key, String requestHash) {
+        Claim existing = cache.asMap().putIfAbsent(key, new Claim(requestHash, IdempotentResponse.IN_PROGRESS));
+        if (existing == null) {
+            return null;
+        }
+        return existing.requestHash().equals(requestHash) ? existing.response() : IdempotentResponse.REQUEST_MISMATCH;
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        cache.asMap().computeIfPresent(key, (k, claim) -> new Claim(claim.requestHash(), response));
+    }
+
+    @Override
+    public void release(String key) {
+        cache.asMap().computeIfPresent(key, (k, claim) -> claim.response().isInProgress() ? null : claim);
+    }
+
+    private record Claim(
+        String requestHash,
+        IdempotentResponse response
+    ) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.runfit.common.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 응답 본문을 만들지 않고 변경 여부만 판단하기 위한 집계 요약값.
+ * 행 수(count)는 삭제를, 체크섬(checksum)은 추가/역할 변경처럼 시각이 남지 않는 변경을,
+ * 최종 수정 시각(lastModified)은 조인한 엔티티의 수정을 잡아낸다. 세 값이 같으면 응답도 같다고 본다.
+ */
+public record AggregateVersion(
+    long count,
+    long checksum,
+    LocalDateTime lastModified
+) {
+    public static final AggregateVersion EMPTY = new AggregateVersion(0, 0, null);
+
+    public static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+}
@@ -0,0 +1,61 @@
+package com.runfit.common.pagination;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 - 마지막 행의 정렬 키와 id(동률 정렬용)를 담는다.
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로 전달된다.
+ */
+public record Cursor(
+    LocalDateTime key,
+    Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static String encode(LocalDateTime key, Long id) {
+        String raw = key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new Cursor(
+                LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * (key, id) 정렬 기준으로 이 커서 다음에 오는 행만 남기는 조건을 만든다.
+     */
+    public BooleanExpression after(
+        DateTimeExpression<LocalDateTime> keyPath,
+        NumberExpression<Long> idPath,
+        boolean ascending
+    ) {
+        if (ascending) {
+            return keyPath.gt(key).or(keyPath.eq(key).and(idPath.gt(id)));
+        }
+        return keyPath.lt(key).or(keyPath.eq(key).and(idPath.lt(id)));
+    }
+}
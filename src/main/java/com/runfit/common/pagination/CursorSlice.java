@@ -0,0 +1,25 @@
+package com.runfit.common.pagination;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * 다음 페이지 조회용 커서를 함께 전달하는 Slice.
+ */
+@Getter
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, Pageable pageable, boolean hasNext, String nextCursor) {
+        super(content, pageable, hasNext);
+        this.nextCursor = hasNext ? nextCursor : null;
+    }
+
+    public static String nextCursorOf(Slice<?> slice) {
+        return slice instanceof CursorSlice<?> cursorSlice ? cursorSlice.getNextCursor() : null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.runfit.common.pagination;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (순위, 시각, id) 3단 정렬용 키셋 커서 - 역할순처럼 정수 순위가 시각보다 먼저 오는 정렬에 사용한다.
+ * 인코딩 방식은 Cursor와 같고 순위 구간만 앞에 붙는다.
+ */
+public record RankedCursor(
+    int rank,
+    LocalDateTime key,
+    Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static String encode(int rank, LocalDateTime key, Long id) {
+        String raw = rank + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RankedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int firstDelimiter = raw.indexOf(DELIMITER);
+            int lastDelimiter = raw.lastIndexOf(DELIMITER);
+            if (firstDelimiter < 0 || firstDelimiter == lastDelimiter) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new RankedCursor(
+                Integer.parseInt(raw.substring(0, firstDelimiter)),
+                LocalDateTime.parse(raw.substring(firstDelimiter + 1, lastDelimiter)),
+                Long.parseLong(raw.substring(lastDelimiter + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * (rank 오름차순, key, id) 정렬 기준으로 이 커서 다음에 오는 행만 남기는 조건을 만든다.
+     */
+    public BooleanExpression after(
+        NumberExpression<Integer> rankPath,
+        DateTimeExpression<LocalDateTime> keyPath,
+        NumberExpression<Long> idPath,
+        boolean ascending
+    ) {
+        BooleanExpression afterKey = new Cursor(key, id).after(keyPath, idPath, ascending);
+        return rankPath.gt(rank).or(rankPath.eq(rank).and(afterKey));
+    }
+}
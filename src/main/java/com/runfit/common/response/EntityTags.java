@@ -0,0 +1,21 @@
+package com.runfit.common.response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 응답 검증용 ETag 생성 유틸리티.
+ * 집계 버전이나 응답 값 자체를 해시하므로 바이트 단위 동일성은 보장하지 않는 약한(W/) 태그를 만든다.
+ * 버전은 본문보다 먼저 조회한다. 그 사이에 변경이 생겨도 다음 요청의 태그가 달라질 뿐 잘못된 304는 나가지 않는다.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String weak(Object... parts) {
+        String raw = Arrays.deepToString(parts);
+        return "W/\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
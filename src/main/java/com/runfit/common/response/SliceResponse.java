@@ -1,13 +1,17 @@
 package com.runfit.common.response;
 
+import com.runfit.common.pagination.CursorSlice;
+import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import org.springframework.data.domain.Slice;
 
 public record SliceResponse<T>(
     List<T> content,
-    boolean hasNext
+    boolean hasNext,
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)")
+    String nextCursor
 ) {
     public static <T> SliceResponse<T> from(Slice<T> slice) {
-        return new SliceResponse<>(slice.getContent(), slice.hasNext());
+        return new SliceResponse<>(slice.getContent(), slice.hasNext(), CursorSlice.nextCursorOf(slice));
     }
 }
@@ -0,0 +1,73 @@
+package com.runfit.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글처럼 띄어쓰기와 조사가 섞여 형태소 분석 없이는 단어 경계를 알기 어려운 텍스트를 위한 n-gram 토크나이저.
+ * 색인할 때는 글자/숫자만 이어 붙여 1글자(unigram)와 2글자(bigram) 토큰을 만들므로 띄어쓰기가 달라도 일치한다.
+ * "한강 러닝" → 한, 강, 러, 닝, 한강, 강러, 러닝
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰. 1글자 검색어도 찾을 수 있도록 unigram을 함께 만든다.
+     */
+    public static List<String> tokenize(String text) {
+        String joined = String.join("", words(text));
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < joined.length(); i++) {
+            tokens.add(joined.substring(i, i + 1));
+            if (i + 1 < joined.length()) {
+                tokens.add(joined.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰. 검색어의 단어마다 bigram을 만들고, 1글자 단어는 unigram으로 찾는다.
+     * 단어 사이 bigram은 만들지 않아 단어 순서나 필드가 달라도 모든 단어를 포함하면 일치한다.
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            if (word.length() == 1) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    // 호환 문자를 정규화하고 소문자로 바꾼 뒤 글자/숫자가 아닌 문자로 나눈다
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,108 @@
+package com.runfit.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성 키를 만들기 위해 한글 음절을 자판 입력 순서의 자모로 분해한다.
+ * 겹모음/겹받침도 낱자로 나누므로 입력 중인 글자가 완성된 이름의 접두어가 된다.
+ * "런" → ㄹㅓㄴ 은 "러닝" → ㄹㅓㄴㅣㅇ 의 접두어, "고" → ㄱㅗ 는 "과" → ㄱㅗㅏ 의 접두어
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+        "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+        "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+        "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+        Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+        Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"),
+        Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+        Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+        Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 글자/숫자만 남기고 소문자로 바꾼 뒤 한글은 자모로 분해한다. 띄어쓰기는 키에서 빠진다.
+     */
+    public static String decompose(String text) {
+        StringBuilder key = new StringBuilder();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                appendJamo(key, word.charAt(i));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 이름 중간 단어로도 찾을 수 있도록 각 단어에서 시작하는 키를 만든다.
+     * "서울 한강 크루" → 서울한강크루, 한강크루, 크루 의 자모 키
+     */
+    public static List<String> suffixKeys(String text) {
+        List<String> words = words(text);
+        List<String> keys = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            keys.add(decompose(String.join(" ", words.subList(i, words.size()))));
+        }
+        return keys;
+    }
+
+    private static void appendJamo(StringBuilder key, char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int offset = c - SYLLABLE_BASE;
+            key.append(CHO[offset / (JUNG_COUNT * JONG_COUNT)])
+                .append(JUNG[offset % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT])
+                .append(JONG[offset % JONG_COUNT]);
+            return;
+        }
+        key.append(splitCompatibilityJamo(c));
+    }
+
+    // 검색어에 낱자로 들어온 겹모음/겹받침도 음절 분해와 같은 형태로 맞춘다
+    private static String splitCompatibilityJamo(char c) {
+        return COMPOUND_JAMO.getOrDefault(c, String.valueOf(c));
+    }
+
+    // 조합형(NFD)으로 들어온 한글을 음절로 합친 뒤 글자/숫자가 아닌 문자로 나눈다
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
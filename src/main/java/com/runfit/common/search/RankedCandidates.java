@@ -0,0 +1,56 @@
+package com.runfit.common.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 관련도순 검색 결과를 DB 조건으로 거를 때, 후보를 한 번에 넘기지 않고 일정 크기씩 나눠 거르는 유틸리티.
+ * 앞 구간부터 거르면서 요청한 페이지를 채울 만큼 모이면 멈추므로, 상위 몇 개만 잘라 거를 때처럼 뒤쪽 일치 항목이 빠지지 않는다.
+ */
+public final class RankedCandidates {
+
+    private RankedCandidates() {
+    }
+
+    /**
+     * rankedIds를 windowSize개씩 matching으로 걸러 관련도 순서를 유지한 채 최대 needed개를 반환한다.
+     */
+    public static List<Long> filterInOrder(
+        List<Long> rankedIds, int windowSize, int needed, Function<List<Long>, Collection<Long>> matching) {
+        List<Long> matched = new ArrayList<>(Math.min(needed, rankedIds.size()));
+        for (int from = 0; from < rankedIds.size() && matched.size() < needed; from += windowSize) {
+            List<Long> window = rankedIds.subList(from, Math.min(from + windowSize, rankedIds.size()));
+            Set<Long> matchedInWindow = new HashSet<>(matching.apply(window));
+            for (Long id : window) {
+                if (matched.size() == needed) {
+                    break;
+                }
+                if (matchedInWindow.contains(id)) {
+                    matched.add(id);
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * DB 정렬을 쓸 때 후보가 windowSize를 넘으면, windowSize개씩 나눠 각 구간에서 정렬상 앞쪽 결과(headOfWindow)만 모은다.
+     * 전체 정렬의 앞쪽 n개는 각자 속한 구간의 앞쪽 n개 안에 있으므로, 모은 id만 다시 정렬해도 같은 페이지가 나온다.
+     */
+    public static List<Long> collectWindowHeads(
+        List<Long> candidateIds, int windowSize, Function<List<Long>, Collection<Long>> headOfWindow) {
+        if (candidateIds.size() <= windowSize) {
+            return candidateIds;
+        }
+        List<Long> heads = new ArrayList<>();
+        for (int from = 0; from < candidateIds.size(); from += windowSize) {
+            heads.addAll(headOfWindow.apply(
+                candidateIds.subList(from, Math.min(from + windowSize, candidateIds.size()))));
+        }
+        return heads;
+    }
+}
@@ -0,0 +1,13 @@
+package com.runfit.common.search;
+
+/**
+ * 색인할 필드 값과 가중치. 가중치만큼 단어 빈도를 더해 제목 같은 필드의 일치가 더 높게 평가된다.
+ */
+public record SearchField(
+    String text,
+    int boost
+) {
+    public static SearchField of(String text, int boost) {
+        return new SearchField(text, boost);
+    }
+}
@@ -0,0 +1,224 @@
+package com.runfit.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자모 키 접두어 자동완성 트라이. 각 노드는 하위 트리의 상위 capacity개 후보를 미리 들고 있어
+ * 조회는 접두어 길이만큼 내려가 목록을 잘라 반환하는 것으로 끝난다.
+ * 후보가 추가/삭제/점수 변경되면 해당 키 경로의 노드만 자식들의 상위 목록을 합쳐 다시 계산한다.
+ */
+public class SuggestTrie {
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::score).reversed()
+        .thenComparing(Suggestion::id, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, Suggestion> entries = new HashMap<>();
+
+    public SuggestTrie(int capacity) {
+        this.capacity = capacity;
+    }
+
+    // 자식은 정렬된 문자 배열로 두어 노드당 HashMap보다 작게 유지한다
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private List<Suggestion> terminals = List.of();
+        private List<Suggestion> top = List.of();
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node addChild(char key) {
+            int index = -(Arrays.binarySearch(keys, key) + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = key;
+            newChildren[index] = new Node();
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[index];
+        }
+
+        private void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private boolean isEmpty() {
+            return keys.length == 0 && terminals.isEmpty();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(entries.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Suggestion get(Long id) {
+        lock.readLock().lock();
+        try {
+            return entries.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 후보를 추가하거나 이름/점수를 바꾼다. 이름의 각 단어에서 시작하는 키로 모두 등록한다.
+     */
+    public void put(Long id, String text, long score) {
+        Suggestion suggestion = new Suggestion(id, text, score);
+
+        lock.writeLock().lock();
+        try {
+            Suggestion existing = entries.get(id);
+            if (suggestion.equals(existing)) {
+                return;
+            }
+            if (existing != null) {
+                for (String key : HangulJamo.suffixKeys(existing.text())) {
+                    unlink(key, existing);
+                }
+            }
+
+            entries.put(id, suggestion);
+            for (String key : HangulJamo.suffixKeys(text)) {
+                link(key, suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Suggestion existing = entries.remove(id);
+            if (existing != null) {
+                for (String key : HangulJamo.suffixKeys(existing.text())) {
+                    unlink(key, existing);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 후보를 점수 높은 순으로 최대 limit개 반환한다.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = HangulJamo.decompose(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return List.copyOf(node.top.subList(0, Math.min(limit, node.top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(String key, Suggestion suggestion) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = path[i].child(key.charAt(i));
+            path[i + 1] = child != null ? child : path[i].addChild(key.charAt(i));
+        }
+
+        Node leaf = path[key.length()];
+        List<Suggestion> terminals = new ArrayList<>(leaf.terminals);
+        terminals.add(suggestion);
+        leaf.terminals = terminals;
+        refresh(path, key.length());
+    }
+
+    private void unlink(String key, Suggestion suggestion) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node leaf = path[key.length()];
+        List<Suggestion> terminals = new ArrayList<>(leaf.terminals);
+        // 같은 이름에 같은 키가 두 번 나올 수 있으므로 하나만 제거한다
+        terminals.remove(suggestion);
+        leaf.terminals = List.copyOf(terminals);
+
+        // 비어버린 노드는 떼어내고 나머지 경로의 상위 목록을 다시 계산한다
+        int depth = key.length();
+        while (depth > 0 && path[depth].isEmpty()) {
+            path[depth - 1].removeChild(key.charAt(depth - 1));
+            depth--;
+        }
+        refresh(path, depth);
+    }
+
+    // 잎에서 루트 방향으로 노드 자신의 후보와 자식들의 상위 목록을 합쳐 상위 capacity개를 다시 구한다
+    private void refresh(Node[] path, int depth) {
+        for (int i = depth; i >= 0; i--) {
+            Node node = path[i];
+            Map<Long, Suggestion> candidates = new LinkedHashMap<>();
+            node.terminals.forEach(suggestion -> candidates.put(suggestion.id(), suggestion));
+            for (Node child : node.children) {
+                child.top.forEach(suggestion -> candidates.putIfAbsent(suggestion.id(), suggestion));
+            }
+            node.top = candidates.values().stream()
+                .sorted(RANKING)
+                .limit(capacity)
+                .toList();
+        }
+    }
+}
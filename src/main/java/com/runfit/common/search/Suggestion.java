@@ -0,0 +1,11 @@
+package com.runfit.common.search;
+
+/**
+ * 자동완성 후보. score가 높은 순(같으면 id가 큰 순)으로 노출된다.
+ */
+public record Suggestion(
+    Long id,
+    String text,
+    long score
+) {
+}
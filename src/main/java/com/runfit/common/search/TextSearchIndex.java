@@ -0,0 +1,164 @@
+package com.runfit.common.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * n-gram 토큰의 역색인(토큰 → 문서별 빈도). 검색어의 모든 토큰을 포함한 문서만 후보로 삼고 BM25 점수로 정렬한다.
+ * 검색 비용은 전체 문서 수가 아니라 검색어 토큰의 posting 길이에 비례한다.
+ */
+public class TextSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    private record Document(Map<String, Integer> termFrequencies, int length) {
+    }
+
+    private record ScoredId(Long id, double score) {
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 추가하거나 기존 내용을 교체한다.
+     */
+    public void put(Long id, SearchField... fields) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (SearchField field : fields) {
+            List<String> tokens = BigramTokenizer.tokenize(field.text());
+            for (String token : tokens) {
+                termFrequencies.merge(token, field.boost(), Integer::sum);
+            }
+            length += tokens.size();
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            if (termFrequencies.isEmpty()) {
+                return;
+            }
+
+            termFrequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, frequency));
+            documents.put(id, new Document(termFrequencies, length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 관련도 높은 순으로 최대 limit개의 문서 id를 반환한다. 점수가 같으면 id가 큰(최근) 문서가 앞선다.
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> terms = BigramTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+            // 가장 짧은 posting을 기준으로 나머지에 모두 있는 문서만 남긴다
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            double averageLength = (double) totalLength / documents.size();
+            List<ScoredId> hits = new ArrayList<>();
+            for (Long id : termPostings.get(0).keySet()) {
+                double score = score(id, termPostings, averageLength);
+                if (score > 0) {
+                    hits.add(new ScoredId(id, score));
+                }
+            }
+
+            return hits.stream()
+                .sorted(Comparator.comparingDouble(ScoredId::score).reversed()
+                    .thenComparing(ScoredId::id, Comparator.reverseOrder()))
+                .limit(limit)
+                .map(ScoredId::id)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 후보가 검색어 토큰 중 하나라도 빠지면 0
+    private double score(Long id, List<Map<Long, Integer>> termPostings, double averageLength) {
+        int length = documents.get(id).length();
+        double score = 0;
+        for (Map<Long, Integer> posting : termPostings) {
+            Integer frequency = posting.get(id);
+            if (frequency == null) {
+                return 0;
+            }
+            double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+            score += idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+        }
+        return score;
+    }
+
+    private void removeDocument(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.termFrequencies().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.length();
+    }
+}
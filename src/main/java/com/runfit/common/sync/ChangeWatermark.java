@@ -0,0 +1,54 @@
+package com.runfit.common.sync;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * updatedAt 기준으로 DB 변경분을 따라잡는 메모리 인덱스의 마지막 반영 시각.
+ * 변경 이벤트는 발행한 인스턴스에만 전달되므로, 다른 인스턴스의 변경은 이 시각 이후에 수정된 행을 주기적으로 다시 읽어 반영한다.
+ */
+public class ChangeWatermark {
+
+    // 트랜잭션 커밋 순서와 updatedAt 순서가 어긋날 수 있어 동기화 시 여유를 둔다
+    private static final long CATCH_UP_MARGIN_MINUTES = 1;
+
+    private volatile LocalDateTime value;
+
+    /**
+     * 첫 적재가 끝나 시각이 정해졌는지 여부. 그 전에는 인덱스가 비어 있을 수 있다.
+     */
+    public boolean isReady() {
+        return value != null;
+    }
+
+    public synchronized void advance(LocalDateTime updatedAt) {
+        if (updatedAt != null && (value == null || updatedAt.isAfter(value))) {
+            value = updatedAt;
+        }
+    }
+
+    /**
+     * 마지막 반영 시각 이후의 변경분을 읽어 순서대로 반영하고 시각을 앞당긴다. 첫 적재 전이면 아무것도 하지 않는다.
+     */
+    public <T> void catchUp(
+        Function<LocalDateTime, List<T>> changesSince, Function<T, LocalDateTime> updatedAt, Consumer<T> apply) {
+        LocalDateTime current = value;
+        if (current == null) {
+            return;
+        }
+
+        for (T change : changesSince.apply(since(current))) {
+            apply.accept(change);
+            advance(updatedAt.apply(change));
+        }
+    }
+
+    /**
+     * 따라잡기 조회의 시작 시각. 반영 시각을 직접 보관하는 인덱스도 같은 여유를 쓰도록 공개한다.
+     */
+    public static LocalDateTime since(LocalDateTime watermark) {
+        return watermark.minusMinutes(CATCH_UP_MARGIN_MINUTES);
+    }
+}
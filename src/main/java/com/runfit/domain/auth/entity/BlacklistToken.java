@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -18,7 +19,8 @@ import lombok.NoArgsConstructor;
 public class BlacklistToken extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "blacklist_token_seq")
+    @SequenceGenerator(name = "blacklist_token_seq", sequenceName = "blacklist_token_seq", allocationSize = 50)
     @Column(name = "blacklist_token_id", nullable = false)
     private Long id;
 
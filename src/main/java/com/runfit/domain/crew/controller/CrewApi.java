@@ -1,17 +1,23 @@
 package com.runfit.domain.crew.controller;
 
+import com.runfit.common.export.ExportFormat;
 import com.runfit.common.response.PageResponse;
 import com.runfit.common.response.ResponseWrapper;
 import com.runfit.common.response.SliceResponse;
 import com.runfit.domain.auth.model.AuthUser;
 import com.runfit.domain.crew.controller.dto.request.CrewCreateRequest;
+import com.runfit.domain.crew.controller.dto.request.CrewExportType;
 import com.runfit.domain.crew.controller.dto.request.CrewUpdateRequest;
 import com.runfit.domain.crew.controller.dto.request.LeaderChangeRequest;
+import com.runfit.domain.crew.controller.dto.request.MemberBulkKickRequest;
+import com.runfit.domain.crew.controller.dto.request.MemberBulkRoleChangeRequest;
 import com.runfit.domain.crew.controller.dto.request.RoleChangeRequest;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.controller.dto.response.CrewMembersResponse;
 import com.runfit.domain.crew.controller.dto.response.CrewResponse;
+import com.runfit.domain.crew.controller.dto.response.CrewSuggestionResponse;
 import com.runfit.domain.crew.controller.dto.response.LeaderChangeResponse;
+import com.runfit.domain.crew.controller.dto.response.MemberBulkResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberCountResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberRoleResponse;
 import com.runfit.domain.crew.controller.dto.response.MembershipResponse;
@@ -28,6 +34,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Crew", description = "크루 API")
 public interface CrewApi {
@@ -50,17 +58,28 @@ public interface CrewApi {
         @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
         @Parameter(description = "지역 필터 (복수 선택 가능)") @RequestParam(required = false) List<String> city,
-        @Parameter(description = "크루명 검색어") @RequestParam(required = false) String keyword,
+        @Parameter(description = "검색어 (크루명/소개, 정렬 생략 시 관련도순)") @RequestParam(required = false) String keyword,
         @Parameter(description = "정렬 (memberCountDesc: 멤버 많은 순, lastSessionDesc: 최근 세션 순, createdAtDesc: 최근 생성 순(기본값), nameAsc: 이름순 A-Z, nameDesc: 이름순 Z-A)") @RequestParam(required = false) String sort
     );
 
+    @Operation(summary = "크루 이름 자동완성", description = "입력 중인 검색어로 시작하는(이름 중간 단어 포함) 크루를 멤버 많은 순으로 조회합니다. 입력 중인 미완성 글자도 일치합니다 (예: 런 → 러닝).")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    ResponseEntity<ResponseWrapper<List<CrewSuggestionResponse>>> suggestCrews(
+        @Parameter(description = "입력 중인 검색어 (예: 한강러, ㅎ, 런)") @RequestParam String keyword,
+        @Parameter(description = "최대 개수 (최대 10)") @RequestParam(defaultValue = "10") int limit
+    );
+
     @Operation(summary = "크루 상세 조회", description = "크루 상세 정보를 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
         @ApiResponse(responseCode = "404", description = "크루 없음")
     })
     ResponseEntity<ResponseWrapper<CrewResponse>> getCrewDetail(
-        @Parameter(description = "크루 ID") @PathVariable Long crewId
+        @Parameter(description = "크루 ID") @PathVariable Long crewId,
+        WebRequest webRequest
     );
 
     @Operation(summary = "크루 정보 수정", description = "크루 정보를 수정합니다. LEADER만 가능합니다.")
@@ -89,12 +108,14 @@ public interface CrewApi {
     @Operation(summary = "크루 멤버 목록 조회", description = "크루 멤버 목록을 조회합니다. role 파라미터로 필터링, sort 파라미터로 정렬 가능합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
         @ApiResponse(responseCode = "404", description = "크루 없음")
     })
     ResponseEntity<ResponseWrapper<CrewMembersResponse>> getCrewMembers(
         @Parameter(description = "크루 ID") @PathVariable Long crewId,
         @Parameter(description = "역할 필터 (leader, staff, general)") @RequestParam(required = false) String role,
-        @Parameter(description = "정렬 (joinedAtDesc: 최근 가입 순(기본값), roleAsc: 역할 순(리더→운영진→멤버))") @RequestParam(required = false) String sort
+        @Parameter(description = "정렬 (joinedAtDesc: 최근 가입 순(기본값), roleAsc: 역할 순(리더→운영진→멤버))") @RequestParam(required = false) String sort,
+        WebRequest webRequest
     );
 
     @Operation(summary = "크루 멤버 역할별 카운트 조회", description = "크루 멤버의 역할별 인원수를 조회합니다.")
@@ -153,6 +174,46 @@ public interface CrewApi {
         @Parameter(description = "대상 사용자 ID") @PathVariable Long userId
     );
 
+    @Operation(summary = "크루 멤버 일괄 가입", description = "이메일 CSV(text/csv, 첫 열 이메일, email 헤더 선택)로 가입된 회원을 한 번에 크루에 추가합니다. "
+        + "최대 1,000행이며 행마다 처리 결과(JOINED, INVALID_EMAIL, DUPLICATE, USER_NOT_FOUND, ALREADY_MEMBER)를 반환합니다. LEADER만 가능합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "처리 완료 (행별 결과 포함)"),
+        @ApiResponse(responseCode = "400", description = "이메일 행이 없거나 1,000행 초과"),
+        @ApiResponse(responseCode = "403", description = "권한 없음"),
+        @ApiResponse(responseCode = "404", description = "크루 또는 멤버십 없음")
+    })
+    ResponseEntity<ResponseWrapper<MemberBulkResponse>> importMembers(
+        @AuthenticationPrincipal AuthUser user,
+        @Parameter(description = "크루 ID") @PathVariable Long crewId,
+        @RequestBody String csv
+    );
+
+    @Operation(summary = "운영진 일괄 등록/해제", description = "여러 멤버의 역할을 STAFF 또는 MEMBER로 한 번에 변경합니다. "
+        + "최대 1,000명이며 행마다 처리 결과(ROLE_CHANGED, UNCHANGED, DUPLICATE, NOT_MEMBER, LEADER_FORBIDDEN)를 반환합니다. LEADER만 가능합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "처리 완료 (행별 결과 포함)"),
+        @ApiResponse(responseCode = "403", description = "권한 없음 또는 LEADER로 변경 요청"),
+        @ApiResponse(responseCode = "404", description = "크루 또는 멤버십 없음")
+    })
+    ResponseEntity<ResponseWrapper<MemberBulkResponse>> changeRoles(
+        @AuthenticationPrincipal AuthUser user,
+        @Parameter(description = "크루 ID") @PathVariable Long crewId,
+        @RequestBody MemberBulkRoleChangeRequest request
+    );
+
+    @Operation(summary = "크루 멤버 일괄 강퇴", description = "여러 멤버를 한 번에 강퇴합니다. "
+        + "최대 1,000명이며 행마다 처리 결과(KICKED, DUPLICATE, NOT_MEMBER, LEADER_FORBIDDEN)를 반환합니다. LEADER만 가능합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "처리 완료 (행별 결과 포함)"),
+        @ApiResponse(responseCode = "403", description = "권한 없음"),
+        @ApiResponse(responseCode = "404", description = "크루 또는 멤버십 없음")
+    })
+    ResponseEntity<ResponseWrapper<MemberBulkResponse>> kickMembers(
+        @AuthenticationPrincipal AuthUser user,
+        @Parameter(description = "크루 ID") @PathVariable Long crewId,
+        @RequestBody MemberBulkKickRequest request
+    );
+
     // === Membership API ===
 
     @Operation(summary = "크루 가입", description = "크루에 가입합니다.")
@@ -180,11 +241,26 @@ public interface CrewApi {
     @Operation(summary = "크루 리뷰 목록 조회", description = "특정 크루에서 진행된 세션들의 리뷰 목록을 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
         @ApiResponse(responseCode = "404", description = "크루 없음")
     })
     ResponseEntity<ResponseWrapper<PageResponse<CrewReviewResponse>>> getCrewReviews(
         @Parameter(description = "크루 ID") @PathVariable Long crewId,
         @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size
+        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+        WebRequest webRequest
+    );
+
+    @Operation(summary = "크루 데이터 내보내기", description = "크루의 세션(SESSIONS), 세션 참가 내역(PARTICIPANTS), 리뷰(REVIEWS)를 CSV 또는 NDJSON 파일로 내려받습니다. LEADER만 가능합니다. 행 수와 관계없이 DB에서 읽는 대로 스트리밍합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+        @ApiResponse(responseCode = "403", description = "권한 없음"),
+        @ApiResponse(responseCode = "404", description = "크루 또는 멤버십 없음")
+    })
+    ResponseEntity<StreamingResponseBody> exportCrew(
+        @AuthenticationPrincipal AuthUser user,
+        @Parameter(description = "크루 ID") @PathVariable Long crewId,
+        @Parameter(description = "내보낼 데이터 (SESSIONS, PARTICIPANTS, REVIEWS)") @RequestParam CrewExportType type,
+        @Parameter(description = "파일 형식 (CSV, NDJSON)") @RequestParam(defaultValue = "CSV") ExportFormat format
     );
 }
@@ -1,23 +1,32 @@
 package com.runfit.domain.crew.controller;
 
+import com.runfit.common.export.ExportFormat;
+import com.runfit.common.response.EntityTags;
 import com.runfit.common.response.PageResponse;
 import com.runfit.common.response.ResponseWrapper;
 import com.runfit.common.response.SliceResponse;
 import com.runfit.domain.auth.model.AuthUser;
 import com.runfit.domain.crew.controller.dto.request.CrewCreateRequest;
+import com.runfit.domain.crew.controller.dto.request.CrewExportType;
 import com.runfit.domain.crew.controller.dto.request.CrewSearchCondition;
 import com.runfit.domain.crew.controller.dto.request.CrewUpdateRequest;
 import com.runfit.domain.crew.controller.dto.request.LeaderChangeRequest;
+import com.runfit.domain.crew.controller.dto.request.MemberBulkKickRequest;
+import com.runfit.domain.crew.controller.dto.request.MemberBulkRoleChangeRequest;
 import com.runfit.domain.crew.controller.dto.request.RoleChangeRequest;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.controller.dto.response.CrewMembersResponse;
 import com.runfit.domain.crew.controller.dto.response.CrewResponse;
+import com.runfit.domain.crew.controller.dto.response.CrewSuggestionResponse;
 import com.runfit.domain.crew.controller.dto.response.LeaderChangeResponse;
+import com.runfit.domain.crew.controller.dto.response.MemberBulkResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberCountResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberRoleResponse;
 import com.runfit.domain.crew.controller.dto.response.MembershipResponse;
 import com.runfit.domain.crew.controller.dto.response.RoleChangeResponse;
+import com.runfit.domain.crew.service.CrewExportService;
 import com.runfit.domain.crew.service.CrewService;
+import com.runfit.domain.crew.service.CrewSuggestionService;
 import com.runfit.domain.review.controller.dto.response.CrewReviewResponse;
 import com.runfit.domain.review.service.ReviewService;
 import jakarta.validation.Valid;
@@ -27,6 +36,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -38,6 +51,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/crews")
@@ -45,6 +60,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class CrewController implements CrewApi {
 
     private final CrewService crewService;
+    private final CrewSuggestionService crewSuggestionService;
+    private final CrewExportService crewExportService;
     private final ReviewService reviewService;
 
     @Override
@@ -72,13 +89,32 @@ public class CrewController implements CrewApi {
         return ResponseEntity.ok(ResponseWrapper.success(SliceResponse.from(result)));
     }
 
+    @Override
+    @GetMapping("/suggestions")
+    public ResponseEntity<ResponseWrapper<List<CrewSuggestionResponse>>> suggestCrews(
+        @RequestParam String keyword,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<CrewSuggestionResponse> response = crewSuggestionService.suggest(keyword, limit);
+        return ResponseEntity.ok(ResponseWrapper.success(response));
+    }
+
     @Override
     @GetMapping("/{crewId}")
     public ResponseEntity<ResponseWrapper<CrewResponse>> getCrewDetail(
-        @PathVariable Long crewId
+        @PathVariable Long crewId,
+        WebRequest webRequest
     ) {
+        String eTag = EntityTags.weak("crew", crewId, crewService.getCrewDetailVersion(crewId));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         CrewResponse response = crewService.getCrewDetail(crewId);
-        return ResponseEntity.ok(ResponseWrapper.success(response));
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(ResponseWrapper.success(response));
     }
 
     @Override
@@ -107,10 +143,19 @@ public class CrewController implements CrewApi {
     public ResponseEntity<ResponseWrapper<CrewMembersResponse>> getCrewMembers(
         @PathVariable Long crewId,
         @RequestParam(required = false) String role,
-        @RequestParam(required = false) String sort
+        @RequestParam(required = false) String sort,
+        WebRequest webRequest
     ) {
+        String eTag = EntityTags.weak("crewMembers", crewId, role, sort, crewService.getCrewMembersVersion(crewId));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         CrewMembersResponse response = crewService.getCrewMembers(crewId, role, sort);
-        return ResponseEntity.ok(ResponseWrapper.success(response));
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(ResponseWrapper.success(response));
     }
 
     @Override
@@ -166,6 +211,39 @@ public class CrewController implements CrewApi {
         return ResponseEntity.ok(ResponseWrapper.success("해당 사용자가 크루에서 제거되었습니다."));
     }
 
+    @Override
+    @PostMapping(value = "/{crewId}/members/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ResponseWrapper<MemberBulkResponse>> importMembers(
+        @AuthenticationPrincipal AuthUser user,
+        @PathVariable Long crewId,
+        @RequestBody String csv
+    ) {
+        MemberBulkResponse response = crewService.importMembers(user.userId(), crewId, csv, user.isAdmin());
+        return ResponseEntity.ok(ResponseWrapper.success(response));
+    }
+
+    @Override
+    @PatchMapping("/{crewId}/members/role")
+    public ResponseEntity<ResponseWrapper<MemberBulkResponse>> changeRoles(
+        @AuthenticationPrincipal AuthUser user,
+        @PathVariable Long crewId,
+        @Valid @RequestBody MemberBulkRoleChangeRequest request
+    ) {
+        MemberBulkResponse response = crewService.changeRoles(user.userId(), crewId, request, user.isAdmin());
+        return ResponseEntity.ok(ResponseWrapper.success(response));
+    }
+
+    @Override
+    @PostMapping("/{crewId}/members/kick")
+    public ResponseEntity<ResponseWrapper<MemberBulkResponse>> kickMembers(
+        @AuthenticationPrincipal AuthUser user,
+        @PathVariable Long crewId,
+        @Valid @RequestBody MemberBulkKickRequest request
+    ) {
+        MemberBulkResponse response = crewService.kickMembers(user.userId(), crewId, request, user.isAdmin());
+        return ResponseEntity.ok(ResponseWrapper.success(response));
+    }
+
     // === Membership API ===
 
     @Override
@@ -193,9 +271,36 @@ public class CrewController implements CrewApi {
     public ResponseEntity<ResponseWrapper<PageResponse<CrewReviewResponse>>> getCrewReviews(
         @PathVariable Long crewId,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+        WebRequest webRequest
     ) {
+        String eTag = EntityTags.weak("crewReviews", crewId, page, size, reviewService.getCrewReviewsVersion(crewId));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         Page<CrewReviewResponse> result = reviewService.getCrewReviews(crewId, PageRequest.of(page, size));
-        return ResponseEntity.ok(ResponseWrapper.success(PageResponse.from(result)));
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(ResponseWrapper.success(PageResponse.from(result)));
+    }
+
+    @Override
+    @GetMapping("/{crewId}/export")
+    public ResponseEntity<StreamingResponseBody> exportCrew(
+        @AuthenticationPrincipal AuthUser user,
+        @PathVariable Long crewId,
+        @RequestParam CrewExportType type,
+        @RequestParam(defaultValue = "CSV") ExportFormat format
+    ) {
+        crewExportService.validateExportPermission(user.userId(), crewId, user.isAdmin());
+
+        String filename = "crew-" + crewId + "-" + type.name().toLowerCase() + "." + format.extension();
+        return ResponseEntity.ok()
+            .contentType(format.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .cacheControl(CacheControl.noStore())
+            .body(crewExportService.export(crewId, type, format));
     }
 }
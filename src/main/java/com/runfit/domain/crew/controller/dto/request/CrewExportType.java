@@ -0,0 +1,7 @@
+package com.runfit.domain.crew.controller.dto.request;
+
+public enum CrewExportType {
+    SESSIONS,
+    PARTICIPANTS,
+    REVIEWS
+}
@@ -1,6 +1,8 @@
 package com.runfit.domain.crew.controller.dto.request;
 
 import java.util.List;
+import java.util.Objects;
+import org.springframework.util.StringUtils;
 
 public record CrewSearchCondition(
     List<String> city,
@@ -10,4 +12,14 @@ public record CrewSearchCondition(
     public static CrewSearchCondition of(List<String> city, String keyword, String sort) {
         return new CrewSearchCondition(city, keyword, sort);
     }
+
+    /**
+     * 도시 목록의 순서/중복과 빈 검색어를 정리한 조건. 결과가 같은 조건은 같은 값이 되어 캐시 키로 쓸 수 있다.
+     */
+    public CrewSearchCondition normalized() {
+        List<String> canonicalCity = city == null || city.isEmpty()
+            ? null
+            : city.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        return new CrewSearchCondition(canonicalCity, StringUtils.hasText(keyword) ? keyword : null, sort);
+    }
 }
@@ -0,0 +1,13 @@
+package com.runfit.domain.crew.controller.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record MemberBulkKickRequest(
+    @NotEmpty(message = "대상 사용자 ID는 필수입니다.")
+    @Size(max = 1000, message = "한 번에 최대 1,000명까지 강퇴할 수 있습니다.")
+    List<@NotNull Long> userIds
+) {
+}
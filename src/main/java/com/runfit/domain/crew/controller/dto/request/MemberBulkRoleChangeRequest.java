@@ -0,0 +1,17 @@
+package com.runfit.domain.crew.controller.dto.request;
+
+import com.runfit.domain.crew.entity.CrewRole;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record MemberBulkRoleChangeRequest(
+    @NotEmpty(message = "대상 사용자 ID는 필수입니다.")
+    @Size(max = 1000, message = "한 번에 최대 1,000명까지 변경할 수 있습니다.")
+    List<@NotNull Long> userIds,
+
+    @NotNull(message = "역할은 필수입니다.")
+    CrewRole role
+) {
+}
@@ -0,0 +1,13 @@
+package com.runfit.domain.crew.controller.dto.response;
+
+import com.runfit.common.search.Suggestion;
+
+public record CrewSuggestionResponse(
+    Long id,
+    String name,
+    long memberCount
+) {
+    public static CrewSuggestionResponse from(Suggestion suggestion) {
+        return new CrewSuggestionResponse(suggestion.id(), suggestion.text(), suggestion.score());
+    }
+}
@@ -0,0 +1,22 @@
+package com.runfit.domain.crew.controller.dto.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum MemberBulkOutcome {
+    JOINED(true),
+    ROLE_CHANGED(true),
+    UNCHANGED(true),
+    KICKED(true),
+    INVALID_EMAIL(false),
+    DUPLICATE(false),
+    USER_NOT_FOUND(false),
+    ALREADY_MEMBER(false),
+    NOT_MEMBER(false),
+    LEADER_FORBIDDEN(false);
+
+    private final boolean success;
+}
@@ -0,0 +1,17 @@
+package com.runfit.domain.crew.controller.dto.response;
+
+import java.util.List;
+
+public record MemberBulkResponse(
+    int total,
+    int succeeded,
+    int failed,
+    List<MemberBulkResult> results
+) {
+    public static MemberBulkResponse from(List<MemberBulkResult> results) {
+        int succeeded = (int) results.stream()
+            .filter(result -> result.outcome().isSuccess())
+            .count();
+        return new MemberBulkResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
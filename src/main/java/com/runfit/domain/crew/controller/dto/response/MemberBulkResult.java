@@ -0,0 +1,12 @@
+package com.runfit.domain.crew.controller.dto.response;
+
+/**
+ * 일괄 처리의 행별 결과. row는 CSV 가져오기에서는 파일의 줄 번호, 그 외에는 요청 목록의 순번(1부터)이다.
+ */
+public record MemberBulkResult(
+    int row,
+    String email,
+    Long userId,
+    MemberBulkOutcome outcome
+) {
+}
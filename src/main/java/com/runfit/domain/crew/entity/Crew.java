@@ -6,6 +6,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,12 +16,15 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "crews")
+@Table(name = "crews", indexes = {
+    @Index(name = "idx_crews_updated_at", columnList = "updated_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Crew extends SoftDeleteEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "crews_seq")
+    @SequenceGenerator(name = "crews_seq", sequenceName = "crews_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false)
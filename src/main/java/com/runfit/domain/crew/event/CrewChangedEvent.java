@@ -0,0 +1,17 @@
+package com.runfit.domain.crew.event;
+
+import com.runfit.domain.crew.entity.Crew;
+
+/**
+ * 크루가 생성/수정/삭제된 후 발행되는 이벤트. 커밋 이후 리스너가 트랜잭션 밖에서 사용하므로 필요한 값만 복사해 둔다.
+ */
+public record CrewChangedEvent(
+    Long crewId,
+    String name,
+    String description,
+    boolean deleted
+) {
+    public static CrewChangedEvent from(Crew crew) {
+        return new CrewChangedEvent(crew.getId(), crew.getName(), crew.getDescription(), crew.isDeleted());
+    }
+}
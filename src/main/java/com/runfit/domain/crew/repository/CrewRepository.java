@@ -1,6 +1,8 @@
 package com.runfit.domain.crew.repository;
 
 import com.runfit.domain.crew.entity.Crew;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -9,4 +11,9 @@ public interface CrewRepository extends JpaRepository<Crew, Long>, CrewRepositor
     Optional<Crew> findByIdAndDeletedIsNull(Long id);
 
     boolean existsByIdAndDeletedIsNull(Long id);
+
+    List<Crew> findAllByDeletedIsNull();
+
+    // 삭제된 크루도 포함해 변경분을 조회한다 (검색 인덱스 동기화용)
+    List<Crew> findAllByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
 }
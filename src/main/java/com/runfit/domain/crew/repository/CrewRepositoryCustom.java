@@ -1,11 +1,38 @@
 package com.runfit.domain.crew.repository;
 
+import com.runfit.common.model.AggregateVersion;
+import com.runfit.common.search.Suggestion;
 import com.runfit.domain.crew.controller.dto.request.CrewSearchCondition;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface CrewRepositoryCustom {
 
-    Slice<CrewListResponse> searchCrews(CrewSearchCondition condition, Pageable pageable);
+    /**
+     * candidateIds가 주어지면 검색어는 그 후보(전문 검색 결과)로 대신 거른다.
+     */
+    Slice<CrewListResponse> searchCrews(CrewSearchCondition condition, Collection<Long> candidateIds, Pageable pageable);
+
+    default Slice<CrewListResponse> searchCrews(CrewSearchCondition condition, Pageable pageable) {
+        return searchCrews(condition, null, pageable);
+    }
+
+    /**
+     * 후보 id 중 검색어를 제외한 나머지 조건에 맞는 크루 id를 조회한다. 순서는 보장하지 않는다.
+     */
+    List<Long> findMatchingCrewIds(CrewSearchCondition condition, Collection<Long> candidateIds);
+
+    /**
+     * 삭제되지 않은 크루의 (id, 이름, 멤버 수). 자동완성 인덱스 적재용.
+     */
+    List<Suggestion> findCrewSuggestions();
+
+    /**
+     * 크루 상세 응답의 변경 여부 판단용 요약 (멤버 수, 크루 수정 시각). 삭제된 크루는 빈 값을 반환한다.
+     */
+    Optional<AggregateVersion> findCrewVersion(Long crewId);
 }
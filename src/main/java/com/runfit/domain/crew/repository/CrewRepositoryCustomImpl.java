@@ -4,17 +4,22 @@ import static com.runfit.domain.crew.entity.QCrew.crew;
 import static com.runfit.domain.crew.entity.QMembership.membership;
 import static com.runfit.domain.session.entity.QSession.session;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.runfit.common.model.AggregateVersion;
+import com.runfit.common.search.Suggestion;
 import com.runfit.domain.crew.controller.dto.request.CrewSearchCondition;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberResponse;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.util.CollectionUtils;
 import org.springframework.data.domain.Pageable;
@@ -30,7 +35,8 @@ public class CrewRepositoryCustomImpl implements CrewRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Slice<CrewListResponse> searchCrews(CrewSearchCondition condition, Pageable pageable) {
+    public Slice<CrewListResponse> searchCrews(
+        CrewSearchCondition condition, Collection<Long> candidateIds, Pageable pageable) {
         List<CrewListResponse> content = queryFactory
             .select(Projections.constructor(CrewListResponse.class,
                 crew.id,
@@ -47,10 +53,11 @@ public class CrewRepositoryCustomImpl implements CrewRepositoryCustom {
             .where(
                 isNotDeleted(),
                 cityIn(condition.city()),
-                keywordContains(condition.keyword())
+                keywordMatches(condition.keyword(), candidateIds)
             )
             .groupBy(crew.id)
-            .orderBy(getOrderSpecifier(condition.sort()))
+            // 같은 정렬 값끼리도 순서가 고정되도록 id를 보조 정렬로 사용
+            .orderBy(getOrderSpecifier(condition.sort()), crew.id.desc())
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize() + 1)
             .fetch();
@@ -63,6 +70,58 @@ public class CrewRepositoryCustomImpl implements CrewRepositoryCustom {
         return new SliceImpl<>(content, pageable, hasNext);
     }
 
+    @Override
+    public List<Long> findMatchingCrewIds(CrewSearchCondition condition, Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+            .select(crew.id)
+            .from(crew)
+            .where(
+                isNotDeleted(),
+                crew.id.in(candidateIds),
+                cityIn(condition.city())
+            )
+            .fetch();
+    }
+
+    @Override
+    public List<Suggestion> findCrewSuggestions() {
+        return queryFactory
+            .select(Projections.constructor(Suggestion.class,
+                crew.id,
+                crew.name,
+                membership.count()
+            ))
+            .from(crew)
+            .leftJoin(membership).on(membership.crew.eq(crew))
+            .where(isNotDeleted())
+            .groupBy(crew.id, crew.name)
+            .fetch();
+    }
+
+    @Override
+    public Optional<AggregateVersion> findCrewVersion(Long crewId) {
+        Tuple row = queryFactory
+            .select(crew.updatedAt, membership.count())
+            .from(crew)
+            .leftJoin(membership).on(membership.crew.eq(crew))
+            .where(
+                crew.id.eq(crewId),
+                isNotDeleted()
+            )
+            .groupBy(crew.id, crew.updatedAt)
+            .fetchOne();
+
+        if (row == null) {
+            return Optional.empty();
+        }
+        Long memberCount = row.get(membership.count());
+        return Optional.of(new AggregateVersion(memberCount != null ? memberCount : 0L, 0L, row.get(crew.updatedAt)));
+    }
+
     private BooleanExpression isNotDeleted() {
         return crew.deleted.isNull();
     }
@@ -71,7 +130,11 @@ public class CrewRepositoryCustomImpl implements CrewRepositoryCustom {
         return CollectionUtils.isEmpty(cities) ? null : crew.city.in(cities);
     }
 
-    private BooleanExpression keywordContains(String keyword) {
+    // 전문 검색 결과가 있으면 그 후보로 거르고, 인덱스가 준비되기 전에는 크루명 LIKE 검색으로 대신한다
+    private BooleanExpression keywordMatches(String keyword, Collection<Long> candidateIds) {
+        if (candidateIds != null) {
+            return crew.id.in(candidateIds);
+        }
         return StringUtils.hasText(keyword) ? crew.name.containsIgnoreCase(keyword) : null;
     }
 
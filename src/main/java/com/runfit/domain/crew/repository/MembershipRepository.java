@@ -2,9 +2,11 @@ package com.runfit.domain.crew.repository;
 
 import com.runfit.domain.crew.entity.CrewRole;
 import com.runfit.domain.crew.entity.Membership;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -38,4 +40,13 @@ public interface MembershipRepository extends JpaRepository<Membership, Long>, M
     long countByCrewId(@Param("crewId") Long crewId);
 
     void deleteByUserUserIdAndCrewId(Long userId, Long crewId);
+
+    @Modifying
+    @Query("UPDATE Membership m SET m.role = :role WHERE m.crew.id = :crewId AND m.user.userId IN :userIds")
+    int updateRoleByCrewIdAndUserIds(
+        @Param("crewId") Long crewId, @Param("userIds") Collection<Long> userIds, @Param("role") CrewRole role);
+
+    @Modifying
+    @Query("DELETE FROM Membership m WHERE m.crew.id = :crewId AND m.user.userId IN :userIds")
+    int deleteByCrewIdAndUserIds(@Param("crewId") Long crewId, @Param("userIds") Collection<Long> userIds);
 }
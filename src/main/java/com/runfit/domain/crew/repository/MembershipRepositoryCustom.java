@@ -1,8 +1,11 @@
 package com.runfit.domain.crew.repository;
 
+import com.runfit.common.model.AggregateVersion;
+import com.runfit.common.pagination.Cursor;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.entity.Membership;
 import com.runfit.domain.user.controller.dto.response.MyCrewResponse;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -11,7 +14,21 @@ public interface MembershipRepositoryCustom {
 
     Slice<CrewListResponse> findOwnedCrewsByUserId(Long userId, Pageable pageable);
 
-    Slice<MyCrewResponse> findMyCrewsByUserId(Long userId, Pageable pageable);
+    Slice<MyCrewResponse> findMyCrewsByUserId(Long userId, Cursor cursor, Pageable pageable);
+
+    default Slice<MyCrewResponse> findMyCrewsByUserId(Long userId, Pageable pageable) {
+        return findMyCrewsByUserId(userId, null, pageable);
+    }
 
     List<Membership> findMembersByCrewIds(List<Long> crewIds);
+
+    /**
+     * 주어진 사용자들과 크루들 사이의 멤버십 역할을 한 번의 쿼리로 조회한다.
+     */
+    MembershipRoleMap findRoleMap(Collection<Long> userIds, Collection<Long> crewIds);
+
+    /**
+     * 크루 멤버 명단의 변경 여부 판단용 요약. 역할 변경은 시각이 남지 않으므로 (멤버십 id, 역할) 행을 해시한다.
+     */
+    AggregateVersion findMemberRosterVersion(Long crewId);
 }
@@ -2,18 +2,26 @@ package com.runfit.domain.crew.repository;
 
 import static com.runfit.domain.crew.entity.QCrew.crew;
 import static com.runfit.domain.crew.entity.QMembership.membership;
+import static com.runfit.domain.user.entity.QUser.user;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.runfit.common.model.AggregateVersion;
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.pagination.CursorSlice;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberResponse;
 import com.runfit.domain.crew.entity.CrewRole;
 import com.runfit.domain.crew.entity.Membership;
 import com.runfit.domain.crew.entity.QMembership;
 import com.runfit.domain.user.controller.dto.response.MyCrewResponse;
+import java.util.Collection;
 import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -65,39 +73,53 @@ public class MembershipRepositoryCustomImpl implements MembershipRepositoryCusto
     }
 
     @Override
-    public Slice<MyCrewResponse> findMyCrewsByUserId(Long userId, Pageable pageable) {
+    public Slice<MyCrewResponse> findMyCrewsByUserId(Long userId, Cursor cursor, Pageable pageable) {
         QMembership membershipCount = new QMembership("membershipCount");
 
-        List<MyCrewResponse> content = queryFactory
-            .select(Projections.constructor(MyCrewResponse.class,
-                crew.id,
-                crew.name,
-                crew.description,
-                crew.city,
-                crew.image,
-                JPAExpressions.select(membershipCount.count())
-                    .from(membershipCount)
-                    .where(membershipCount.crew.eq(crew)),
-                membership.role,
-                crew.createdAt
-            ))
+        ConstructorExpression<MyCrewResponse> projection = Projections.constructor(MyCrewResponse.class,
+            crew.id,
+            crew.name,
+            crew.description,
+            crew.city,
+            crew.image,
+            JPAExpressions.select(membershipCount.count())
+                .from(membershipCount)
+                .where(membershipCount.crew.eq(crew)),
+            membership.role,
+            crew.createdAt
+        );
+
+        // 가입 시각은 응답에 없으므로 커서 생성을 위해 함께 조회
+        List<Tuple> rows = queryFactory
+            .select(projection, membership.joinedAt, membership.id)
             .from(membership)
             .join(membership.crew, crew)
             .where(
                 membership.user.userId.eq(userId),
-                crew.deleted.isNull()
+                crew.deleted.isNull(),
+                cursor != null ? cursor.after(membership.joinedAt, membership.id, false) : null
             )
-            .orderBy(membership.joinedAt.desc())
-            .offset(pageable.getOffset())
+            .orderBy(membership.joinedAt.desc(), membership.id.desc())
+            .offset(cursor != null ? 0 : pageable.getOffset())
             .limit(pageable.getPageSize() + 1)
             .fetch();
 
-        boolean hasNext = content.size() > pageable.getPageSize();
+        boolean hasNext = rows.size() > pageable.getPageSize();
         if (hasNext) {
-            content.remove(content.size() - 1);
+            rows = rows.subList(0, pageable.getPageSize());
         }
 
-        return new SliceImpl<>(content, pageable, hasNext);
+        List<MyCrewResponse> content = rows.stream()
+            .map(row -> row.get(projection))
+            .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = rows.get(rows.size() - 1);
+            nextCursor = Cursor.encode(last.get(membership.joinedAt), last.get(membership.id));
+        }
+
+        return new CursorSlice<>(content, pageable, hasNext, nextCursor);
     }
 
     @Override
@@ -113,4 +135,46 @@ public class MembershipRepositoryCustomImpl implements MembershipRepositoryCusto
             .orderBy(membership.joinedAt.desc())
             .fetch();
     }
+
+    @Override
+    public MembershipRoleMap findRoleMap(Collection<Long> userIds, Collection<Long> crewIds) {
+        if (userIds == null || userIds.isEmpty() || crewIds == null || crewIds.isEmpty()) {
+            return MembershipRoleMap.empty();
+        }
+
+        List<Tuple> rows = queryFactory
+            .select(membership.user.userId, membership.crew.id, membership.role)
+            .from(membership)
+            .where(
+                membership.user.userId.in(userIds),
+                membership.crew.id.in(crewIds)
+            )
+            .fetch();
+
+        MembershipRoleMap roleMap = new MembershipRoleMap(rows.size());
+        for (Tuple row : rows) {
+            roleMap.put(row.get(membership.user.userId), row.get(membership.crew.id), row.get(membership.role));
+        }
+        return roleMap;
+    }
+
+    @Override
+    public AggregateVersion findMemberRosterVersion(Long crewId) {
+        List<Tuple> rows = queryFactory
+            .select(membership.id, membership.role, user.updatedAt)
+            .from(membership)
+            .join(membership.user, user)
+            .where(membership.crew.id.eq(crewId))
+            .orderBy(membership.id.asc())
+            .fetch();
+
+        long checksum = 1L;
+        LocalDateTime lastModified = null;
+        for (Tuple row : rows) {
+            checksum = 31 * checksum + row.get(membership.id);
+            checksum = 31 * checksum + row.get(membership.role).ordinal();
+            lastModified = AggregateVersion.latest(lastModified, row.get(user.updatedAt));
+        }
+        return new AggregateVersion(rows.size(), checksum, lastModified);
+    }
 }
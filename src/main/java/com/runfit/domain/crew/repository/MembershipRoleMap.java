@@ -0,0 +1,102 @@
+package com.runfit.domain.crew.repository;
+
+import com.runfit.domain.crew.entity.CrewRole;
+
+/**
+ * (userId, crewId) → 크루 역할 조회용 맵.
+ * 두 id를 박싱하거나 문자열 키로 만들지 않도록 기본형 배열 기반 오픈 어드레싱(선형 탐사)으로 구현한다.
+ * 역할은 ordinal + 1로 저장하며 0은 빈 슬롯을 뜻한다.
+ */
+public final class MembershipRoleMap {
+
+    private static final CrewRole[] ROLES = CrewRole.values();
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] userIds;
+    private long[] crewIds;
+    private byte[] roles;
+    private int mask;
+    private int size;
+
+    public MembershipRoleMap() {
+        this(8);
+    }
+
+    public MembershipRoleMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public static MembershipRoleMap empty() {
+        return new MembershipRoleMap(0);
+    }
+
+    public void put(long userId, long crewId, CrewRole role) {
+        if ((size + 1) > roles.length * LOAD_FACTOR) {
+            rehash(roles.length * 2);
+        }
+
+        int slot = slotOf(userId, crewId);
+        if (roles[slot] == 0) {
+            size++;
+        }
+        userIds[slot] = userId;
+        crewIds[slot] = crewId;
+        roles[slot] = (byte) (role.ordinal() + 1);
+    }
+
+    public CrewRole get(long userId, long crewId, CrewRole defaultRole) {
+        byte role = roles[slotOf(userId, crewId)];
+        return role == 0 ? defaultRole : ROLES[role - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 키가 있으면 그 슬롯, 없으면 넣을 수 있는 빈 슬롯을 반환
+    private int slotOf(long userId, long crewId) {
+        int slot = hash(userId, crewId) & mask;
+        while (roles[slot] != 0 && (userIds[slot] != userId || crewIds[slot] != crewId)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldUserIds = userIds;
+        long[] oldCrewIds = crewIds;
+        byte[] oldRoles = roles;
+
+        allocate(newCapacity);
+        for (int i = 0; i < oldRoles.length; i++) {
+            if (oldRoles[i] != 0) {
+                int slot = slotOf(oldUserIds[i], oldCrewIds[i]);
+                userIds[slot] = oldUserIds[i];
+                crewIds[slot] = oldCrewIds[i];
+                roles[slot] = oldRoles[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        userIds = new long[capacity];
+        crewIds = new long[capacity];
+        roles = new byte[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(long userId, long crewId) {
+        long h = userId * 0x9E3779B97F4A7C15L + crewId;
+        h ^= (h >>> 32);
+        h *= 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 29));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = 8;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,98 @@
+package com.runfit.domain.crew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import com.runfit.common.export.ExportFormat;
+import com.runfit.common.export.RecordExportWriter;
+import com.runfit.domain.crew.controller.dto.request.CrewExportType;
+import com.runfit.domain.crew.entity.Membership;
+import com.runfit.domain.crew.repository.CrewRepository;
+import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.review.controller.dto.response.CrewReviewResponse;
+import com.runfit.domain.review.repository.ReviewRepository;
+import com.runfit.domain.session.repository.CrewParticipantExportRow;
+import com.runfit.domain.session.repository.CrewSessionExportRow;
+import com.runfit.domain.session.repository.SessionParticipantRepository;
+import com.runfit.domain.session.repository.SessionRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 크루의 세션/참가 내역/리뷰를 CSV 또는 NDJSON으로 내보낸다.
+ * 권한 검사는 응답을 시작하기 전에 끝내고, 본문은 읽기 전용 트랜잭션 안에서 DB 커서를 한 행씩 읽어 바로 쓴다.
+ * 엔티티 대신 DTO 프로젝션만 읽으므로 영속성 컨텍스트가 커지지 않고 메모리는 행 수와 무관하게 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewExportService {
+
+    private final CrewRepository crewRepository;
+    private final MembershipRepository membershipRepository;
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final ReviewRepository reviewRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    // 운영(MySQL)에서는 Integer.MIN_VALUE로 설정해 행 단위 스트리밍을 켠다
+    @Value("${runfit.export.fetch-size:1000}")
+    private int fetchSize = 1000;
+
+    @Transactional(readOnly = true)
+    public void validateExportPermission(Long userId, Long crewId, boolean isAdmin) {
+        crewRepository.findByIdAndDeletedIsNull(crewId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.CREW_NOT_FOUND));
+        if (isAdmin) {
+            return;
+        }
+
+        Membership membership = membershipRepository.findByUserUserIdAndCrewId(userId, crewId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.MEMBERSHIP_NOT_FOUND));
+
+        if (!membership.isLeader()) {
+            throw new BusinessException(ErrorCode.CREW_EXPORT_FORBIDDEN);
+        }
+    }
+
+    /**
+     * 응답 본문을 쓰는 콜백을 만든다. 실제 조회는 MVC 비동기 스레드에서 본문을 쓸 때 시작된다.
+     */
+    public StreamingResponseBody export(Long crewId, CrewExportType type, ExportFormat format) {
+        return outputStream -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                long count = switch (type) {
+                    case SESSIONS -> write(sessionRepository.streamCrewSessions(crewId, fetchSize),
+                        CrewSessionExportRow.class, format, outputStream);
+                    case PARTICIPANTS -> write(sessionParticipantRepository.streamCrewParticipants(crewId, fetchSize),
+                        CrewParticipantExportRow.class, format, outputStream);
+                    case REVIEWS -> write(reviewRepository.streamReviewsByCrewId(crewId, fetchSize),
+                        CrewReviewResponse.class, format, outputStream);
+                };
+                log.info("Exported {} {} rows of crew {} as {}", count, type, crewId, format);
+            });
+        };
+    }
+
+    private <T extends Record> long write(
+        Stream<T> rows, Class<T> rowType, ExportFormat format, OutputStream outputStream) {
+        try (rows) {
+            return RecordExportWriter.write(rows, rowType, format, outputStream, objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
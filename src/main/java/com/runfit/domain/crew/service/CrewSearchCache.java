@@ -0,0 +1,69 @@
+package com.runfit.domain.crew.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runfit.domain.crew.controller.dto.request.CrewSearchCondition;
+import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
+import com.runfit.domain.crew.event.CrewChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 크루 목록 검색 결과를 짧은 TTL로 여러 요청이 공유하는 캐시.
+ * 같은 키의 동시 미스는 한 요청만 조회하고 나머지는 그 결과를 기다린다.
+ * 크루 생성/수정/삭제는 즉시 전체 무효화하고, 멤버 수와 멤버 미리보기는 TTL 안에서 늦게 반영될 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CrewSearchCache {
+
+    static final String CACHE_NAME = "crewSearches";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${runfit.crew-search-cache.maximum-size:1000}")
+    private long maximumSize = 1_000;
+
+    @Value("${runfit.crew-search-cache.ttl-seconds:10}")
+    private long ttlSeconds = 10;
+
+    private Cache<SearchKey, Slice<CrewListResponse>> cache;
+
+    @PostConstruct
+    void initialize() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Slice<CrewListResponse> get(
+        CrewSearchCondition condition, Pageable pageable, Supplier<Slice<CrewListResponse>> loader) {
+        SearchKey key = new SearchKey(condition.normalized(), pageable.getPageNumber(), pageable.getPageSize());
+        return cache.get(key, k -> loader.get());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCrewChanged(CrewChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private record SearchKey(
+        CrewSearchCondition condition,
+        int page,
+        int size
+    ) {
+    }
+}
@@ -2,15 +2,21 @@ package com.runfit.domain.crew.service;
 
 import com.runfit.common.exception.BusinessException;
 import com.runfit.common.exception.ErrorCode;
+import com.runfit.common.model.AggregateVersion;
 import com.runfit.domain.crew.controller.dto.request.CrewCreateRequest;
 import com.runfit.domain.crew.controller.dto.request.CrewSearchCondition;
 import com.runfit.domain.crew.controller.dto.request.CrewUpdateRequest;
 import com.runfit.domain.crew.controller.dto.request.LeaderChangeRequest;
+import com.runfit.domain.crew.controller.dto.request.MemberBulkKickRequest;
+import com.runfit.domain.crew.controller.dto.request.MemberBulkRoleChangeRequest;
 import com.runfit.domain.crew.controller.dto.request.RoleChangeRequest;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.controller.dto.response.CrewMembersResponse;
 import com.runfit.domain.crew.controller.dto.response.CrewResponse;
 import com.runfit.domain.crew.controller.dto.response.LeaderChangeResponse;
+import com.runfit.domain.crew.controller.dto.response.MemberBulkOutcome;
+import com.runfit.domain.crew.controller.dto.response.MemberBulkResponse;
+import com.runfit.domain.crew.controller.dto.response.MemberBulkResult;
 import com.runfit.domain.crew.controller.dto.response.MemberCountResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberRoleResponse;
@@ -19,15 +25,22 @@ import com.runfit.domain.crew.controller.dto.response.RoleChangeResponse;
 import com.runfit.domain.crew.entity.Crew;
 import com.runfit.domain.crew.entity.CrewRole;
 import com.runfit.domain.crew.entity.Membership;
+import com.runfit.domain.crew.event.CrewChangedEvent;
 import com.runfit.domain.crew.repository.CrewRepository;
 import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.crew.repository.MembershipRoleMap;
 import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -38,9 +51,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CrewService {
 
+    private static final int MAX_BULK_MEMBERS = 1000;
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
     private final CrewRepository crewRepository;
     private final MembershipRepository membershipRepository;
     private final UserRepository userRepository;
+    private final CrewSearchCache crewSearchCache;
+    private final CrewTextSearchService crewTextSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CrewListResponse createCrew(Long userId, CrewCreateRequest request) {
@@ -58,14 +77,26 @@ public class CrewService {
         // 생성자를 LEADER로 자동 등록
         Membership leaderMembership = Membership.createLeader(user, savedCrew);
         membershipRepository.save(leaderMembership);
+        eventPublisher.publishEvent(CrewChangedEvent.from(savedCrew));
 
         return CrewListResponse.of(savedCrew, 1L);
     }
 
     @Transactional(readOnly = true)
     public Slice<CrewListResponse> searchCrews(CrewSearchCondition condition, Pageable pageable) {
-        Slice<CrewListResponse> crews = crewRepository.searchCrews(condition, pageable);
-        return enrichWithParticipants(crews, pageable);
+        return crewSearchCache.get(condition, pageable, () -> enrichWithParticipants(findCrews(condition, pageable), pageable));
+    }
+
+    private Slice<CrewListResponse> findCrews(CrewSearchCondition condition, Pageable pageable) {
+        return crewTextSearchService.canServe(condition)
+            ? crewTextSearchService.search(condition, pageable)
+            : crewRepository.searchCrews(condition, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public AggregateVersion getCrewDetailVersion(Long crewId) {
+        return crewRepository.findCrewVersion(crewId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.CREW_NOT_FOUND));
     }
 
     @Transactional(readOnly = true)
@@ -86,6 +117,7 @@ public class CrewService {
             request.city(),
             request.image()
         );
+        eventPublisher.publishEvent(CrewChangedEvent.from(crew));
 
         long memberCount = membershipRepository.countByCrewId(crewId);
         return CrewResponse.of(crew, memberCount);
@@ -97,6 +129,13 @@ public class CrewService {
         validateLeaderPermission(userId, crewId, isAdmin);
 
         crew.delete();
+        eventPublisher.publishEvent(CrewChangedEvent.from(crew));
+    }
+
+    @Transactional(readOnly = true)
+    public AggregateVersion getCrewMembersVersion(Long crewId) {
+        findCrewById(crewId);
+        return membershipRepository.findMemberRosterVersion(crewId);
     }
 
     @Transactional(readOnly = true)
@@ -191,6 +230,118 @@ public class CrewService {
         membershipRepository.delete(targetMembership);
     }
 
+    // === Bulk Member API ===
+
+    /**
+     * 이메일 CSV(첫 열)로 회원을 한 번에 가입시킨다. 사용자와 기존 멤버십은 IN 조회 한 번씩으로 찾고
+     * 새 멤버십은 saveAll로 배치 INSERT한다. 행마다 처리 결과를 돌려주며 실패한 행이 있어도 나머지는 가입된다.
+     */
+    @Transactional
+    public MemberBulkResponse importMembers(Long userId, Long crewId, String csv, boolean isAdmin) {
+        Crew crew = findCrewById(crewId);
+        validateLeaderPermission(userId, crewId, isAdmin);
+
+        List<EmailRow> rows = parseEmailRows(csv);
+        if (rows.isEmpty() || rows.size() > MAX_BULK_MEMBERS) {
+            throw new BusinessException(ErrorCode.INVALID_MEMBER_IMPORT);
+        }
+
+        List<String> emails = rows.stream()
+            .map(EmailRow::email)
+            .filter(email -> EMAIL_PATTERN.matcher(email).matches())
+            .distinct()
+            .toList();
+        Map<String, User> usersByEmail = new HashMap<>();
+        for (User found : emails.isEmpty() ? List.<User>of() : userRepository.findAllByEmailIn(emails)) {
+            usersByEmail.put(found.getEmail().toLowerCase(Locale.ROOT), found);
+        }
+        List<Long> foundUserIds = usersByEmail.values().stream().map(User::getUserId).toList();
+        MembershipRoleMap roles = membershipRepository.findRoleMap(foundUserIds, List.of(crewId));
+
+        List<MemberBulkResult> results = new ArrayList<>(rows.size());
+        List<Membership> newMemberships = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (EmailRow row : rows) {
+            String key = row.email().toLowerCase(Locale.ROOT);
+            User target = usersByEmail.get(key);
+
+            MemberBulkOutcome outcome;
+            if (!EMAIL_PATTERN.matcher(row.email()).matches()) {
+                outcome = MemberBulkOutcome.INVALID_EMAIL;
+            } else if (!seen.add(key)) {
+                outcome = MemberBulkOutcome.DUPLICATE;
+            } else if (target == null) {
+                outcome = MemberBulkOutcome.USER_NOT_FOUND;
+            } else if (roles.get(target.getUserId(), crewId, null) != null) {
+                outcome = MemberBulkOutcome.ALREADY_MEMBER;
+            } else {
+                newMemberships.add(Membership.createMember(target, crew));
+                outcome = MemberBulkOutcome.JOINED;
+            }
+            results.add(new MemberBulkResult(row.line(), row.email(), target != null ? target.getUserId() : null, outcome));
+        }
+
+        membershipRepository.saveAll(newMemberships);
+        return MemberBulkResponse.from(results);
+    }
+
+    @Transactional
+    public MemberBulkResponse changeRoles(Long userId, Long crewId, MemberBulkRoleChangeRequest request, boolean isAdmin) {
+        findCrewById(crewId);
+        validateLeaderPermission(userId, crewId, isAdmin);
+
+        // 크루장 위임은 한 명만 가능하므로 크루장 변경 API로만 한다
+        if (request.role() == CrewRole.LEADER) {
+            throw new BusinessException(ErrorCode.CREW_ROLE_FORBIDDEN);
+        }
+
+        MembershipRoleMap roles = membershipRepository.findRoleMap(request.userIds(), List.of(crewId));
+        List<MemberBulkResult> results = new ArrayList<>(request.userIds().size());
+        List<Long> changedUserIds = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (Long targetUserId : request.userIds()) {
+            MemberBulkOutcome outcome = checkBulkTarget(roles, crewId, targetUserId, seen);
+            if (outcome == null) {
+                if (roles.get(targetUserId, crewId, null) == request.role()) {
+                    outcome = MemberBulkOutcome.UNCHANGED;
+                } else {
+                    changedUserIds.add(targetUserId);
+                    outcome = MemberBulkOutcome.ROLE_CHANGED;
+                }
+            }
+            results.add(new MemberBulkResult(results.size() + 1, null, targetUserId, outcome));
+        }
+
+        if (!changedUserIds.isEmpty()) {
+            membershipRepository.updateRoleByCrewIdAndUserIds(crewId, changedUserIds, request.role());
+        }
+        return MemberBulkResponse.from(results);
+    }
+
+    @Transactional
+    public MemberBulkResponse kickMembers(Long userId, Long crewId, MemberBulkKickRequest request, boolean isAdmin) {
+        findCrewById(crewId);
+        validateLeaderPermission(userId, crewId, isAdmin);
+
+        MembershipRoleMap roles = membershipRepository.findRoleMap(request.userIds(), List.of(crewId));
+        List<MemberBulkResult> results = new ArrayList<>(request.userIds().size());
+        List<Long> kickedUserIds = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (Long targetUserId : request.userIds()) {
+            MemberBulkOutcome outcome = checkBulkTarget(roles, crewId, targetUserId, seen);
+            if (outcome == null) {
+                kickedUserIds.add(targetUserId);
+                outcome = MemberBulkOutcome.KICKED;
+            }
+            results.add(new MemberBulkResult(results.size() + 1, null, targetUserId, outcome));
+        }
+
+        if (!kickedUserIds.isEmpty()) {
+            membershipRepository.deleteByCrewIdAndUserIds(crewId, kickedUserIds);
+        }
+        return MemberBulkResponse.from(results);
+    }
+
     // === Membership API ===
 
     @Transactional
@@ -242,6 +393,43 @@ public class CrewService {
         }
     }
 
+    // 역할 변경/강퇴 대상이 될 수 없으면 그 사유를, 처리 가능하면 null을 반환한다
+    private MemberBulkOutcome checkBulkTarget(MembershipRoleMap roles, Long crewId, Long targetUserId, Set<Long> seen) {
+        if (!seen.add(targetUserId)) {
+            return MemberBulkOutcome.DUPLICATE;
+        }
+        CrewRole role = roles.get(targetUserId, crewId, null);
+        if (role == null) {
+            return MemberBulkOutcome.NOT_MEMBER;
+        }
+        return role == CrewRole.LEADER ? MemberBulkOutcome.LEADER_FORBIDDEN : null;
+    }
+
+    // 빈 줄은 건너뛰고 각 줄의 첫 열을 이메일로 읽는다. 첫 줄이 email 헤더면 제외한다
+    private List<EmailRow> parseEmailRows(String csv) {
+        if (csv == null) {
+            return List.of();
+        }
+
+        String[] lines = csv.split("\\R");
+        List<EmailRow> rows = new ArrayList<>(lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            String line = i == 0 && lines[i].startsWith("\uFEFF") ? lines[i].substring(1) : lines[i];
+            String email = line.split(",", 2)[0].trim();
+            if (email.length() >= 2 && email.startsWith("\"") && email.endsWith("\"")) {
+                email = email.substring(1, email.length() - 1).trim();
+            }
+            if (email.isEmpty() || (rows.isEmpty() && "email".equalsIgnoreCase(email))) {
+                continue;
+            }
+            rows.add(new EmailRow(i + 1, email));
+        }
+        return rows;
+    }
+
+    private record EmailRow(int line, String email) {
+    }
+
     private CrewRole parseRole(String role) {
         return switch (role.toLowerCase()) {
             case "leader" -> CrewRole.LEADER;
@@ -0,0 +1,86 @@
+package com.runfit.domain.crew.service;
+
+import com.runfit.common.search.Suggestion;
+import com.runfit.common.search.SuggestTrie;
+import com.runfit.domain.crew.controller.dto.response.CrewSuggestionResponse;
+import com.runfit.domain.crew.event.CrewChangedEvent;
+import com.runfit.domain.crew.repository.CrewRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 크루 이름 자동완성. 멤버 수가 많은 크루부터 노출한다.
+ * 크루 생성/수정/삭제는 이벤트로 바로 반영하고, 멤버 수 변화와 다른 인스턴스의 변경은 주기적 동기화로 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewSuggestionService {
+
+    public static final int MAX_LIMIT = 10;
+
+    private final CrewRepository crewRepository;
+
+    private final SuggestTrie trie = new SuggestTrie(MAX_LIMIT);
+
+    // 동기화가 DB를 읽은 뒤 이벤트로 바뀐 크루. 스냅샷이 더 오래된 값이므로 추가/이름 변경/삭제 모두 덮어쓰지 않는다
+    private final Set<Long> touchedIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        synchronize();
+        log.info("Crew suggestions ready with {} crews", trie.size());
+    }
+
+    @Scheduled(fixedDelayString = "${runfit.suggest.sync-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void synchronize() {
+        // DB 조회 전에 기존 id를 잡아 두고 이벤트 기록을 비운다. 조회 중 이벤트로 추가된 크루는 스냅샷에 없어도 지워지지 않는다
+        touchedIds.clear();
+        Set<Long> staleIds = new HashSet<>(trie.ids());
+        List<Suggestion> suggestions = crewRepository.findCrewSuggestions();
+
+        synchronized (this) {
+            for (Suggestion suggestion : suggestions) {
+                staleIds.remove(suggestion.id());
+                if (touchedIds.contains(suggestion.id())) {
+                    continue;
+                }
+                trie.put(suggestion.id(), suggestion.text(), suggestion.score());
+            }
+            staleIds.removeAll(touchedIds);
+            staleIds.forEach(trie::remove);
+        }
+    }
+
+    public List<CrewSuggestionResponse> suggest(String keyword, int limit) {
+        return trie.suggest(keyword, Math.max(1, Math.min(limit, MAX_LIMIT))).stream()
+            .map(CrewSuggestionResponse::from)
+            .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onCrewChanged(CrewChangedEvent event) {
+        touchedIds.add(event.crewId());
+        if (event.deleted()) {
+            trie.remove(event.crewId());
+            return;
+        }
+
+        // 멤버 수는 동기화 때 맞추므로 이름만 바꾸고, 새 크루는 리더 1명으로 시작한다
+        Suggestion existing = trie.get(event.crewId());
+        trie.put(event.crewId(), event.name(), existing != null ? existing.score() : 1L);
+    }
+}
@@ -0,0 +1,148 @@
+package com.runfit.domain.crew.service;
+
+import com.runfit.common.search.RankedCandidates;
+import com.runfit.common.search.SearchField;
+import com.runfit.common.search.TextSearchIndex;
+import com.runfit.common.sync.ChangeWatermark;
+import com.runfit.domain.crew.controller.dto.request.CrewSearchCondition;
+import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
+import com.runfit.domain.crew.entity.Crew;
+import com.runfit.domain.crew.event.CrewChangedEvent;
+import com.runfit.domain.crew.repository.CrewRepository;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * 크루 이름/소개의 전문 검색 인덱스를 관리한다.
+ * 기동 시 삭제되지 않은 크루 전체를 색인하고, 이후에는 크루 변경 이벤트와 주기적 동기화로 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewTextSearchService {
+
+    private static final int NAME_BOOST = 3;
+    private static final int DESCRIPTION_BOOST = 1;
+
+    private final CrewRepository crewRepository;
+
+    private final TextSearchIndex index = new TextSearchIndex();
+
+    @Value("${runfit.text-search.max-hits:1000}")
+    private int maxHits = 1000;
+
+    private final ChangeWatermark watermark = new ChangeWatermark();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        index.clear();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        List<Crew> crews = crewRepository.findAllByDeletedIsNull();
+        for (Crew crew : crews) {
+            index.put(crew.getId(), fields(crew.getName(), crew.getDescription()));
+        }
+        watermark.advance(startedAt);
+        log.info("Crew text index ready with {} crews", index.size());
+    }
+
+    @Scheduled(fixedDelayString = "${runfit.text-search.sync-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void synchronize() {
+        watermark.catchUp(crewRepository::findAllByUpdatedAtGreaterThanEqual, Crew::getUpdatedAt, crew -> {
+            if (crew.isDeleted()) {
+                index.remove(crew.getId());
+            } else {
+                index.put(crew.getId(), fields(crew.getName(), crew.getDescription()));
+            }
+        });
+    }
+
+    /**
+     * 인덱스가 적재되기 전에는 DB LIKE 검색으로 대신한다.
+     */
+    public boolean canServe(CrewSearchCondition condition) {
+        return watermark.isReady() && StringUtils.hasText(condition.keyword());
+    }
+
+    /**
+     * 정렬을 지정하면 검색 결과 전체를 후보로 DB 정렬을 그대로 쓴다. 후보가 maxHits를 넘으면 maxHits개씩
+     * 요청 페이지 끝까지만 정렬해 모은 뒤 그 id만 다시 정렬한다.
+     * 생략하면 관련도순 결과를 maxHits개씩 나머지 조건으로 걸러 페이지를 채운 뒤 그 페이지만 조회한다.
+     */
+    public Slice<CrewListResponse> search(CrewSearchCondition condition, Pageable pageable) {
+        List<Long> rankedIds = index.search(condition.keyword(), Integer.MAX_VALUE);
+        if (rankedIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        if (condition.sort() != null) {
+            Pageable head = PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize() + 1);
+            List<Long> candidateIds = RankedCandidates.collectWindowHeads(rankedIds, maxHits,
+                window -> crewRepository.searchCrews(condition, window, head).getContent().stream()
+                    .map(CrewListResponse::id)
+                    .toList());
+            return candidateIds.isEmpty()
+                ? new SliceImpl<>(List.of(), pageable, false)
+                : crewRepository.searchCrews(condition, candidateIds, pageable);
+        }
+
+        if (pageable.getOffset() >= rankedIds.size()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        int from = (int) pageable.getOffset();
+        int to = from + pageable.getPageSize();
+        List<Long> orderedIds = RankedCandidates.filterInOrder(rankedIds, maxHits, to + 1,
+            window -> crewRepository.findMatchingCrewIds(condition, window));
+
+        List<Long> pageIds = orderedIds.subList(Math.min(from, orderedIds.size()), Math.min(to, orderedIds.size()));
+        if (pageIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        Map<Long, Integer> rankById = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++) {
+            rankById.put(pageIds.get(i), i);
+        }
+        List<CrewListResponse> content = crewRepository.searchCrews(condition, pageIds, PageRequest.of(0, pageIds.size()))
+            .getContent().stream()
+            .sorted(Comparator.comparing(crew -> rankById.get(crew.id())))
+            .toList();
+        return new SliceImpl<>(content, pageable, orderedIds.size() > to);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCrewChanged(CrewChangedEvent event) {
+        if (event.deleted()) {
+            index.remove(event.crewId());
+        } else {
+            index.put(event.crewId(), fields(event.name(), event.description()));
+        }
+    }
+
+    private static SearchField[] fields(String name, String description) {
+        return new SearchField[] {
+            SearchField.of(name, NAME_BOOST),
+            SearchField.of(description, DESCRIPTION_BOOST)
+        };
+    }
+}
@@ -8,6 +8,7 @@ import com.runfit.domain.review.controller.dto.response.ReviewDeleteResponse;
 import com.runfit.domain.review.controller.dto.response.ReviewResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +17,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Review", description = "세션 리뷰 API")
 public interface ReviewApi {
@@ -23,12 +25,14 @@ public interface ReviewApi {
     @Operation(summary = "세션 리뷰 목록 조회", description = "특정 세션의 리뷰 목록을 페이지 단위로 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
         @ApiResponse(responseCode = "404", description = "세션 없음")
     })
     ResponseEntity<ResponseWrapper<PageResponse<ReviewResponse>>> getSessionReviews(
         @Parameter(description = "세션 ID") @PathVariable Long sessionId,
         @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size
+        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+        WebRequest webRequest
     );
 
     @Operation(summary = "세션 리뷰 작성", description = "세션에 리뷰를 작성합니다. 해당 세션 참가자만 작성 가능합니다.")
@@ -36,8 +40,12 @@ public interface ReviewApi {
         @ApiResponse(responseCode = "201", description = "리뷰 작성 성공"),
         @ApiResponse(responseCode = "400", description = "이미 리뷰 작성함 / 세션 미참가자"),
         @ApiResponse(responseCode = "401", description = "인증 필요"),
-        @ApiResponse(responseCode = "404", description = "세션 없음")
+        @ApiResponse(responseCode = "404", description = "세션 없음"),
+        @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청 처리 중"),
+        @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key에 다른 요청 본문")
     })
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+        description = "재시도 식별 키(1~255자). 같은 키의 재요청은 처리 없이 첫 응답을 돌려줍니다 (Idempotent-Replayed: true)")
     ResponseEntity<ResponseWrapper<ReviewResponse>> createReview(
         @AuthenticationPrincipal AuthUser user,
         @Parameter(description = "세션 ID") @PathVariable Long sessionId,
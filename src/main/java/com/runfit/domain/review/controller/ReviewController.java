@@ -1,5 +1,6 @@
 package com.runfit.domain.review.controller;
 
+import com.runfit.common.response.EntityTags;
 import com.runfit.common.response.PageResponse;
 import com.runfit.common.response.ResponseWrapper;
 import com.runfit.domain.auth.model.AuthUser;
@@ -12,6 +13,7 @@ import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -33,10 +36,19 @@ public class ReviewController implements ReviewApi {
     public ResponseEntity<ResponseWrapper<PageResponse<ReviewResponse>>> getSessionReviews(
         @PathVariable Long sessionId,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+        WebRequest webRequest
     ) {
+        String eTag = EntityTags.weak("sessionReviews", sessionId, page, size, reviewService.getSessionReviewsVersion(sessionId));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         Page<ReviewResponse> result = reviewService.getSessionReviews(sessionId, PageRequest.of(page, size));
-        return ResponseEntity.ok(ResponseWrapper.success(PageResponse.from(result)));
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(ResponseWrapper.success(PageResponse.from(result)));
     }
 
     @Override
@@ -1,7 +1,9 @@
 package com.runfit.domain.review.repository;
 
+import com.runfit.common.model.AggregateVersion;
 import com.runfit.domain.review.controller.dto.response.CrewReviewResponse;
 import com.runfit.domain.review.controller.dto.response.ReviewResponse;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,4 +14,19 @@ public interface ReviewRepositoryCustom {
     Page<ReviewResponse> findReviewsByUserId(Long userId, Pageable pageable);
 
     Page<CrewReviewResponse> findReviewsByCrewId(Long crewId, Pageable pageable);
+
+    /**
+     * 크루 리뷰를 (createdAt, id) 순으로 한 행씩 읽는 스트림. 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    Stream<CrewReviewResponse> streamReviewsByCrewId(Long crewId, int fetchSize);
+
+    /**
+     * 세션 리뷰 목록의 변경 여부 판단용 요약 (리뷰 수, 리뷰 id 체크섬, 작성자 최종 수정 시각).
+     */
+    AggregateVersion findSessionReviewsVersion(Long sessionId);
+
+    /**
+     * 크루 리뷰 목록의 변경 여부 판단용 요약 (리뷰 수, 리뷰 id 체크섬, 작성자/세션 최종 수정 시각).
+     */
+    AggregateVersion findCrewReviewsVersion(Long crewId);
 }
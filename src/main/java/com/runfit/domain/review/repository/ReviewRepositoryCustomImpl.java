@@ -4,12 +4,18 @@ import static com.runfit.domain.review.entity.QReview.review;
 import static com.runfit.domain.session.entity.QSession.session;
 import static com.runfit.domain.user.entity.QUser.user;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.runfit.common.model.AggregateVersion;
 import com.runfit.domain.review.controller.dto.response.CrewReviewResponse;
 import com.runfit.domain.review.controller.dto.response.ReviewResponse;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -90,19 +96,7 @@ public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
     @Override
     public Page<CrewReviewResponse> findReviewsByCrewId(Long crewId, Pageable pageable) {
         List<CrewReviewResponse> content = queryFactory
-            .select(Projections.constructor(CrewReviewResponse.class,
-                review.id,
-                review.session.id,
-                session.name,
-                session.crew.id,
-                review.user.userId,
-                user.name,
-                user.image,
-                review.description,
-                review.ranks,
-                review.image,
-                review.createdAt
-            ))
+            .select(crewReviewProjection())
             .from(review)
             .join(review.session, session)
             .join(review.user, user)
@@ -121,4 +115,82 @@ public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
 
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
+
+    @Override
+    public Stream<CrewReviewResponse> streamReviewsByCrewId(Long crewId, int fetchSize) {
+        return queryFactory
+            .select(crewReviewProjection())
+            .from(review)
+            .join(review.session, session)
+            .join(review.user, user)
+            .where(session.crew.id.eq(crewId))
+            .orderBy(review.createdAt.asc(), review.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream();
+    }
+
+    private ConstructorExpression<CrewReviewResponse> crewReviewProjection() {
+        return Projections.constructor(CrewReviewResponse.class,
+            review.id,
+            review.session.id,
+            session.name,
+            session.crew.id,
+            review.user.userId,
+            user.name,
+            user.image,
+            review.description,
+            review.ranks,
+            review.image,
+            review.createdAt
+        );
+    }
+
+    // 리뷰는 수정되지 않으므로 id 순으로 접은 체크섬으로 추가·삭제를 잡고, 작성자 프로필 변경은 수정 시각으로 잡는다
+    @Override
+    public AggregateVersion findSessionReviewsVersion(Long sessionId) {
+        List<Tuple> rows = queryFactory
+            .select(review.id, user.updatedAt)
+            .from(review)
+            .join(review.user, user)
+            .where(review.session.id.eq(sessionId))
+            .orderBy(review.id.asc())
+            .fetch();
+
+        long checksum = 1L;
+        LocalDateTime lastModified = null;
+        for (Tuple row : rows) {
+            checksum = 31 * checksum + row.get(review.id);
+            lastModified = AggregateVersion.latest(lastModified, row.get(user.updatedAt));
+        }
+        return toVersion(rows.size(), checksum, lastModified);
+    }
+
+    @Override
+    public AggregateVersion findCrewReviewsVersion(Long crewId) {
+        List<Tuple> rows = queryFactory
+            .select(review.id, user.updatedAt, session.updatedAt)
+            .from(review)
+            .join(review.session, session)
+            .join(review.user, user)
+            .where(session.crew.id.eq(crewId))
+            .orderBy(review.id.asc())
+            .fetch();
+
+        long checksum = 1L;
+        LocalDateTime lastModified = null;
+        for (Tuple row : rows) {
+            checksum = 31 * checksum + row.get(review.id);
+            lastModified = AggregateVersion.latest(lastModified, row.get(user.updatedAt));
+            lastModified = AggregateVersion.latest(lastModified, row.get(session.updatedAt));
+        }
+        return toVersion(rows.size(), checksum, lastModified);
+    }
+
+    private AggregateVersion toVersion(int count, long checksum, LocalDateTime lastModified) {
+        if (count == 0) {
+            return AggregateVersion.EMPTY;
+        }
+        return new AggregateVersion(count, checksum, lastModified);
+    }
 }
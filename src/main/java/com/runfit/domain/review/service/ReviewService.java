@@ -2,6 +2,7 @@ package com.runfit.domain.review.service;
 
 import com.runfit.common.exception.BusinessException;
 import com.runfit.common.exception.ErrorCode;
+import com.runfit.common.model.AggregateVersion;
 import com.runfit.domain.crew.repository.CrewRepository;
 import com.runfit.domain.review.controller.dto.request.ReviewCreateRequest;
 import com.runfit.domain.review.controller.dto.response.CrewReviewResponse;
@@ -10,11 +11,13 @@ import com.runfit.domain.review.controller.dto.response.ReviewResponse;
 import com.runfit.domain.review.entity.Review;
 import com.runfit.domain.review.repository.ReviewRepository;
 import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.event.SessionCountersChangedEvent;
 import com.runfit.domain.session.repository.SessionParticipantRepository;
 import com.runfit.domain.session.repository.SessionRepository;
 import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -29,6 +32,13 @@ public class ReviewService {
     private final SessionParticipantRepository sessionParticipantRepository;
     private final UserRepository userRepository;
     private final CrewRepository crewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public AggregateVersion getSessionReviewsVersion(Long sessionId) {
+        findSessionById(sessionId);
+        return reviewRepository.findSessionReviewsVersion(sessionId);
+    }
 
     @Transactional(readOnly = true)
     public Page<ReviewResponse> getSessionReviews(Long sessionId, Pageable pageable) {
@@ -41,6 +51,13 @@ public class ReviewService {
         return reviewRepository.findReviewsByUserId(userId, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public AggregateVersion getCrewReviewsVersion(Long crewId) {
+        crewRepository.findByIdAndDeletedIsNull(crewId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.CREW_NOT_FOUND));
+        return reviewRepository.findCrewReviewsVersion(crewId);
+    }
+
     @Transactional(readOnly = true)
     public Page<CrewReviewResponse> getCrewReviews(Long crewId, Pageable pageable) {
         crewRepository.findByIdAndDeletedIsNull(crewId)
@@ -70,6 +87,8 @@ public class ReviewService {
         );
 
         Review savedReview = reviewRepository.save(review);
+        sessionRepository.addReview(sessionId, request.ranks());
+        eventPublisher.publishEvent(new SessionCountersChangedEvent(sessionId));
 
         return ReviewResponse.from(savedReview);
     }
@@ -84,6 +103,8 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        sessionRepository.removeReview(review.getSession().getId(), review.getRanks());
+        eventPublisher.publishEvent(new SessionCountersChangedEvent(review.getSession().getId()));
 
         return ReviewDeleteResponse.deleted();
     }
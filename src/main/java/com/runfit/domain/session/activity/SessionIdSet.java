@@ -0,0 +1,151 @@
+package com.runfit.domain.session.activity;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * 세션 id 집합을 압축해 담는 불변 집합 (Roaring 비트맵 방식).
+ * id를 상위 비트(id >>> 16)로 묶고, 묶음마다 원소가 적으면 정렬된 하위 16비트 배열(char[]),
+ * 많으면 65536비트 비트맵(long[1024])으로 저장한다. contains는 상위 키 이진 탐색 + 컨테이너 조회로 끝난다.
+ */
+public final class SessionIdSet {
+
+    // 배열 컨테이너가 비트맵(8KB)보다 커지기 시작하는 원소 수
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private static final SessionIdSet EMPTY = new SessionIdSet(new long[0], new Object[0], 0);
+
+    private final long[] keys;
+    private final Object[] containers;
+    private final int size;
+
+    private SessionIdSet(long[] keys, Object[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    public static SessionIdSet empty() {
+        return EMPTY;
+    }
+
+    public static SessionIdSet of(Collection<Long> ids) {
+        return of(ids.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    public static SessionIdSet of(long... ids) {
+        if (ids.length == 0) {
+            return EMPTY;
+        }
+
+        long[] sorted = Arrays.stream(ids).sorted().distinct().toArray();
+
+        int groupCount = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (high(sorted[i]) != high(sorted[i - 1])) {
+                groupCount++;
+            }
+        }
+
+        long[] keys = new long[groupCount];
+        Object[] containers = new Object[groupCount];
+        int group = 0;
+        int start = 0;
+        for (int i = 1; i <= sorted.length; i++) {
+            if (i == sorted.length || high(sorted[i]) != high(sorted[start])) {
+                keys[group] = high(sorted[start]);
+                containers[group] = container(sorted, start, i);
+                group++;
+                start = i;
+            }
+        }
+
+        return new SessionIdSet(keys, containers, sorted.length);
+    }
+
+    public boolean contains(long id) {
+        int group = Arrays.binarySearch(keys, high(id));
+        if (group < 0) {
+            return false;
+        }
+
+        char low = (char) id;
+        if (containers[group] instanceof char[] values) {
+            return Arrays.binarySearch(values, low) >= 0;
+        }
+        long[] bitmap = (long[]) containers[group];
+        return (bitmap[low >>> 6] & (1L << low)) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 추가/제거를 반영한 새 집합을 만든다. 같은 id가 양쪽에 있으면 제거가 우선한다.
+     */
+    public SessionIdSet with(Collection<Long> added, Collection<Long> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return this;
+        }
+
+        Set<Long> removedIds = new HashSet<>(removed);
+        long[] ids = LongStream.concat(Arrays.stream(toArray()), added.stream().mapToLong(Long::longValue))
+            .filter(id -> !removedIds.contains(id))
+            .toArray();
+        return of(ids);
+    }
+
+    public long[] toArray() {
+        long[] ids = new long[size];
+        int index = 0;
+        for (int group = 0; group < keys.length; group++) {
+            long base = keys[group] << 16;
+            if (containers[group] instanceof char[] values) {
+                for (char low : values) {
+                    ids[index++] = base | low;
+                }
+                continue;
+            }
+
+            long[] bitmap = (long[]) containers[group];
+            for (int word = 0; word < bitmap.length; word++) {
+                long bits = bitmap[word];
+                while (bits != 0) {
+                    ids[index++] = base | ((long) word << 6) | Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static Object container(long[] sorted, int from, int to) {
+        if (to - from <= ARRAY_CONTAINER_MAX) {
+            char[] values = new char[to - from];
+            for (int i = from; i < to; i++) {
+                values[i - from] = (char) sorted[i];
+            }
+            return values;
+        }
+
+        long[] bitmap = new long[BITMAP_WORDS];
+        for (int i = from; i < to; i++) {
+            char low = (char) sorted[i];
+            bitmap[low >>> 6] |= 1L << low;
+        }
+        return bitmap;
+    }
+
+    private static long high(long id) {
+        return id >>> 16;
+    }
+}
@@ -0,0 +1,42 @@
+package com.runfit.domain.session.activity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자가 찜한 세션과 참여 중인 세션 id 집합. 목록 응답의 liked/joined 플래그를 메모리에서 채우는 데 쓴다.
+ */
+public record UserSessionActivity(
+    SessionIdSet likedSessionIds,
+    SessionIdSet joinedSessionIds
+) {
+    private static final UserSessionActivity EMPTY =
+        new UserSessionActivity(SessionIdSet.empty(), SessionIdSet.empty());
+
+    public static UserSessionActivity empty() {
+        return EMPTY;
+    }
+
+    public boolean liked(Long sessionId) {
+        return likedSessionIds.contains(sessionId);
+    }
+
+    public boolean joined(Long sessionId) {
+        return joinedSessionIds.contains(sessionId);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 찜 상태(세션 id → 찜 여부)를 덧씌운다.
+     */
+    public UserSessionActivity withLikes(Map<Long, Boolean> likes) {
+        if (likes.isEmpty()) {
+            return this;
+        }
+
+        List<Long> liked = new ArrayList<>();
+        List<Long> unliked = new ArrayList<>();
+        likes.forEach((sessionId, isLiked) -> (isLiked ? liked : unliked).add(sessionId));
+        return new UserSessionActivity(likedSessionIds.with(liked, unliked), joinedSessionIds);
+    }
+}
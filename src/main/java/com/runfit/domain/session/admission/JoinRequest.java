@@ -0,0 +1,11 @@
+package com.runfit.domain.session.admission;
+
+/**
+ * 대기열에 들어간 참가 신청 한 건.
+ */
+public record JoinRequest(
+    String ticketId,
+    Long sessionId,
+    Long userId
+) {
+}
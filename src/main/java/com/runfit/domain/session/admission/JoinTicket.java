@@ -0,0 +1,32 @@
+package com.runfit.domain.session.admission;
+
+import com.runfit.common.exception.ErrorCode;
+
+/**
+ * 대기열 참가 신청의 진행 상태. 처리가 끝나면 참가 결과(인원) 또는 거절 사유를 담은 새 값으로 바뀐다.
+ */
+public record JoinTicket(
+    String ticketId,
+    Long sessionId,
+    Long userId,
+    JoinTicketStatus status,
+    Long currentParticipantCount,
+    Integer maxParticipantCount,
+    ErrorCode errorCode
+) {
+    public static JoinTicket pending(String ticketId, Long sessionId, Long userId) {
+        return new JoinTicket(ticketId, sessionId, userId, JoinTicketStatus.PENDING, null, null, null);
+    }
+
+    public JoinTicket joined(long currentCount, int maxCount) {
+        return new JoinTicket(ticketId, sessionId, userId, JoinTicketStatus.JOINED, currentCount, maxCount, null);
+    }
+
+    public JoinTicket rejected(ErrorCode reason) {
+        return new JoinTicket(ticketId, sessionId, userId, JoinTicketStatus.REJECTED, null, null, reason);
+    }
+
+    public boolean isDone() {
+        return status != JoinTicketStatus.PENDING;
+    }
+}
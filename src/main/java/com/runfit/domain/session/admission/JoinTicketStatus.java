@@ -0,0 +1,7 @@
+package com.runfit.domain.session.admission;
+
+public enum JoinTicketStatus {
+    PENDING,
+    JOINED,
+    REJECTED
+}
@@ -0,0 +1,114 @@
+package com.runfit.domain.session.admission;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 id로 샤딩한 참가 신청 FIFO 대기열. 워커마다 큐가 하나씩 있고, 같은 세션의 신청은 항상 같은 워커가
+ * 도착 순서대로 처리하므로 한 세션 행을 두고 트랜잭션끼리 경쟁하지 않는다.
+ * 워커는 쌓인 신청을 최대 batchSize개씩 꺼내 batchHandler에 한 번에 넘긴다. 넘긴 목록은 다음 묶음에 재사용되므로 보관하지 않는다.
+ * 종료할 때는 새 신청을 받지 않고 쌓인 신청을 처리한 뒤 멈추며, 제한 시간 안에 처리하지 못한 신청은 호출한 쪽에 돌려준다.
+ */
+@Slf4j
+public class SessionAdmissionQueue {
+
+    // 종료 표시를 확인하는 간격. 큐가 비어 있을 때만 기다린다
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final List<BlockingQueue<JoinRequest>> shards;
+    private final List<Thread> workers;
+    private final int batchSize;
+    private final Consumer<List<JoinRequest>> batchHandler;
+
+    private volatile boolean closed;
+
+    public SessionAdmissionQueue(
+        int workerCount, int capacityPerWorker, int batchSize, Consumer<List<JoinRequest>> batchHandler) {
+        this.batchSize = batchSize;
+        this.batchHandler = batchHandler;
+        this.shards = new ArrayList<>(workerCount);
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<JoinRequest> shard = new ArrayBlockingQueue<>(capacityPerWorker);
+            Thread worker = new Thread(() -> run(shard), "session-admission-" + i);
+            worker.setDaemon(true);
+            shards.add(shard);
+            workers.add(worker);
+        }
+    }
+
+    public void start() {
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * 신청을 세션 담당 워커의 큐에 넣는다. 큐가 가득 찼거나 종료 중이면 false를 반환한다.
+     */
+    public boolean offer(JoinRequest request) {
+        return !closed && shards.get(Math.floorMod(request.sessionId().hashCode(), shards.size())).offer(request);
+    }
+
+    public int pending() {
+        return shards.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    /**
+     * 새 신청을 받지 않고, 워커가 쌓인 신청을 drainTimeout 안에 처리하고 멈추기를 기다린다.
+     * 시간 안에 끝나지 않으면 워커를 중단하고, 큐에 남은 신청을 꺼내 반환한다. 반환된 신청의 결과는 호출한 쪽이 남겨야 한다.
+     */
+    public List<JoinRequest> shutdown(Duration drainTimeout) {
+        closed = true;
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        try {
+            for (Thread worker : workers) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs > 0) {
+                    worker.join(remainingMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.forEach(Thread::interrupt);
+
+        List<JoinRequest> unprocessed = new ArrayList<>();
+        shards.forEach(shard -> shard.drainTo(unprocessed));
+        return unprocessed;
+    }
+
+    private void run(BlockingQueue<JoinRequest> shard) {
+        List<JoinRequest> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            JoinRequest first;
+            try {
+                first = shard.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                if (closed) {
+                    return;
+                }
+                continue;
+            }
+            batch.add(first);
+            shard.drainTo(batch, batchSize - 1);
+
+            try {
+                batchHandler.accept(batch);
+            } catch (RuntimeException e) {
+                // 처리기가 결과를 남기지 못한 경우에도 워커는 멈추지 않는다
+                log.error("Failed to process {} queued joins", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
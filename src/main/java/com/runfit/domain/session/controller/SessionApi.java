@@ -5,19 +5,26 @@ import com.runfit.common.response.SliceResponse;
 import com.runfit.domain.auth.model.AuthUser;
 import com.runfit.domain.session.controller.dto.request.SessionCreateRequest;
 import com.runfit.domain.session.controller.dto.request.SessionUpdateRequest;
+import com.runfit.domain.session.controller.dto.response.JoinTicketResponse;
+import com.runfit.domain.session.controller.dto.response.SessionCalendarResponse;
 import com.runfit.domain.session.controller.dto.response.SessionDetailResponse;
+import com.runfit.domain.session.controller.dto.response.SessionFacetsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionJoinResponse;
 import com.runfit.domain.session.controller.dto.response.SessionLikeResponse;
 import com.runfit.domain.session.controller.dto.response.SessionListResponse;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionResponse;
+import com.runfit.domain.session.controller.dto.response.SessionSeriesResponse;
+import com.runfit.domain.session.controller.dto.response.SessionSuggestionResponse;
 import com.runfit.domain.session.entity.SessionLevel;
 import com.runfit.domain.session.entity.SessionStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -27,6 +34,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Session", description = "세션(러닝 모임) API")
 public interface SessionApi {
@@ -43,6 +51,24 @@ public interface SessionApi {
         @RequestBody SessionCreateRequest request
     );
 
+    @Operation(summary = "반복 세션 생성", description = "recurrence 규칙(요일, 주 간격, 종료일)에 맞는 세션을 한 번에 생성합니다. "
+        + "요일을 비우면 첫 세션과 같은 요일에 반복하며, 신청 마감은 첫 세션과 같은 간격으로 맞춥니다. 최대 100회까지 가능하며 STAFF 이상만 가능합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "반복 세션 생성 성공"),
+        @ApiResponse(responseCode = "400", description = "반복 규칙 없음, 종료일이 첫 세션 이전이거나 100회 초과"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "권한 없음 (STAFF 이상만 가능)"),
+        @ApiResponse(responseCode = "404", description = "크루 없음"),
+        @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청 처리 중"),
+        @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key에 다른 요청 본문")
+    })
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+        description = "재시도 식별 키(1~255자). 같은 키의 재요청은 처리 없이 첫 응답을 돌려줍니다 (Idempotent-Replayed: true)")
+    ResponseEntity<ResponseWrapper<SessionSeriesResponse>> createSessionSeries(
+        @AuthenticationPrincipal AuthUser user,
+        @RequestBody SessionCreateRequest request
+    );
+
     @Operation(summary = "세션 목록 조회", description = "세션 목록을 조회합니다. 검색/필터/정렬 지원 (무한스크롤). 각 세션에 최근 등록순 참여자 3명이 포함됩니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공")
@@ -51,6 +77,30 @@ public interface SessionApi {
         @AuthenticationPrincipal AuthUser user,
         @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "도시 필터 (복수 선택 가능, 예: 서울, 경기, 충북)") @RequestParam(required = false) List<String> city,
+        @Parameter(description = "시/군/구 필터 (복수 선택 가능, 예: 강남구, 가평군)") @RequestParam(required = false) List<String> district,
+        @Parameter(description = "크루 ID 필터") @RequestParam(required = false) Long crewId,
+        @Parameter(description = "난이도 필터 (BEGINNER, INTERMEDIATE, ADVANCED)") @RequestParam(required = false) SessionLevel level,
+        @Parameter(description = "상태 필터 (OPEN: 모집중, CLOSED: 마감) - 생략 시 전체 조회") @RequestParam(required = false) SessionStatus status,
+        @Parameter(description = "시작 날짜 필터 (yyyy-MM-dd, sessionAt 기준)") @RequestParam(required = false) LocalDate dateFrom,
+        @Parameter(description = "종료 날짜 필터 (yyyy-MM-dd, sessionAt 기준)") @RequestParam(required = false) LocalDate dateTo,
+        @Parameter(description = "시작 시간 필터 (HH:mm, sessionAt 기준)") @RequestParam(required = false) LocalTime timeFrom,
+        @Parameter(description = "종료 시간 필터 (HH:mm, sessionAt 기준)") @RequestParam(required = false) LocalTime timeTo,
+        @Parameter(description = "요일 필터 (복수 선택 가능, 예: MONDAY, FRIDAY)") @RequestParam(required = false) List<DayOfWeek> dayOfWeek,
+        @Parameter(description = "정렬 (createdAtDesc: 최근생성순(기본), sessionAtAsc: 모임시작일순, registerByAsc: 마감임박순, distanceAsc: 가까운순 - lat/lng 필요)") @RequestParam(required = false) String sort,
+        @Parameter(description = "내 위치 위도 (lng와 함께 입력 시 반경 검색)") @RequestParam(required = false) Double lat,
+        @Parameter(description = "내 위치 경도 (lat와 함께 입력 시 반경 검색)") @RequestParam(required = false) Double lng,
+        @Parameter(description = "검색 반경 km (기본 5, 최대 50)") @RequestParam(required = false) Double radiusKm,
+        @Parameter(description = "검색어 (세션명/설명/장소, 정렬 생략 시 관련도순)") @RequestParam(required = false) String keyword
+    );
+
+    @Operation(summary = "세션 필터 패싯 조회", description = "세션 목록 필터의 도시/시군구/난이도/상태/날짜별 세션 수를 조회합니다. 각 항목의 수는 해당 필터만 제외한 나머지 조건으로 계산됩니다. 삭제된 세션은 제외됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 위치 좌표")
+    })
+    ResponseEntity<ResponseWrapper<SessionFacetsResponse>> getSessionFacets(
         @Parameter(description = "도시 필터 (복수 선택 가능, 예: 서울, 경기, 충북)") @RequestParam(required = false) List<String> city,
         @Parameter(description = "시/군/구 필터 (복수 선택 가능, 예: 강남구, 가평군)") @RequestParam(required = false) List<String> district,
         @Parameter(description = "크루 ID 필터") @RequestParam(required = false) Long crewId,
@@ -60,12 +110,49 @@ public interface SessionApi {
         @Parameter(description = "종료 날짜 필터 (yyyy-MM-dd, sessionAt 기준)") @RequestParam(required = false) LocalDate dateTo,
         @Parameter(description = "시작 시간 필터 (HH:mm, sessionAt 기준)") @RequestParam(required = false) LocalTime timeFrom,
         @Parameter(description = "종료 시간 필터 (HH:mm, sessionAt 기준)") @RequestParam(required = false) LocalTime timeTo,
-        @Parameter(description = "정렬 (createdAtDesc: 최근생성순(기본), sessionAtAsc: 모임시작일순, registerByAsc: 마감임박순)") @RequestParam(required = false) String sort
+        @Parameter(description = "요일 필터 (복수 선택 가능, 예: MONDAY, FRIDAY)") @RequestParam(required = false) List<DayOfWeek> dayOfWeek,
+        @Parameter(description = "내 위치 위도 (lng와 함께 입력 시 반경 검색)") @RequestParam(required = false) Double lat,
+        @Parameter(description = "내 위치 경도 (lat와 함께 입력 시 반경 검색)") @RequestParam(required = false) Double lng,
+        @Parameter(description = "검색 반경 km (기본 5, 최대 50)") @RequestParam(required = false) Double radiusKm,
+        @Parameter(description = "검색어 (세션명/설명/장소, 세션 목록과 같은 전문 검색 결과로 좁힘)") @RequestParam(required = false) String keyword
+    );
+
+    @Operation(summary = "세션 달력 조회", description = "기간(최대 62일) 안의 날짜별 세션 수와 시작 시각이 이른 세션 id를 조회합니다. 세션 목록과 같은 필터를 지원하며 세션이 없는 날은 제외됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 조회 기간 또는 위치 좌표")
+    })
+    ResponseEntity<ResponseWrapper<SessionCalendarResponse>> getSessionCalendar(
+        @Parameter(description = "도시 필터 (복수 선택 가능, 예: 서울, 경기, 충북)") @RequestParam(required = false) List<String> city,
+        @Parameter(description = "시/군/구 필터 (복수 선택 가능, 예: 강남구, 가평군)") @RequestParam(required = false) List<String> district,
+        @Parameter(description = "크루 ID 필터") @RequestParam(required = false) Long crewId,
+        @Parameter(description = "난이도 필터 (BEGINNER, INTERMEDIATE, ADVANCED)") @RequestParam(required = false) SessionLevel level,
+        @Parameter(description = "상태 필터 (OPEN: 모집중, CLOSED: 마감) - 생략 시 전체 조회") @RequestParam(required = false) SessionStatus status,
+        @Parameter(description = "시작 날짜 (yyyy-MM-dd, sessionAt 기준)") @RequestParam LocalDate dateFrom,
+        @Parameter(description = "종료 날짜 (yyyy-MM-dd, sessionAt 기준)") @RequestParam LocalDate dateTo,
+        @Parameter(description = "시작 시간 필터 (HH:mm, sessionAt 기준)") @RequestParam(required = false) LocalTime timeFrom,
+        @Parameter(description = "종료 시간 필터 (HH:mm, sessionAt 기준)") @RequestParam(required = false) LocalTime timeTo,
+        @Parameter(description = "요일 필터 (복수 선택 가능, 예: MONDAY, FRIDAY)") @RequestParam(required = false) List<DayOfWeek> dayOfWeek,
+        @Parameter(description = "내 위치 위도 (lng와 함께 입력 시 반경 검색)") @RequestParam(required = false) Double lat,
+        @Parameter(description = "내 위치 경도 (lat와 함께 입력 시 반경 검색)") @RequestParam(required = false) Double lng,
+        @Parameter(description = "검색 반경 km (기본 5, 최대 50)") @RequestParam(required = false) Double radiusKm,
+        @Parameter(description = "검색어 (세션명/설명/장소, 세션 목록과 같은 전문 검색 결과로 좁힘)") @RequestParam(required = false) String keyword,
+        @Parameter(description = "날짜별로 함께 반환할 세션 id 수 (기본 0, 최대 5)") @RequestParam(defaultValue = "0") int top
+    );
+
+    @Operation(summary = "세션 이름 자동완성", description = "입력 중인 검색어로 시작하는(이름 중간 단어 포함) 모집중 세션을 인기도(참여자 수 + 찜 수) 순으로 조회합니다. 입력 중인 미완성 글자도 일치합니다 (예: 런 → 러닝).")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    ResponseEntity<ResponseWrapper<List<SessionSuggestionResponse>>> suggestSessions(
+        @Parameter(description = "입력 중인 검색어 (예: 한강러, ㅎ, 런)") @RequestParam String keyword,
+        @Parameter(description = "최대 개수 (최대 10)") @RequestParam(defaultValue = "10") int limit
     );
 
     @Operation(summary = "세션 상세 조회", description = "세션 상세 정보를 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
         @ApiResponse(responseCode = "404", description = "세션 없음")
     })
     ResponseEntity<ResponseWrapper<SessionDetailResponse>> getSessionDetail(
@@ -73,18 +160,46 @@ public interface SessionApi {
         @Parameter(description = "세션 ID") @PathVariable Long sessionId
     );
 
-    @Operation(summary = "세션 참가 신청", description = "세션에 참가를 신청합니다.")
+    @Operation(summary = "세션 참가 신청", description = "세션에 참가를 신청합니다. 대기열 모드 세션은 202와 대기표(ticketId)를 반환하며, 결과는 대기표 조회 또는 SSE로 확인합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "참가 신청 성공"),
+        @ApiResponse(responseCode = "202", description = "대기열 등록 (Location 헤더가 대기표 주소)"),
         @ApiResponse(responseCode = "400", description = "정원 초과 / 이미 참가 / 마감됨"),
         @ApiResponse(responseCode = "401", description = "인증 필요"),
-        @ApiResponse(responseCode = "404", description = "세션 없음")
+        @ApiResponse(responseCode = "404", description = "세션 없음"),
+        @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청 처리 중 / 이 세션에 처리 중인 대기열 신청이 있음"),
+        @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key에 다른 요청 본문"),
+        @ApiResponse(responseCode = "503", description = "대기열이 가득 참")
     })
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+        description = "재시도 식별 키(1~255자). 같은 키의 재요청은 처리 없이 첫 응답을 돌려줍니다 (Idempotent-Replayed: true)")
     ResponseEntity<ResponseWrapper<SessionJoinResponse>> joinSession(
         @AuthenticationPrincipal AuthUser user,
         @Parameter(description = "세션 ID") @PathVariable Long sessionId
     );
 
+    @Operation(summary = "참가 신청 대기표 조회", description = "대기열 참가 신청의 처리 상태(PENDING, JOINED, REJECTED)를 조회합니다. 본인 대기표만 조회할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "404", description = "대기표 없음 또는 만료")
+    })
+    ResponseEntity<ResponseWrapper<JoinTicketResponse>> getJoinTicket(
+        @AuthenticationPrincipal AuthUser user,
+        @Parameter(description = "대기표 ID") @PathVariable String ticketId
+    );
+
+    @Operation(summary = "참가 신청 결과 구독 (SSE)", description = "처리가 끝나면 result 이벤트로 대기표 상태를 한 번 보내고 연결을 닫습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "구독 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "404", description = "대기표 없음 또는 만료")
+    })
+    SseEmitter subscribeJoinTicket(
+        @AuthenticationPrincipal AuthUser user,
+        @Parameter(description = "대기표 ID") @PathVariable String ticketId
+    );
+
     @Operation(summary = "세션 참가 취소", description = "세션 참가를 취소합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "참가 취소 성공"),
@@ -102,8 +217,12 @@ public interface SessionApi {
         @ApiResponse(responseCode = "200", description = "찜 성공"),
         @ApiResponse(responseCode = "400", description = "이미 찜한 세션"),
         @ApiResponse(responseCode = "401", description = "인증 필요"),
-        @ApiResponse(responseCode = "404", description = "세션 없음")
+        @ApiResponse(responseCode = "404", description = "세션 없음"),
+        @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청 처리 중"),
+        @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key에 다른 요청 본문")
     })
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+        description = "재시도 식별 키(1~255자). 같은 키의 재요청은 처리 없이 첫 응답을 돌려줍니다 (Idempotent-Replayed: true)")
     ResponseEntity<ResponseWrapper<SessionLikeResponse>> likeSession(
         @AuthenticationPrincipal AuthUser user,
         @Parameter(description = "세션 ID") @PathVariable Long sessionId
@@ -120,7 +239,7 @@ public interface SessionApi {
         @Parameter(description = "세션 ID") @PathVariable Long sessionId
     );
 
-    @Operation(summary = "세션 참가자 목록 조회", description = "해당 세션에 참가 신청한 사용자 목록을 조회합니다. 역할 필터링 및 정렬을 지원합니다.")
+    @Operation(summary = "세션 참가자 목록 조회", description = "해당 세션에 참가 신청한 사용자 목록을 조회합니다. 역할 필터링, 정렬 및 커서 페이지네이션을 지원하며 한 페이지는 기본 50명입니다. totalCount는 역할 필터가 있으면 해당 역할의 참가자 수입니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
         @ApiResponse(responseCode = "404", description = "세션 없음")
@@ -128,7 +247,10 @@ public interface SessionApi {
     ResponseEntity<ResponseWrapper<SessionParticipantsResponse>> getSessionParticipants(
         @Parameter(description = "세션 ID") @PathVariable Long sessionId,
         @Parameter(description = "역할 필터 (leader, staff, general 중 하나)") @RequestParam(required = false) String role,
-        @Parameter(description = "정렬 (joinedAtAsc: 참가 순(기본값), roleAsc: 역할 순(리더→운영진→멤버))") @RequestParam(required = false) String sort
+        @Parameter(description = "정렬 (joinedAtAsc: 참가 순(기본값), roleAsc: 역할 순(리더→운영진→멤버))") @RequestParam(required = false) String sort,
+        @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "페이지 크기 (기본 50명)") @RequestParam(defaultValue = "50") int size,
+        @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)") @RequestParam(required = false) String cursor
     );
 
     @Operation(summary = "세션 정보 수정", description = "세션 정보를 수정합니다. 해당 크루의 STAFF 이상만 가능합니다.")
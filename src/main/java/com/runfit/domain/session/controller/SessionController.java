@@ -1,22 +1,34 @@
 package com.runfit.domain.session.controller;
 
+import com.runfit.common.response.EntityTags;
 import com.runfit.common.response.ResponseWrapper;
 import com.runfit.common.response.SliceResponse;
 import com.runfit.domain.auth.model.AuthUser;
 import com.runfit.domain.session.controller.dto.request.SessionCreateRequest;
 import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
 import com.runfit.domain.session.controller.dto.request.SessionUpdateRequest;
+import com.runfit.domain.session.admission.JoinTicket;
+import com.runfit.domain.session.controller.dto.response.JoinTicketResponse;
+import com.runfit.domain.session.controller.dto.response.SessionCalendarResponse;
 import com.runfit.domain.session.controller.dto.response.SessionDetailResponse;
+import com.runfit.domain.session.controller.dto.response.SessionFacetsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionJoinResponse;
 import com.runfit.domain.session.controller.dto.response.SessionLikeResponse;
 import com.runfit.domain.session.controller.dto.response.SessionListResponse;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionResponse;
+import com.runfit.domain.session.controller.dto.response.SessionSeriesResponse;
+import com.runfit.domain.session.controller.dto.response.SessionSuggestionResponse;
 import com.runfit.domain.session.entity.SessionLevel;
 import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.service.SessionAdmissionService;
+import com.runfit.domain.session.service.SessionFacetService;
+import com.runfit.domain.session.service.SessionLikeWriteBehindService;
 import com.runfit.domain.session.service.SessionService;
+import com.runfit.domain.session.service.SessionSuggestionService;
 import jakarta.validation.Valid;
 import java.net.URI;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -24,6 +36,8 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -35,6 +49,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/sessions")
@@ -42,6 +57,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class SessionController implements SessionApi {
 
     private final SessionService sessionService;
+    private final SessionAdmissionService sessionAdmissionService;
+    private final SessionFacetService sessionFacetService;
+    private final SessionLikeWriteBehindService sessionLikeWriteBehindService;
+    private final SessionSuggestionService sessionSuggestionService;
 
     @Override
     @PostMapping
@@ -54,12 +73,24 @@ public class SessionController implements SessionApi {
         return ResponseEntity.created(location).body(ResponseWrapper.success(response));
     }
 
+    @Override
+    @PostMapping("/series")
+    public ResponseEntity<ResponseWrapper<SessionSeriesResponse>> createSessionSeries(
+        @AuthenticationPrincipal AuthUser user,
+        @Valid @RequestBody SessionCreateRequest request
+    ) {
+        SessionSeriesResponse response = sessionService.createSessionSeries(user.userId(), request, user.isAdmin());
+        URI location = URI.create("/api/sessions/" + response.sessions().get(0).id());
+        return ResponseEntity.created(location).body(ResponseWrapper.success(response));
+    }
+
     @Override
     @GetMapping
     public ResponseEntity<ResponseWrapper<SliceResponse<SessionListResponse>>> searchSessions(
         @AuthenticationPrincipal AuthUser user,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "20") int size,
+        @RequestParam(required = false) String cursor,
         @RequestParam(required = false) List<String> city,
         @RequestParam(required = false) List<String> district,
         @RequestParam(required = false) Long crewId,
@@ -69,16 +100,85 @@ public class SessionController implements SessionApi {
         @RequestParam(required = false) LocalDate dateTo,
         @RequestParam(required = false) LocalTime timeFrom,
         @RequestParam(required = false) LocalTime timeTo,
-        @RequestParam(required = false) String sort
+        @RequestParam(required = false) List<DayOfWeek> dayOfWeek,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) Double lat,
+        @RequestParam(required = false) Double lng,
+        @RequestParam(required = false) Double radiusKm,
+        @RequestParam(required = false) String keyword
     ) {
         SessionSearchCondition condition = SessionSearchCondition.of(
-            city, district, crewId, level, status, dateFrom, dateTo, timeFrom, timeTo, sort
+            city, district, crewId, level, status, dateFrom, dateTo, timeFrom, timeTo, dayOfWeek, sort,
+            lat, lng, radiusKm, keyword
         );
         Long userId = user != null ? user.userId() : null;
-        Slice<SessionListResponse> result = sessionService.searchSessions(condition, userId, PageRequest.of(page, size));
+        Slice<SessionListResponse> result = sessionService.searchSessions(condition, userId, cursor, PageRequest.of(page, size));
         return ResponseEntity.ok(ResponseWrapper.success(SliceResponse.from(result)));
     }
 
+    @Override
+    @GetMapping("/facets")
+    public ResponseEntity<ResponseWrapper<SessionFacetsResponse>> getSessionFacets(
+        @RequestParam(required = false) List<String> city,
+        @RequestParam(required = false) List<String> district,
+        @RequestParam(required = false) Long crewId,
+        @RequestParam(required = false) SessionLevel level,
+        @RequestParam(required = false) SessionStatus status,
+        @RequestParam(required = false) LocalDate dateFrom,
+        @RequestParam(required = false) LocalDate dateTo,
+        @RequestParam(required = false) LocalTime timeFrom,
+        @RequestParam(required = false) LocalTime timeTo,
+        @RequestParam(required = false) List<DayOfWeek> dayOfWeek,
+        @RequestParam(required = false) Double lat,
+        @RequestParam(required = false) Double lng,
+        @RequestParam(required = false) Double radiusKm,
+        @RequestParam(required = false) String keyword
+    ) {
+        SessionSearchCondition condition = SessionSearchCondition.of(
+            city, district, crewId, level, status, dateFrom, dateTo, timeFrom, timeTo, dayOfWeek, null,
+            lat, lng, radiusKm, keyword
+        );
+        SessionFacetsResponse response = sessionFacetService.getFacets(condition);
+        return ResponseEntity.ok(ResponseWrapper.success(response));
+    }
+
+    @Override
+    @GetMapping("/calendar")
+    public ResponseEntity<ResponseWrapper<SessionCalendarResponse>> getSessionCalendar(
+        @RequestParam(required = false) List<String> city,
+        @RequestParam(required = false) List<String> district,
+        @RequestParam(required = false) Long crewId,
+        @RequestParam(required = false) SessionLevel level,
+        @RequestParam(required = false) SessionStatus status,
+        @RequestParam LocalDate dateFrom,
+        @RequestParam LocalDate dateTo,
+        @RequestParam(required = false) LocalTime timeFrom,
+        @RequestParam(required = false) LocalTime timeTo,
+        @RequestParam(required = false) List<DayOfWeek> dayOfWeek,
+        @RequestParam(required = false) Double lat,
+        @RequestParam(required = false) Double lng,
+        @RequestParam(required = false) Double radiusKm,
+        @RequestParam(required = false) String keyword,
+        @RequestParam(defaultValue = "0") int top
+    ) {
+        SessionSearchCondition condition = SessionSearchCondition.of(
+            city, district, crewId, level, status, dateFrom, dateTo, timeFrom, timeTo, dayOfWeek, null,
+            lat, lng, radiusKm, keyword
+        );
+        SessionCalendarResponse response = sessionFacetService.getCalendar(condition, top);
+        return ResponseEntity.ok(ResponseWrapper.success(response));
+    }
+
+    @Override
+    @GetMapping("/suggestions")
+    public ResponseEntity<ResponseWrapper<List<SessionSuggestionResponse>>> suggestSessions(
+        @RequestParam String keyword,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<SessionSuggestionResponse> response = sessionSuggestionService.suggest(keyword, limit);
+        return ResponseEntity.ok(ResponseWrapper.success(response));
+    }
+
     @Override
     @GetMapping("/{sessionId}")
     public ResponseEntity<ResponseWrapper<SessionDetailResponse>> getSessionDetail(
@@ -87,7 +187,11 @@ public class SessionController implements SessionApi {
     ) {
         Long userId = user != null ? user.userId() : null;
         SessionDetailResponse response = sessionService.getSessionDetail(sessionId, userId);
-        return ResponseEntity.ok(ResponseWrapper.success(response));
+        // 상세는 캐시에서 오므로 응답 값으로 ETag를 만들고, If-None-Match가 같으면 본문 없이 304로 응답된다
+        return ResponseEntity.ok()
+            .eTag(EntityTags.weak(response))
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(ResponseWrapper.success(response));
     }
 
     @Override
@@ -96,10 +200,40 @@ public class SessionController implements SessionApi {
         @AuthenticationPrincipal AuthUser user,
         @PathVariable Long sessionId
     ) {
+        // 대기열 모드 세션은 대기표만 발급하고 202로 응답한다
+        if (sessionAdmissionService.isQueued(sessionId)) {
+            JoinTicket ticket = sessionAdmissionService.submit(user.userId(), sessionId);
+            URI location = URI.create("/api/sessions/join-tickets/" + ticket.ticketId());
+            return ResponseEntity.accepted()
+                .location(location)
+                .body(ResponseWrapper.success(SessionJoinResponse.queued(ticket.ticketId())));
+        }
+
         SessionJoinResponse response = sessionService.joinSession(user.userId(), sessionId);
         return ResponseEntity.ok(ResponseWrapper.success(response));
     }
 
+    @Override
+    @GetMapping("/join-tickets/{ticketId}")
+    public ResponseEntity<ResponseWrapper<JoinTicketResponse>> getJoinTicket(
+        @AuthenticationPrincipal AuthUser user,
+        @PathVariable String ticketId
+    ) {
+        JoinTicket ticket = sessionAdmissionService.getTicket(user.userId(), ticketId);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(ResponseWrapper.success(JoinTicketResponse.from(ticket)));
+    }
+
+    @Override
+    @GetMapping(value = "/join-tickets/{ticketId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeJoinTicket(
+        @AuthenticationPrincipal AuthUser user,
+        @PathVariable String ticketId
+    ) {
+        return sessionAdmissionService.subscribe(user.userId(), ticketId);
+    }
+
     @Override
     @DeleteMapping("/{sessionId}/join")
     public ResponseEntity<ResponseWrapper<SessionJoinResponse>> cancelJoinSession(
@@ -116,7 +250,9 @@ public class SessionController implements SessionApi {
         @AuthenticationPrincipal AuthUser user,
         @PathVariable Long sessionId
     ) {
-        SessionLikeResponse response = sessionService.likeSession(user.userId(), sessionId);
+        SessionLikeResponse response = sessionLikeWriteBehindService.isEnabled()
+            ? sessionLikeWriteBehindService.likeSession(user.userId(), sessionId)
+            : sessionService.likeSession(user.userId(), sessionId);
         return ResponseEntity.ok(ResponseWrapper.success(response));
     }
 
@@ -126,7 +262,9 @@ public class SessionController implements SessionApi {
         @AuthenticationPrincipal AuthUser user,
         @PathVariable Long sessionId
     ) {
-        SessionLikeResponse response = sessionService.unlikeSession(user.userId(), sessionId);
+        SessionLikeResponse response = sessionLikeWriteBehindService.isEnabled()
+            ? sessionLikeWriteBehindService.unlikeSession(user.userId(), sessionId)
+            : sessionService.unlikeSession(user.userId(), sessionId);
         return ResponseEntity.ok(ResponseWrapper.success(response));
     }
 
@@ -135,9 +273,13 @@ public class SessionController implements SessionApi {
     public ResponseEntity<ResponseWrapper<SessionParticipantsResponse>> getSessionParticipants(
         @PathVariable Long sessionId,
         @RequestParam(required = false) String role,
-        @RequestParam(required = false) String sort
+        @RequestParam(required = false) String sort,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size,
+        @RequestParam(required = false) String cursor
     ) {
-        SessionParticipantsResponse response = sessionService.getSessionParticipants(sessionId, role, sort);
+        SessionParticipantsResponse response = sessionService.getSessionParticipants(
+            sessionId, role, sort, cursor, PageRequest.of(page, size));
         return ResponseEntity.ok(ResponseWrapper.success(response));
     }
 
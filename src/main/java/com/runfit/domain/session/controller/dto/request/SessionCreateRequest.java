@@ -1,6 +1,7 @@
 package com.runfit.domain.session.controller.dto.request;
 
 import com.runfit.domain.session.entity.SessionLevel;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -41,7 +42,12 @@ public record SessionCreateRequest(
     @Min(value = 1, message = "모집 정원은 1명 이상이어야 합니다.")
     Integer maxParticipantCount,
 
-    Integer pace
+    Integer pace,
+
+    Boolean queuedJoin,
+
+    @Valid
+    SessionRecurrence recurrence
 ) {
     public Double latitude() {
         return coords != null ? coords.lat() : null;
@@ -50,4 +56,8 @@ public record SessionCreateRequest(
     public Double longitude() {
         return coords != null ? coords.lng() : null;
     }
+
+    public boolean isQueuedJoin() {
+        return Boolean.TRUE.equals(queuedJoin);
+    }
 }
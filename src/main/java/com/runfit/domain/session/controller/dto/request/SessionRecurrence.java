@@ -0,0 +1,61 @@
+package com.runfit.domain.session.controller.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 반복 세션 규칙. 요일을 비우면 첫 세션과 같은 요일에 매주 반복한다.
+ * intervalWeeks 주마다 지정한 요일에 첫 세션과 같은 시각으로 until 날짜까지 만든다.
+ */
+public record SessionRecurrence(
+    List<DayOfWeek> daysOfWeek,
+
+    @Min(value = 1, message = "반복 주기는 1주 이상이어야 합니다.")
+    Integer intervalWeeks,
+
+    @NotNull(message = "반복 종료일은 필수입니다.")
+    LocalDate until
+) {
+    public static final int MAX_OCCURRENCES = 100;
+
+    /**
+     * 첫 세션 일시부터 규칙에 맞는 세션 일시를 순서대로 반환한다. 첫 세션 일시가 규칙의 요일과 다르면 포함하지 않는다.
+     * 만들어질 세션이 없거나 MAX_OCCURRENCES를 넘으면 빈 목록을 반환한다.
+     */
+    public List<LocalDateTime> occurrences(LocalDateTime firstSessionAt) {
+        LocalDate start = firstSessionAt.toLocalDate();
+        if (until == null || until.isBefore(start)) {
+            return List.of();
+        }
+
+        Set<DayOfWeek> days = daysOfWeek == null || daysOfWeek.isEmpty()
+            ? EnumSet.of(start.getDayOfWeek())
+            : EnumSet.copyOf(daysOfWeek);
+        int interval = intervalWeeks != null ? intervalWeeks : 1;
+
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        LocalDate weekStart = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        for (; !weekStart.isAfter(until); weekStart = weekStart.plusWeeks(interval)) {
+            // EnumSet은 월요일부터 요일 순으로 순회하므로 주 안에서도 날짜순으로 쌓인다
+            for (DayOfWeek day : days) {
+                LocalDate date = weekStart.with(TemporalAdjusters.nextOrSame(day));
+                if (date.isBefore(start) || date.isAfter(until)) {
+                    continue;
+                }
+                if (occurrences.size() == MAX_OCCURRENCES) {
+                    return List.of();
+                }
+                occurrences.add(date.atTime(firstSessionAt.toLocalTime()));
+            }
+        }
+        return occurrences;
+    }
+}
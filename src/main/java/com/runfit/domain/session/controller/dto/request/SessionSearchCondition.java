@@ -2,9 +2,12 @@ package com.runfit.domain.session.controller.dto.request;
 
 import com.runfit.domain.session.entity.SessionLevel;
 import com.runfit.domain.session.entity.SessionStatus;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Objects;
+import org.springframework.util.StringUtils;
 
 public record SessionSearchCondition(
     List<String> cities,
@@ -16,8 +19,16 @@ public record SessionSearchCondition(
     LocalDate dateTo,
     LocalTime timeFrom,
     LocalTime timeTo,
-    String sort
+    List<DayOfWeek> daysOfWeek,
+    String sort,
+    Double latitude,
+    Double longitude,
+    Double radiusKm,
+    String keyword
 ) {
+    public static final double DEFAULT_RADIUS_KM = 5.0;
+    public static final double MAX_RADIUS_KM = 50.0;
+
     public static SessionSearchCondition of(
         List<String> cities,
         List<String> districts,
@@ -29,10 +40,100 @@ public record SessionSearchCondition(
         LocalTime timeFrom,
         LocalTime timeTo,
         String sort
+    ) {
+        return of(
+            cities, districts, crewId, level, status,
+            dateFrom, dateTo, timeFrom, timeTo, null, sort,
+            null, null, null
+        );
+    }
+
+    public static SessionSearchCondition of(
+        List<String> cities,
+        List<String> districts,
+        Long crewId,
+        SessionLevel level,
+        SessionStatus status,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        LocalTime timeFrom,
+        LocalTime timeTo,
+        List<DayOfWeek> daysOfWeek,
+        String sort,
+        Double latitude,
+        Double longitude,
+        Double radiusKm
+    ) {
+        return of(
+            cities, districts, crewId, level, status,
+            dateFrom, dateTo, timeFrom, timeTo, daysOfWeek, sort,
+            latitude, longitude, radiusKm, null
+        );
+    }
+
+    public static SessionSearchCondition of(
+        List<String> cities,
+        List<String> districts,
+        Long crewId,
+        SessionLevel level,
+        SessionStatus status,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        LocalTime timeFrom,
+        LocalTime timeTo,
+        List<DayOfWeek> daysOfWeek,
+        String sort,
+        Double latitude,
+        Double longitude,
+        Double radiusKm,
+        String keyword
     ) {
         return new SessionSearchCondition(
             cities, districts, crewId, level, status,
-            dateFrom, dateTo, timeFrom, timeTo, sort
+            dateFrom, dateTo, timeFrom, timeTo, daysOfWeek, sort,
+            latitude, longitude, normalizeRadius(latitude, longitude, radiusKm),
+            StringUtils.hasText(keyword) ? keyword.strip() : null
         );
     }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null;
+    }
+
+    /**
+     * 목록 필터의 순서/중복을 정리한 조건. 결과가 같은 조건은 같은 값이 되어 캐시 키로 쓸 수 있다.
+     */
+    public SessionSearchCondition normalized() {
+        return new SessionSearchCondition(
+            canonical(cities), canonical(districts), crewId, level, status,
+            dateFrom, dateTo, timeFrom, timeTo, canonical(daysOfWeek), sort,
+            latitude, longitude, radiusKm, keyword
+        );
+    }
+
+    private static <T extends Comparable<? super T>> List<T> canonical(List<T> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted()
+            .toList();
+    }
+
+    // 위치가 주어지면 반경 기본값을 적용하고 최대 반경으로 제한
+    private static Double normalizeRadius(Double latitude, Double longitude, Double radiusKm) {
+        if (latitude == null || longitude == null) {
+            return radiusKm;
+        }
+        if (radiusKm == null || radiusKm <= 0) {
+            return DEFAULT_RADIUS_KM;
+        }
+        return Math.min(radiusKm, MAX_RADIUS_KM);
+    }
 }
@@ -0,0 +1,30 @@
+package com.runfit.domain.session.controller.dto.response;
+
+import com.runfit.domain.session.admission.JoinTicket;
+import com.runfit.domain.session.admission.JoinTicketStatus;
+
+public record JoinTicketResponse(
+    String ticketId,
+    Long sessionId,
+    JoinTicketStatus status,
+    Long currentParticipantCount,
+    Integer maxParticipantCount,
+    String errorCode,
+    String message
+) {
+    public static JoinTicketResponse from(JoinTicket ticket) {
+        return new JoinTicketResponse(
+            ticket.ticketId(),
+            ticket.sessionId(),
+            ticket.status(),
+            ticket.currentParticipantCount(),
+            ticket.maxParticipantCount(),
+            ticket.errorCode() != null ? ticket.errorCode().name() : null,
+            switch (ticket.status()) {
+                case PENDING -> "참가 신청을 처리하고 있습니다.";
+                case JOINED -> "세션에 참가 신청이 완료되었습니다.";
+                case REJECTED -> ticket.errorCode().getMessage();
+            }
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.runfit.domain.session.controller.dto.response;
+
+import com.runfit.domain.session.index.SessionCalendarDay;
+import java.time.LocalDate;
+import java.util.List;
+
+public record SessionCalendarResponse(
+    LocalDate dateFrom,
+    LocalDate dateTo,
+    long totalCount,
+    List<SessionCalendarDay> days
+) {
+    public static SessionCalendarResponse of(LocalDate dateFrom, LocalDate dateTo, List<SessionCalendarDay> days) {
+        long totalCount = days.stream().mapToLong(SessionCalendarDay::count).sum();
+        return new SessionCalendarResponse(dateFrom, dateTo, totalCount, days);
+    }
+}
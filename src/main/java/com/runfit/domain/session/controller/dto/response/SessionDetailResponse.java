@@ -49,4 +49,12 @@ public record SessionDetailResponse(
             session.getCreatedAt()
         );
     }
+
+    public SessionDetailResponse withLiked(boolean liked) {
+        return new SessionDetailResponse(
+            id, crewId, hostUserId, name, description, image, city, district, location,
+            coords, sessionAt, registerBy, level, status, pace, maxParticipantCount,
+            currentParticipantCount, liked, createdAt
+        );
+    }
 }
@@ -0,0 +1,48 @@
+package com.runfit.domain.session.controller.dto.response;
+
+import com.runfit.domain.session.index.SessionFacets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+public record SessionFacetsResponse(
+    long totalCount,
+    List<FacetCount> cities,
+    List<FacetCount> districts,
+    List<FacetCount> levels,
+    List<FacetCount> statuses,
+    List<FacetCount> dates
+) {
+    public record FacetCount(
+        String value,
+        long count
+    ) {
+    }
+
+    public static SessionFacetsResponse from(SessionFacets facets) {
+        return new SessionFacetsResponse(
+            facets.total(),
+            byCountDesc(facets.cities()),
+            byCountDesc(facets.districts()),
+            inKeyOrder(facets.levels()),
+            inKeyOrder(facets.statuses()),
+            inKeyOrder(facets.dates())
+        );
+    }
+
+    // 지역은 많은 순(같으면 이름순), 난이도/상태/날짜는 고유 순서대로
+    private static List<FacetCount> byCountDesc(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .map(entry -> new FacetCount(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
+    private static <K extends Comparable<? super K>> List<FacetCount> inKeyOrder(Map<K, Long> counts) {
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> new FacetCount(entry.getKey().toString(), entry.getValue()))
+            .toList();
+    }
+}
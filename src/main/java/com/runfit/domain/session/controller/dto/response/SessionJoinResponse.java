@@ -3,13 +3,15 @@ package com.runfit.domain.session.controller.dto.response;
 public record SessionJoinResponse(
     String message,
     Long currentParticipantCount,
-    Integer maxParticipantCount
+    Integer maxParticipantCount,
+    String ticketId
 ) {
     public static SessionJoinResponse joined(long currentCount, int maxCount) {
         return new SessionJoinResponse(
             "세션에 참가 신청이 완료되었습니다.",
             currentCount,
-            maxCount
+            maxCount,
+            null
         );
     }
 
@@ -17,7 +19,17 @@ public record SessionJoinResponse(
         return new SessionJoinResponse(
             "세션 참여가 취소되었습니다.",
             currentCount,
+            null,
             null
         );
     }
+
+    public static SessionJoinResponse queued(String ticketId) {
+        return new SessionJoinResponse(
+            "참가 신청이 대기열에 등록되었습니다. 대기표로 결과를 확인해 주세요.",
+            null,
+            null,
+            ticketId
+        );
+    }
 }
@@ -24,6 +24,8 @@ public record SessionListResponse(
     Integer maxParticipantCount,
     Long currentParticipantCount,
     Boolean liked,
+    @Schema(description = "현재 사용자의 참여 여부 (비로그인이면 false)")
+    Boolean joined,
     LocalDateTime createdAt,
     @Schema(description = "리뷰 평균 평점 (소수점 첫째자리, 리뷰가 없으면 null)", example = "4.5")
     Double ranks,
@@ -33,7 +35,15 @@ public record SessionListResponse(
         return new SessionListResponse(
             id, crewId, hostUserId, name, image, city, district, location,
             coords, sessionAt, registerBy, level, status, pace,
-            maxParticipantCount, currentParticipantCount, liked, createdAt, ranks, participants
+            maxParticipantCount, currentParticipantCount, liked, joined, createdAt, ranks, participants
+        );
+    }
+
+    public SessionListResponse withViewerFlags(boolean liked, boolean joined) {
+        return new SessionListResponse(
+            id, crewId, hostUserId, name, image, city, district, location,
+            coords, sessionAt, registerBy, level, status, pace,
+            maxParticipantCount, currentParticipantCount, liked, joined, createdAt, ranks, participants
         );
     }
 }
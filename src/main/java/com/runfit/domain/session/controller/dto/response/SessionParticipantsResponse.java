@@ -1,12 +1,24 @@
 package com.runfit.domain.session.controller.dto.response;
 
+import com.runfit.common.pagination.CursorSlice;
+import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
+import org.springframework.data.domain.Slice;
 
 public record SessionParticipantsResponse(
     List<SessionParticipantResponse> participants,
-    int totalCount
+    @Schema(description = "세션 참가자 수 (역할 필터를 지정하면 해당 역할의 참가자 수)")
+    long totalCount,
+    boolean hasNext,
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)")
+    String nextCursor
 ) {
-    public static SessionParticipantsResponse of(List<SessionParticipantResponse> participants) {
-        return new SessionParticipantsResponse(participants, participants.size());
+    public static SessionParticipantsResponse of(Slice<SessionParticipantResponse> participants, long totalCount) {
+        return new SessionParticipantsResponse(
+            participants.getContent(),
+            totalCount,
+            participants.hasNext(),
+            CursorSlice.nextCursorOf(participants)
+        );
     }
 }
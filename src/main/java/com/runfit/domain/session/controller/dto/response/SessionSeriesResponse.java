@@ -0,0 +1,12 @@
+package com.runfit.domain.session.controller.dto.response;
+
+import java.util.List;
+
+public record SessionSeriesResponse(
+    int count,
+    List<SessionResponse> sessions
+) {
+    public static SessionSeriesResponse from(List<SessionResponse> sessions) {
+        return new SessionSeriesResponse(sessions.size(), sessions);
+    }
+}
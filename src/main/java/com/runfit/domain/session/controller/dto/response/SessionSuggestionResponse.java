@@ -0,0 +1,13 @@
+package com.runfit.domain.session.controller.dto.response;
+
+import com.runfit.common.search.Suggestion;
+
+public record SessionSuggestionResponse(
+    Long id,
+    String name,
+    long popularity
+) {
+    public static SessionSuggestionResponse from(Suggestion suggestion) {
+        return new SessionSuggestionResponse(suggestion.id(), suggestion.text(), suggestion.score());
+    }
+}
@@ -1,5 +1,6 @@
 package com.runfit.domain.session.entity;
 
+import com.runfit.common.geo.GeoHash;
 import com.runfit.common.model.SoftDeleteEntity;
 import com.runfit.domain.crew.entity.Crew;
 import com.runfit.domain.user.entity.User;
@@ -11,23 +12,39 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
-@Table(name = "sessions")
+@Table(name = "sessions", indexes = {
+    @Index(name = "idx_sessions_geohash", columnList = "geohash"),
+    @Index(name = "idx_sessions_city_session_at_minute", columnList = "city, session_at, session_minute_of_day"),
+    @Index(name = "idx_sessions_session_at_minute", columnList = "session_at, session_minute_of_day"),
+    @Index(name = "idx_sessions_day_of_week_minute", columnList = "session_day_of_week, session_minute_of_day"),
+    @Index(name = "idx_sessions_deleted_created_at", columnList = "deleted, created_at"),
+    @Index(name = "idx_sessions_status_deleted_created_at", columnList = "status, deleted, created_at"),
+    @Index(name = "idx_sessions_status_deleted_session_at", columnList = "status, deleted, session_at"),
+    @Index(name = "idx_sessions_updated_at", columnList = "updated_at")
+})
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Session extends SoftDeleteEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sessions_seq")
+    @SequenceGenerator(name = "sessions_seq", sequenceName = "sessions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -62,9 +79,26 @@ public class Session extends SoftDeleteEntity {
     @Column(name = "longitude")
     private Double longitude;
 
+    // 반경 검색용 격자 셀 - 위도/경도가 바뀔 때 함께 갱신한다.
+    // 값이 없는 행은 반경 검색에서 빠지므로 기존 행은 ST_GeoHash(longitude, latitude, 8)로 채워 둔다
+    @Column(name = "geohash", length = 12)
+    @Comment("위치 Geohash")
+    private String geohash;
+
+    // 일시는 분 단위로 저장한다. 메모리 인덱스(epoch 분)와 DB가 같은 값으로 정렬해야 두 경로의 커서를 서로 이어 쓸 수 있다
     @Column(name = "session_at", nullable = false)
     private LocalDateTime sessionAt;
 
+    // 시간대/요일 검색용 파생 컬럼 - sessionAt이 바뀔 때 함께 갱신한다.
+    // 값이 없는 행은 시간대/요일 필터에서 빠지므로 기존 행은 session_at에서 계산해 채워 둔다
+    @Column(name = "session_minute_of_day")
+    @Comment("세션 시작 시각 (자정 기준 분, 0~1439)")
+    private Integer sessionMinuteOfDay;
+
+    @Column(name = "session_day_of_week")
+    @Comment("세션 요일 (1=월 ~ 7=일)")
+    private Integer sessionDayOfWeek;
+
     @Column(name = "register_by", nullable = false)
     private LocalDateTime registerBy;
 
@@ -82,6 +116,29 @@ public class Session extends SoftDeleteEntity {
     @Column(name = "max_participant_count", nullable = false)
     private Integer maxParticipantCount;
 
+    // 목록 조회용 집계 카운터 - SessionRepository의 원자적 UPDATE로만 변경한다.
+    // 기존 행은 reconcileCounters와 같은 집계로 채워 둬야 목록에 0으로 보이지 않는다
+    @Column(name = "participant_count", nullable = false)
+    @Comment("참가자 수")
+    private Long participantCount = 0L;
+
+    @Column(name = "like_count", nullable = false)
+    @Comment("찜 수")
+    private Long likeCount = 0L;
+
+    @Column(name = "review_count", nullable = false)
+    @Comment("리뷰 수")
+    private Long reviewCount = 0L;
+
+    @Column(name = "review_sum", nullable = false)
+    @Comment("리뷰 평점 합계")
+    private Long reviewSum = 0L;
+
+    // 신청이 몰릴 것으로 예상되는 세션은 참가 신청을 대기열로 받아 순서대로 처리한다
+    @Column(name = "queued_join", nullable = false)
+    @Comment("대기열 참가 신청 사용 여부")
+    private boolean queuedJoin = false;
+
     @Builder
     private Session(Crew crew, User hostUser, String name, String description, String image,
         String city, String district, String location, Double latitude, Double longitude,
@@ -97,8 +154,11 @@ public class Session extends SoftDeleteEntity {
         this.location = location;
         this.latitude = latitude;
         this.longitude = longitude;
-        this.sessionAt = sessionAt;
-        this.registerBy = registerBy;
+        this.geohash = toGeohash(latitude, longitude);
+        this.sessionAt = truncateToMinute(sessionAt);
+        this.sessionMinuteOfDay = toMinuteOfDay(sessionAt);
+        this.sessionDayOfWeek = toDayOfWeek(sessionAt);
+        this.registerBy = truncateToMinute(registerBy);
         this.level = level;
         this.status = SessionStatus.OPEN;
         this.pace = pace;
@@ -140,6 +200,10 @@ public class Session extends SoftDeleteEntity {
         return this.status == SessionStatus.OPEN;
     }
 
+    public void useQueuedJoin(boolean queuedJoin) {
+        this.queuedJoin = queuedJoin;
+    }
+
     public boolean isRegistrationOpen() {
         return isOpen() && LocalDateTime.now().isBefore(registerBy);
     }
@@ -149,4 +213,23 @@ public class Session extends SoftDeleteEntity {
         this.description = description;
         this.image = image;
     }
+
+    private static LocalDateTime truncateToMinute(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.truncatedTo(ChronoUnit.MINUTES) : null;
+    }
+
+    private static Integer toMinuteOfDay(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.getHour() * 60 + dateTime.getMinute() : null;
+    }
+
+    private static Integer toDayOfWeek(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.getDayOfWeek().getValue() : null;
+    }
+
+    private static String toGeohash(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        return GeoHash.encode(latitude, longitude, GeoHash.PRECISION);
+    }
 }
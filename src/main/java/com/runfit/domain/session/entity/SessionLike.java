@@ -3,13 +3,13 @@ package com.runfit.domain.session.entity;
 import com.runfit.domain.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -17,19 +17,17 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Getter
 @Table(name = "session_likes",
     uniqueConstraints = @UniqueConstraint(columnNames = {"session_id", "user_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
 public class SessionLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "session_likes_seq")
+    @SequenceGenerator(name = "session_likes_seq", sequenceName = "session_likes_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,20 +38,26 @@ public class SessionLike {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @CreatedDate
+    // 쓰기 지연 모드는 반영 시각이 아니라 찜을 누른 시각을 넣으므로 감사(auditing) 대신 직접 채운다
     @Column(name = "liked_at", nullable = false, updatable = false)
     private LocalDateTime likedAt;
 
     @Builder
-    private SessionLike(Session session, User user) {
+    private SessionLike(Session session, User user, LocalDateTime likedAt) {
         this.session = session;
         this.user = user;
+        this.likedAt = likedAt;
     }
 
     public static SessionLike create(Session session, User user) {
+        return create(session, user, LocalDateTime.now());
+    }
+
+    public static SessionLike create(Session session, User user, LocalDateTime likedAt) {
         return SessionLike.builder()
             .session(session)
             .user(user)
+            .likedAt(likedAt)
             .build();
     }
 }
@@ -0,0 +1,11 @@
+package com.runfit.domain.session.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모집 마감 시각이 지난 세션들이 일괄로 CLOSED 처리된 후 발행되는 이벤트.
+ */
+public record ExpiredSessionsClosedEvent(
+    LocalDateTime closedAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.runfit.domain.session.event;
+
+/**
+ * 사용자의 세션 찜/참여 상태가 바뀐 후 발행되는 이벤트.
+ */
+public record SessionActivityChangedEvent(
+    Long userId
+) {
+}
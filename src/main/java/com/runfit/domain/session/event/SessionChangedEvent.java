@@ -0,0 +1,28 @@
+package com.runfit.domain.session.event;
+
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.index.SessionIndexEntry;
+import java.time.LocalDateTime;
+
+/**
+ * 세션 생성/수정/삭제 후 발행되는 이벤트. 커밋 이후 리스너가 트랜잭션 밖에서 사용하므로 필요한 값만 복사해 둔다.
+ */
+public record SessionChangedEvent(
+    SessionIndexEntry entry,
+    String name,
+    String description,
+    String location,
+    boolean deleted,
+    LocalDateTime updatedAt
+) {
+    public static SessionChangedEvent from(Session session) {
+        return new SessionChangedEvent(
+            SessionIndexEntry.from(session),
+            session.getName(),
+            session.getDescription(),
+            session.getLocation(),
+            session.isDeleted(),
+            session.getUpdatedAt()
+        );
+    }
+}
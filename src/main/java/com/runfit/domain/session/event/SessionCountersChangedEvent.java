@@ -0,0 +1,9 @@
+package com.runfit.domain.session.event;
+
+/**
+ * 세션 참가자 수나 리뷰 집계처럼 목록 카드에 보이는 카운터가 바뀐 후 발행되는 이벤트.
+ */
+public record SessionCountersChangedEvent(
+    Long sessionId
+) {
+}
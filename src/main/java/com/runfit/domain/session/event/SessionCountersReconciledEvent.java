@@ -0,0 +1,9 @@
+package com.runfit.domain.session.event;
+
+/**
+ * 카운터 보정 배치가 어긋난 세션 카운터를 일괄로 바로잡은 후 발행되는 이벤트.
+ */
+public record SessionCountersReconciledEvent(
+    int repairedCount
+) {
+}
@@ -0,0 +1,722 @@
+package com.runfit.domain.session.index;
+
+import com.runfit.common.geo.GeoDistance;
+import com.runfit.common.pagination.Cursor;
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.entity.SessionStatus;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * 모집중(OPEN)이고 삭제되지 않은 세션을 컬럼 단위로 메모리 매핑 파일에 보관하는 검색 인덱스.
+ *
+ * <p>파일 구조: [헤더 32바이트][id][crewId][createdAt][위도][경도][sessionAt][registerBy][도시][구][난이도][상태][사용여부]
+ * 각 컬럼은 capacity 길이의 기본형 배열이다. 도시/구는 {@link SessionIndexDictionary} 코드,
+ * 난이도/상태는 enum ordinal, 일시는 epoch 분(createdAt만 정렬 정밀도를 위해 epoch 마이크로초)으로 저장한다.
+ * 검색은 조건에 맞는 세션 id만 정렬해 돌려주고, 응답 데이터는 DB에서 해당 페이지만 조회한다.
+ */
+public class OpenSessionIndex implements Closeable {
+
+    private static final int MAGIC = 0x52464958;
+    private static final int VERSION = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int HIGH_WATER_OFFSET = 12;
+    private static final int WATERMARK_OFFSET = 16;
+
+    // 컬럼 순서와 폭(바이트)
+    private static final int ID = 0;
+    private static final int CREW_ID = 1;
+    private static final int CREATED_AT = 2;
+    private static final int LATITUDE = 3;
+    private static final int LONGITUDE = 4;
+    private static final int SESSION_AT = 5;
+    private static final int REGISTER_BY = 6;
+    private static final int CITY = 7;
+    private static final int DISTRICT = 8;
+    private static final int LEVEL = 9;
+    private static final int STATUS = 10;
+    private static final int OCCUPIED = 11;
+    private static final int[] COLUMN_WIDTHS = {8, 8, 8, 8, 8, 4, 4, 4, 4, 1, 1, 1};
+
+    private static final int MINUTES_PER_DAY = 1440;
+
+    private final Path file;
+    private final SessionIndexDictionary dictionary;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int highWater;
+    private boolean restored;
+
+    public OpenSessionIndex(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            this.file = directory.resolve("open-sessions.idx");
+            this.dictionary = new SessionIndexDictionary(directory.resolve("open-sessions.dict"));
+            this.restored = open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 기존 파일을 정상적으로 복원했는지 여부. false면 DB에서 전체를 다시 적재해야 한다.
+     */
+    public boolean isRestored() {
+        return restored;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 반영한 세션 변경 시각. 재시작 시 이 시각 이후 변경분만 DB에서 따라잡는다.
+     */
+    public LocalDateTime watermark() {
+        lock.readLock().lock();
+        try {
+            long micros = buffer.getLong(WATERMARK_OFFSET);
+            return micros == 0 ? null : fromEpochMicros(micros);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void advanceWatermark(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long micros = toEpochMicros(updatedAt);
+            if (micros > buffer.getLong(WATERMARK_OFFSET)) {
+                buffer.putLong(WATERMARK_OFFSET, micros);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모집중이고 삭제되지 않은 세션은 추가/갱신하고, 그 외에는 인덱스에서 제거한다.
+     */
+    public void apply(SessionIndexEntry entry, boolean deleted) {
+        if (deleted || entry.status() != SessionStatus.OPEN) {
+            remove(entry.id());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(entry.id());
+            if (slot == null) {
+                slot = allocateSlot();
+                slotById.put(entry.id(), slot);
+            }
+            write(slot, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long sessionId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(sessionId);
+            if (slot != null) {
+                buffer.put(offset(OCCUPIED, slot), (byte) 0);
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모집 마감 시각이 지난 세션을 제거한다. (SessionStatusScheduler의 CLOSED 처리와 같은 기준)
+     */
+    public int removeExpired(LocalDateTime now) {
+        long nowMinute = toEpochMinute(now);
+
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            for (int slot = 0; slot < highWater; slot++) {
+                if (isOccupied(slot) && buffer.getInt(offset(REGISTER_BY, slot)) < nowMinute) {
+                    slotById.remove(buffer.getLong(offset(ID, slot)));
+                    buffer.put(offset(OCCUPIED, slot), (byte) 0);
+                    freeSlots.push(slot);
+                    removed++;
+                }
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스를 비우고 사전/파일도 새로 시작한다. DB에서 전체를 다시 적재하기 전에 호출한다.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotById.clear();
+            freeSlots.clear();
+            dictionary.clear();
+            initialize(INITIAL_CAPACITY);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SessionIdPage search(SessionSearchCondition condition, Cursor cursor, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return new Search(condition, cursor, pageable).execute();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            buffer.putInt(HIGH_WATER_OFFSET, highWater);
+            buffer.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ---- 파일 관리 ----
+
+    private boolean open() throws IOException {
+        if (Files.exists(file) && Files.size(file) >= HEADER_SIZE) {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+
+            int storedCapacity = buffer.getInt(CAPACITY_OFFSET);
+            if (buffer.getInt(MAGIC_OFFSET) == MAGIC
+                && buffer.getInt(VERSION_OFFSET) == VERSION
+                && storedCapacity > 0
+                && channel.size() == fileSize(storedCapacity)
+                && restoreSlots(storedCapacity)) {
+                return true;
+            }
+            channel.close();
+        }
+
+        slotById.clear();
+        freeSlots.clear();
+        dictionary.clear();
+        initialize(INITIAL_CAPACITY);
+        return false;
+    }
+
+    private boolean restoreSlots(int storedCapacity) {
+        capacity = storedCapacity;
+        highWater = Math.min(buffer.getInt(HIGH_WATER_OFFSET), capacity);
+
+        // 사용여부 컬럼은 매 변경마다 기록되므로 헤더의 highWater보다 뒤에 있는 슬롯도 확인한다
+        int lastOccupied = -1;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (isOccupied(slot)) {
+                int city = buffer.getInt(offset(CITY, slot));
+                int district = buffer.getInt(offset(DISTRICT, slot));
+                if (city >= dictionary.size() || district >= dictionary.size()) {
+                    return false;
+                }
+                slotById.put(buffer.getLong(offset(ID, slot)), slot);
+                lastOccupied = slot;
+            }
+        }
+
+        highWater = Math.max(highWater, lastOccupied + 1);
+        for (int slot = highWater - 1; slot >= 0; slot--) {
+            if (!isOccupied(slot)) {
+                freeSlots.push(slot);
+            }
+        }
+        return true;
+    }
+
+    private void initialize(int newCapacity) throws IOException {
+        if (channel != null && channel.isOpen()) {
+            channel.close();
+        }
+        Files.deleteIfExists(file);
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(newCapacity));
+        capacity = newCapacity;
+        highWater = 0;
+
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        buffer.putInt(HIGH_WATER_OFFSET, 0);
+        buffer.putLong(WATERMARK_OFFSET, 0L);
+    }
+
+    // 컬럼 위치가 capacity에 따라 달라지므로 새 파일에 컬럼별로 복사한 뒤 교체한다
+    private void grow() {
+        int newCapacity = capacity * 2;
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileChannel newChannel = FileChannel.open(tempFile,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(newCapacity));
+
+            newBuffer.put(0, buffer, 0, HEADER_SIZE);
+            newBuffer.putInt(CAPACITY_OFFSET, newCapacity);
+            for (int column = 0; column < COLUMN_WIDTHS.length; column++) {
+                int length = COLUMN_WIDTHS[column] * capacity;
+                newBuffer.put(columnOffset(column, newCapacity), buffer, columnOffset(column, capacity), length);
+            }
+            newBuffer.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            channel.close();
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(newCapacity));
+            capacity = newCapacity;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        if (highWater == capacity) {
+            grow();
+        }
+        int slot = highWater++;
+        buffer.putInt(HIGH_WATER_OFFSET, highWater);
+        return slot;
+    }
+
+    private void write(int slot, SessionIndexEntry entry) {
+        buffer.putLong(offset(ID, slot), entry.id());
+        buffer.putLong(offset(CREW_ID, slot), entry.crewId());
+        buffer.putLong(offset(CREATED_AT, slot), toEpochMicros(entry.createdAt()));
+        buffer.putDouble(offset(LATITUDE, slot), entry.latitude() != null ? entry.latitude() : Double.NaN);
+        buffer.putDouble(offset(LONGITUDE, slot), entry.longitude() != null ? entry.longitude() : Double.NaN);
+        buffer.putInt(offset(SESSION_AT, slot), (int) toEpochMinute(entry.sessionAt()));
+        buffer.putInt(offset(REGISTER_BY, slot), (int) toEpochMinute(entry.registerBy()));
+        buffer.putInt(offset(CITY, slot), dictionary.encode(entry.city()));
+        buffer.putInt(offset(DISTRICT, slot), dictionary.encode(entry.district()));
+        buffer.put(offset(LEVEL, slot), (byte) entry.level().ordinal());
+        buffer.put(offset(STATUS, slot), (byte) entry.status().ordinal());
+        buffer.put(offset(OCCUPIED, slot), (byte) 1);
+    }
+
+    private boolean isOccupied(int slot) {
+        return buffer.get(offset(OCCUPIED, slot)) == 1;
+    }
+
+    private int offset(int column, int slot) {
+        return columnOffset(column, capacity) + COLUMN_WIDTHS[column] * slot;
+    }
+
+    private static int columnOffset(int column, int capacity) {
+        int offset = HEADER_SIZE;
+        for (int i = 0; i < column; i++) {
+            offset += COLUMN_WIDTHS[i] * capacity;
+        }
+        return offset;
+    }
+
+    private static long fileSize(int capacity) {
+        return columnOffset(COLUMN_WIDTHS.length, capacity);
+    }
+
+    // ---- 시간 변환 (LocalDateTime을 UTC 기준 epoch 값으로 단순 변환) ----
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(epochMicros, 1_000_000L),
+            (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000,
+            ZoneOffset.UTC
+        );
+    }
+
+    private static long toEpochMinute(LocalDate date) {
+        return date.toEpochDay() * MINUTES_PER_DAY;
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * 한 번의 검색 요청. 전체 슬롯을 컬럼 단위로 훑으며 조건을 검사하고,
+     * 필요한 개수(offset + size + 1)만 최대 힙으로 유지해 정렬 비용을 줄인다.
+     * 모든 정렬은 (key, tieBreaker) 오름차순으로 정규화한다. (내림차순은 부호 반전)
+     */
+    private final class Search {
+
+        private static final int SORT_CREATED_AT_DESC = 0;
+        private static final int SORT_SESSION_AT_ASC = 1;
+        private static final int SORT_REGISTER_BY_ASC = 2;
+        private static final int SORT_DISTANCE_ASC = 3;
+
+        private final SessionSearchCondition condition;
+        private final Pageable pageable;
+        private final int sortType;
+
+        private final int[] cityCodes;
+        private final int[] districtCodes;
+        private final long minSessionAt;
+        private final long maxSessionAt;
+        private final int minMinuteOfDay;
+        private final int maxMinuteOfDay;
+        private final int dayOfWeekMask;
+
+        private final boolean hasCursor;
+        private final long cursorKey;
+        private final long cursorTieBreaker;
+
+        private long[] heapKeys;
+        private long[] heapTieBreakers;
+        private int[] heapSlots;
+        private int heapSize;
+
+        private Search(SessionSearchCondition condition, Cursor cursor, Pageable pageable) {
+            this.condition = condition;
+            this.pageable = pageable;
+            this.sortType = sortType(condition);
+
+            this.cityCodes = lookupCodes(condition.cities());
+            this.districtCodes = lookupCodes(condition.districts());
+
+            LocalDate dateFrom = condition.dateFrom();
+            LocalDate dateTo = condition.dateTo();
+            this.minSessionAt = dateFrom != null ? toEpochMinute(dateFrom) : Long.MIN_VALUE;
+            if (dateTo == null) {
+                this.maxSessionAt = Long.MAX_VALUE;
+            } else {
+                // DB 경로와 같이 양쪽 날짜가 있으면 다음날 0시를 포함, 종료 날짜만 있으면 제외
+                long nextDay = toEpochMinute(dateTo.plusDays(1));
+                this.maxSessionAt = dateFrom != null ? nextDay : nextDay - 1;
+            }
+
+            this.minMinuteOfDay = condition.timeFrom() != null ? toMinuteOfDay(condition.timeFrom()) : 0;
+            this.maxMinuteOfDay = condition.timeTo() != null ? toMinuteOfDay(condition.timeTo()) : MINUTES_PER_DAY;
+
+            int mask = 0;
+            if (!CollectionUtils.isEmpty(condition.daysOfWeek())) {
+                for (DayOfWeek day : condition.daysOfWeek()) {
+                    mask |= 1 << day.getValue();
+                }
+            }
+            this.dayOfWeekMask = mask;
+
+            // 거리순은 DB 경로와 마찬가지로 offset 페이지네이션만 지원
+            this.hasCursor = cursor != null && sortType != SORT_DISTANCE_ASC;
+            this.cursorKey = hasCursor ? cursorKey(cursor) : 0;
+            this.cursorTieBreaker = hasCursor ? tieBreaker(cursor.id()) : 0;
+        }
+
+        private SessionIdPage execute() {
+            long offset = hasCursor ? 0 : pageable.getOffset();
+            int pageSize = pageable.getPageSize();
+            int limit = (int) Math.min(offset + pageSize + 1, Math.max(slotById.size(), 1));
+
+            heapKeys = new long[limit];
+            heapTieBreakers = new long[limit];
+            heapSlots = new int[limit];
+            heapSize = 0;
+
+            for (int slot = 0; slot < highWater; slot++) {
+                if (!matches(slot)) {
+                    continue;
+                }
+
+                long key = sortKey(slot);
+                long tieBreaker = tieBreaker(buffer.getLong(offset(ID, slot)));
+                if (hasCursor && compare(key, tieBreaker, cursorKey, cursorTieBreaker) <= 0) {
+                    continue;
+                }
+                offer(key, tieBreaker, slot, limit);
+            }
+
+            int matched = heapSize;
+            sortHeap();
+
+            List<Long> ids = new ArrayList<>(pageSize);
+            int lastIndex = -1;
+            for (int i = (int) Math.min(offset, matched); i < matched && ids.size() < pageSize; i++) {
+                ids.add(buffer.getLong(offset(ID, heapSlots[i])));
+                lastIndex = i;
+            }
+
+            boolean hasNext = matched > offset + pageSize;
+            String nextCursor = hasNext && lastIndex >= 0 ? nextCursor(heapSlots[lastIndex]) : null;
+            return new SessionIdPage(ids, hasNext, nextCursor);
+        }
+
+        private boolean matches(int slot) {
+            if (!isOccupied(slot)) {
+                return false;
+            }
+            if (condition.status() != null && buffer.get(offset(STATUS, slot)) != condition.status().ordinal()) {
+                return false;
+            }
+            if (condition.crewId() != null && buffer.getLong(offset(CREW_ID, slot)) != condition.crewId()) {
+                return false;
+            }
+            if (condition.level() != null && buffer.get(offset(LEVEL, slot)) != condition.level().ordinal()) {
+                return false;
+            }
+            if (cityCodes != null && !contains(cityCodes, buffer.getInt(offset(CITY, slot)))) {
+                return false;
+            }
+            if (districtCodes != null && !contains(districtCodes, buffer.getInt(offset(DISTRICT, slot)))) {
+                return false;
+            }
+
+            int sessionAt = buffer.getInt(offset(SESSION_AT, slot));
+            if (sessionAt < minSessionAt || sessionAt > maxSessionAt) {
+                return false;
+            }
+
+            int minuteOfDay = Math.floorMod(sessionAt, MINUTES_PER_DAY);
+            if (minuteOfDay < minMinuteOfDay || minuteOfDay > maxMinuteOfDay) {
+                return false;
+            }
+            if (dayOfWeekMask != 0 && (dayOfWeekMask & (1 << dayOfWeek(sessionAt))) == 0) {
+                return false;
+            }
+
+            return !condition.hasLocation() || distanceKm(slot) <= condition.radiusKm();
+        }
+
+        private long sortKey(int slot) {
+            return switch (sortType) {
+                case SORT_SESSION_AT_ASC -> buffer.getInt(offset(SESSION_AT, slot));
+                case SORT_REGISTER_BY_ASC -> buffer.getInt(offset(REGISTER_BY, slot));
+                // 0 이상의 double은 비트 표현의 대소 관계가 값의 대소 관계와 같다
+                case SORT_DISTANCE_ASC -> Double.doubleToLongBits(distanceKm(slot));
+                default -> -buffer.getLong(offset(CREATED_AT, slot));
+            };
+        }
+
+        private long tieBreaker(long id) {
+            return sortType == SORT_CREATED_AT_DESC ? -id : id;
+        }
+
+        private long cursorKey(Cursor cursor) {
+            return switch (sortType) {
+                case SORT_SESSION_AT_ASC, SORT_REGISTER_BY_ASC -> toEpochMinute(cursor.key());
+                default -> -toEpochMicros(cursor.key());
+            };
+        }
+
+        // Session이 일시를 분 단위로 저장하므로 DB 경로가 만든 커서와 같은 키가 되어 경로가 바뀌어도 이어서 조회할 수 있다
+        private String nextCursor(int slot) {
+            LocalDateTime key = switch (sortType) {
+                case SORT_SESSION_AT_ASC -> fromEpochMinute(buffer.getInt(offset(SESSION_AT, slot)));
+                case SORT_REGISTER_BY_ASC -> fromEpochMinute(buffer.getInt(offset(REGISTER_BY, slot)));
+                case SORT_DISTANCE_ASC -> null;
+                default -> fromEpochMicros(buffer.getLong(offset(CREATED_AT, slot)));
+            };
+            return key != null ? Cursor.encode(key, buffer.getLong(offset(ID, slot))) : null;
+        }
+
+        private double distanceKm(int slot) {
+            double latitude = buffer.getDouble(offset(LATITUDE, slot));
+            double longitude = buffer.getDouble(offset(LONGITUDE, slot));
+            if (Double.isNaN(latitude) || Double.isNaN(longitude)) {
+                return Double.MAX_VALUE;
+            }
+
+            return GeoDistance.haversineKm(condition.latitude(), condition.longitude(), latitude, longitude);
+        }
+
+        // ---- 최대 힙: 지금까지 가장 작은 limit개를 유지 ----
+
+        private void offer(long key, long tieBreaker, int slot, int limit) {
+            if (heapSize < limit) {
+                heapKeys[heapSize] = key;
+                heapTieBreakers[heapSize] = tieBreaker;
+                heapSlots[heapSize] = slot;
+                siftUp(heapSize++);
+                return;
+            }
+            if (compare(key, tieBreaker, heapKeys[0], heapTieBreakers[0]) < 0) {
+                heapKeys[0] = key;
+                heapTieBreakers[0] = tieBreaker;
+                heapSlots[0] = slot;
+                siftDown(0, heapSize);
+            }
+        }
+
+        // 힙 정렬로 오름차순 배치
+        private void sortHeap() {
+            for (int end = heapSize - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (greater(index, parent)) {
+                    swap(index, parent);
+                    index = parent;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void siftDown(int index, int size) {
+            while (true) {
+                int left = index * 2 + 1;
+                if (left >= size) {
+                    return;
+                }
+                int largest = left;
+                int right = left + 1;
+                if (right < size && greater(right, left)) {
+                    largest = right;
+                }
+                if (!greater(largest, index)) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private boolean greater(int i, int j) {
+            return compare(heapKeys[i], heapTieBreakers[i], heapKeys[j], heapTieBreakers[j]) > 0;
+        }
+
+        private void swap(int i, int j) {
+            long key = heapKeys[i];
+            heapKeys[i] = heapKeys[j];
+            heapKeys[j] = key;
+
+            long tieBreaker = heapTieBreakers[i];
+            heapTieBreakers[i] = heapTieBreakers[j];
+            heapTieBreakers[j] = tieBreaker;
+
+            int slot = heapSlots[i];
+            heapSlots[i] = heapSlots[j];
+            heapSlots[j] = slot;
+        }
+    }
+
+    private static int compare(long key, long tieBreaker, long otherKey, long otherTieBreaker) {
+        int result = Long.compare(key, otherKey);
+        return result != 0 ? result : Long.compare(tieBreaker, otherTieBreaker);
+    }
+
+    private static int dayOfWeek(long epochMinute) {
+        // 1970-01-01은 목요일(4)
+        return (int) Math.floorMod(Math.floorDiv(epochMinute, MINUTES_PER_DAY) + 3, 7) + 1;
+    }
+
+    private int sortType(SessionSearchCondition condition) {
+        String sort = condition.sort();
+        if ("distanceAsc".equals(sort) && condition.hasLocation()) {
+            return Search.SORT_DISTANCE_ASC;
+        }
+        if ("sessionAtAsc".equals(sort)) {
+            return Search.SORT_SESSION_AT_ASC;
+        }
+        if ("registerByAsc".equals(sort)) {
+            return Search.SORT_REGISTER_BY_ASC;
+        }
+        return Search.SORT_CREATED_AT_DESC;
+    }
+
+    private int[] lookupCodes(List<String> values) {
+        if (CollectionUtils.isEmpty(values)) {
+            return null;
+        }
+        return values.stream().mapToInt(dictionary::lookup).toArray();
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int candidate : values) {
+            if (candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
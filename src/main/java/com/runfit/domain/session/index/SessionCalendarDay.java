@@ -0,0 +1,14 @@
+package com.runfit.domain.session.index;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 달력 하루치 집계. sessionIds는 시작 시각이 이른 순으로 요청한 개수까지만 담는다.
+ */
+public record SessionCalendarDay(
+    LocalDate date,
+    long count,
+    List<Long> sessionIds
+) {
+}
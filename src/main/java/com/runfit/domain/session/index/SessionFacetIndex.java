@@ -0,0 +1,416 @@
+package com.runfit.domain.session.index;
+
+import com.runfit.common.geo.GeoDistance;
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * 삭제되지 않은 모든 세션을 슬롯에 두고 도시/구/난이도/상태/날짜별 비트맵을 유지하는 메모리 인덱스.
+ *
+ * <p>패싯 개수는 "자기 차원의 필터만 뺀" 조건으로 센다. 예를 들어 도시=서울을 고른 상태에서도
+ * 도시 패싯은 다른 도시의 개수를 보여주고, 나머지 패싯은 서울로 좁혀진 개수를 보여준다.
+ * 살아있는 슬롯을 한 번 훑으면서 각 슬롯이 어긋난 패싯 차원 수를 세어, 0개면 모든 차원에, 1개면 그 차원에만 더한다.
+ * 날짜 필터는 일 단위 비트맵으로 적용한다.
+ */
+public class SessionFacetIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 패싯 차원
+    private static final int CITY = 0;
+    private static final int DISTRICT = 1;
+    private static final int LEVEL = 2;
+    private static final int STATUS = 3;
+    private static final int DATE = 4;
+    private static final int DIMENSIONS = 5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    private final Map<String, BitSet> byCity = new HashMap<>();
+    private final Map<String, BitSet> byDistrict = new HashMap<>();
+    private final Map<SessionLevel, BitSet> byLevel = new EnumMap<>(SessionLevel.class);
+    private final Map<SessionStatus, BitSet> byStatus = new EnumMap<>(SessionStatus.class);
+    private final TreeMap<LocalDate, BitSet> byDate = new TreeMap<>();
+
+    private SessionIndexEntry[] entries = new SessionIndexEntry[INITIAL_CAPACITY];
+    private int highWater;
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제되지 않은 세션은 추가/갱신하고, 삭제된 세션은 제거한다.
+     */
+    public void apply(SessionIndexEntry entry, boolean deleted) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(entry.id());
+            if (slot != null) {
+                unindex(slot);
+            }
+
+            if (deleted) {
+                if (slot != null) {
+                    slotById.remove(entry.id());
+                    entries[slot] = null;
+                    live.clear(slot);
+                    freeSlots.push(slot);
+                }
+                return;
+            }
+
+            if (slot == null) {
+                slot = allocateSlot();
+                slotById.put(entry.id(), slot);
+            }
+            entries[slot] = entry;
+            live.set(slot);
+            index(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모집 마감 시각이 지난 모집중 세션을 마감으로 바꾼다. (SessionStatusScheduler의 CLOSED 처리와 같은 기준)
+     */
+    public int closeExpired(LocalDateTime now) {
+        lock.writeLock().lock();
+        try {
+            BitSet open = byStatus.get(SessionStatus.OPEN);
+            if (open == null) {
+                return 0;
+            }
+
+            int closed = 0;
+            for (int slot = open.nextSetBit(0); slot >= 0; slot = open.nextSetBit(slot + 1)) {
+                SessionIndexEntry entry = entries[slot];
+                if (entry.registerBy().isBefore(now)) {
+                    open.clear(slot);
+                    bitmap(byStatus, SessionStatus.CLOSED).set(slot);
+                    entries[slot] = entry.withStatus(SessionStatus.CLOSED);
+                    closed++;
+                }
+            }
+            return closed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotById.clear();
+            freeSlots.clear();
+            live.clear();
+            byCity.clear();
+            byDistrict.clear();
+            byLevel.clear();
+            byStatus.clear();
+            byDate.clear();
+            entries = new SessionIndexEntry[INITIAL_CAPACITY];
+            highWater = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * keywordHits가 주어지면 그 id의 세션만 센다. 검색어는 패싯 차원이 아니므로 모든 패싯에 똑같이 적용된다.
+     */
+    public SessionFacets facets(SessionSearchCondition condition, Set<Long> keywordHits) {
+        lock.readLock().lock();
+        try {
+            return new FacetQuery(condition, keywordHits).execute();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건의 dateFrom~dateTo 기간에서 날짜별 세션 수와 시작 시각이 이른 세션 id를 최대 topPerDay개 구한다.
+     * 기간 안의 날짜 버킷 비트맵만 훑고, 나머지 필터는 패싯 집계와 같은 방식으로 적용한다. 세션이 없는 날은 빠진다.
+     */
+    public List<SessionCalendarDay> calendar(SessionSearchCondition condition, Set<Long> keywordHits, int topPerDay) {
+        lock.readLock().lock();
+        try {
+            FacetQuery query = new FacetQuery(condition, keywordHits);
+            List<SessionCalendarDay> days = new ArrayList<>();
+            for (Map.Entry<LocalDate, BitSet> bucket
+                : byDate.subMap(condition.dateFrom(), true, condition.dateTo(), true).entrySet()) {
+                BitSet slots = bucket.getValue();
+                List<SessionIndexEntry> matched = new ArrayList<>();
+                for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                    if (query.matches(slot, entries[slot])) {
+                        matched.add(entries[slot]);
+                    }
+                }
+                if (matched.isEmpty()) {
+                    continue;
+                }
+
+                List<Long> sessionIds = matched.stream()
+                    .sorted(Comparator.comparing(SessionIndexEntry::sessionAt).thenComparing(SessionIndexEntry::id))
+                    .limit(topPerDay)
+                    .map(SessionIndexEntry::id)
+                    .toList();
+                days.add(new SessionCalendarDay(bucket.getKey(), matched.size(), sessionIds));
+            }
+            return days;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---- 슬롯/비트맵 관리 ----
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        if (highWater == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        return highWater++;
+    }
+
+    private void index(int slot) {
+        SessionIndexEntry entry = entries[slot];
+        if (entry.city() != null) {
+            bitmap(byCity, entry.city()).set(slot);
+        }
+        if (entry.district() != null) {
+            bitmap(byDistrict, entry.district()).set(slot);
+        }
+        bitmap(byLevel, entry.level()).set(slot);
+        bitmap(byStatus, entry.status()).set(slot);
+        bitmap(byDate, entry.sessionAt().toLocalDate()).set(slot);
+    }
+
+    private void unindex(int slot) {
+        SessionIndexEntry entry = entries[slot];
+        clearBit(byCity, entry.city(), slot);
+        clearBit(byDistrict, entry.district(), slot);
+        clearBit(byLevel, entry.level(), slot);
+        clearBit(byStatus, entry.status(), slot);
+        clearBit(byDate, entry.sessionAt().toLocalDate(), slot);
+    }
+
+    private static <K> BitSet bitmap(Map<K, BitSet> bitmaps, K key) {
+        return bitmaps.computeIfAbsent(key, k -> new BitSet());
+    }
+
+    // 값이 사라진 비트맵은 지워 패싯에 개수 0인 항목이 남지 않게 한다
+    private static <K> void clearBit(Map<K, BitSet> bitmaps, K key, int slot) {
+        if (key == null) {
+            return;
+        }
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.clear(slot);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 한 번의 패싯 집계 요청. 패싯 차원 필터는 비트맵 합집합으로, 나머지 필터(크루/시간/요일/반경/검색어)는 슬롯 값으로 검사한다.
+     */
+    private final class FacetQuery {
+
+        private final SessionSearchCondition condition;
+        private final Set<Long> keywordHits;
+        private final BitSet[] masks = new BitSet[DIMENSIONS];
+        private final int minMinuteOfDay;
+        private final int maxMinuteOfDay;
+        private final int dayOfWeekMask;
+
+        private final Map<String, Long> cities = new HashMap<>();
+        private final Map<String, Long> districts = new HashMap<>();
+        private final Map<SessionLevel, Long> levels = new EnumMap<>(SessionLevel.class);
+        private final Map<SessionStatus, Long> statuses = new EnumMap<>(SessionStatus.class);
+        private final Map<LocalDate, Long> dates = new TreeMap<>();
+        private long total;
+
+        private FacetQuery(SessionSearchCondition condition, Set<Long> keywordHits) {
+            this.condition = condition;
+            this.keywordHits = keywordHits;
+
+            masks[CITY] = union(byCity, condition.cities());
+            masks[DISTRICT] = union(byDistrict, condition.districts());
+            masks[LEVEL] = condition.level() != null ? copy(byLevel.get(condition.level())) : null;
+            masks[STATUS] = condition.status() != null ? copy(byStatus.get(condition.status())) : null;
+            masks[DATE] = dateMask(condition.dateFrom(), condition.dateTo());
+
+            this.minMinuteOfDay = condition.timeFrom() != null ? toMinuteOfDay(condition.timeFrom()) : 0;
+            this.maxMinuteOfDay = condition.timeTo() != null ? toMinuteOfDay(condition.timeTo()) : 24 * 60;
+
+            int mask = 0;
+            if (!CollectionUtils.isEmpty(condition.daysOfWeek())) {
+                for (DayOfWeek day : condition.daysOfWeek()) {
+                    mask |= 1 << day.getValue();
+                }
+            }
+            this.dayOfWeekMask = mask;
+        }
+
+        private SessionFacets execute() {
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                SessionIndexEntry entry = entries[slot];
+                if (!matchesFixedFilters(entry)) {
+                    continue;
+                }
+
+                int missedDimension = -1;
+                int missed = 0;
+                for (int dimension = 0; dimension < DIMENSIONS && missed < 2; dimension++) {
+                    if (masks[dimension] != null && !masks[dimension].get(slot)) {
+                        missedDimension = dimension;
+                        missed++;
+                    }
+                }
+
+                if (missed == 0) {
+                    total++;
+                    for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+                        count(dimension, entry);
+                    }
+                } else if (missed == 1) {
+                    count(missedDimension, entry);
+                }
+            }
+            return new SessionFacets(total, cities, districts, levels, statuses, dates);
+        }
+
+        // 날짜는 호출한 쪽이 버킷으로 고르므로 나머지 패싯 필터와 고정 필터만 본다
+        private boolean matches(int slot, SessionIndexEntry entry) {
+            for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+                if (dimension != DATE && masks[dimension] != null && !masks[dimension].get(slot)) {
+                    return false;
+                }
+            }
+            return matchesFixedFilters(entry);
+        }
+
+        private void count(int dimension, SessionIndexEntry entry) {
+            switch (dimension) {
+                case CITY -> {
+                    if (entry.city() != null) {
+                        cities.merge(entry.city(), 1L, Long::sum);
+                    }
+                }
+                case DISTRICT -> {
+                    if (entry.district() != null) {
+                        districts.merge(entry.district(), 1L, Long::sum);
+                    }
+                }
+                case LEVEL -> levels.merge(entry.level(), 1L, Long::sum);
+                case STATUS -> statuses.merge(entry.status(), 1L, Long::sum);
+                default -> dates.merge(entry.sessionAt().toLocalDate(), 1L, Long::sum);
+            }
+        }
+
+        private boolean matchesFixedFilters(SessionIndexEntry entry) {
+            if (keywordHits != null && !keywordHits.contains(entry.id())) {
+                return false;
+            }
+            if (condition.crewId() != null && !condition.crewId().equals(entry.crewId())) {
+                return false;
+            }
+
+            LocalTime time = entry.sessionAt().toLocalTime();
+            int minuteOfDay = toMinuteOfDay(time);
+            if (minuteOfDay < minMinuteOfDay || minuteOfDay > maxMinuteOfDay) {
+                return false;
+            }
+            if (dayOfWeekMask != 0 && (dayOfWeekMask & (1 << entry.sessionAt().getDayOfWeek().getValue())) == 0) {
+                return false;
+            }
+
+            return !condition.hasLocation() || distanceKm(entry) <= condition.radiusKm();
+        }
+
+        private BitSet dateMask(LocalDate dateFrom, LocalDate dateTo) {
+            if (dateFrom == null && dateTo == null) {
+                return null;
+            }
+
+            Map<LocalDate, BitSet> range;
+            if (dateFrom != null && dateTo != null) {
+                range = dateFrom.isAfter(dateTo) ? Map.of() : byDate.subMap(dateFrom, true, dateTo, true);
+            } else if (dateFrom != null) {
+                range = byDate.tailMap(dateFrom, true);
+            } else {
+                range = byDate.headMap(dateTo, true);
+            }
+
+            BitSet mask = new BitSet();
+            range.values().forEach(mask::or);
+            return mask;
+        }
+
+        private double distanceKm(SessionIndexEntry entry) {
+            if (entry.latitude() == null || entry.longitude() == null) {
+                return Double.MAX_VALUE;
+            }
+
+            return GeoDistance.haversineKm(
+                condition.latitude(), condition.longitude(), entry.latitude(), entry.longitude());
+        }
+    }
+
+    private static BitSet union(Map<String, BitSet> bitmaps, List<String> values) {
+        if (CollectionUtils.isEmpty(values)) {
+            return null;
+        }
+
+        BitSet mask = new BitSet();
+        for (String value : values) {
+            BitSet bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                mask.or(bitmap);
+            }
+        }
+        return mask;
+    }
+
+    private static BitSet copy(BitSet bitmap) {
+        return bitmap != null ? (BitSet) bitmap.clone() : new BitSet();
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,19 @@
+package com.runfit.domain.session.index;
+
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 패싯 집계 결과. total은 모든 필터를 적용한 세션 수이고, 각 차원의 개수는 그 차원의 필터만 뺀 조건으로 센 값이다.
+ */
+public record SessionFacets(
+    long total,
+    Map<String, Long> cities,
+    Map<String, Long> districts,
+    Map<SessionLevel, Long> levels,
+    Map<SessionStatus, Long> statuses,
+    Map<LocalDate, Long> dates
+) {
+}
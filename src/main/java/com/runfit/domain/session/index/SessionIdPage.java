@@ -0,0 +1,13 @@
+package com.runfit.domain.session.index;
+
+import java.util.List;
+
+/**
+ * 정렬된 세션 id 한 페이지. 인덱스 검색과 DB id 검색이 같은 형태로 반환하고, 카드 내용은 따로 채운다.
+ */
+public record SessionIdPage(
+    List<Long> sessionIds,
+    boolean hasNext,
+    String nextCursor
+) {
+}
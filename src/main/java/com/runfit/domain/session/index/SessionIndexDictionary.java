@@ -0,0 +1,117 @@
+package com.runfit.domain.session.index;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도시/구 문자열을 int 코드로 바꾸는 사전. 새 값은 코드를 발급하기 전에 파일 끝에 추가해
+ * 인덱스 파일에 기록된 코드가 항상 사전에 존재하도록 한다.
+ */
+class SessionIndexDictionary {
+
+    static final int NULL_CODE = -1;
+    static final int UNKNOWN_CODE = -2;
+
+    private final Path file;
+    private final List<String> values = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    SessionIndexDictionary(Path file) {
+        this.file = file;
+        load();
+    }
+
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+
+        append(value);
+        int newCode = values.size();
+        values.add(value);
+        codes.put(value, newCode);
+        return newCode;
+    }
+
+    int lookup(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        return codes.getOrDefault(value, UNKNOWN_CODE);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    void clear() {
+        values.clear();
+        codes.clear();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        boolean truncated = false;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            while (in.available() > 0) {
+                String value = in.readUTF();
+                codes.put(value, values.size());
+                values.add(value);
+            }
+        } catch (EOFException e) {
+            truncated = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // 쓰다 중단된 마지막 항목이 있으면 온전한 항목만으로 파일을 다시 쓴다
+        if (truncated) {
+            rewrite();
+        }
+    }
+
+    private void rewrite() {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+            file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)))) {
+            for (String value : values) {
+                out.writeUTF(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(String value) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+            file, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)))) {
+            out.writeUTF(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.runfit.domain.session.index;
+
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import java.time.LocalDateTime;
+
+public record SessionIndexEntry(
+    Long id,
+    Long crewId,
+    String city,
+    String district,
+    SessionLevel level,
+    SessionStatus status,
+    LocalDateTime sessionAt,
+    LocalDateTime registerBy,
+    LocalDateTime createdAt,
+    Double latitude,
+    Double longitude
+) {
+    public static SessionIndexEntry from(Session session) {
+        return new SessionIndexEntry(
+            session.getId(),
+            session.getCrew().getId(),
+            session.getCity(),
+            session.getDistrict(),
+            session.getLevel(),
+            session.getStatus(),
+            session.getSessionAt(),
+            session.getRegisterBy(),
+            session.getCreatedAt(),
+            session.getLatitude(),
+            session.getLongitude()
+        );
+    }
+
+    public SessionIndexEntry withStatus(SessionStatus newStatus) {
+        return new SessionIndexEntry(
+            id, crewId, city, district, level, newStatus,
+            sessionAt, registerBy, createdAt, latitude, longitude
+        );
+    }
+}
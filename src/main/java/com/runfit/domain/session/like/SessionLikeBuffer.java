@@ -0,0 +1,149 @@
+package com.runfit.domain.session.like;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 찜/찜 취소 의도를 (사용자, 세션)별로 모아 두는 쓰기 지연 버퍼.
+ * 같은 키의 반복 토글은 마지막 의도 하나로 합쳐지고, 버퍼에 들어오기 전 상태로 돌아오면 항목이 사라진다.
+ * 꺼낸 항목은 DB 반영이 끝날 때까지(complete) flushing에 남아 조회 시 계속 덧씌워지고,
+ * 반영에 실패하면(restore) 그 사이 들어온 의도와 합쳐 다시 버퍼로 돌아간다.
+ *
+ * <p>기록과 조회는 읽기 락을 공유하고, 버퍼를 통째로 바꿔 끼우는 drain/complete/restore만 쓰기 락을 잡는다.
+ */
+@Component
+public class SessionLikeBuffer {
+
+    private record Intent(boolean baseline, boolean liked, LocalDateTime changedAt) {
+    }
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final AtomicInteger size = new AtomicInteger();
+    private ConcurrentHashMap<Long, ConcurrentHashMap<Long, Intent>> pending = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<Long, ConcurrentHashMap<Long, Intent>> flushing = new ConcurrentHashMap<>();
+
+    /**
+     * 찜 의도를 기록한다. current는 버퍼에 항목이 없을 때의 현재 찜 여부(DB + 반영 중인 값)다.
+     * 이미 원하는 상태라 바뀐 것이 없으면 false를 반환한다.
+     */
+    public boolean record(Long userId, Long sessionId, boolean liked, boolean current, LocalDateTime changedAt) {
+        boolean[] changed = new boolean[1];
+
+        swapLock.readLock().lock();
+        try {
+            pending.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                .compute(sessionId, (id, intent) -> {
+                    boolean state = intent != null ? intent.liked() : current;
+                    if (state == liked) {
+                        return intent;
+                    }
+                    changed[0] = true;
+
+                    boolean baseline = intent != null ? intent.baseline() : current;
+                    if (baseline == liked) {
+                        size.decrementAndGet();
+                        return null;
+                    }
+                    if (intent == null) {
+                        size.incrementAndGet();
+                    }
+                    return new Intent(baseline, liked, changedAt);
+                });
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        return changed[0];
+    }
+
+    /**
+     * 사용자의 아직 DB에 반영되지 않은 찜 상태(세션 id → 찜 여부). 반영 중인 값 위에 버퍼의 값을 덮는다.
+     */
+    public Map<Long, Boolean> bufferedLikes(Long userId) {
+        swapLock.readLock().lock();
+        try {
+            Map<Long, Intent> inFlight = flushing.get(userId);
+            Map<Long, Intent> buffered = pending.get(userId);
+            if ((inFlight == null || inFlight.isEmpty()) && (buffered == null || buffered.isEmpty())) {
+                return Map.of();
+            }
+
+            Map<Long, Boolean> likes = new HashMap<>();
+            if (inFlight != null) {
+                inFlight.forEach((sessionId, intent) -> likes.put(sessionId, intent.liked()));
+            }
+            if (buffered != null) {
+                buffered.forEach((sessionId, intent) -> likes.put(sessionId, intent.liked()));
+            }
+            return likes;
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public boolean hasBuffered(Long userId) {
+        return !bufferedLikes(userId).isEmpty();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 버퍼를 비우고 꺼낸 항목을 반환한다. 호출자는 반영 결과에 따라 complete 또는 restore를 호출해야 한다.
+     */
+    public List<SessionLikeChange> drain() {
+        swapLock.writeLock().lock();
+        try {
+            flushing = pending;
+            pending = new ConcurrentHashMap<>();
+            size.set(0);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        List<SessionLikeChange> changes = new ArrayList<>();
+        flushing.forEach((userId, intents) -> intents.forEach((sessionId, intent) ->
+            changes.add(new SessionLikeChange(userId, sessionId, intent.liked(), intent.changedAt()))));
+        return changes;
+    }
+
+    public void complete() {
+        swapLock.writeLock().lock();
+        try {
+            flushing = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    public void restore() {
+        swapLock.writeLock().lock();
+        try {
+            flushing.forEach((userId, intents) -> intents.forEach((sessionId, failed) ->
+                pending.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                    .compute(sessionId, (id, newer) -> {
+                        if (newer == null) {
+                            size.incrementAndGet();
+                            return failed;
+                        }
+                        // 새 의도의 기준값은 실패한 의도의 결과였으므로 기준값은 실패한 쪽에서 가져온다
+                        if (failed.baseline() == newer.liked()) {
+                            size.decrementAndGet();
+                            return null;
+                        }
+                        return new Intent(failed.baseline(), newer.liked(), newer.changedAt());
+                    })));
+            flushing = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.runfit.domain.session.like;
+
+import java.time.LocalDateTime;
+
+/**
+ * 버퍼에서 꺼낸 (사용자, 세션)별 최종 찜 상태. liked=false면 찜 취소다.
+ * changedAt은 마지막으로 찜을 누른 시각으로, 찜 행의 liked_at으로 저장된다.
+ */
+public record SessionLikeChange(
+    Long userId,
+    Long sessionId,
+    boolean liked,
+    LocalDateTime changedAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.runfit.domain.session.repository;
+
+import com.runfit.domain.crew.entity.CrewRole;
+import java.time.LocalDateTime;
+
+/**
+ * 크루 세션 참가 내역 내보내기 한 행 (세션 x 참가자). 열 순서가 곧 CSV 헤더 순서다.
+ */
+public record CrewParticipantExportRow(
+    Long sessionId,
+    String sessionName,
+    LocalDateTime sessionAt,
+    Long userId,
+    String userName,
+    CrewRole role,
+    LocalDateTime joinedAt
+) {
+}
@@ -0,0 +1,29 @@
+package com.runfit.domain.session.repository;
+
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 크루 세션 내보내기 한 행. 열 순서가 곧 CSV 헤더 순서다.
+ */
+public record CrewSessionExportRow(
+    Long sessionId,
+    String name,
+    Long hostUserId,
+    String city,
+    String district,
+    String location,
+    LocalDateTime sessionAt,
+    LocalDateTime registerBy,
+    SessionLevel level,
+    SessionStatus status,
+    Integer pace,
+    Integer maxParticipantCount,
+    Long participantCount,
+    Long likeCount,
+    Long reviewCount,
+    Double ranks,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,79 @@
+package com.runfit.domain.session.repository;
+
+import com.runfit.domain.session.like.SessionLikeChange;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 쓰기 지연 찜 버퍼 반영용 JDBC 쿼리. 추가는 id 채번을 위해 엔티티 배치 저장(hibernate.jdbc.batch_size)을 쓰고,
+ * 기존 행 확인/삭제/찜 수 재계산만 여기서 한다. 엔티티를 거치지 않으므로 호출자가 캐시 무효화 이벤트를 발행해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SessionLikeBatchRepository {
+
+    private static final String EXISTING_SQL = """
+        SELECT session_id, user_id FROM session_likes
+        WHERE user_id IN (:userIds) AND session_id IN (:sessionIds)
+        """;
+    private static final String DELETE_SQL = "DELETE FROM session_likes WHERE session_id = ? AND user_id = ?";
+    private static final String RECOUNT_SQL = """
+        UPDATE sessions s
+        SET like_count = (SELECT COUNT(*) FROM session_likes l WHERE l.session_id = s.id)
+        WHERE s.id IN (:sessionIds)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 아직 찜 행이 없는 항목만 골라낸다. 다른 경로로 이미 들어간 (세션, 사용자) 쌍은 chunkSize개씩 확인해 건너뛴다.
+     */
+    public List<SessionLikeChange> findMissing(List<SessionLikeChange> likes, int chunkSize) {
+        List<SessionLikeChange> missing = new ArrayList<>();
+        for (int from = 0; from < likes.size(); from += chunkSize) {
+            List<SessionLikeChange> chunk = likes.subList(from, Math.min(from + chunkSize, likes.size()));
+            Set<Map.Entry<Long, Long>> existing = findExisting(chunk);
+            chunk.stream()
+                .filter(like -> !existing.contains(Map.entry(like.sessionId(), like.userId())))
+                .forEach(missing::add);
+        }
+        return missing;
+    }
+
+    public void deleteAll(List<SessionLikeChange> unlikes, int batchSize) {
+        jdbcTemplate.getJdbcOperations().batchUpdate(DELETE_SQL, unlikes, batchSize, (ps, unlike) -> {
+            ps.setLong(1, unlike.sessionId());
+            ps.setLong(2, unlike.userId());
+        });
+    }
+
+    /**
+     * 세션들의 찜 수를 실제 찜 행 수로 다시 맞춘다. 증감 대신 재계산하므로 다른 경로의 동시 변경과도 어긋나지 않는다.
+     */
+    public int recountLikes(Collection<Long> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(RECOUNT_SQL, new MapSqlParameterSource("sessionIds", sessionIds));
+    }
+
+    private Set<Map.Entry<Long, Long>> findExisting(List<SessionLikeChange> likes) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("userIds", likes.stream().map(SessionLikeChange::userId).distinct().toList())
+            .addValue("sessionIds", likes.stream().map(SessionLikeChange::sessionId).distinct().toList());
+
+        Set<Map.Entry<Long, Long>> existing = new HashSet<>();
+        jdbcTemplate.query(EXISTING_SQL, params, rs -> {
+            existing.add(Map.entry(rs.getLong("session_id"), rs.getLong("user_id")));
+        });
+        return existing;
+    }
+}
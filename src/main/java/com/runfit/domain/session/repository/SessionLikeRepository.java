@@ -11,6 +11,4 @@ public interface SessionLikeRepository extends JpaRepository<SessionLike, Long>,
     boolean existsBySessionAndUser(Session session, User user);
 
     Optional<SessionLike> findBySessionAndUser(Session session, User user);
-
-    boolean existsBySessionIdAndUserUserId(Long sessionId, Long userId);
 }
@@ -1,10 +1,15 @@
 package com.runfit.domain.session.repository;
 
+import com.runfit.common.pagination.Cursor;
 import com.runfit.domain.session.controller.dto.response.SessionListResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface SessionLikeRepositoryCustom {
 
-    Slice<SessionListResponse> findLikedSessionsByUserId(Long userId, Pageable pageable);
+    Slice<SessionListResponse> findLikedSessionsByUserId(Long userId, Cursor cursor, Pageable pageable);
+
+    default Slice<SessionListResponse> findLikedSessionsByUserId(Long userId, Pageable pageable) {
+        return findLikedSessionsByUserId(userId, null, pageable);
+    }
 }
@@ -1,16 +1,17 @@
 package com.runfit.domain.session.repository;
 
 import static com.runfit.domain.crew.entity.QCrew.crew;
-import static com.runfit.domain.review.entity.QReview.review;
 import static com.runfit.domain.session.entity.QSession.session;
 import static com.runfit.domain.session.entity.QSessionLike.sessionLike;
-import static com.runfit.domain.session.entity.QSessionParticipant.sessionParticipant;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.pagination.CursorSlice;
 import com.runfit.domain.session.controller.dto.response.CoordsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionListResponse;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantResponse;
@@ -19,7 +20,6 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -29,63 +29,72 @@ public class SessionLikeRepositoryCustomImpl implements SessionLikeRepositoryCus
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Slice<SessionListResponse> findLikedSessionsByUserId(Long userId, Pageable pageable) {
-        List<SessionListResponse> content = queryFactory
-            .select(Projections.constructor(SessionListResponse.class,
-                session.id,
-                session.crew.id,
-                session.hostUser.userId,
-                session.name,
-                session.image,
-                session.city,
-                session.district,
-                session.location,
-                Projections.constructor(CoordsResponse.class,
-                    session.latitude,
-                    session.longitude
+    public Slice<SessionListResponse> findLikedSessionsByUserId(Long userId, Cursor cursor, Pageable pageable) {
+        ConstructorExpression<SessionListResponse> projection = Projections.constructor(SessionListResponse.class,
+            session.id,
+            session.crew.id,
+            session.hostUser.userId,
+            session.name,
+            session.image,
+            session.city,
+            session.district,
+            session.location,
+            Projections.constructor(CoordsResponse.class,
+                session.latitude,
+                session.longitude
+            ),
+            session.sessionAt,
+            session.registerBy,
+            session.level,
+            session.status,
+            session.pace,
+            session.maxParticipantCount,
+            session.participantCount,
+            Expressions.asBoolean(true),
+            Expressions.asBoolean(false),
+            session.createdAt,
+            ExpressionUtils.as(
+                Expressions.numberTemplate(Double.class,
+                    "ROUND({0} * 1.0 / NULLIF({1}, 0), 1)",
+                    session.reviewSum,
+                    session.reviewCount
                 ),
-                session.sessionAt,
-                session.registerBy,
-                session.level,
-                session.status,
-                session.pace,
-                session.maxParticipantCount,
-                ExpressionUtils.as(
-                    JPAExpressions.select(sessionParticipant.count())
-                        .from(sessionParticipant)
-                        .where(sessionParticipant.session.eq(session)),
-                    "currentParticipantCount"
-                ),
-                Expressions.asBoolean(true),
-                session.createdAt,
-                ExpressionUtils.as(
-                    Expressions.numberTemplate(Double.class,
-                        "ROUND({0}, 1)",
-                        JPAExpressions.select(review.ranks.avg())
-                            .from(review)
-                            .where(review.session.eq(session))
-                    ),
-                    "ranks"
-                ),
-                Expressions.constant(Collections.<SessionParticipantResponse>emptyList())
-            ))
+                "ranks"
+            ),
+            Expressions.constant(Collections.<SessionParticipantResponse>emptyList())
+        );
+
+        // 찜한 시각은 응답에 없으므로 커서 생성을 위해 함께 조회
+        List<Tuple> rows = queryFactory
+            .select(projection, sessionLike.likedAt, sessionLike.id)
             .from(sessionLike)
             .join(sessionLike.session, session)
             .join(session.crew, crew)
             .where(
                 sessionLike.user.userId.eq(userId),
-                session.deleted.isNull()
+                session.deleted.isNull(),
+                cursor != null ? cursor.after(sessionLike.likedAt, sessionLike.id, false) : null
             )
-            .orderBy(sessionLike.likedAt.desc())
-            .offset(pageable.getOffset())
+            .orderBy(sessionLike.likedAt.desc(), sessionLike.id.desc())
+            .offset(cursor != null ? 0 : pageable.getOffset())
             .limit(pageable.getPageSize() + 1)
             .fetch();
 
-        boolean hasNext = content.size() > pageable.getPageSize();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            rows = rows.subList(0, pageable.getPageSize());
+        }
+
+        List<SessionListResponse> content = rows.stream()
+            .map(row -> row.get(projection))
+            .toList();
+
+        String nextCursor = null;
         if (hasNext) {
-            content.remove(content.size() - 1);
+            Tuple last = rows.get(rows.size() - 1);
+            nextCursor = Cursor.encode(last.get(sessionLike.likedAt), last.get(sessionLike.id));
         }
 
-        return new SliceImpl<>(content, pageable, hasNext);
+        return new CursorSlice<>(content, pageable, hasNext, nextCursor);
     }
 }
@@ -0,0 +1,16 @@
+package com.runfit.domain.session.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 목록 카드에 보여줄 참여자 미리보기 한 건. 엔티티 대신 필요한 컬럼만 담는다.
+ */
+public record SessionParticipantPreview(
+    Long sessionId,
+    Long userId,
+    String name,
+    String profileImage,
+    String introduction,
+    LocalDateTime joinedAt
+) {
+}
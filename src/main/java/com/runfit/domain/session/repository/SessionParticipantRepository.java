@@ -1,9 +1,9 @@
 package com.runfit.domain.session.repository;
 
-import com.runfit.domain.crew.entity.CrewRole;
 import com.runfit.domain.session.entity.Session;
 import com.runfit.domain.session.entity.SessionParticipant;
 import com.runfit.domain.user.entity.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,6 +14,12 @@ public interface SessionParticipantRepository extends JpaRepository<SessionParti
 
     boolean existsBySessionAndUser(Session session, User user);
 
+    boolean existsBySessionIdAndUserUserId(Long sessionId, Long userId);
+
+    @Query("SELECT sp.user.userId FROM SessionParticipant sp " +
+        "WHERE sp.session.id = :sessionId AND sp.user.userId IN :userIds")
+    List<Long> findJoinedUserIds(@Param("sessionId") Long sessionId, @Param("userIds") Collection<Long> userIds);
+
     Optional<SessionParticipant> findBySessionAndUser(Session session, User user);
 
     @Query("SELECT COUNT(sp) FROM SessionParticipant sp WHERE sp.session = :session")
@@ -21,39 +27,4 @@ public interface SessionParticipantRepository extends JpaRepository<SessionParti
 
     @Query("SELECT COUNT(sp) FROM SessionParticipant sp WHERE sp.session.id = :sessionId")
     long countBySessionId(@Param("sessionId") Long sessionId);
-
-    @Query("SELECT sp FROM SessionParticipant sp " +
-           "JOIN FETCH sp.user " +
-           "WHERE sp.session.id = :sessionId " +
-           "ORDER BY sp.joinedAt ASC")
-    List<SessionParticipant> findAllBySessionIdWithUser(@Param("sessionId") Long sessionId);
-
-    @Query("SELECT sp FROM SessionParticipant sp " +
-           "JOIN FETCH sp.user u " +
-           "JOIN Membership m ON m.user = u AND m.crew.id = :crewId " +
-           "WHERE sp.session.id = :sessionId AND m.role = :role " +
-           "ORDER BY sp.joinedAt ASC")
-    List<SessionParticipant> findAllBySessionIdAndRoleWithUser(
-        @Param("sessionId") Long sessionId,
-        @Param("crewId") Long crewId,
-        @Param("role") CrewRole role);
-
-    @Query("SELECT sp FROM SessionParticipant sp " +
-           "JOIN FETCH sp.user u " +
-           "JOIN Membership m ON m.user = u AND m.crew.id = :crewId " +
-           "WHERE sp.session.id = :sessionId " +
-           "ORDER BY CASE m.role WHEN 'LEADER' THEN 1 WHEN 'STAFF' THEN 2 ELSE 3 END, sp.joinedAt ASC")
-    List<SessionParticipant> findAllBySessionIdWithUserOrderByRole(
-        @Param("sessionId") Long sessionId,
-        @Param("crewId") Long crewId);
-
-    @Query("SELECT sp FROM SessionParticipant sp " +
-           "JOIN FETCH sp.user u " +
-           "JOIN Membership m ON m.user = u AND m.crew.id = :crewId " +
-           "WHERE sp.session.id = :sessionId AND m.role = :role " +
-           "ORDER BY CASE m.role WHEN 'LEADER' THEN 1 WHEN 'STAFF' THEN 2 ELSE 3 END, sp.joinedAt ASC")
-    List<SessionParticipant> findAllBySessionIdAndRoleWithUserOrderByRole(
-        @Param("sessionId") Long sessionId,
-        @Param("crewId") Long crewId,
-        @Param("role") CrewRole role);
 }
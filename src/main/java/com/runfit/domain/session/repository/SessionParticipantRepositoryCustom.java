@@ -1,15 +1,51 @@
 package com.runfit.domain.session.repository;
 
-import com.runfit.domain.session.entity.SessionParticipant;
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.pagination.RankedCursor;
+import com.runfit.domain.crew.entity.CrewRole;
+import com.runfit.domain.session.activity.UserSessionActivity;
+import com.runfit.domain.session.controller.dto.response.SessionParticipantResponse;
 import com.runfit.domain.user.controller.dto.response.ParticipatingSessionResponse;
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface SessionParticipantRepositoryCustom {
 
     Slice<ParticipatingSessionResponse> findParticipatingSessionsByUserId(
-        Long userId, String status, Pageable pageable);
+        Long userId, String status, Cursor cursor, Pageable pageable);
 
-    List<SessionParticipant> findParticipantsBySessionIds(List<Long> sessionIds);
+    default Slice<ParticipatingSessionResponse> findParticipatingSessionsByUserId(
+        Long userId, String status, Pageable pageable) {
+        return findParticipatingSessionsByUserId(userId, status, null, pageable);
+    }
+
+    /**
+     * 세션별로 최근 참여자 limit명만 조회한다. (sessionId 오름차순, 세션 내에서는 joinedAt 내림차순)
+     */
+    List<SessionParticipantPreview> findParticipantPreviews(List<Long> sessionIds, int limit);
+
+    /**
+     * 세션 참가자 명단을 한 번의 쿼리로 조회한다. 역할은 해당 크루 멤버십을 조인해 함께 가져온다.
+     * sortByRole이면 (역할, joinedAt, id) 순, 아니면 (joinedAt, id) 순으로 정렬하며 커서는 두 정렬 모두 RankedCursor를 쓴다.
+     */
+    Slice<SessionParticipantResponse> findSessionParticipants(
+        Long sessionId, Long crewId, CrewRole role, boolean sortByRole, RankedCursor cursor, Pageable pageable);
+
+    /**
+     * findSessionParticipants의 역할 필터와 같은 조건으로 세션 참가자 수를 센다.
+     */
+    long countSessionParticipants(Long sessionId, Long crewId, CrewRole role);
+
+    /**
+     * 크루의 삭제되지 않은 세션 참가 내역을 (sessionAt, 세션 id, joinedAt) 순으로 한 행씩 읽는 스트림.
+     * 역할은 findSessionParticipants와 같이 멤버십을 조인해 채운다. 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    Stream<CrewParticipantExportRow> streamCrewParticipants(Long crewId, int fetchSize);
+
+    /**
+     * 사용자가 찜한 세션 id와 참여 중인 세션 id를 한 번의 쿼리로 조회한다.
+     */
+    UserSessionActivity findUserSessionActivity(Long userId);
 }
@@ -1,42 +1,75 @@
 package com.runfit.domain.session.repository;
 
 import static com.runfit.domain.crew.entity.QCrew.crew;
+import static com.runfit.domain.crew.entity.QMembership.membership;
 import static com.runfit.domain.review.entity.QReview.review;
 import static com.runfit.domain.session.entity.QSession.session;
-import static com.runfit.domain.session.entity.QSessionLike.sessionLike;
 import static com.runfit.domain.session.entity.QSessionParticipant.sessionParticipant;
+import static com.runfit.domain.user.entity.QUser.user;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.pagination.CursorSlice;
+import com.runfit.common.pagination.RankedCursor;
+import com.runfit.domain.crew.entity.CrewRole;
+import com.runfit.domain.session.activity.SessionIdSet;
+import com.runfit.domain.session.activity.UserSessionActivity;
 import com.runfit.domain.session.controller.dto.response.CoordsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantResponse;
 import com.runfit.domain.session.entity.QSessionParticipant;
-import com.runfit.domain.session.entity.SessionParticipant;
 import com.runfit.domain.user.controller.dto.response.ParticipatingSessionResponse;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class SessionParticipantRepositoryCustomImpl implements SessionParticipantRepositoryCustom {
 
+    // 세션마다 최근 참여자에 순번을 매겨 상위 N명만 남긴다 (MySQL 8, H2 모두 윈도우 함수 지원)
+    private static final String PARTICIPANT_PREVIEW_SQL =
+        "SELECT ranked.session_id, ranked.user_id, ranked.name, ranked.image, ranked.introduction, ranked.joined_at " +
+        "FROM (" +
+        "    SELECT sp.session_id, sp.user_id, u.name, u.image, u.introduction, sp.joined_at, " +
+        "           ROW_NUMBER() OVER (PARTITION BY sp.session_id ORDER BY sp.joined_at DESC, sp.id DESC) AS rn " +
+        "    FROM session_participants sp " +
+        "    JOIN users u ON u.user_id = sp.user_id " +
+        "    WHERE sp.session_id IN (:sessionIds)" +
+        ") ranked " +
+        "WHERE ranked.rn <= :limit " +
+        "ORDER BY ranked.session_id, ranked.rn";
+
+    // 찜(L)과 참여(J)를 구분자와 함께 한 번에 읽는다
+    private static final String USER_SESSION_ACTIVITY_SQL =
+        "SELECT sl.session_id, 'L' FROM session_likes sl WHERE sl.user_id = :userId " +
+        "UNION ALL " +
+        "SELECT sp.session_id, 'J' FROM session_participants sp WHERE sp.user_id = :userId";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Slice<ParticipatingSessionResponse> findParticipatingSessionsByUserId(
-        Long userId, String status, Pageable pageable) {
+        Long userId, String status, Cursor cursor, Pageable pageable) {
 
-        QSessionParticipant participantCount = new QSessionParticipant("participantCount");
         QSessionParticipant participantCheck = new QSessionParticipant("participantCheck");
 
         List<ParticipatingSessionResponse> content = queryFactory
@@ -59,28 +92,15 @@ public class SessionParticipantRepositoryCustomImpl implements SessionParticipan
                 session.status,
                 session.pace,
                 session.maxParticipantCount,
-                ExpressionUtils.as(
-                    JPAExpressions.select(participantCount.count())
-                        .from(participantCount)
-                        .where(participantCount.session.eq(session)),
-                    "currentParticipantCount"
-                ),
-                ExpressionUtils.as(
-                    JPAExpressions.selectOne()
-                        .from(sessionLike)
-                        .where(
-                            sessionLike.session.eq(session),
-                            sessionLike.user.userId.eq(userId)
-                        ).exists(),
-                    "liked"
-                ),
+                session.participantCount,
+                // liked는 서비스에서 사용자별 id 집합으로 채운다
+                Expressions.asBoolean(false),
                 session.createdAt,
                 ExpressionUtils.as(
                     Expressions.numberTemplate(Double.class,
-                        "ROUND({0}, 1)",
-                        JPAExpressions.select(review.ranks.avg())
-                            .from(review)
-                            .where(review.session.eq(session))
+                        "ROUND({0} * 1.0 / NULLIF({1}, 0), 1)",
+                        session.reviewSum,
+                        session.reviewCount
                     ),
                     "ranks"
                 ),
@@ -100,10 +120,11 @@ public class SessionParticipantRepositoryCustomImpl implements SessionParticipan
             .where(
                 session.deleted.isNull(),
                 statusFilter(status),
-                isHostOrParticipant(userId, participantCheck)
+                isHostOrParticipant(userId, participantCheck),
+                cursor != null ? cursor.after(session.sessionAt, session.id, true) : null
             )
-            .orderBy(session.sessionAt.asc())
-            .offset(pageable.getOffset())
+            .orderBy(session.sessionAt.asc(), session.id.asc())
+            .offset(cursor != null ? 0 : pageable.getOffset())
             .limit(pageable.getPageSize() + 1)
             .fetch();
 
@@ -112,7 +133,13 @@ public class SessionParticipantRepositoryCustomImpl implements SessionParticipan
             content.remove(content.size() - 1);
         }
 
-        return new SliceImpl<>(content, pageable, hasNext);
+        String nextCursor = null;
+        if (hasNext) {
+            ParticipatingSessionResponse last = content.get(content.size() - 1);
+            nextCursor = Cursor.encode(last.sessionAt(), last.id());
+        }
+
+        return new CursorSlice<>(content, pageable, hasNext, nextCursor);
     }
 
     private BooleanExpression isHostOrParticipant(Long userId, QSessionParticipant participantCheck) {
@@ -139,16 +166,198 @@ public class SessionParticipantRepositoryCustomImpl implements SessionParticipan
     }
 
     @Override
-    public List<SessionParticipant> findParticipantsBySessionIds(List<Long> sessionIds) {
-        if (sessionIds == null || sessionIds.isEmpty()) {
+    @SuppressWarnings("unchecked")
+    public List<SessionParticipantPreview> findParticipantPreviews(List<Long> sessionIds, int limit) {
+        if (sessionIds == null || sessionIds.isEmpty() || limit <= 0) {
             return Collections.emptyList();
         }
 
+        List<Object[]> rows = entityManager.createNativeQuery(PARTICIPANT_PREVIEW_SQL)
+            .setParameter("sessionIds", sessionIds)
+            .setParameter("limit", limit)
+            .getResultList();
+
+        return rows.stream()
+            .map(row -> new SessionParticipantPreview(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                toLocalDateTime(row[5])
+            ))
+            .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public UserSessionActivity findUserSessionActivity(Long userId) {
+        List<Object[]> rows = entityManager.createNativeQuery(USER_SESSION_ACTIVITY_SQL)
+            .setParameter("userId", userId)
+            .getResultList();
+
+        List<Long> likedSessionIds = new ArrayList<>();
+        List<Long> joinedSessionIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            long sessionId = ((Number) row[0]).longValue();
+            if ("L".equals(String.valueOf(row[1]))) {
+                likedSessionIds.add(sessionId);
+            } else {
+                joinedSessionIds.add(sessionId);
+            }
+        }
+
+        return new UserSessionActivity(SessionIdSet.of(likedSessionIds), SessionIdSet.of(joinedSessionIds));
+    }
+
+    @Override
+    public Stream<CrewParticipantExportRow> streamCrewParticipants(Long crewId, int fetchSize) {
         return queryFactory
-            .selectFrom(sessionParticipant)
-            .join(sessionParticipant.user).fetchJoin()
-            .where(sessionParticipant.session.id.in(sessionIds))
-            .orderBy(sessionParticipant.joinedAt.desc())
+            .select(
+                session.id,
+                session.name,
+                session.sessionAt,
+                user.userId,
+                user.name,
+                membership.role,
+                sessionParticipant.joinedAt
+            )
+            .from(sessionParticipant)
+            .join(sessionParticipant.session, session)
+            .join(sessionParticipant.user, user)
+            .leftJoin(membership).on(
+                membership.user.userId.eq(user.userId),
+                membership.crew.id.eq(crewId)
+            )
+            .where(
+                session.deleted.isNull(),
+                session.crew.id.eq(crewId)
+            )
+            .orderBy(
+                session.sessionAt.asc(),
+                session.id.asc(),
+                sessionParticipant.joinedAt.asc(),
+                sessionParticipant.id.asc()
+            )
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream()
+            .map(row -> new CrewParticipantExportRow(
+                row.get(session.id),
+                row.get(session.name),
+                row.get(session.sessionAt),
+                row.get(user.userId),
+                row.get(user.name),
+                row.get(membership.role) != null ? row.get(membership.role) : CrewRole.MEMBER,
+                row.get(sessionParticipant.joinedAt)
+            ));
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    @Override
+    public Slice<SessionParticipantResponse> findSessionParticipants(
+        Long sessionId, Long crewId, CrewRole role, boolean sortByRole, RankedCursor cursor, Pageable pageable) {
+
+        // 멤버십이 없는 참가자(탈퇴 등)는 일반 멤버로 취급
+        NumberExpression<Integer> roleRank = new CaseBuilder()
+            .when(membership.role.eq(CrewRole.LEADER)).then(1)
+            .when(membership.role.eq(CrewRole.STAFF)).then(2)
+            .otherwise(3);
+
+        List<Tuple> rows = queryFactory
+            .select(
+                user.userId,
+                user.name,
+                user.image,
+                user.introduction,
+                membership.role,
+                sessionParticipant.joinedAt,
+                sessionParticipant.id,
+                roleRank
+            )
+            .from(sessionParticipant)
+            .join(sessionParticipant.user, user)
+            .leftJoin(membership).on(
+                membership.user.userId.eq(user.userId),
+                membership.crew.id.eq(crewId)
+            )
+            .where(
+                sessionParticipant.session.id.eq(sessionId),
+                role != null ? membership.role.eq(role) : null,
+                participantCursorCondition(cursor, sortByRole, roleRank)
+            )
+            .orderBy(participantOrder(sortByRole, roleRank))
+            .offset(cursor != null ? 0 : pageable.getOffset())
+            .limit(pageable.getPageSize() + 1)
             .fetch();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            rows = rows.subList(0, pageable.getPageSize());
+        }
+
+        List<SessionParticipantResponse> content = rows.stream()
+            .map(row -> new SessionParticipantResponse(
+                row.get(user.userId),
+                row.get(user.name),
+                row.get(user.image),
+                row.get(user.introduction),
+                row.get(membership.role) != null ? row.get(membership.role) : CrewRole.MEMBER,
+                row.get(sessionParticipant.joinedAt)
+            ))
+            .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = rows.get(rows.size() - 1);
+            nextCursor = RankedCursor.encode(
+                sortByRole ? last.get(roleRank) : 0,
+                last.get(sessionParticipant.joinedAt),
+                last.get(sessionParticipant.id)
+            );
+        }
+
+        return new CursorSlice<>(content, pageable, hasNext, nextCursor);
+    }
+
+    @Override
+    public long countSessionParticipants(Long sessionId, Long crewId, CrewRole role) {
+        Long count = queryFactory
+            .select(sessionParticipant.count())
+            .from(sessionParticipant)
+            .join(membership).on(
+                membership.user.userId.eq(sessionParticipant.user.userId),
+                membership.crew.id.eq(crewId)
+            )
+            .where(
+                sessionParticipant.session.id.eq(sessionId),
+                membership.role.eq(role)
+            )
+            .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    private BooleanExpression participantCursorCondition(
+        RankedCursor cursor, boolean sortByRole, NumberExpression<Integer> roleRank) {
+        if (cursor == null) {
+            return null;
+        }
+        if (sortByRole) {
+            return cursor.after(roleRank, sessionParticipant.joinedAt, sessionParticipant.id, true);
+        }
+        return new Cursor(cursor.key(), cursor.id()).after(sessionParticipant.joinedAt, sessionParticipant.id, true);
+    }
+
+    private OrderSpecifier<?>[] participantOrder(boolean sortByRole, NumberExpression<Integer> roleRank) {
+        if (sortByRole) {
+            return new OrderSpecifier<?>[]{roleRank.asc(), sessionParticipant.joinedAt.asc(), sessionParticipant.id.asc()};
+        }
+        return new OrderSpecifier<?>[]{sessionParticipant.joinedAt.asc(), sessionParticipant.id.asc()};
     }
 }
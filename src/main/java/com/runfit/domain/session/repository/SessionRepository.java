@@ -2,9 +2,13 @@ package com.runfit.domain.session.repository;
 
 import com.runfit.domain.session.entity.Session;
 import com.runfit.domain.session.entity.SessionStatus;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +24,16 @@ public interface SessionRepository extends JpaRepository<Session, Long>, Session
         "WHERE s.id = :id AND s.deleted IS NULL")
     Optional<Session> findByIdWithCrewAndHostUser(@Param("id") Long id);
 
+    // 대기열 워커가 한 묶음의 좌석을 배정하는 동안 세션 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Session s WHERE s.id = :id AND s.deleted IS NULL")
+    Optional<Session> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT s.queuedJoin FROM Session s WHERE s.id = :id AND s.deleted IS NULL")
+    Optional<Boolean> findQueuedJoinById(@Param("id") Long id);
+
+    List<Session> findAllByStatusAndDeletedIsNull(SessionStatus status);
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Session s SET s.status = :newStatus " +
         "WHERE s.status = :currentStatus " +
@@ -29,4 +43,69 @@ public interface SessionRepository extends JpaRepository<Session, Long>, Session
         @Param("currentStatus") SessionStatus currentStatus,
         @Param("newStatus") SessionStatus newStatus,
         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.participantCount = s.participantCount + 1 WHERE s.id = :sessionId")
+    int increaseParticipantCount(@Param("sessionId") Long sessionId);
+
+    /**
+     * 모집 중이고 정원이 남은 경우에만 참가자 수를 1 늘려 좌석을 확보한다. 확보하지 못하면 0을 반환한다.
+     * 조건 확인과 증가가 한 문장이라 동시에 신청해도 정원을 넘지 않는다 (세션 행 잠금은 트랜잭션 종료까지 유지).
+     */
+    @Modifying
+    @Query("UPDATE Session s SET s.participantCount = s.participantCount + 1 " +
+        "WHERE s.id = :sessionId " +
+        "AND s.deleted IS NULL " +
+        "AND s.status = com.runfit.domain.session.entity.SessionStatus.OPEN " +
+        "AND s.registerBy > :now " +
+        "AND s.participantCount < s.maxParticipantCount")
+    int reserveSeat(@Param("sessionId") Long sessionId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.participantCount = s.participantCount + 1 WHERE s.id IN :sessionIds")
+    int increaseParticipantCountAll(@Param("sessionIds") Collection<Long> sessionIds);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.participantCount = s.participantCount + :count WHERE s.id = :sessionId")
+    int increaseParticipantCountBy(@Param("sessionId") Long sessionId, @Param("count") long count);
+
+    @Query("SELECT s.participantCount FROM Session s WHERE s.id = :sessionId")
+    long findParticipantCount(@Param("sessionId") Long sessionId);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.participantCount = s.participantCount - 1 " +
+        "WHERE s.id = :sessionId AND s.participantCount > 0")
+    int decreaseParticipantCount(@Param("sessionId") Long sessionId);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.likeCount = s.likeCount + 1 WHERE s.id = :sessionId")
+    int increaseLikeCount(@Param("sessionId") Long sessionId);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.likeCount = s.likeCount - 1 " +
+        "WHERE s.id = :sessionId AND s.likeCount > 0")
+    int decreaseLikeCount(@Param("sessionId") Long sessionId);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.reviewCount = s.reviewCount + 1, s.reviewSum = s.reviewSum + :ranks " +
+        "WHERE s.id = :sessionId")
+    int addReview(@Param("sessionId") Long sessionId, @Param("ranks") long ranks);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.reviewCount = s.reviewCount - 1, s.reviewSum = s.reviewSum - :ranks " +
+        "WHERE s.id = :sessionId AND s.reviewCount > 0")
+    int removeReview(@Param("sessionId") Long sessionId, @Param("ranks") long ranks);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE sessions s SET " +
+        "participant_count = (SELECT COUNT(*) FROM session_participants sp WHERE sp.session_id = s.id), " +
+        "like_count = (SELECT COUNT(*) FROM session_likes sl WHERE sl.session_id = s.id), " +
+        "review_count = (SELECT COUNT(*) FROM reviews r WHERE r.session_id = s.id), " +
+        "review_sum = (SELECT COALESCE(SUM(r.ranks), 0) FROM reviews r WHERE r.session_id = s.id) " +
+        "WHERE s.participant_count <> (SELECT COUNT(*) FROM session_participants sp WHERE sp.session_id = s.id) " +
+        "OR s.like_count <> (SELECT COUNT(*) FROM session_likes sl WHERE sl.session_id = s.id) " +
+        "OR s.review_count <> (SELECT COUNT(*) FROM reviews r WHERE r.session_id = s.id) " +
+        "OR s.review_sum <> (SELECT COALESCE(SUM(r.ranks), 0) FROM reviews r WHERE r.session_id = s.id)",
+        nativeQuery = true)
+    int reconcileCounters();
 }
@@ -1,13 +1,60 @@
 package com.runfit.domain.session.repository;
 
+import com.runfit.common.pagination.Cursor;
 import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
 import com.runfit.domain.session.controller.dto.response.SessionListResponse;
+import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.index.SessionIdPage;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface SessionRepositoryCustom {
 
-    Slice<SessionListResponse> searchSessions(SessionSearchCondition condition, Long userId, Pageable pageable);
+    /**
+     * 검색 조건과 정렬에 맞는 세션 id 한 페이지만 조회한다.
+     * candidateIds가 주어지면 검색어는 그 후보(전문 검색 결과)로 대신 거른다.
+     */
+    SessionIdPage searchSessionIds(
+        SessionSearchCondition condition, Collection<Long> candidateIds, Cursor cursor, Pageable pageable);
 
-    Slice<SessionListResponse> findMyHostedSessions(Long hostUserId, Pageable pageable);
+    default SessionIdPage searchSessionIds(SessionSearchCondition condition, Cursor cursor, Pageable pageable) {
+        return searchSessionIds(condition, null, cursor, pageable);
+    }
+
+    /**
+     * 후보 id 중 검색어를 제외한 나머지 조건에 맞는 세션 id를 조회한다. 순서는 보장하지 않는다.
+     */
+    List<Long> findMatchingSessionIds(SessionSearchCondition condition, Collection<Long> candidateIds);
+
+    /**
+     * id 목록에 해당하는 세션 카드를 조회한다. 순서는 보장하지 않으며 삭제된 세션은 제외된다.
+     */
+    List<SessionListResponse> findSessionListByIds(List<Long> sessionIds);
+
+    /**
+     * 메모리 인덱스 적재용. 삭제되지 않은 세션을 엔티티 대신 인덱스에 필요한 컬럼만 변경 이벤트 모양으로 읽는다.
+     * status가 null이면 상태와 무관하게 조회한다.
+     */
+    List<SessionChangedEvent> findIndexRows(SessionStatus status);
+
+    /**
+     * 메모리 인덱스 동기화용. updatedAt이 since 이후인 세션을 삭제된 것까지 포함해 변경 이벤트 모양으로 읽는다.
+     */
+    List<SessionChangedEvent> findIndexRowsUpdatedSince(LocalDateTime since);
+
+    /**
+     * 크루의 삭제되지 않은 세션을 (sessionAt, id) 순으로 한 행씩 읽는 스트림. 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    Stream<CrewSessionExportRow> streamCrewSessions(Long crewId, int fetchSize);
+
+    Slice<SessionListResponse> findMyHostedSessions(Long hostUserId, Cursor cursor, Pageable pageable);
+
+    default Slice<SessionListResponse> findMyHostedSessions(Long hostUserId, Pageable pageable) {
+        return findMyHostedSessions(hostUserId, null, pageable);
+    }
 }
@@ -1,34 +1,46 @@
 package com.runfit.domain.session.repository;
 
 import static com.runfit.domain.crew.entity.QCrew.crew;
-import static com.runfit.domain.review.entity.QReview.review;
 import static com.runfit.domain.session.entity.QSession.session;
-import static com.runfit.domain.session.entity.QSessionLike.sessionLike;
-import static com.runfit.domain.session.entity.QSessionParticipant.sessionParticipant;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.runfit.common.geo.GeoHash;
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.pagination.CursorSlice;
 import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
 import com.runfit.domain.session.controller.dto.response.CoordsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionListResponse;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantResponse;
 import com.runfit.domain.session.entity.SessionLevel;
 import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.index.SessionIdPage;
+import com.runfit.domain.session.index.SessionIndexEntry;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 @Repository
 @RequiredArgsConstructor
@@ -37,57 +49,17 @@ public class SessionRepositoryCustomImpl implements SessionRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Slice<SessionListResponse> searchSessions(SessionSearchCondition condition, Long userId, Pageable pageable) {
-        List<SessionListResponse> content = queryFactory
-            .select(Projections.constructor(SessionListResponse.class,
-                session.id,
-                session.crew.id,
-                session.hostUser.userId,
-                session.name,
-                session.image,
-                session.city,
-                session.district,
-                session.location,
-                Projections.constructor(CoordsResponse.class,
-                    session.latitude,
-                    session.longitude
-                ),
-                session.sessionAt,
-                session.registerBy,
-                session.level,
-                session.status,
-                session.pace,
-                session.maxParticipantCount,
-                ExpressionUtils.as(
-                    JPAExpressions.select(sessionParticipant.count())
-                        .from(sessionParticipant)
-                        .where(sessionParticipant.session.eq(session)),
-                    "currentParticipantCount"
-                ),
-                userId != null ?
-                    ExpressionUtils.as(
-                        JPAExpressions.selectOne()
-                            .from(sessionLike)
-                            .where(
-                                sessionLike.session.eq(session),
-                                sessionLike.user.userId.eq(userId)
-                            ).exists(),
-                        "liked"
-                    ) : Expressions.asBoolean(false),
-                session.createdAt,
-                ExpressionUtils.as(
-                    Expressions.numberTemplate(Double.class,
-                        "ROUND({0}, 1)",
-                        JPAExpressions.select(review.ranks.avg())
-                            .from(review)
-                            .where(review.session.eq(session))
-                    ),
-                    "ranks"
-                ),
-                Expressions.constant(Collections.<SessionParticipantResponse>emptyList())
-            ))
+    public SessionIdPage searchSessionIds(
+        SessionSearchCondition condition, Collection<Long> candidateIds, Cursor cursor, Pageable pageable) {
+        // 거리순은 반경으로 결과 범위가 제한되므로 키셋 대신 offset 페이지네이션을 사용
+        boolean sortByDistance = isDistanceSort(condition);
+        Cursor keysetCursor = sortByDistance ? null : cursor;
+        DateTimePath<LocalDateTime> sortKey = getSortKey(condition.sort());
+
+        // id와 정렬 키만 읽어 인덱스만으로 처리할 수 있게 한다 (카드 내용은 id로 따로 조회)
+        List<Tuple> rows = queryFactory
+            .select(session.id, sortKey)
             .from(session)
-            .join(session.crew, crew)
             .where(
                 isNotDeleted(),
                 citiesIn(condition.cities()),
@@ -96,25 +68,129 @@ public class SessionRepositoryCustomImpl implements SessionRepositoryCustom {
                 levelEq(condition.level()),
                 statusEq(condition.status()),
                 sessionAtDateBetween(condition.dateFrom(), condition.dateTo()),
-                sessionAtTimeBetween(condition.timeFrom(), condition.timeTo())
+                sessionAtTimeBetween(condition.timeFrom(), condition.timeTo()),
+                daysOfWeekIn(condition.daysOfWeek()),
+                withinRadius(condition),
+                keywordMatches(condition.keyword(), candidateIds),
+                cursorCondition(keysetCursor, condition.sort())
             )
-            .orderBy(getOrderSpecifier(condition.sort()))
-            .offset(pageable.getOffset())
+            .orderBy(sortByDistance ? getDistanceOrderSpecifiers(condition) : getOrderSpecifiers(condition.sort()))
+            .offset(keysetCursor != null ? 0 : pageable.getOffset())
             .limit(pageable.getPageSize() + 1)
             .fetch();
 
-        boolean hasNext = content.size() > pageable.getPageSize();
+        boolean hasNext = rows.size() > pageable.getPageSize();
         if (hasNext) {
-            content.remove(content.size() - 1);
+            rows = rows.subList(0, pageable.getPageSize());
+        }
+
+        List<Long> sessionIds = rows.stream()
+            .map(row -> row.get(session.id))
+            .toList();
+
+        String nextCursor = null;
+        if (hasNext && !sortByDistance) {
+            Tuple last = rows.get(rows.size() - 1);
+            nextCursor = Cursor.encode(last.get(sortKey), last.get(session.id));
+        }
+
+        return new SessionIdPage(sessionIds, hasNext, nextCursor);
+    }
+
+    @Override
+    public List<Long> findMatchingSessionIds(SessionSearchCondition condition, Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+            .select(session.id)
+            .from(session)
+            .where(
+                isNotDeleted(),
+                session.id.in(candidateIds),
+                citiesIn(condition.cities()),
+                districtsIn(condition.districts()),
+                crewIdEq(condition.crewId()),
+                levelEq(condition.level()),
+                statusEq(condition.status()),
+                sessionAtDateBetween(condition.dateFrom(), condition.dateTo()),
+                sessionAtTimeBetween(condition.timeFrom(), condition.timeTo()),
+                daysOfWeekIn(condition.daysOfWeek()),
+                withinRadius(condition)
+            )
+            .fetch();
+    }
+
+    @Override
+    public List<SessionListResponse> findSessionListByIds(List<Long> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return List.of();
         }
 
-        return new SliceImpl<>(content, pageable, hasNext);
+        return queryFactory
+            .select(sessionListProjection())
+            .from(session)
+            .join(session.crew, crew)
+            .where(
+                isNotDeleted(),
+                session.id.in(sessionIds)
+            )
+            .fetch();
+    }
+
+    private ConstructorExpression<SessionListResponse> sessionListProjection() {
+        return Projections.constructor(SessionListResponse.class,
+            session.id,
+            session.crew.id,
+            session.hostUser.userId,
+            session.name,
+            session.image,
+            session.city,
+            session.district,
+            session.location,
+            Projections.constructor(CoordsResponse.class,
+                session.latitude,
+                session.longitude
+            ),
+            session.sessionAt,
+            session.registerBy,
+            session.level,
+            session.status,
+            session.pace,
+            session.maxParticipantCount,
+            session.participantCount,
+            // liked/joined는 서비스에서 사용자별 id 집합으로 채운다
+            Expressions.asBoolean(false),
+            Expressions.asBoolean(false),
+            session.createdAt,
+            ExpressionUtils.as(
+                Expressions.numberTemplate(Double.class,
+                    "ROUND({0} * 1.0 / NULLIF({1}, 0), 1)",
+                    session.reviewSum,
+                    session.reviewCount
+                ),
+                "ranks"
+            ),
+            Expressions.constant(Collections.<SessionParticipantResponse>emptyList())
+        );
     }
 
     private BooleanExpression isNotDeleted() {
         return session.deleted.isNull();
     }
 
+    // 전문 검색 결과가 있으면 그 후보로 거르고, 인덱스가 준비되기 전에는 이름/장소 LIKE 검색으로 대신한다
+    private BooleanExpression keywordMatches(String keyword, Collection<Long> candidateIds) {
+        if (candidateIds != null) {
+            return session.id.in(candidateIds);
+        }
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+        return session.name.containsIgnoreCase(keyword).or(session.location.containsIgnoreCase(keyword));
+    }
+
     private BooleanExpression citiesIn(List<String> cities) {
         return CollectionUtils.isEmpty(cities) ? null : session.city.in(cities);
     }
@@ -151,99 +227,239 @@ public class SessionRepositoryCustomImpl implements SessionRepositoryCustom {
         return session.sessionAt.lt(endDate.plusDays(1).atStartOfDay());
     }
 
+    // 저장된 분 단위 컬럼으로 비교해 인덱스를 탈 수 있도록 한다
     private BooleanExpression sessionAtTimeBetween(LocalTime startTime, LocalTime endTime) {
         if (startTime == null && endTime == null) {
             return null;
         }
-
-        var timeExpression = Expressions.timeTemplate(LocalTime.class, "CAST({0} AS time)", session.sessionAt);
-
         if (startTime != null && endTime != null) {
-            return timeExpression.between(startTime, endTime);
+            return session.sessionMinuteOfDay.between(toMinuteOfDay(startTime), toMinuteOfDay(endTime));
         }
         if (startTime != null) {
-            return timeExpression.goe(startTime);
+            return session.sessionMinuteOfDay.goe(toMinuteOfDay(startTime));
+        }
+        return session.sessionMinuteOfDay.loe(toMinuteOfDay(endTime));
+    }
+
+    private int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private BooleanExpression daysOfWeekIn(List<DayOfWeek> daysOfWeek) {
+        if (CollectionUtils.isEmpty(daysOfWeek)) {
+            return null;
         }
-        return timeExpression.loe(endTime);
+        return session.sessionDayOfWeek.in(daysOfWeek.stream().map(DayOfWeek::getValue).toList());
     }
 
-    private OrderSpecifier<?> getOrderSpecifier(String sort) {
+    // Geohash 접두어로 주변 셀만 후보로 좁힌 뒤 하버사인 거리로 정확히 거른다
+    private BooleanExpression withinRadius(SessionSearchCondition condition) {
+        if (!condition.hasLocation()) {
+            return null;
+        }
+
+        BooleanExpression inNearbyCells = GeoHash.coveringCells(
+                condition.latitude(), condition.longitude(), condition.radiusKm()
+            ).stream()
+            .map(session.geohash::startsWith)
+            .reduce(BooleanExpression::or)
+            .orElseThrow();
+
+        return inNearbyCells.and(
+            distanceKm(condition.latitude(), condition.longitude()).loe(condition.radiusKm())
+        );
+    }
+
+    // 하버사인 공식 - 12742.0은 지구 지름(km), 상수는 각각 π/360, π/180
+    private NumberExpression<Double> distanceKm(double latitude, double longitude) {
+        return Expressions.numberTemplate(Double.class,
+            "12742.0 * asin(sqrt("
+                + "power(sin(({0} - {2}) * 0.008726646259971648), 2) "
+                + "+ {4} * cos({0} * 0.017453292519943295) * power(sin(({1} - {3}) * 0.008726646259971648), 2)"
+                + "))",
+            session.latitude,
+            session.longitude,
+            latitude,
+            longitude,
+            Math.cos(Math.toRadians(latitude))
+        );
+    }
+
+    private boolean isDistanceSort(SessionSearchCondition condition) {
+        return "distanceAsc".equals(condition.sort()) && condition.hasLocation();
+    }
+
+    private OrderSpecifier<?>[] getDistanceOrderSpecifiers(SessionSearchCondition condition) {
+        return new OrderSpecifier<?>[]{
+            distanceKm(condition.latitude(), condition.longitude()).asc(),
+            session.id.asc()
+        };
+    }
+
+    private DateTimePath<LocalDateTime> getSortKey(String sort) {
         if (sort == null) {
-            return session.createdAt.desc();
+            return session.createdAt;
         }
 
         return switch (sort) {
-            case "sessionAtAsc" -> session.sessionAt.asc();
-            case "registerByAsc" -> session.registerBy.asc();
-            default -> session.createdAt.desc();
+            case "sessionAtAsc" -> session.sessionAt;
+            case "registerByAsc" -> session.registerBy;
+            default -> session.createdAt;
         };
     }
 
+    private boolean isAscending(String sort) {
+        return "sessionAtAsc".equals(sort) || "registerByAsc".equals(sort);
+    }
+
+    // 동일한 정렬 키 값이 있어도 순서가 고정되도록 id를 보조 정렬로 사용
+    private OrderSpecifier<?>[] getOrderSpecifiers(String sort) {
+        DateTimePath<LocalDateTime> sortKey = getSortKey(sort);
+        if (isAscending(sort)) {
+            return new OrderSpecifier<?>[]{sortKey.asc(), session.id.asc()};
+        }
+        return new OrderSpecifier<?>[]{sortKey.desc(), session.id.desc()};
+    }
+
+    private BooleanExpression cursorCondition(Cursor cursor, String sort) {
+        return cursor != null ? cursor.after(getSortKey(sort), session.id, isAscending(sort)) : null;
+    }
+
     @Override
-    public Slice<SessionListResponse> findMyHostedSessions(Long hostUserId, Pageable pageable) {
+    public Slice<SessionListResponse> findMyHostedSessions(Long hostUserId, Cursor cursor, Pageable pageable) {
         List<SessionListResponse> content = queryFactory
-            .select(Projections.constructor(SessionListResponse.class,
+            .select(sessionListProjection())
+            .from(session)
+            .join(session.crew, crew)
+            .where(
+                isNotDeleted(),
+                session.hostUser.userId.eq(hostUserId),
+                cursor != null ? cursor.after(session.createdAt, session.id, false) : null
+            )
+            .orderBy(session.createdAt.desc(), session.id.desc())
+            .offset(cursor != null ? 0 : pageable.getOffset())
+            .limit(pageable.getPageSize() + 1)
+            .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            SessionListResponse last = content.get(content.size() - 1);
+            nextCursor = Cursor.encode(last.createdAt(), last.id());
+        }
+        return new CursorSlice<>(content, pageable, hasNext, nextCursor);
+    }
+
+    @Override
+    public List<SessionChangedEvent> findIndexRows(SessionStatus status) {
+        return queryFactory
+            .select(indexRowColumns())
+            .from(session)
+            .where(
+                isNotDeleted(),
+                statusEq(status)
+            )
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .fetch().stream()
+            .map(this::toIndexRow)
+            .toList();
+    }
+
+    @Override
+    public List<SessionChangedEvent> findIndexRowsUpdatedSince(LocalDateTime since) {
+        return queryFactory
+            .select(indexRowColumns())
+            .from(session)
+            .where(session.updatedAt.goe(since))
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .fetch().stream()
+            .map(this::toIndexRow)
+            .toList();
+    }
+
+    private Expression<?>[] indexRowColumns() {
+        return new Expression<?>[]{
+            session.id,
+            session.crew.id,
+            session.city,
+            session.district,
+            session.level,
+            session.status,
+            session.sessionAt,
+            session.registerBy,
+            session.createdAt,
+            session.latitude,
+            session.longitude,
+            session.name,
+            session.description,
+            session.location,
+            session.deleted,
+            session.updatedAt
+        };
+    }
+
+    private SessionChangedEvent toIndexRow(Tuple row) {
+        SessionIndexEntry entry = new SessionIndexEntry(
+            row.get(session.id),
+            row.get(session.crew.id),
+            row.get(session.city),
+            row.get(session.district),
+            row.get(session.level),
+            row.get(session.status),
+            row.get(session.sessionAt),
+            row.get(session.registerBy),
+            row.get(session.createdAt),
+            row.get(session.latitude),
+            row.get(session.longitude)
+        );
+        return new SessionChangedEvent(
+            entry,
+            row.get(session.name),
+            row.get(session.description),
+            row.get(session.location),
+            row.get(session.deleted) != null,
+            row.get(session.updatedAt)
+        );
+    }
+
+    @Override
+    public Stream<CrewSessionExportRow> streamCrewSessions(Long crewId, int fetchSize) {
+        return queryFactory
+            .select(Projections.constructor(CrewSessionExportRow.class,
                 session.id,
-                session.crew.id,
-                session.hostUser.userId,
                 session.name,
-                session.image,
+                session.hostUser.userId,
                 session.city,
                 session.district,
                 session.location,
-                Projections.constructor(CoordsResponse.class,
-                    session.latitude,
-                    session.longitude
-                ),
                 session.sessionAt,
                 session.registerBy,
                 session.level,
                 session.status,
                 session.pace,
                 session.maxParticipantCount,
-                ExpressionUtils.as(
-                    JPAExpressions.select(sessionParticipant.count())
-                        .from(sessionParticipant)
-                        .where(sessionParticipant.session.eq(session)),
-                    "currentParticipantCount"
-                ),
-                ExpressionUtils.as(
-                    JPAExpressions.selectOne()
-                        .from(sessionLike)
-                        .where(
-                            sessionLike.session.eq(session),
-                            sessionLike.user.userId.eq(hostUserId)
-                        ).exists(),
-                    "liked"
+                session.participantCount,
+                session.likeCount,
+                session.reviewCount,
+                Expressions.numberTemplate(Double.class,
+                    "ROUND({0} * 1.0 / NULLIF({1}, 0), 1)",
+                    session.reviewSum,
+                    session.reviewCount
                 ),
-                session.createdAt,
-                ExpressionUtils.as(
-                    Expressions.numberTemplate(Double.class,
-                        "ROUND({0}, 1)",
-                        JPAExpressions.select(review.ranks.avg())
-                            .from(review)
-                            .where(review.session.eq(session))
-                    ),
-                    "ranks"
-                ),
-                Expressions.constant(Collections.<SessionParticipantResponse>emptyList())
+                session.createdAt
             ))
             .from(session)
-            .join(session.crew, crew)
             .where(
                 isNotDeleted(),
-                session.hostUser.userId.eq(hostUserId)
+                session.crew.id.eq(crewId)
             )
-            .orderBy(session.createdAt.desc())
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize() + 1)
-            .fetch();
-
-        boolean hasNext = content.size() > pageable.getPageSize();
-        if (hasNext) {
-            content.remove(content.size() - 1);
-        }
-
-        return new SliceImpl<>(content, pageable, hasNext);
+            .orderBy(session.sessionAt.asc(), session.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream();
     }
 }
@@ -0,0 +1,298 @@
+package com.runfit.domain.session.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.crew.repository.MembershipRoleMap;
+import com.runfit.domain.session.admission.JoinRequest;
+import com.runfit.domain.session.admission.JoinTicket;
+import com.runfit.domain.session.admission.SessionAdmissionQueue;
+import com.runfit.domain.session.controller.dto.response.JoinTicketResponse;
+import com.runfit.domain.session.controller.dto.response.SessionJoinResponse;
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionParticipant;
+import com.runfit.domain.session.event.SessionActivityChangedEvent;
+import com.runfit.domain.session.event.SessionCountersChangedEvent;
+import com.runfit.domain.session.repository.SessionParticipantRepository;
+import com.runfit.domain.session.repository.SessionRepository;
+import com.runfit.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 대기열 모드 세션의 참가 신청을 받는다. 요청 스레드는 대기표만 발급하고 바로 응답하며,
+ * 세션별 워커가 신청을 묶음으로 꺼내 한 트랜잭션에서 도착 순서대로 좌석을 배정한다.
+ * 결과는 대기표 조회나 SSE로 전달하고, 대기표는 ticket-ttl-minutes 동안만 보관한다 (인스턴스 메모리).
+ * 한 사용자는 세션마다 처리 중인 신청을 하나만 가질 수 있어, 반복 클릭이 대기열을 채우지 못한다.
+ * 종료할 때는 shutdown-timeout-ms 동안 쌓인 신청을 마저 처리하고, 남은 신청은 JOIN_QUEUE_FULL로 거절해 대기표와 SSE에 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionAdmissionService {
+
+    private static final String RESULT_EVENT = "result";
+
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final MembershipRepository membershipRepository;
+    private final UserRepository userRepository;
+    private final SessionService sessionService;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${runfit.session-admission.workers:4}")
+    private int workers = 4;
+
+    @Value("${runfit.session-admission.queue-capacity:10000}")
+    private int queueCapacity = 10_000;
+
+    @Value("${runfit.session-admission.batch-size:50}")
+    private int batchSize = 50;
+
+    @Value("${runfit.session-admission.ticket-ttl-minutes:10}")
+    private long ticketTtlMinutes = 10;
+
+    @Value("${runfit.session-admission.sse-timeout-ms:60000}")
+    private long sseTimeoutMs = 60_000;
+
+    @Value("${runfit.session-admission.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs = 10_000;
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    // (세션, 사용자)별 처리 중인 대기표 ID. 결과가 나오면 지운다
+    private final Map<PendingKey, String> pendingTicketIds = new ConcurrentHashMap<>();
+
+    private Cache<String, JoinTicket> tickets;
+    private Cache<Long, Boolean> queuedSessions;
+    private TransactionTemplate transactionTemplate;
+    private SessionAdmissionQueue queue;
+
+    @PostConstruct
+    void initialize() {
+        tickets = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(ticketTtlMinutes))
+            .build();
+        // 대기열 모드는 세션 생성 때만 정해지므로 짧게 캐시해 참가 요청마다 조회하지 않는다
+        queuedSessions = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(ticketTtlMinutes))
+            .build();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        queue = new SessionAdmissionQueue(workers, queueCapacity, batchSize, this::process);
+        queue.start();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        List<JoinRequest> unprocessed = queue.shutdown(Duration.ofMillis(shutdownTimeoutMs));
+        if (!unprocessed.isEmpty()) {
+            log.warn("Rejecting {} queued joins left at shutdown", unprocessed.size());
+            reject(unprocessed, ErrorCode.JOIN_QUEUE_FULL).forEach(this::complete);
+        }
+    }
+
+    public boolean isQueued(Long sessionId) {
+        return queuedSessions.get(sessionId,
+            id -> sessionRepository.findQueuedJoinById(id).orElse(false));
+    }
+
+    /**
+     * 대기표를 발급하고 신청을 세션 담당 워커의 대기열에 넣는다.
+     * 같은 세션에 처리 중인 신청이 이미 있으면 대기열에 넣지 않고 거절한다.
+     */
+    public JoinTicket submit(Long userId, Long sessionId) {
+        PendingKey key = new PendingKey(sessionId, userId);
+        JoinTicket ticket = JoinTicket.pending(UUID.randomUUID().toString(), sessionId, userId);
+        if (pendingTicketIds.putIfAbsent(key, ticket.ticketId()) != null) {
+            throw new BusinessException(ErrorCode.JOIN_ALREADY_PENDING);
+        }
+        tickets.put(ticket.ticketId(), ticket);
+
+        if (!queue.offer(new JoinRequest(ticket.ticketId(), sessionId, userId))) {
+            tickets.invalidate(ticket.ticketId());
+            pendingTicketIds.remove(key, ticket.ticketId());
+            throw new BusinessException(ErrorCode.JOIN_QUEUE_FULL);
+        }
+        return ticket;
+    }
+
+    public JoinTicket getTicket(Long userId, String ticketId) {
+        JoinTicket ticket = tickets.getIfPresent(ticketId);
+        if (ticket == null || !ticket.userId().equals(userId)) {
+            throw new BusinessException(ErrorCode.JOIN_TICKET_NOT_FOUND);
+        }
+        return ticket;
+    }
+
+    /**
+     * 처리 결과를 한 번 보내고 닫히는 SSE 연결을 연다. 이미 끝난 대기표면 결과를 바로 보낸다.
+     */
+    public SseEmitter subscribe(Long userId, String ticketId) {
+        JoinTicket ticket = getTicket(userId, ticketId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        if (ticket.isDone()) {
+            send(emitter, ticket);
+            return emitter;
+        }
+
+        emitters.computeIfAbsent(ticketId, key -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> removeEmitter(ticketId, emitter));
+        emitter.onTimeout(() -> removeEmitter(ticketId, emitter));
+
+        // 등록하는 사이에 처리가 끝났을 수 있으므로 한 번 더 확인한다
+        JoinTicket latest = tickets.getIfPresent(ticketId);
+        if (latest != null && latest.isDone()) {
+            notifySubscribers(latest);
+        }
+        return emitter;
+    }
+
+    public int pending() {
+        return queue.pending();
+    }
+
+    // 워커 스레드에서 호출된다. 세션별로 나눠 세션마다 한 트랜잭션으로 처리한다
+    private void process(List<JoinRequest> batch) {
+        Map<Long, List<JoinRequest>> requestsBySession = new LinkedHashMap<>();
+        for (JoinRequest request : batch) {
+            requestsBySession.computeIfAbsent(request.sessionId(), key -> new ArrayList<>()).add(request);
+        }
+
+        requestsBySession.forEach((sessionId, requests) -> {
+            List<JoinTicket> results;
+            try {
+                results = transactionTemplate.execute(status -> admit(sessionId, requests));
+            } catch (RuntimeException e) {
+                // 동기 경로와 겹친 중복 참가 등으로 묶음이 실패하면 한 건씩 기존 참가 로직으로 다시 처리한다
+                log.warn("Queued joins for session {} failed as a batch, retrying one by one", sessionId, e);
+                results = requests.stream().map(this::joinIndividually).toList();
+            }
+            results.forEach(this::complete);
+        });
+    }
+
+    private List<JoinTicket> admit(Long sessionId, List<JoinRequest> requests) {
+        Optional<Session> found = sessionRepository.findByIdForUpdate(sessionId);
+        if (found.isEmpty()) {
+            return reject(requests, ErrorCode.SESSION_NOT_FOUND);
+        }
+        Session session = found.get();
+        if (!session.isRegistrationOpen()) {
+            return reject(requests, ErrorCode.SESSION_CLOSED);
+        }
+
+        Long crewId = session.getCrew().getId();
+        Set<Long> userIds = new HashSet<>();
+        requests.forEach(request -> userIds.add(request.userId()));
+        MembershipRoleMap roles = membershipRepository.findRoleMap(userIds, List.of(crewId));
+        Set<Long> joinedUserIds = new HashSet<>(sessionParticipantRepository.findJoinedUserIds(sessionId, userIds));
+
+        // 행 잠금 아래에서 읽은 인원이므로 남은 좌석 수가 정확하다
+        long participantCount = session.getParticipantCount();
+        List<SessionParticipant> participants = new ArrayList<>();
+        List<JoinTicket> results = new ArrayList<>(requests.size());
+        for (JoinRequest request : requests) {
+            JoinTicket ticket = pendingTicket(request);
+            if (roles.get(request.userId(), crewId, null) == null) {
+                results.add(ticket.rejected(ErrorCode.NOT_CREW_MEMBER));
+            } else if (!joinedUserIds.add(request.userId())) {
+                results.add(ticket.rejected(ErrorCode.ALREADY_JOINED_SESSION));
+            } else if (participantCount >= session.getMaxParticipantCount()) {
+                results.add(ticket.rejected(ErrorCode.SESSION_FULL));
+            } else {
+                participants.add(SessionParticipant.create(session, userRepository.getReferenceById(request.userId())));
+                participantCount++;
+                results.add(ticket.joined(participantCount, session.getMaxParticipantCount()));
+            }
+        }
+
+        if (!participants.isEmpty()) {
+            sessionParticipantRepository.saveAll(participants);
+            sessionRepository.increaseParticipantCountBy(sessionId, participants.size());
+            sessionParticipantRepository.flush();
+            participants.forEach(participant ->
+                eventPublisher.publishEvent(new SessionActivityChangedEvent(participant.getUser().getUserId())));
+            eventPublisher.publishEvent(new SessionCountersChangedEvent(sessionId));
+        }
+        return results;
+    }
+
+    private JoinTicket joinIndividually(JoinRequest request) {
+        JoinTicket ticket = pendingTicket(request);
+        try {
+            SessionJoinResponse response = sessionService.joinSession(request.userId(), request.sessionId());
+            return ticket.joined(response.currentParticipantCount(), response.maxParticipantCount());
+        } catch (BusinessException e) {
+            return ticket.rejected(e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.error("Queued join {} failed", request.ticketId(), e);
+            return ticket.rejected(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private List<JoinTicket> reject(List<JoinRequest> requests, ErrorCode reason) {
+        return requests.stream()
+            .map(request -> pendingTicket(request).rejected(reason))
+            .toList();
+    }
+
+    private JoinTicket pendingTicket(JoinRequest request) {
+        return JoinTicket.pending(request.ticketId(), request.sessionId(), request.userId());
+    }
+
+    private void complete(JoinTicket ticket) {
+        tickets.put(ticket.ticketId(), ticket);
+        pendingTicketIds.remove(new PendingKey(ticket.sessionId(), ticket.userId()), ticket.ticketId());
+        notifySubscribers(ticket);
+    }
+
+    private void notifySubscribers(JoinTicket ticket) {
+        List<SseEmitter> subscribers = emitters.remove(ticket.ticketId());
+        if (subscribers != null) {
+            subscribers.forEach(emitter -> send(emitter, ticket));
+        }
+    }
+
+    private void removeEmitter(String ticketId, SseEmitter emitter) {
+        emitters.computeIfPresent(ticketId, (key, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void send(SseEmitter emitter, JoinTicket ticket) {
+        try {
+            emitter.send(SseEmitter.event().name(RESULT_EVENT).data(JoinTicketResponse.from(ticket)));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 먼저 끊은 경우로, 결과는 대기표 조회로 확인할 수 있다
+            emitter.completeWithError(e);
+        }
+    }
+
+    private record PendingKey(Long sessionId, Long userId) {
+    }
+}
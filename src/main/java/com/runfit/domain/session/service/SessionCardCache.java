@@ -0,0 +1,145 @@
+package com.runfit.domain.session.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runfit.domain.session.controller.dto.response.SessionListResponse;
+import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.event.SessionCountersChangedEvent;
+import com.runfit.domain.session.event.SessionCountersReconciledEvent;
+import com.runfit.domain.session.repository.SessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 세션 id → 목록 카드(SessionListResponse) 캐시.
+ * 카드는 사용자와 무관한 내용만 담고(liked/joined=false, 참여자 없음) 사용자별 값은 조회 시 덧씌운다.
+ * 세션 수정/삭제, 상태 일괄 변경, 카운터 변경 이벤트를 받으면 커밋 후 해당 세션의 버전을 올린다.
+ * 카드는 (세션 id, 버전)으로 저장하므로, 이벤트 전에 시작된 일괄 조회가 늦게 채운 카드는 이전 버전에 묶여 다시 읽히지 않는다.
+ *
+ * <p>메트릭: cache.gets{cache=sessionCards,result=hit|miss} 등 Caffeine 통계와 runfit.session.cards.hydrate 타이머
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionCardCache {
+
+    static final String CACHE_NAME = "sessionCards";
+
+    private final SessionRepository sessionRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${runfit.session-card-cache.maximum-size:20000}")
+    private long maximumSize = 20_000;
+
+    @Value("${runfit.session-card-cache.expire-after-write-seconds:300}")
+    private long expireAfterWriteSeconds = 300;
+
+    // 버전 항목이 밀려나도 새 번호를 받으므로 이전 카드를 다시 가리키지 않는다
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private Cache<Long, Long> versions;
+    private Cache<VersionedKey, SessionListResponse> cache;
+    private Timer hydrateTimer;
+
+    @PostConstruct
+    void initialize() {
+        versions = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+        cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        hydrateTimer = Timer.builder("runfit.session.cards.hydrate")
+            .description("세션 id 페이지를 카드로 채우는 시간 (캐시 미스 일괄 조회 포함)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * id 순서대로 카드를 반환한다. 캐시에 없는 id만 한 번의 쿼리로 조회하며, 삭제되어 조회되지 않는 id는 건너뛴다.
+     */
+    public List<SessionListResponse> getCards(List<Long> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return List.of();
+        }
+
+        return hydrateTimer.record(() -> {
+            List<VersionedKey> keys = sessionIds.stream()
+                .map(sessionId -> new VersionedKey(sessionId, currentVersion(sessionId)))
+                .toList();
+            Map<VersionedKey, SessionListResponse> cards = cache.getAll(keys, this::loadCards);
+            return keys.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+        });
+    }
+
+    private Map<VersionedKey, SessionListResponse> loadCards(Set<? extends VersionedKey> keys) {
+        Map<Long, VersionedKey> keysBySessionId = keys.stream()
+            .collect(Collectors.toMap(VersionedKey::sessionId, Function.identity(), (older, newer) -> newer));
+        return sessionRepository.findSessionListByIds(new ArrayList<>(keysBySessionId.keySet())).stream()
+            .collect(Collectors.toMap(card -> keysBySessionId.get(card.id()), Function.identity()));
+    }
+
+    private long currentVersion(Long sessionId) {
+        return versions.get(sessionId, id -> versionSequence.incrementAndGet());
+    }
+
+    private void bumpVersion(Long sessionId) {
+        versions.put(sessionId, versionSequence.incrementAndGet());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionChanged(SessionChangedEvent event) {
+        bumpVersion(event.entry().id());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionCountersChanged(SessionCountersChangedEvent event) {
+        bumpVersion(event.sessionId());
+    }
+
+    // 버전을 모두 버리면 다음 조회부터 새 번호를 받으므로 진행 중이던 조회가 채운 카드도 다시 읽히지 않는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionCountersReconciled(SessionCountersReconciledEvent event) {
+        versions.invalidateAll();
+        cache.invalidateAll();
+    }
+
+    // 일괄 마감은 어떤 세션이 바뀌었는지 알려주지 않으므로 캐시에 있는 카드 중 마감 조건에 해당하는 세션만 버전을 올린다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExpiredSessionsClosed(ExpiredSessionsClosedEvent event) {
+        List<Long> closedSessionIds = cache.asMap().values().stream()
+            .filter(card -> card.status() == SessionStatus.OPEN && card.registerBy().isBefore(event.closedAt()))
+            .map(SessionListResponse::id)
+            .distinct()
+            .toList();
+        closedSessionIds.forEach(this::bumpVersion);
+    }
+
+    private record VersionedKey(
+        Long sessionId,
+        long version
+    ) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.runfit.domain.session.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import com.runfit.domain.session.controller.dto.response.SessionDetailResponse;
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.event.SessionCountersChangedEvent;
+import com.runfit.domain.session.repository.SessionParticipantRepository;
+import com.runfit.domain.session.repository.SessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 세션 상세 중 사용자와 무관한 부분(liked=false)을 (세션 id, 버전) 키로 캐시한다.
+ * 수정/삭제/참가/취소가 커밋되면 버전을 올려 이전 항목을 더 이상 조회되지 않게 하고, 남은 항목은 크기/만료로 정리된다.
+ * 다른 인스턴스에서 일어난 변경은 max-staleness-seconds 안에 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionDetailCache {
+
+    static final String CACHE_NAME = "sessionDetails";
+
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${runfit.session-detail-cache.maximum-size:10000}")
+    private long maximumSize = 10_000;
+
+    @Value("${runfit.session-detail-cache.max-staleness-seconds:30}")
+    private long maxStalenessSeconds = 30;
+
+    // 버전 항목이 밀려나도 새 번호를 받으므로 이전 상세 항목을 다시 가리키지 않는다
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private Cache<Long, Long> versions;
+    private Cache<VersionedKey, SessionDetailResponse> details;
+
+    @PostConstruct
+    void initialize() {
+        versions = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+        details = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(maxStalenessSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, details, CACHE_NAME);
+    }
+
+    /**
+     * 현재 버전의 상세를 반환하고, 없으면 세션과 참가자 수를 조회해 채운다. liked는 항상 false이다.
+     */
+    public SessionDetailResponse get(Long sessionId) {
+        VersionedKey key = new VersionedKey(sessionId, currentVersion(sessionId));
+        return details.get(key, k -> load(k.sessionId()));
+    }
+
+    private SessionDetailResponse load(Long sessionId) {
+        Session session = sessionRepository.findByIdWithCrewAndHostUser(sessionId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.SESSION_NOT_FOUND));
+        long currentParticipantCount = sessionParticipantRepository.countBySession(session);
+        return SessionDetailResponse.from(session, currentParticipantCount, false);
+    }
+
+    private long currentVersion(Long sessionId) {
+        return versions.get(sessionId, id -> versionSequence.incrementAndGet());
+    }
+
+    private void bumpVersion(Long sessionId) {
+        versions.put(sessionId, versionSequence.incrementAndGet());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionChanged(SessionChangedEvent event) {
+        bumpVersion(event.entry().id());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionCountersChanged(SessionCountersChangedEvent event) {
+        bumpVersion(event.sessionId());
+    }
+
+    // 일괄 마감은 세션 id를 알려주지 않으므로 캐시에 있는 상세 중 마감 조건에 해당하는 세션만 버전을 올린다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExpiredSessionsClosed(ExpiredSessionsClosedEvent event) {
+        List<Long> closedSessionIds = details.asMap().values().stream()
+            .filter(detail -> detail.status() == SessionStatus.OPEN
+                && detail.registerBy().isBefore(event.closedAt()))
+            .map(SessionDetailResponse::id)
+            .distinct()
+            .toList();
+        closedSessionIds.forEach(this::bumpVersion);
+    }
+
+    private record VersionedKey(
+        Long sessionId,
+        long version
+    ) {
+    }
+}
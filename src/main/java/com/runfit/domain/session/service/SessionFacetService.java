@@ -0,0 +1,117 @@
+package com.runfit.domain.session.service;
+
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import com.runfit.common.geo.GeoDistance;
+import com.runfit.common.sync.ChangeWatermark;
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.controller.dto.response.SessionCalendarResponse;
+import com.runfit.domain.session.controller.dto.response.SessionFacetsResponse;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.index.SessionCalendarDay;
+import com.runfit.domain.session.index.SessionFacetIndex;
+import com.runfit.domain.session.repository.SessionRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 세션 검색 필터의 패싯 개수와 달력의 날짜별 세션 수를 메모리 비트맵 인덱스로 계산한다.
+ * 기동 시 삭제되지 않은 세션 전체를 적재하고, 이후에는 세션 변경 이벤트와 주기적 따라잡기로 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionFacetService {
+
+    // 달력 한 화면(앞뒤 주 포함 6주)을 넉넉히 덮는 범위
+    private static final long MAX_CALENDAR_DAYS = 62;
+    private static final int MAX_TOP_PER_DAY = 5;
+
+    private final SessionRepository sessionRepository;
+    private final SessionTextSearchService sessionTextSearchService;
+
+    private final SessionFacetIndex index = new SessionFacetIndex();
+
+    private final ChangeWatermark watermark = new ChangeWatermark();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        index.clear();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        List<SessionChangedEvent> rows = sessionRepository.findIndexRows(null);
+        for (SessionChangedEvent row : rows) {
+            index.apply(row.entry(), false);
+        }
+        index.closeExpired(LocalDateTime.now());
+        watermark.advance(startedAt);
+        log.info("Session facet index ready with {} sessions", index.size());
+    }
+
+    @Scheduled(fixedDelayString = "${runfit.session-facets.sync-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void synchronize() {
+        if (!watermark.isReady()) {
+            return;
+        }
+
+        watermark.catchUp(sessionRepository::findIndexRowsUpdatedSince, SessionChangedEvent::updatedAt, this::apply);
+        // 일괄 마감은 updatedAt을 바꾸지 않으므로 마감 시각 기준으로 따로 반영한다
+        index.closeExpired(LocalDateTime.now());
+    }
+
+    public SessionFacetsResponse getFacets(SessionSearchCondition condition) {
+        GeoDistance.validateCoordinates(condition.latitude(), condition.longitude());
+        return SessionFacetsResponse.from(index.facets(condition, keywordHits(condition)));
+    }
+
+    public SessionCalendarResponse getCalendar(SessionSearchCondition condition, int topPerDay) {
+        GeoDistance.validateCoordinates(condition.latitude(), condition.longitude());
+        validateCalendarRange(condition.dateFrom(), condition.dateTo());
+
+        List<SessionCalendarDay> days = index.calendar(
+            condition, keywordHits(condition), Math.max(0, Math.min(topPerDay, MAX_TOP_PER_DAY)));
+        return SessionCalendarResponse.of(condition.dateFrom(), condition.dateTo(), days);
+    }
+
+    // 검색어는 목록 검색과 같은 전문 검색 결과로 좁힌다. 검색어가 없으면 null로 넘겨 거르지 않는다
+    private Set<Long> keywordHits(SessionSearchCondition condition) {
+        return condition.hasKeyword() ? sessionTextSearchService.findMatchingIds(condition.keyword()) : null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionChanged(SessionChangedEvent event) {
+        apply(event);
+        watermark.advance(event.updatedAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExpiredSessionsClosed(ExpiredSessionsClosedEvent event) {
+        index.closeExpired(event.closedAt());
+    }
+
+    private void apply(SessionChangedEvent change) {
+        index.apply(change.entry(), change.deleted());
+    }
+
+    private void validateCalendarRange(LocalDate dateFrom, LocalDate dateTo) {
+        if (dateFrom == null || dateTo == null || dateFrom.isAfter(dateTo)
+            || ChronoUnit.DAYS.between(dateFrom, dateTo) >= MAX_CALENDAR_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+}
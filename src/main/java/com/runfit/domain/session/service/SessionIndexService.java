@@ -0,0 +1,146 @@
+package com.runfit.domain.session.service;
+
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.sync.ChangeWatermark;
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.index.OpenSessionIndex;
+import com.runfit.domain.session.index.SessionIdPage;
+import com.runfit.domain.session.repository.SessionRepository;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집중 세션 검색 인덱스의 생명주기를 관리한다.
+ * 기동 시 파일에서 복원한 뒤 파일에 기록된 반영 시각 이후 변경분만 DB에서 따라잡고,
+ * 이후에는 세션 변경 이벤트와 같은 방식의 주기적 따라잡기로 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionIndexService {
+
+    private final SessionRepository sessionRepository;
+
+    @Value("${runfit.session-index.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${runfit.session-index.directory:${java.io.tmpdir}/runfit-session-index}")
+    private String directory;
+
+    private volatile OpenSessionIndex index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            OpenSessionIndex loaded = new OpenSessionIndex(Path.of(directory));
+            if (loaded.isRestored() && loaded.watermark() != null) {
+                catchUp(loaded);
+            } else {
+                rebuild(loaded);
+            }
+            loaded.removeExpired(LocalDateTime.now());
+            loaded.flush();
+            index = loaded;
+            log.info("Session search index ready with {} open sessions", loaded.size());
+        } catch (RuntimeException e) {
+            // 인덱스를 쓰지 못해도 검색은 DB로 처리되므로 기동은 계속한다
+            log.warn("Session search index disabled, falling back to database search", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${runfit.session-index.sync-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void synchronize() {
+        OpenSessionIndex current = index;
+        if (current == null) {
+            return;
+        }
+
+        catchUp(current);
+        current.removeExpired(LocalDateTime.now());
+        current.flush();
+    }
+
+    /**
+     * 인덱스는 모집중 세션만 담고 있으므로 상태가 OPEN으로 지정된 검색만 처리할 수 있다.
+     * 텍스트는 담지 않으므로 검색어가 있는 검색도 처리하지 않는다.
+     */
+    public boolean canServe(SessionSearchCondition condition) {
+        return index != null && condition.status() == SessionStatus.OPEN && !condition.hasKeyword();
+    }
+
+    public SessionIdPage search(SessionSearchCondition condition, Cursor cursor, Pageable pageable) {
+        return index.search(condition, cursor, pageable);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionChanged(SessionChangedEvent event) {
+        OpenSessionIndex current = index;
+        if (current == null) {
+            return;
+        }
+
+        current.apply(event.entry(), event.deleted());
+        current.advanceWatermark(event.updatedAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExpiredSessionsClosed(ExpiredSessionsClosedEvent event) {
+        OpenSessionIndex current = index;
+        if (current != null) {
+            current.removeExpired(event.closedAt());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        OpenSessionIndex current = index;
+        index = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private void rebuild(OpenSessionIndex target) {
+        target.clear();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        List<SessionChangedEvent> rows = sessionRepository.findIndexRows(SessionStatus.OPEN);
+        for (SessionChangedEvent row : rows) {
+            target.apply(row.entry(), false);
+        }
+        target.advanceWatermark(startedAt);
+    }
+
+    // 반영 시각은 인덱스 파일에 함께 저장되므로 ChangeWatermark 대신 인덱스가 보관한 값을 쓴다
+    private void catchUp(OpenSessionIndex target) {
+        List<SessionChangedEvent> changes = sessionRepository.findIndexRowsUpdatedSince(
+            ChangeWatermark.since(target.watermark())
+        );
+        for (SessionChangedEvent change : changes) {
+            target.apply(change.entry(), change.deleted());
+            target.advanceWatermark(change.updatedAt());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.runfit.domain.session.service;
+
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import com.runfit.domain.session.controller.dto.response.SessionLikeResponse;
+import com.runfit.domain.session.entity.SessionLike;
+import com.runfit.domain.session.event.SessionActivityChangedEvent;
+import com.runfit.domain.session.like.SessionLikeBuffer;
+import com.runfit.domain.session.like.SessionLikeChange;
+import com.runfit.domain.session.repository.SessionLikeBatchRepository;
+import com.runfit.domain.session.repository.SessionLikeRepository;
+import com.runfit.domain.session.repository.SessionRepository;
+import com.runfit.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 쓰기 지연 모드의 세션 찜/찜 취소. 요청 스레드는 세션 존재와 현재 찜 여부를 메모리에서 확인한 뒤 버퍼에만 기록하고,
+ * flush-interval-ms마다 모인 최종 상태를 배치로 반영한다. 조회 경로는 UserSessionActivityService가 버퍼를 덧씌워 바로 본다.
+ *
+ * <p>내구성: 비정상 종료 시 마지막 flush 이후(최대 flush-interval-ms)의 찜이 유실될 수 있다.
+ * 버퍼가 max-pending을 넘으면 요청 스레드가 직접 flush해 유실 범위와 메모리를 묶고, 정상 종료 시에는 남은 버퍼를 모두 반영한다.
+ * 반영에 실패한 항목은 버퍼로 돌아가 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionLikeWriteBehindService {
+
+    private final SessionLikeBuffer sessionLikeBuffer;
+    private final SessionLikeBatchRepository sessionLikeBatchRepository;
+    private final SessionLikeRepository sessionLikeRepository;
+    private final SessionRepository sessionRepository;
+    private final UserRepository userRepository;
+    private final SessionCardCache sessionCardCache;
+    private final UserSessionActivityService userSessionActivityService;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${runfit.session-like.write-behind.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${runfit.session-like.write-behind.max-pending:10000}")
+    private int maxPending = 10_000;
+
+    @Value("${runfit.session-like.write-behind.batch-size:500}")
+    private int batchSize = 500;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void initialize() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // 읽기 전용 트랜잭션 안(내 찜 목록 조회)에서 호출되어도 별도 트랜잭션으로 커밋한다
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        int flushedCount = flush();
+        if (flushedCount > 0) {
+            log.info("Flushed {} buffered session likes on shutdown", flushedCount);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public SessionLikeResponse likeSession(Long userId, Long sessionId) {
+        record(userId, sessionId, true);
+        return SessionLikeResponse.liked();
+    }
+
+    public SessionLikeResponse unlikeSession(Long userId, Long sessionId) {
+        record(userId, sessionId, false);
+        return SessionLikeResponse.unliked();
+    }
+
+    /**
+     * 페이지 단위로 DB를 읽는 조회(내 찜 목록) 전에 해당 사용자의 버퍼를 먼저 반영한다.
+     */
+    public void flushIfBuffered(Long userId) {
+        if (sessionLikeBuffer.hasBuffered(userId)) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${runfit.session-like.write-behind.flush-interval-ms:1000}")
+    public void flushScheduled() {
+        flush();
+    }
+
+    /**
+     * 버퍼를 비워 한 트랜잭션에서 반영하고 반영한 (사용자, 세션) 수를 반환한다. 동시에 한 스레드만 실행한다.
+     */
+    public synchronized int flush() {
+        List<SessionLikeChange> changes = sessionLikeBuffer.drain();
+        if (changes.isEmpty()) {
+            sessionLikeBuffer.complete();
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(changes));
+            sessionLikeBuffer.complete();
+            return changes.size();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} buffered session likes, will retry", changes.size(), e);
+            sessionLikeBuffer.restore();
+            return 0;
+        }
+    }
+
+    private void record(Long userId, Long sessionId, boolean liked) {
+        if (sessionCardCache.getCards(List.of(sessionId)).isEmpty()) {
+            throw new BusinessException(ErrorCode.SESSION_NOT_FOUND);
+        }
+        if (sessionLikeBuffer.size() >= maxPending) {
+            flush();
+        }
+
+        boolean current = userSessionActivityService.get(userId).liked(sessionId);
+        if (!sessionLikeBuffer.record(userId, sessionId, liked, current, LocalDateTime.now())) {
+            throw new BusinessException(liked ? ErrorCode.ALREADY_LIKED_SESSION : ErrorCode.SESSION_LIKE_NOT_FOUND);
+        }
+    }
+
+    private void persist(List<SessionLikeChange> changes) {
+        Map<Boolean, List<SessionLikeChange>> byLiked = changes.stream()
+            .collect(Collectors.partitioningBy(SessionLikeChange::liked));
+
+        sessionLikeBatchRepository.deleteAll(byLiked.get(false), batchSize);
+        List<SessionLike> newLikes = sessionLikeBatchRepository.findMissing(byLiked.get(true), batchSize).stream()
+            .map(like -> SessionLike.create(
+                sessionRepository.getReferenceById(like.sessionId()),
+                userRepository.getReferenceById(like.userId()),
+                like.changedAt()))
+            .toList();
+        // 재계산 쿼리가 새 행을 세도록 먼저 내려 쓴다
+        sessionLikeRepository.saveAll(newLikes);
+        sessionLikeRepository.flush();
+        sessionLikeBatchRepository.recountLikes(
+            changes.stream().map(SessionLikeChange::sessionId).collect(Collectors.toSet()));
+
+        // 커밋 후 사용자별 찜 캐시를 무효화한다 (버퍼의 덧씌움은 complete 전까지 유지)
+        changes.stream()
+            .map(SessionLikeChange::userId)
+            .distinct()
+            .forEach(userId -> eventPublisher.publishEvent(new SessionActivityChangedEvent(userId)));
+    }
+}
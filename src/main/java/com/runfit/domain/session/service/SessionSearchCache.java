@@ -0,0 +1,82 @@
+package com.runfit.domain.session.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.controller.dto.response.SessionListResponse;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 세션 목록 검색 결과를 짧은 TTL로 여러 요청이 공유하는 캐시.
+ * 결과에는 사용자별 값(liked/joined)을 넣지 않고, 같은 키의 동시 미스는 한 요청만 조회하고 나머지는 그 결과를 기다린다.
+ * 세션 생성/수정/삭제와 일괄 마감은 즉시 전체 무효화하고, 참가 인원과 참여자 미리보기는 TTL 안에서 늦게 반영될 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionSearchCache {
+
+    static final String CACHE_NAME = "sessionSearches";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${runfit.session-search-cache.maximum-size:1000}")
+    private long maximumSize = 1_000;
+
+    @Value("${runfit.session-search-cache.ttl-seconds:10}")
+    private long ttlSeconds = 10;
+
+    private Cache<SearchKey, Slice<SessionListResponse>> cache;
+
+    @PostConstruct
+    void initialize() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 커서 없이 시작하는 페이지만 캐시한다. 위치 검색은 좌표마다 키가 달라 재사용되지 않으므로 제외한다.
+     */
+    public boolean isCacheable(SessionSearchCondition condition, String cursor) {
+        return (cursor == null || cursor.isBlank()) && !condition.hasLocation();
+    }
+
+    public Slice<SessionListResponse> get(
+        SessionSearchCondition condition, Pageable pageable, Supplier<Slice<SessionListResponse>> loader) {
+        SearchKey key = new SearchKey(condition.normalized(), pageable.getPageNumber(), pageable.getPageSize());
+        return cache.get(key, k -> loader.get());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionChanged(SessionChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExpiredSessionsClosed(ExpiredSessionsClosedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private record SearchKey(
+        SessionSearchCondition condition,
+        int page,
+        int size
+    ) {
+    }
+}
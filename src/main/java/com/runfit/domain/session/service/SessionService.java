@@ -2,11 +2,17 @@ package com.runfit.domain.session.service;
 
 import com.runfit.common.exception.BusinessException;
 import com.runfit.common.exception.ErrorCode;
+import com.runfit.common.geo.GeoDistance;
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.pagination.CursorSlice;
+import com.runfit.common.pagination.RankedCursor;
 import com.runfit.domain.crew.entity.Crew;
 import com.runfit.domain.crew.entity.CrewRole;
 import com.runfit.domain.crew.entity.Membership;
 import com.runfit.domain.crew.repository.CrewRepository;
 import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.crew.repository.MembershipRoleMap;
+import com.runfit.domain.session.activity.UserSessionActivity;
 import com.runfit.domain.session.controller.dto.request.SessionCreateRequest;
 import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
 import com.runfit.domain.session.controller.dto.request.SessionUpdateRequest;
@@ -17,23 +23,34 @@ import com.runfit.domain.session.controller.dto.response.SessionListResponse;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantResponse;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionResponse;
+import com.runfit.domain.session.controller.dto.response.SessionSeriesResponse;
 import com.runfit.domain.session.entity.Session;
 import com.runfit.domain.session.entity.SessionLike;
 import com.runfit.domain.session.entity.SessionParticipant;
+import com.runfit.domain.session.event.SessionActivityChangedEvent;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.event.SessionCountersChangedEvent;
+import com.runfit.domain.session.index.SessionIdPage;
 import com.runfit.domain.session.repository.SessionLikeRepository;
+import com.runfit.domain.session.repository.SessionParticipantPreview;
 import com.runfit.domain.session.repository.SessionParticipantRepository;
 import com.runfit.domain.session.repository.SessionRepository;
 import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,14 +64,82 @@ public class SessionService {
     private final CrewRepository crewRepository;
     private final MembershipRepository membershipRepository;
     private final UserRepository userRepository;
+    private final SessionIndexService sessionIndexService;
+    private final SessionTextSearchService sessionTextSearchService;
+    private final UserSessionActivityService userSessionActivityService;
+    private final SessionCardCache sessionCardCache;
+    private final SessionDetailCache sessionDetailCache;
+    private final SessionSearchCache sessionSearchCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${runfit.session.participant-preview-size:3}")
+    private int participantPreviewSize = 3;
 
     @Transactional
     public SessionResponse createSession(Long userId, SessionCreateRequest request, boolean isAdmin) {
+        if (request.recurrence() != null) {
+            throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+        }
+
         User user = findUserById(userId);
         Crew crew = findCrewById(request.crewId());
 
         validateStaffOrLeaderPermission(userId, request.crewId(), isAdmin);
 
+        Session session = newSession(crew, user, request, request.sessionAt(), request.registerBy());
+        Session savedSession = sessionRepository.save(session);
+
+        // 세션 생성자를 자동으로 참여시킴
+        SessionParticipant participant = SessionParticipant.create(savedSession, user);
+        sessionParticipantRepository.save(participant);
+        sessionRepository.increaseParticipantCount(savedSession.getId());
+        eventPublisher.publishEvent(SessionChangedEvent.from(savedSession));
+        eventPublisher.publishEvent(new SessionActivityChangedEvent(userId));
+
+        return SessionResponse.from(savedSession, 1L);
+    }
+
+    /**
+     * 반복 규칙에 맞는 세션을 한 트랜잭션에서 모두 만든다. 크루 조회와 권한 확인은 한 번만 하고,
+     * 세션과 호스트 참여 행은 saveAll로 모아 배치 INSERT하며 참여자 수는 UPDATE 한 번으로 올린다.
+     */
+    @Transactional
+    public SessionSeriesResponse createSessionSeries(Long userId, SessionCreateRequest request, boolean isAdmin) {
+        if (request.recurrence() == null) {
+            throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+        }
+        List<LocalDateTime> occurrences = request.recurrence().occurrences(request.sessionAt());
+        if (occurrences.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+        }
+
+        User user = findUserById(userId);
+        Crew crew = findCrewById(request.crewId());
+
+        validateStaffOrLeaderPermission(userId, request.crewId(), isAdmin);
+
+        // 신청 마감은 첫 세션과 같은 간격만큼 각 세션 시작 전으로 맞춘다
+        Duration registerWindow = Duration.between(request.registerBy(), request.sessionAt());
+        List<Session> sessions = occurrences.stream()
+            .map(sessionAt -> newSession(crew, user, request, sessionAt, sessionAt.minus(registerWindow)))
+            .toList();
+        List<Session> savedSessions = sessionRepository.saveAll(sessions);
+
+        sessionParticipantRepository.saveAll(savedSessions.stream()
+            .map(session -> SessionParticipant.create(session, user))
+            .toList());
+        sessionRepository.increaseParticipantCountAll(savedSessions.stream().map(Session::getId).toList());
+
+        savedSessions.forEach(session -> eventPublisher.publishEvent(SessionChangedEvent.from(session)));
+        eventPublisher.publishEvent(new SessionActivityChangedEvent(userId));
+
+        return SessionSeriesResponse.from(savedSessions.stream()
+            .map(session -> SessionResponse.from(session, 1L))
+            .toList());
+    }
+
+    private Session newSession(
+        Crew crew, User user, SessionCreateRequest request, LocalDateTime sessionAt, LocalDateTime registerBy) {
         Session session = Session.create(
             crew,
             user,
@@ -66,66 +151,82 @@ public class SessionService {
             request.location(),
             request.latitude(),
             request.longitude(),
-            request.sessionAt(),
-            request.registerBy(),
+            sessionAt,
+            registerBy,
             request.level(),
             request.pace(),
             request.maxParticipantCount()
         );
-
-        Session savedSession = sessionRepository.save(session);
-
-        // 세션 생성자를 자동으로 참여시킴
-        SessionParticipant participant = SessionParticipant.create(savedSession, user);
-        sessionParticipantRepository.save(participant);
-
-        return SessionResponse.from(savedSession, 1L);
+        session.useQueuedJoin(request.isQueuedJoin());
+        return session;
     }
 
     @Transactional(readOnly = true)
-    public Slice<SessionListResponse> searchSessions(SessionSearchCondition condition, Long userId, Pageable pageable) {
-        Slice<SessionListResponse> sessions = sessionRepository.searchSessions(condition, userId, pageable);
-        return enrichWithParticipants(sessions, pageable);
+    public Slice<SessionListResponse> searchSessions(
+        SessionSearchCondition condition, Long userId, String cursor, Pageable pageable) {
+        GeoDistance.validateCoordinates(condition.latitude(), condition.longitude());
+
+        // 첫 페이지 인기 조건은 사용자와 무관한 결과를 공유 캐시에서 꺼내고, 찜/참여 여부만 요청마다 덧씌운다
+        Slice<SessionListResponse> sessions = sessionSearchCache.isCacheable(condition, cursor)
+            ? sessionSearchCache.get(condition, pageable, () -> findSessions(condition, null, pageable))
+            : findSessions(condition, Cursor.decode(cursor), pageable);
+        return applyViewerFlags(sessions, userId, pageable);
     }
 
-    @Transactional(readOnly = true)
-    public SessionDetailResponse getSessionDetail(Long sessionId, Long userId) {
-        Session session = sessionRepository.findByIdWithCrewAndHostUser(sessionId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.SESSION_NOT_FOUND));
+    private Slice<SessionListResponse> findSessions(SessionSearchCondition condition, Cursor cursor, Pageable pageable) {
+        // 1단계: 정렬된 id 페이지만 구한다 (전문 검색/모집중 인덱스 또는 커버링 인덱스를 타는 DB id 쿼리)
+        SessionIdPage page;
+        if (sessionTextSearchService.canServe(condition)) {
+            page = sessionTextSearchService.search(condition, cursor, pageable);
+        } else if (sessionIndexService.canServe(condition)) {
+            page = sessionIndexService.search(condition, cursor, pageable);
+        } else {
+            page = sessionRepository.searchSessionIds(condition, cursor, pageable);
+        }
 
-        long currentParticipantCount = sessionParticipantRepository.countBySession(session);
-        boolean liked = userId != null && sessionLikeRepository.existsBySessionIdAndUserUserId(sessionId, userId);
+        // 2단계: 카드 캐시에서 내용을 채우고 캐시에 없는 id만 DB에서 조회한다
+        List<SessionListResponse> content = sessionCardCache.getCards(page.sessionIds());
+        Slice<SessionListResponse> sessions = new CursorSlice<>(content, pageable, page.hasNext(), page.nextCursor());
+        return attachParticipants(sessions, pageable);
+    }
 
-        return SessionDetailResponse.from(session, currentParticipantCount, liked);
+    @Transactional(readOnly = true)
+    public SessionDetailResponse getSessionDetail(Long sessionId, Long userId) {
+        SessionDetailResponse detail = sessionDetailCache.get(sessionId);
+        if (userId == null) {
+            return detail;
+        }
+        return detail.withLiked(userSessionActivityService.get(userId).liked(sessionId));
     }
 
     @Transactional
     public SessionJoinResponse joinSession(Long userId, Long sessionId) {
-        User user = findUserById(userId);
         Session session = findSessionById(sessionId);
 
+        // 멤버십이 있으면 사용자도 존재하므로 사용자는 조회 없이 참조만 쓴다
         Long crewId = session.getCrew().getId();
         if (!membershipRepository.existsByUserUserIdAndCrewId(userId, crewId)) {
             throw new BusinessException(ErrorCode.NOT_CREW_MEMBER);
         }
 
-        if (!session.isRegistrationOpen()) {
-            throw new BusinessException(ErrorCode.SESSION_CLOSED);
+        // 마감/정원 확인과 좌석 확보를 조건부 UPDATE 한 번으로 처리한다 (읽고 나서 쓰면 동시 신청 시 초과 예약)
+        if (sessionRepository.reserveSeat(sessionId, LocalDateTime.now()) == 0) {
+            throw new BusinessException(resolveJoinFailure(session, userId));
         }
 
-        if (sessionParticipantRepository.existsBySessionAndUser(session, user)) {
+        // 중복 참가는 (session_id, user_id) 유니크 제약으로 감지한다. 예외로 롤백되면 확보한 좌석도 함께 되돌려진다
+        try {
+            sessionParticipantRepository.saveAndFlush(
+                SessionParticipant.create(session, userRepository.getReferenceById(userId)));
+        } catch (DataIntegrityViolationException e) {
             throw new BusinessException(ErrorCode.ALREADY_JOINED_SESSION);
         }
+        eventPublisher.publishEvent(new SessionActivityChangedEvent(userId));
+        eventPublisher.publishEvent(new SessionCountersChangedEvent(sessionId));
 
-        long currentCount = sessionParticipantRepository.countBySession(session);
-        if (currentCount >= session.getMaxParticipantCount()) {
-            throw new BusinessException(ErrorCode.SESSION_FULL);
-        }
-
-        SessionParticipant participant = SessionParticipant.create(session, user);
-        sessionParticipantRepository.save(participant);
-
-        return SessionJoinResponse.joined(currentCount + 1, session.getMaxParticipantCount());
+        // 이 트랜잭션이 방금 갱신한 행이라 다른 신청자의 증가분까지 반영된 값을 읽는다
+        long currentCount = sessionRepository.findParticipantCount(sessionId);
+        return SessionJoinResponse.joined(currentCount, session.getMaxParticipantCount());
     }
 
     @Transactional
@@ -137,9 +238,11 @@ public class SessionService {
             .orElseThrow(() -> new BusinessException(ErrorCode.NOT_SESSION_PARTICIPANT));
 
         sessionParticipantRepository.delete(participant);
+        sessionRepository.decreaseParticipantCount(sessionId);
+        eventPublisher.publishEvent(new SessionActivityChangedEvent(userId));
+        eventPublisher.publishEvent(new SessionCountersChangedEvent(sessionId));
 
-        long currentCount = sessionParticipantRepository.countBySession(session);
-
+        long currentCount = sessionRepository.findParticipantCount(sessionId);
         return SessionJoinResponse.cancelled(currentCount);
     }
 
@@ -154,6 +257,8 @@ public class SessionService {
 
         SessionLike sessionLike = SessionLike.create(session, user);
         sessionLikeRepository.save(sessionLike);
+        sessionRepository.increaseLikeCount(sessionId);
+        eventPublisher.publishEvent(new SessionActivityChangedEvent(userId));
 
         return SessionLikeResponse.liked();
     }
@@ -167,6 +272,8 @@ public class SessionService {
             .orElseThrow(() -> new BusinessException(ErrorCode.SESSION_LIKE_NOT_FOUND));
 
         sessionLikeRepository.delete(sessionLike);
+        sessionRepository.decreaseLikeCount(sessionId);
+        eventPublisher.publishEvent(new SessionActivityChangedEvent(userId));
 
         return SessionLikeResponse.unliked();
     }
@@ -182,6 +289,7 @@ public class SessionService {
             request.description(),
             request.image()
         );
+        eventPublisher.publishEvent(SessionChangedEvent.from(session));
 
         long currentParticipantCount = sessionParticipantRepository.countBySession(session);
 
@@ -189,44 +297,22 @@ public class SessionService {
     }
 
     @Transactional(readOnly = true)
-    public SessionParticipantsResponse getSessionParticipants(Long sessionId, String role, String sort) {
+    public SessionParticipantsResponse getSessionParticipants(
+        Long sessionId, String role, String sort, String cursor, Pageable pageable) {
         Session session = sessionRepository.findByIdAndNotDeleted(sessionId)
             .orElseThrow(() -> new BusinessException(ErrorCode.SESSION_NOT_FOUND));
 
-        Long crewId = session.getCrew().getId();
-
+        CrewRole crewRole = role != null ? parseRole(role) : null;
         boolean sortByRole = "roleAsc".equalsIgnoreCase(sort);
-        List<SessionParticipant> participants;
 
-        if (role != null) {
-            CrewRole crewRole = parseRole(role);
-            participants = sortByRole
-                ? sessionParticipantRepository.findAllBySessionIdAndRoleWithUserOrderByRole(sessionId, crewId, crewRole)
-                : sessionParticipantRepository.findAllBySessionIdAndRoleWithUser(sessionId, crewId, crewRole);
-        } else {
-            participants = sortByRole
-                ? sessionParticipantRepository.findAllBySessionIdWithUserOrderByRole(sessionId, crewId)
-                : sessionParticipantRepository.findAllBySessionIdWithUser(sessionId);
-        }
+        Slice<SessionParticipantResponse> participants = sessionParticipantRepository.findSessionParticipants(
+            sessionId, session.getCrew().getId(), crewRole, sortByRole, RankedCursor.decode(cursor), pageable);
 
-        List<SessionParticipantResponse> participantResponses = participants.stream()
-            .map(sp -> {
-                CrewRole memberRole = membershipRepository.findByUserUserIdAndCrewId(sp.getUser().getUserId(), crewId)
-                    .map(Membership::getRole)
-                    .orElse(CrewRole.MEMBER);
-
-                return new SessionParticipantResponse(
-                    sp.getUser().getUserId(),
-                    sp.getUser().getName(),
-                    sp.getUser().getImage(),
-                    sp.getUser().getIntroduction(),
-                    memberRole,
-                    sp.getJoinedAt()
-                );
-            })
-            .toList();
-
-        return SessionParticipantsResponse.of(participantResponses);
+        // 역할 필터가 있으면 해당 역할의 참가자 수를, 없으면 세션의 참가자 수 카운터를 내려준다
+        long totalCount = crewRole != null
+            ? sessionParticipantRepository.countSessionParticipants(sessionId, session.getCrew().getId(), crewRole)
+            : session.getParticipantCount();
+        return SessionParticipantsResponse.of(participants, totalCount);
     }
 
     private CrewRole parseRole(String role) {
@@ -248,12 +334,21 @@ public class SessionService {
         }
 
         session.delete();
+        eventPublisher.publishEvent(SessionChangedEvent.from(session));
     }
 
     @Transactional(readOnly = true)
-    public Slice<SessionListResponse> getMyHostedSessions(Long userId, Pageable pageable) {
-        Slice<SessionListResponse> sessions = sessionRepository.findMyHostedSessions(userId, pageable);
-        return enrichWithParticipants(sessions, pageable);
+    public Slice<SessionListResponse> getMyHostedSessions(Long userId, String cursor, Pageable pageable) {
+        Slice<SessionListResponse> sessions = sessionRepository.findMyHostedSessions(userId, Cursor.decode(cursor), pageable);
+        return enrichWithParticipants(sessions, userId, pageable);
+    }
+
+    // 좌석 확보에 실패한 경우에만 원인을 가린다
+    private ErrorCode resolveJoinFailure(Session session, Long userId) {
+        if (sessionParticipantRepository.existsBySessionIdAndUserUserId(session.getId(), userId)) {
+            return ErrorCode.ALREADY_JOINED_SESSION;
+        }
+        return session.isRegistrationOpen() ? ErrorCode.SESSION_FULL : ErrorCode.SESSION_CLOSED;
     }
 
     private User findUserById(Long userId) {
@@ -284,7 +379,13 @@ public class SessionService {
         }
     }
 
-    private Slice<SessionListResponse> enrichWithParticipants(Slice<SessionListResponse> sessions, Pageable pageable) {
+    // 참여자 미리보기와 현재 사용자의 찜/참여 여부를 채운다
+    private Slice<SessionListResponse> enrichWithParticipants(
+        Slice<SessionListResponse> sessions, Long userId, Pageable pageable) {
+        return applyViewerFlags(attachParticipants(sessions, pageable), userId, pageable);
+    }
+
+    private Slice<SessionListResponse> attachParticipants(Slice<SessionListResponse> sessions, Pageable pageable) {
         if (sessions.isEmpty()) {
             return sessions;
         }
@@ -293,64 +394,52 @@ public class SessionService {
             .map(SessionListResponse::id)
             .toList();
 
-        List<SessionParticipant> allParticipants = sessionParticipantRepository.findParticipantsBySessionIds(sessionIds);
+        List<SessionParticipantPreview> previews =
+            sessionParticipantRepository.findParticipantPreviews(sessionIds, participantPreviewSize);
 
         Map<Long, Long> sessionCrewMap = sessions.getContent().stream()
             .collect(Collectors.toMap(SessionListResponse::id, SessionListResponse::crewId));
 
-        Map<String, CrewRole> membershipRoleMap = buildMembershipRoleMap(allParticipants, sessionCrewMap);
+        MembershipRoleMap membershipRoleMap = membershipRepository.findRoleMap(
+            previews.stream().map(SessionParticipantPreview::userId).collect(Collectors.toSet()),
+            new HashSet<>(sessionCrewMap.values())
+        );
 
         Map<Long, List<SessionParticipantResponse>> participantsBySessionId = new HashMap<>();
-        for (SessionParticipant sp : allParticipants) {
-            Long sessionId = sp.getSession().getId();
-            Long crewId = sessionCrewMap.get(sessionId);
-            String key = sp.getUser().getUserId() + "_" + crewId;
-            CrewRole role = membershipRoleMap.getOrDefault(key, CrewRole.MEMBER);
-
-            List<SessionParticipantResponse> sessionParticipants = participantsBySessionId
-                .computeIfAbsent(sessionId, k -> new ArrayList<>());
-
-            if (sessionParticipants.size() < 3) {
-                sessionParticipants.add(new SessionParticipantResponse(
-                    sp.getUser().getUserId(),
-                    sp.getUser().getName(),
-                    sp.getUser().getImage(),
-                    sp.getUser().getIntroduction(),
+        for (SessionParticipantPreview preview : previews) {
+            Long crewId = sessionCrewMap.get(preview.sessionId());
+            CrewRole role = membershipRoleMap.get(preview.userId(), crewId, CrewRole.MEMBER);
+
+            participantsBySessionId.computeIfAbsent(preview.sessionId(), k -> new ArrayList<>())
+                .add(new SessionParticipantResponse(
+                    preview.userId(),
+                    preview.name(),
+                    preview.profileImage(),
+                    preview.introduction(),
                     role,
-                    sp.getJoinedAt()
+                    preview.joinedAt()
                 ));
-            }
         }
 
         List<SessionListResponse> enrichedContent = sessions.getContent().stream()
-            .map(session -> session.withParticipants(
-                participantsBySessionId.getOrDefault(session.id(), List.of())
-            ))
+            .map(session -> session.withParticipants(participantsBySessionId.getOrDefault(session.id(), List.of())))
             .toList();
 
-        return new SliceImpl<>(enrichedContent, pageable, sessions.hasNext());
+        return new CursorSlice<>(enrichedContent, pageable, sessions.hasNext(), CursorSlice.nextCursorOf(sessions));
     }
 
-    private Map<String, CrewRole> buildMembershipRoleMap(
-        List<SessionParticipant> participants,
-        Map<Long, Long> sessionCrewMap
-    ) {
-        Map<String, CrewRole> roleMap = new HashMap<>();
-
-        for (SessionParticipant sp : participants) {
-            Long sessionId = sp.getSession().getId();
-            Long crewId = sessionCrewMap.get(sessionId);
-            Long userId = sp.getUser().getUserId();
-            String key = userId + "_" + crewId;
-
-            if (!roleMap.containsKey(key)) {
-                CrewRole role = membershipRepository.findByUserUserIdAndCrewId(userId, crewId)
-                    .map(Membership::getRole)
-                    .orElse(CrewRole.MEMBER);
-                roleMap.put(key, role);
-            }
+    private Slice<SessionListResponse> applyViewerFlags(
+        Slice<SessionListResponse> sessions, Long userId, Pageable pageable) {
+        if (sessions.isEmpty()) {
+            return sessions;
         }
 
-        return roleMap;
+        UserSessionActivity activity = userSessionActivityService.get(userId);
+
+        List<SessionListResponse> flaggedContent = sessions.getContent().stream()
+            .map(session -> session.withViewerFlags(activity.liked(session.id()), activity.joined(session.id())))
+            .toList();
+
+        return new CursorSlice<>(flaggedContent, pageable, sessions.hasNext(), CursorSlice.nextCursorOf(sessions));
     }
 }
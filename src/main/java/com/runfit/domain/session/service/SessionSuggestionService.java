@@ -0,0 +1,110 @@
+package com.runfit.domain.session.service;
+
+import com.runfit.common.search.Suggestion;
+import com.runfit.common.search.SuggestTrie;
+import com.runfit.domain.session.controller.dto.response.SessionSuggestionResponse;
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.repository.SessionRepository;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집중 세션 이름 자동완성. 참여자 수와 찜 수를 더한 인기도가 높은 세션부터 노출한다.
+ * 세션 변경/마감은 이벤트로 바로 반영하고, 인기도 변화와 다른 인스턴스의 변경은 주기적 동기화로 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionSuggestionService {
+
+    public static final int MAX_LIMIT = 10;
+
+    private final SessionRepository sessionRepository;
+
+    private final SuggestTrie trie = new SuggestTrie(MAX_LIMIT);
+    private final Map<Long, LocalDateTime> registerByById = new ConcurrentHashMap<>();
+
+    // 동기화가 DB를 읽은 뒤 이벤트로 바뀐 세션. 스냅샷이 더 오래된 값이므로 추가/이름 변경/삭제 모두 덮어쓰지 않는다
+    private final Set<Long> touchedIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        synchronize();
+        log.info("Session suggestions ready with {} open sessions", trie.size());
+    }
+
+    @Scheduled(fixedDelayString = "${runfit.suggest.sync-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void synchronize() {
+        // DB 조회 전에 기존 id를 잡아 두고 이벤트 기록을 비운다. 조회 중 이벤트로 추가된 세션은 스냅샷에 없어도 지워지지 않는다
+        touchedIds.clear();
+        Set<Long> staleIds = new HashSet<>(trie.ids());
+        List<Session> sessions = sessionRepository.findAllByStatusAndDeletedIsNull(SessionStatus.OPEN);
+
+        synchronized (this) {
+            for (Session session : sessions) {
+                staleIds.remove(session.getId());
+                if (touchedIds.contains(session.getId())) {
+                    continue;
+                }
+                trie.put(session.getId(), session.getName(), session.getParticipantCount() + session.getLikeCount());
+                registerByById.put(session.getId(), session.getRegisterBy());
+            }
+            staleIds.removeAll(touchedIds);
+            staleIds.forEach(this::remove);
+        }
+    }
+
+    public List<SessionSuggestionResponse> suggest(String keyword, int limit) {
+        return trie.suggest(keyword, Math.max(1, Math.min(limit, MAX_LIMIT))).stream()
+            .map(SessionSuggestionResponse::from)
+            .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onSessionChanged(SessionChangedEvent event) {
+        Long sessionId = event.entry().id();
+        touchedIds.add(sessionId);
+        if (event.deleted() || event.entry().status() != SessionStatus.OPEN) {
+            remove(sessionId);
+            return;
+        }
+
+        // 인기도는 동기화 때 맞추므로 이름만 바꾸고, 새 세션은 참여자(호스트) 1명으로 시작한다
+        Suggestion existing = trie.get(sessionId);
+        trie.put(sessionId, event.name(), existing != null ? existing.score() : 1L);
+        registerByById.put(sessionId, event.entry().registerBy());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onExpiredSessionsClosed(ExpiredSessionsClosedEvent event) {
+        registerByById.forEach((sessionId, registerBy) -> {
+            if (registerBy.isBefore(event.closedAt())) {
+                touchedIds.add(sessionId);
+                remove(sessionId);
+            }
+        });
+    }
+
+    private void remove(Long sessionId) {
+        trie.remove(sessionId);
+        registerByById.remove(sessionId);
+    }
+}
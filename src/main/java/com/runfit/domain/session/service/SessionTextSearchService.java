@@ -0,0 +1,138 @@
+package com.runfit.domain.session.service;
+
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.search.RankedCandidates;
+import com.runfit.common.search.SearchField;
+import com.runfit.common.search.TextSearchIndex;
+import com.runfit.common.sync.ChangeWatermark;
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.index.SessionIdPage;
+import com.runfit.domain.session.repository.SessionRepository;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 세션 이름/설명/장소의 전문 검색 인덱스를 관리한다.
+ * 기동 시 삭제되지 않은 세션 전체를 색인하고, 이후에는 세션 변경 이벤트와 주기적 따라잡기로 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionTextSearchService {
+
+    private static final int NAME_BOOST = 3;
+    private static final int LOCATION_BOOST = 2;
+    private static final int DESCRIPTION_BOOST = 1;
+
+    private final SessionRepository sessionRepository;
+
+    private final TextSearchIndex index = new TextSearchIndex();
+
+    @Value("${runfit.text-search.max-hits:1000}")
+    private int maxHits = 1000;
+
+    private final ChangeWatermark watermark = new ChangeWatermark();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        index.clear();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        List<SessionChangedEvent> rows = sessionRepository.findIndexRows(null);
+        for (SessionChangedEvent row : rows) {
+            apply(row);
+        }
+        watermark.advance(startedAt);
+        log.info("Session text index ready with {} sessions", index.size());
+    }
+
+    @Scheduled(fixedDelayString = "${runfit.text-search.sync-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void synchronize() {
+        watermark.catchUp(sessionRepository::findIndexRowsUpdatedSince, SessionChangedEvent::updatedAt, this::apply);
+    }
+
+    /**
+     * 인덱스가 적재되기 전에는 DB LIKE 검색으로 대신한다.
+     */
+    public boolean canServe(SessionSearchCondition condition) {
+        return watermark.isReady() && condition.hasKeyword();
+    }
+
+    /**
+     * 정렬을 지정하면 검색 결과 전체를 후보로 DB 정렬/커서를 그대로 쓴다. 후보가 maxHits를 넘으면 maxHits개씩
+     * 요청 페이지 끝까지만 정렬해 모은 뒤 그 id만 다시 정렬한다.
+     * 생략하면 관련도순 결과를 maxHits개씩 나머지 조건으로 걸러 요청한 offset 페이지를 채운다.
+     */
+    public SessionIdPage search(SessionSearchCondition condition, Cursor cursor, Pageable pageable) {
+        List<Long> rankedIds = index.search(condition.keyword(), Integer.MAX_VALUE);
+        if (rankedIds.isEmpty()) {
+            return new SessionIdPage(List.of(), false, null);
+        }
+        if (condition.sort() != null) {
+            Pageable head = PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize() + 1);
+            List<Long> candidateIds = RankedCandidates.collectWindowHeads(rankedIds, maxHits,
+                window -> sessionRepository.searchSessionIds(condition, window, cursor, head).sessionIds());
+            return candidateIds.isEmpty()
+                ? new SessionIdPage(List.of(), false, null)
+                : sessionRepository.searchSessionIds(condition, candidateIds, cursor, pageable);
+        }
+
+        if (pageable.getOffset() >= rankedIds.size()) {
+            return new SessionIdPage(List.of(), false, null);
+        }
+
+        int from = (int) pageable.getOffset();
+        int to = from + pageable.getPageSize();
+        List<Long> orderedIds = RankedCandidates.filterInOrder(rankedIds, maxHits, to + 1,
+            window -> sessionRepository.findMatchingSessionIds(condition, window));
+
+        List<Long> pageIds = orderedIds.subList(Math.min(from, orderedIds.size()), Math.min(to, orderedIds.size()));
+        return new SessionIdPage(pageIds, orderedIds.size() > to, null);
+    }
+
+    /**
+     * 검색어에 걸리는 세션 id 전체. 패싯/달력이 목록 검색과 같은 결과 집합으로 좁힐 때 쓴다.
+     */
+    public Set<Long> findMatchingIds(String keyword) {
+        return new HashSet<>(index.search(keyword, Integer.MAX_VALUE));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionChanged(SessionChangedEvent event) {
+        apply(event);
+        watermark.advance(event.updatedAt());
+    }
+
+    private void apply(SessionChangedEvent change) {
+        if (change.deleted()) {
+            index.remove(change.entry().id());
+        } else {
+            index.put(change.entry().id(), fields(change.name(), change.description(), change.location()));
+        }
+    }
+
+    private static SearchField[] fields(String name, String description, String location) {
+        return new SearchField[] {
+            SearchField.of(name, NAME_BOOST),
+            SearchField.of(location, LOCATION_BOOST),
+            SearchField.of(description, DESCRIPTION_BOOST)
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.runfit.domain.session.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runfit.domain.session.activity.UserSessionActivity;
+import com.runfit.domain.session.event.SessionActivityChangedEvent;
+import com.runfit.domain.session.like.SessionLikeBuffer;
+import com.runfit.domain.session.repository.SessionParticipantRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 찜/참여 세션 id 집합을 캐시한다.
+ * 찜/참여 변경은 커밋 후 이벤트로 해당 사용자 항목만 무효화하고,
+ * 다른 인스턴스에서 일어난 변경은 만료 시간 안에 반영된다.
+ * 쓰기 지연 찜 버퍼에 아직 반영되지 않은 찜 상태는 캐시 값 위에 덧씌워 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserSessionActivityService {
+
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final SessionLikeBuffer sessionLikeBuffer;
+
+    @Value("${runfit.session-activity.cache-size:10000}")
+    private long cacheSize = 10_000;
+
+    @Value("${runfit.session-activity.expire-after-write-seconds:600}")
+    private long expireAfterWriteSeconds = 600;
+
+    private Cache<Long, UserSessionActivity> cache;
+
+    @PostConstruct
+    void initialize() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+            .build();
+    }
+
+    public UserSessionActivity get(Long userId) {
+        if (userId == null) {
+            return UserSessionActivity.empty();
+        }
+        return cache.get(userId, sessionParticipantRepository::findUserSessionActivity)
+            .withLikes(sessionLikeBuffer.bufferedLikes(userId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionActivityChanged(SessionActivityChangedEvent event) {
+        cache.invalidate(event.userId());
+    }
+}
@@ -75,7 +75,8 @@ public interface UserApi {
     ResponseEntity<ResponseWrapper<SliceResponse<SessionListResponse>>> getMyLikedSessions(
         @AuthenticationPrincipal AuthUser user,
         @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size
+        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)") @RequestParam(required = false) String cursor
     );
 
     @Operation(summary = "내가 만든 세션 목록 조회", description = "로그인한 사용자가 생성한 세션 목록을 조회합니다. (무한스크롤). 각 세션에 최근 등록순 참여자 3명이 포함됩니다.")
@@ -86,7 +87,8 @@ public interface UserApi {
     ResponseEntity<ResponseWrapper<SliceResponse<SessionListResponse>>> getMyHostedSessions(
         @AuthenticationPrincipal AuthUser user,
         @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size
+        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)") @RequestParam(required = false) String cursor
     );
 
     @Operation(summary = "내가 만든 크루 목록 조회", description = "로그인한 사용자가 생성한(리더인) 크루 목록을 조회합니다. (무한스크롤)")
@@ -108,7 +110,8 @@ public interface UserApi {
     ResponseEntity<ResponseWrapper<SliceResponse<MyCrewResponse>>> getMyCrews(
         @AuthenticationPrincipal AuthUser user,
         @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size
+        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)") @RequestParam(required = false) String cursor
     );
 
     @Operation(summary = "내 참여 세션 목록 조회", description = "로그인한 사용자가 참여 신청한 세션 목록을 조회합니다. (무한스크롤). 각 세션에 최근 등록순 참여자 3명이 포함되며, 리뷰 작성 여부(reviewed)가 함께 반환됩니다.")
@@ -120,6 +123,7 @@ public interface UserApi {
         @AuthenticationPrincipal AuthUser user,
         @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)") @RequestParam(required = false) String cursor,
         @Parameter(description = "상태 필터 (SCHEDULED: 예정, COMPLETED: 완료)") @RequestParam(required = false) String status
     );
 }
@@ -80,9 +80,10 @@ public class UserController implements UserApi {
     public ResponseEntity<ResponseWrapper<SliceResponse<SessionListResponse>>> getMyLikedSessions(
         @AuthenticationPrincipal AuthUser user,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String cursor
     ) {
-        Slice<SessionListResponse> result = userService.getMyLikedSessions(user.userId(), PageRequest.of(page, size));
+        Slice<SessionListResponse> result = userService.getMyLikedSessions(user.userId(), cursor, PageRequest.of(page, size));
         return ResponseEntity.ok(ResponseWrapper.success(SliceResponse.from(result)));
     }
 
@@ -91,9 +92,10 @@ public class UserController implements UserApi {
     public ResponseEntity<ResponseWrapper<SliceResponse<SessionListResponse>>> getMyHostedSessions(
         @AuthenticationPrincipal AuthUser user,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String cursor
     ) {
-        Slice<SessionListResponse> result = userService.getMyHostedSessions(user.userId(), PageRequest.of(page, size));
+        Slice<SessionListResponse> result = userService.getMyHostedSessions(user.userId(), cursor, PageRequest.of(page, size));
         return ResponseEntity.ok(ResponseWrapper.success(SliceResponse.from(result)));
     }
 
@@ -113,9 +115,10 @@ public class UserController implements UserApi {
     public ResponseEntity<ResponseWrapper<SliceResponse<MyCrewResponse>>> getMyCrews(
         @AuthenticationPrincipal AuthUser user,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String cursor
     ) {
-        Slice<MyCrewResponse> result = userService.getMyCrews(user.userId(), PageRequest.of(page, size));
+        Slice<MyCrewResponse> result = userService.getMyCrews(user.userId(), cursor, PageRequest.of(page, size));
         return ResponseEntity.ok(ResponseWrapper.success(SliceResponse.from(result)));
     }
 
@@ -125,9 +128,10 @@ public class UserController implements UserApi {
         @AuthenticationPrincipal AuthUser user,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String cursor,
         @RequestParam(required = false) String status
     ) {
-        Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(user.userId(), status, PageRequest.of(page, size));
+        Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(user.userId(), status, cursor, PageRequest.of(page, size));
         return ResponseEntity.ok(ResponseWrapper.success(SliceResponse.from(result)));
     }
 }
@@ -34,6 +34,14 @@ public record ParticipatingSessionResponse(
     Boolean reviewed,
     List<SessionParticipantResponse> participants
 ) {
+    public ParticipatingSessionResponse withLiked(boolean liked) {
+        return new ParticipatingSessionResponse(
+            id, crewId, hostUserId, name, image, city, district, location,
+            coords, sessionAt, registerBy, level, status, pace,
+            maxParticipantCount, currentParticipantCount, liked, createdAt, ranks, reviewed, participants
+        );
+    }
+
     public ParticipatingSessionResponse withParticipants(List<SessionParticipantResponse> participants) {
         return new ParticipatingSessionResponse(
             id, crewId, hostUserId, name, image, city, district, location,
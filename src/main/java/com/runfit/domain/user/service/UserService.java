@@ -2,18 +2,23 @@ package com.runfit.domain.user.service;
 
 import com.runfit.common.exception.BusinessException;
 import com.runfit.common.exception.ErrorCode;
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.pagination.CursorSlice;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.entity.CrewRole;
-import com.runfit.domain.crew.entity.Membership;
 import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.crew.repository.MembershipRoleMap;
 import com.runfit.domain.review.controller.dto.response.ReviewResponse;
 import com.runfit.domain.review.service.ReviewService;
+import com.runfit.domain.session.activity.UserSessionActivity;
 import com.runfit.domain.session.controller.dto.response.SessionListResponse;
+import com.runfit.domain.session.service.SessionLikeWriteBehindService;
 import com.runfit.domain.session.service.SessionService;
+import com.runfit.domain.session.service.UserSessionActivityService;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantResponse;
-import com.runfit.domain.session.entity.SessionParticipant;
 import com.runfit.domain.user.controller.dto.response.ParticipatingSessionResponse;
 import com.runfit.domain.session.repository.SessionLikeRepository;
+import com.runfit.domain.session.repository.SessionParticipantPreview;
 import com.runfit.domain.session.repository.SessionParticipantRepository;
 import com.runfit.domain.user.controller.dto.request.UserUpdateRequest;
 import com.runfit.domain.user.controller.dto.response.MyCrewResponse;
@@ -23,14 +28,15 @@ import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +50,11 @@ public class UserService {
     private final MembershipRepository membershipRepository;
     private final ReviewService reviewService;
     private final SessionService sessionService;
+    private final UserSessionActivityService userSessionActivityService;
+    private final SessionLikeWriteBehindService sessionLikeWriteBehindService;
+
+    @Value("${runfit.session.participant-preview-size:3}")
+    private int participantPreviewSize = 3;
 
     @Transactional(readOnly = true)
     public UserResponse getMyInfo(Long userId) {
@@ -77,13 +88,26 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public Slice<SessionListResponse> getMyLikedSessions(Long userId, Pageable pageable) {
-        return sessionLikeRepository.findLikedSessionsByUserId(userId, pageable);
+    public Slice<SessionListResponse> getMyLikedSessions(Long userId, String cursor, Pageable pageable) {
+        sessionLikeWriteBehindService.flushIfBuffered(userId);
+        Slice<SessionListResponse> sessions =
+            sessionLikeRepository.findLikedSessionsByUserId(userId, Cursor.decode(cursor), pageable);
+
+        if (sessions.isEmpty()) {
+            return sessions;
+        }
+
+        UserSessionActivity activity = userSessionActivityService.get(userId);
+        List<SessionListResponse> content = sessions.getContent().stream()
+            .map(session -> session.withViewerFlags(true, activity.joined(session.id())))
+            .toList();
+
+        return new CursorSlice<>(content, pageable, sessions.hasNext(), CursorSlice.nextCursorOf(sessions));
     }
 
     @Transactional(readOnly = true)
-    public Slice<SessionListResponse> getMyHostedSessions(Long userId, Pageable pageable) {
-        return sessionService.getMyHostedSessions(userId, pageable);
+    public Slice<SessionListResponse> getMyHostedSessions(Long userId, String cursor, Pageable pageable) {
+        return sessionService.getMyHostedSessions(userId, cursor, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -92,13 +116,15 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public Slice<MyCrewResponse> getMyCrews(Long userId, Pageable pageable) {
-        return membershipRepository.findMyCrewsByUserId(userId, pageable);
+    public Slice<MyCrewResponse> getMyCrews(Long userId, String cursor, Pageable pageable) {
+        return membershipRepository.findMyCrewsByUserId(userId, Cursor.decode(cursor), pageable);
     }
 
     @Transactional(readOnly = true)
-    public Slice<ParticipatingSessionResponse> getMyParticipatingSessions(Long userId, String status, Pageable pageable) {
-        Slice<ParticipatingSessionResponse> sessions = sessionParticipantRepository.findParticipatingSessionsByUserId(userId, status, pageable);
+    public Slice<ParticipatingSessionResponse> getMyParticipatingSessions(
+        Long userId, String status, String cursor, Pageable pageable) {
+        Slice<ParticipatingSessionResponse> sessions = sessionParticipantRepository.findParticipatingSessionsByUserId(
+            userId, status, Cursor.decode(cursor), pageable);
 
         if (sessions.isEmpty()) {
             return sessions;
@@ -108,65 +134,41 @@ public class UserService {
             .map(ParticipatingSessionResponse::id)
             .toList();
 
-        List<SessionParticipant> allParticipants = sessionParticipantRepository.findParticipantsBySessionIds(sessionIds);
+        List<SessionParticipantPreview> previews =
+            sessionParticipantRepository.findParticipantPreviews(sessionIds, participantPreviewSize);
 
         Map<Long, Long> sessionCrewMap = sessions.getContent().stream()
             .collect(Collectors.toMap(ParticipatingSessionResponse::id, ParticipatingSessionResponse::crewId));
 
-        Map<String, CrewRole> membershipRoleMap = buildMembershipRoleMap(allParticipants, sessionCrewMap);
+        MembershipRoleMap membershipRoleMap = membershipRepository.findRoleMap(
+            previews.stream().map(SessionParticipantPreview::userId).collect(Collectors.toSet()),
+            new HashSet<>(sessionCrewMap.values())
+        );
 
         Map<Long, List<SessionParticipantResponse>> participantsBySessionId = new HashMap<>();
-        for (SessionParticipant sp : allParticipants) {
-            Long sessionId = sp.getSession().getId();
-            Long crewId = sessionCrewMap.get(sessionId);
-            String key = sp.getUser().getUserId() + "_" + crewId;
-            CrewRole role = membershipRoleMap.getOrDefault(key, CrewRole.MEMBER);
-
-            List<SessionParticipantResponse> sessionParticipants = participantsBySessionId
-                .computeIfAbsent(sessionId, k -> new ArrayList<>());
-
-            if (sessionParticipants.size() < 3) {
-                sessionParticipants.add(new SessionParticipantResponse(
-                    sp.getUser().getUserId(),
-                    sp.getUser().getName(),
-                    sp.getUser().getImage(),
-                    sp.getUser().getIntroduction(),
+        for (SessionParticipantPreview preview : previews) {
+            Long crewId = sessionCrewMap.get(preview.sessionId());
+            CrewRole role = membershipRoleMap.get(preview.userId(), crewId, CrewRole.MEMBER);
+
+            participantsBySessionId.computeIfAbsent(preview.sessionId(), k -> new ArrayList<>())
+                .add(new SessionParticipantResponse(
+                    preview.userId(),
+                    preview.name(),
+                    preview.profileImage(),
+                    preview.introduction(),
                     role,
-                    sp.getJoinedAt()
+                    preview.joinedAt()
                 ));
-            }
         }
 
+        UserSessionActivity activity = userSessionActivityService.get(userId);
         List<ParticipatingSessionResponse> enrichedContent = sessions.getContent().stream()
-            .map(session -> session.withParticipants(
-                participantsBySessionId.getOrDefault(session.id(), List.of())
-            ))
+            .map(session -> session
+                .withLiked(activity.liked(session.id()))
+                .withParticipants(participantsBySessionId.getOrDefault(session.id(), List.of())))
             .toList();
 
-        return new SliceImpl<>(enrichedContent, pageable, sessions.hasNext());
-    }
-
-    private Map<String, CrewRole> buildMembershipRoleMap(
-        List<SessionParticipant> participants,
-        Map<Long, Long> sessionCrewMap
-    ) {
-        Map<String, CrewRole> roleMap = new HashMap<>();
-
-        for (SessionParticipant sp : participants) {
-            Long sessionId = sp.getSession().getId();
-            Long crewId = sessionCrewMap.get(sessionId);
-            Long visitorUserId = sp.getUser().getUserId();
-            String key = visitorUserId + "_" + crewId;
-
-            if (!roleMap.containsKey(key)) {
-                CrewRole role = membershipRepository.findByUserUserIdAndCrewId(visitorUserId, crewId)
-                    .map(Membership::getRole)
-                    .orElse(CrewRole.MEMBER);
-                roleMap.put(key, role);
-            }
-        }
-
-        return roleMap;
+        return new CursorSlice<>(enrichedContent, pageable, sessions.hasNext(), CursorSlice.nextCursorOf(sessions));
     }
 
     private User findUserById(Long userId) {
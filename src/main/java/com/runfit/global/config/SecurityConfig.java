@@ -1,10 +1,13 @@
 package com.runfit.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runfit.common.idempotency.IdempotencyFilter;
+import com.runfit.common.idempotency.IdempotencyStore;
 import com.runfit.global.jwt.entrypoint.JwtAuthenticationEntryPoint;
 import com.runfit.global.jwt.filter.JwtAuthenticationFilter;
 import com.runfit.global.jwt.filter.JwtExceptionFilter;
 import com.runfit.global.jwt.handler.JwtAccessDeniedHandler;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +35,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtExceptionFilter jwtExceptionFilter;
     private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
 
 
     private final String[] readOnlyPublicUrl = {
@@ -43,6 +47,7 @@ public class SecurityConfig {
 
     private final String[] crewPublicUrl = {
         "/api/crews",
+        "/api/crews/suggestions",
         "/api/crews/{crewId}",
         "/api/crews/{crewId}/members",
         "/api/crews/{crewId}/members/count",
@@ -52,9 +57,20 @@ public class SecurityConfig {
 
     private final String[] sessionPublicUrl = {
         "/api/sessions",
+        "/api/sessions/calendar",
+        "/api/sessions/facets",
+        "/api/sessions/suggestions",
         "/api/sessions/{sessionId}",
     };
 
+    // Idempotency-Key 헤더로 재시도를 첫 응답으로 돌려주는 POST
+    private final String[] idempotentUrl = {
+        "/api/sessions/series",
+        "/api/sessions/{sessionId}/join",
+        "/api/sessions/{sessionId}/like",
+        "/api/sessions/{sessionId}/reviews",
+    };
+
     @Value("${cors.allowed-origins}")
     private List<String> allowedOrigins;
 
@@ -69,8 +85,12 @@ public class SecurityConfig {
                 sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtExceptionFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(new IdempotencyFilter(idempotencyStore, objectMapper, idempotentUrl),
+                JwtAuthenticationFilter.class)
             .authorizeHttpRequests(authorizeHttpRequests ->
                 authorizeHttpRequests
+                    // 스트리밍 응답 완료 후의 비동기 재디스패치는 JWT 필터를 거치지 않으므로 허용 (원 요청에서 이미 인가됨)
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                     .requestMatchers(HttpMethod.GET, readOnlyPublicUrl).permitAll()
                     .requestMatchers(HttpMethod.GET, crewPublicUrl).permitAll()
@@ -0,0 +1,30 @@
+package com.runfit.global.scheduler;
+
+import com.runfit.domain.session.event.SessionCountersReconciledEvent;
+import com.runfit.domain.session.repository.SessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionCounterReconciliationScheduler {
+
+    private final SessionRepository sessionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(cron = "0 0 4 * * *")  // 매일 04시에 실행
+    @Transactional
+    public void reconcileCounters() {
+        int repairedCount = sessionRepository.reconcileCounters();
+
+        if (repairedCount > 0) {
+            log.warn("Repaired counter drift on {} sessions", repairedCount);
+            eventPublisher.publishEvent(new SessionCountersReconciledEvent(repairedCount));
+        }
+    }
+}
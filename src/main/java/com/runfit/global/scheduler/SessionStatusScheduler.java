@@ -1,10 +1,12 @@
 package com.runfit.global.scheduler;
 
 import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
 import com.runfit.domain.session.repository.SessionRepository;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class SessionStatusScheduler {
 
     private final SessionRepository sessionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "0 * * * * *")  // 매분 0초에 실행
     @Transactional
@@ -29,6 +32,7 @@ public class SessionStatusScheduler {
 
         if (updatedCount > 0) {
             log.info("Closed {} sessions with expired registration deadline", updatedCount);
+            eventPublisher.publishEvent(new ExpiredSessionsClosedEvent(now));
         }
     }
 }
@@ -0,0 +1,66 @@
+package com.runfit.common.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecordExportWriterTest {
+
+    record Row(Long id, String name, Integer ranks) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("성공 - CSV는 BOM과 헤더를 쓰고 구분자/따옴표/줄바꿈이 있는 값은 따옴표로 감싼다")
+    void writeCsv() throws IOException {
+        // given
+        Stream<Row> rows = Stream.of(
+            new Row(1L, "한강, 야간 \"러닝\"", 5),
+            new Row(2L, "줄\n바꿈", null)
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = RecordExportWriter.write(rows, Row.class, ExportFormat.CSV, out, objectMapper);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "\uFEFFid,name,ranks\n"
+                + "1,\"한강, 야간 \"\"러닝\"\"\",5\n"
+                + "2,\"줄\n바꿈\",\n"
+        );
+    }
+
+    @Test
+    @DisplayName("성공 - 수식으로 해석될 수 있는 문자열 값은 작은따옴표를 붙인다")
+    void escapeFormula() {
+        assertThat(RecordExportWriter.escape("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+        assertThat(RecordExportWriter.escape("@sum")).isEqualTo("'@sum");
+        assertThat(RecordExportWriter.escape("러닝")).isEqualTo("러닝");
+    }
+
+    @Test
+    @DisplayName("성공 - NDJSON은 한 줄에 한 행씩 JSON 객체로 쓴다")
+    void writeNdjson() throws IOException {
+        // given
+        Stream<Row> rows = Stream.of(new Row(1L, "러닝", 5), new Row(2L, "트레일", null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        RecordExportWriter.write(rows, Row.class, ExportFormat.NDJSON, out, objectMapper);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "{\"id\":1,\"name\":\"러닝\",\"ranks\":5}\n"
+                + "{\"id\":2,\"name\":\"트레일\",\"ranks\":null}\n"
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.runfit.common.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+    @Test
+    @DisplayName("성공 - 좌표를 Geohash로 인코딩")
+    void encode() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 8)).isEqualTo("u4pruydq");
+    }
+
+    @Test
+    @DisplayName("성공 - 반경을 덮는 중심 셀과 인접 셀 반환")
+    void coveringCells() {
+        // when
+        List<String> cells = GeoHash.coveringCells(37.4979, 127.0276, 3.0);
+
+        // then
+        assertThat(cells).hasSize(9);
+        assertThat(cells).allSatisfy(cell -> assertThat(cell).hasSize(cells.get(0).length()));
+        assertThat(GeoHash.encode(37.4979, 127.0276, GeoHash.PRECISION)).startsWith(cells.get(4));
+    }
+
+    @Test
+    @DisplayName("성공 - 반경이 클수록 더 짧은 접두어(큰 셀) 사용")
+    void precisionFor() {
+        assertThat(GeoHash.precisionFor(37.5, 50.0)).isLessThan(GeoHash.precisionFor(37.5, 1.0));
+    }
+}
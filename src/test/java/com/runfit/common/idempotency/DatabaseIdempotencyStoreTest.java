@@ -0,0 +1,118 @@
+package com.runfit.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseIdempotencyStoreTest {
+
+    private static final String KEY = "key-hash";
+    private static final String REQUEST = "request-hash";
+
+    @InjectMocks
+    private DatabaseIdempotencyStore store;
+
+    @Mock
+    private IdempotencyRecordRepository recordRepository;
+
+    @Test
+    @DisplayName("성공 - 처리 중 기록은 ttl이 아닌 짧은 선점 기한으로 저장")
+    void claim_savesInProgressWithLease() {
+        // given
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        IdempotentResponse stored = store.claim(KEY, REQUEST);
+
+        // then
+        assertThat(stored).isNull();
+        verify(recordRepository).saveAndFlush(argThat((IdempotencyRecord record) ->
+            record.getExpiresAt().isBefore(before.plusMinutes(5))));
+    }
+
+    @Test
+    @DisplayName("성공 - 선점 기한이 지난 처리 중 기록은 지우고 재시도가 키를 넘겨받음")
+    void claim_takesOverExpiredInProgress() {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(2);
+        IdempotencyRecord abandoned = IdempotencyRecord.claim(KEY, REQUEST, past, past.plusSeconds(60));
+        given(recordRepository.saveAndFlush(any(IdempotencyRecord.class)))
+            .willThrow(new DataIntegrityViolationException("duplicate"))
+            .willReturn(null);
+        given(recordRepository.findByKeyHash(KEY)).willReturn(Optional.of(abandoned));
+
+        // when
+        IdempotentResponse stored = store.claim(KEY, REQUEST);
+
+        // then
+        assertThat(stored).isNull();
+        verify(recordRepository).delete(abandoned);
+    }
+
+    @Test
+    @DisplayName("실패 - 선점 기한 안의 처리 중 기록이 있으면 IN_PROGRESS 반환")
+    void claim_rejectsLiveInProgress() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord inProgress = IdempotencyRecord.claim(KEY, REQUEST, now, now.plusSeconds(60));
+        willThrow(new DataIntegrityViolationException("duplicate"))
+            .given(recordRepository).saveAndFlush(any(IdempotencyRecord.class));
+        given(recordRepository.findByKeyHash(KEY)).willReturn(Optional.of(inProgress));
+
+        // when
+        IdempotentResponse stored = store.claim(KEY, REQUEST);
+
+        // then
+        assertThat(stored.isInProgress()).isTrue();
+        verify(recordRepository, never()).delete(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("실패 - 선점할 때와 요청 본문 해시가 다르면 REQUEST_MISMATCH 반환")
+    void claim_rejectsDifferentRequest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord claimed = IdempotencyRecord.claim(KEY, REQUEST, now, now.plusSeconds(60));
+        willThrow(new DataIntegrityViolationException("duplicate"))
+            .given(recordRepository).saveAndFlush(any(IdempotencyRecord.class));
+        given(recordRepository.findByKeyHash(KEY)).willReturn(Optional.of(claimed));
+
+        // when
+        IdempotentResponse stored = store.claim(KEY, "other-request-hash");
+
+        // then
+        assertThat(stored.isRequestMismatch()).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 - 응답을 저장하면 만료 시각을 ttl 뒤로 늘림")
+    void complete_extendsExpiryToTtl() {
+        // given
+        LocalDateTime before = LocalDateTime.now();
+        IdempotentResponse response = new IdempotentResponse(200, "application/json", null, new byte[0]);
+
+        // when
+        store.complete(KEY, response);
+
+        // then
+        verify(recordRepository).complete(eq(KEY), anyInt(), any(), any(), any(),
+            argThat(expiresAt -> !expiresAt.isBefore(before.plusSeconds(86_400))));
+    }
+}
@@ -0,0 +1,170 @@
+package com.runfit.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runfit.domain.auth.model.AuthUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+
+class IdempotencyFilterTest {
+
+    private InMemoryIdempotencyStore store;
+    private IdempotencyFilter filter;
+    private final AtomicInteger executions = new AtomicInteger();
+    private int handlerStatus;
+    private String receivedBody;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore(new SimpleMeterRegistry());
+        store.initialize();
+        filter = new IdempotencyFilter(store, new ObjectMapper(), "/api/sessions/{sessionId}/join");
+        handlerStatus = HttpServletResponse.SC_OK;
+        authenticate(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate(Long userId) {
+        AuthUser authUser = AuthUser.create(userId, "user" + userId, "USER");
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities()));
+    }
+
+    private MockHttpServletResponse post(String path, String idempotencyKey) throws Exception {
+        return post(path, idempotencyKey, "{}");
+    }
+
+    private MockHttpServletResponse post(String path, String idempotencyKey, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            receivedBody = StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8);
+            int execution = executions.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) res;
+            httpResponse.setStatus(handlerStatus);
+            httpResponse.setContentType("application/json");
+            httpResponse.setHeader(HttpHeaders.LOCATION, "/tickets/" + execution);
+            httpResponse.getWriter().write("{\"execution\":" + execution + "}");
+        });
+        return response;
+    }
+
+    @Test
+    @DisplayName("성공 - 같은 키의 재시도는 핸들러를 다시 실행하지 않고 첫 응답을 돌려준다")
+    void replaySameKey() throws Exception {
+        // given
+        MockHttpServletResponse first = post("/api/sessions/1/join", "retry-1");
+
+        // when
+        MockHttpServletResponse retried = post("/api/sessions/1/join", "retry-1");
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(retried.getStatus()).isEqualTo(first.getStatus());
+        assertThat(retried.getContentAsString()).isEqualTo("{\"execution\":1}");
+        assertThat(retried.getHeader(HttpHeaders.LOCATION)).isEqualTo("/tickets/1");
+        assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("실패 - 같은 키에 다른 본문을 보내면 422로 거절하고, 핸들러는 읽어 둔 본문을 그대로 받는다")
+    void rejectDifferentBodyForSameKey() throws Exception {
+        // given
+        post("/api/sessions/1/join", "retry-1", "{\"message\":\"first\"}");
+
+        // when
+        MockHttpServletResponse reused = post("/api/sessions/1/join", "retry-1", "{\"message\":\"second\"}");
+
+        // then
+        assertThat(receivedBody).isEqualTo("{\"message\":\"first\"}");
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    @DisplayName("성공 - 키는 사용자와 경로별로 구분되고, 헤더가 없으면 매번 실행한다")
+    void keyScopedByUserAndPath() throws Exception {
+        // when
+        post("/api/sessions/1/join", "retry-1");
+        post("/api/sessions/2/join", "retry-1");
+        authenticate(2L);
+        post("/api/sessions/1/join", "retry-1");
+        post("/api/sessions/1/join", null);
+        post("/api/sessions/1/join", null);
+
+        // then
+        assertThat(executions).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("성공 - 5xx 응답은 저장하지 않아 같은 키로 다시 실행할 수 있다")
+    void serverErrorNotStored() throws Exception {
+        // given
+        handlerStatus = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        post("/api/sessions/1/join", "retry-1");
+
+        // when
+        handlerStatus = HttpServletResponse.SC_OK;
+        MockHttpServletResponse retried = post("/api/sessions/1/join", "retry-1");
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(retried.getContentAsString()).isEqualTo("{\"execution\":2}");
+    }
+
+    @Test
+    @DisplayName("실패 - 첫 요청이 처리 중이면 409, 키가 너무 길면 400")
+    void rejectInProgressAndInvalidKey() throws Exception {
+        // given
+        filter = new IdempotencyFilter(new InProgressStore(), new ObjectMapper(), "/api/sessions/{sessionId}/join");
+
+        // when
+        MockHttpServletResponse inProgress = post("/api/sessions/1/join", "retry-1");
+        MockHttpServletResponse tooLong = post("/api/sessions/1/join", "k".repeat(256));
+
+        // then
+        assertThat(inProgress.getStatus()).isEqualTo(HttpServletResponse.SC_CONFLICT);
+        assertThat(inProgress.getContentAsString()).contains("IDEMPOTENCY_KEY_IN_PROGRESS");
+        assertThat(tooLong.getStatus()).isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(executions).hasValue(0);
+    }
+
+    private static class InProgressStore implements IdempotencyStore {
+
+        @Override
+        public IdempotentResponse claim(String key, String requestHash) {
+            return IdempotentResponse.IN_PROGRESS;
+        }
+
+        @Override
+        public void complete(String key, IdempotentResponse response) {
+        }
+
+        @Override
+        public void release(String key) {
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.runfit.common.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("성공 - 인코딩한 커서를 그대로 복원")
+    void encodeAndDecode() {
+        // given
+        LocalDateTime key = LocalDateTime.of(2025, 1, 1, 7, 30, 15, 123456000);
+
+        // when
+        Cursor cursor = Cursor.decode(Cursor.encode(key, 42L));
+
+        // then
+        assertThat(cursor.key()).isEqualTo(key);
+        assertThat(cursor.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("성공 - 커서가 없으면 null 반환")
+    void decode_blank() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("실패 - 형식이 잘못된 커서")
+    void decode_invalid() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,78 @@
+package com.runfit.common.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SuggestTrieTest {
+
+    private SuggestTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestTrie(3);
+        trie.put(1L, "한강 러닝크루", 30);
+        trie.put(2L, "한남 러너스", 50);
+        trie.put(3L, "과천 트레일", 10);
+        trie.put(4L, "Seoul Runners", 20);
+    }
+
+    private List<Long> ids(String prefix, int limit) {
+        return trie.suggest(prefix, limit).stream()
+            .map(Suggestion::id)
+            .toList();
+    }
+
+    @Test
+    @DisplayName("성공 - 접두어가 같은 후보를 점수 높은 순으로 반환")
+    void suggestRankedByScore() {
+        assertThat(ids("한", 10)).containsExactly(2L, 1L);
+        assertThat(ids("한강", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - 입력 중인 미완성 글자도 자모 단위로 일치")
+    void suggestPartialSyllable() {
+        assertThat(ids("ㅎ", 10)).containsExactly(2L, 1L);
+        assertThat(ids("한가", 10)).containsExactly(1L);
+        // ㄹㅓㄴ 은 러닝(ㄹㅓㄴㅣㅇ)과 러너스(ㄹㅓㄴㅓ) 모두의 접두어
+        assertThat(ids("런", 10)).containsExactly(2L, 1L);
+        assertThat(ids("고", 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("성공 - 이름 중간 단어와 띄어쓰기 없는 입력, 영문 대소문자도 일치")
+    void suggestFromInnerWord() {
+        assertThat(ids("러", 10)).containsExactly(2L, 1L);
+        assertThat(ids("한강러", 10)).containsExactly(1L);
+        assertThat(ids("run", 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("성공 - 점수 변경과 삭제가 순위에 바로 반영")
+    void putAndRemove() {
+        // when
+        trie.put(1L, "한강 러닝크루", 100);
+        trie.remove(2L);
+
+        // then
+        assertThat(ids("한", 10)).containsExactly(1L);
+        assertThat(ids("러", 10)).containsExactly(1L);
+        assertThat(trie.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("성공 - 노드마다 상위 capacity개만 유지하고 limit만큼 반환")
+    void limit() {
+        // given
+        trie.put(5L, "한밭 러닝", 40);
+        trie.put(6L, "한빛 크루", 5);
+
+        // when & then
+        assertThat(ids("ㅎ", 10)).containsExactly(2L, 5L, 1L);
+        assertThat(ids("ㅎ", 2)).containsExactly(2L, 5L);
+    }
+}
@@ -0,0 +1,60 @@
+package com.runfit.common.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TextSearchIndexTest {
+
+    private TextSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TextSearchIndex();
+        index.put(1L, SearchField.of("한강 야간 러닝", 3), SearchField.of("반포대교에서 출발합니다", 1));
+        index.put(2L, SearchField.of("남산 트레일", 3), SearchField.of("한강까지 내려오는 코스", 1));
+        index.put(3L, SearchField.of("올림픽공원 10K", 3), SearchField.of("초보 환영", 1));
+    }
+
+    @Test
+    @DisplayName("성공 - 조사가 붙거나 띄어쓰기가 달라도 한글 부분 일치로 검색")
+    void searchHangulSubstring() {
+        assertThat(index.search("반포대교", 10)).containsExactly(1L);
+        assertThat(index.search("야간러닝", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - 가중치가 높은 필드에서 일치한 문서가 먼저 반환")
+    void searchRankedByFieldBoost() {
+        assertThat(index.search("한강", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("성공 - 영문은 대소문자를 구분하지 않고, 1글자 검색어도 검색")
+    void searchCaseInsensitiveAndSingleCharacter() {
+        assertThat(index.search("10k", 10)).containsExactly(3L);
+        assertThat(index.search("숲", 10)).isEmpty();
+        assertThat(index.search("초", 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("성공 - 검색어의 모든 토큰을 포함한 문서만 반환")
+    void searchRequiresAllTerms() {
+        assertThat(index.search("한강 트레일", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("성공 - 수정/삭제된 문서는 이전 내용으로 검색되지 않음")
+    void putAndRemove() {
+        // when
+        index.put(1L, SearchField.of("뚝섬 새벽 러닝", 3));
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("한강", 10)).isEmpty();
+        assertThat(index.search("뚝섬", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
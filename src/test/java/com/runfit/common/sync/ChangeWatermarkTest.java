@@ -0,0 +1,73 @@
+package com.runfit.common.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChangeWatermarkTest {
+
+    private final ChangeWatermark watermark = new ChangeWatermark();
+
+    private final LocalDateTime startedAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Test
+    @DisplayName("성공 - 첫 적재 전에는 변경분을 조회하지 않는다")
+    void catchUpBeforeReady() {
+        List<LocalDateTime> queried = new ArrayList<>();
+
+        watermark.catchUp(since -> {
+            queried.add(since);
+            return List.of();
+        }, change -> change, change -> { });
+
+        assertThat(watermark.isReady()).isFalse();
+        assertThat(queried).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공 - 반영 시각보다 여유를 두고 조회하고, 반영한 변경의 가장 늦은 시각으로 앞당긴다")
+    void catchUpAdvancesToLatestChange() {
+        // given
+        watermark.advance(startedAt);
+        List<LocalDateTime> queried = new ArrayList<>();
+        List<LocalDateTime> applied = new ArrayList<>();
+
+        // when
+        watermark.catchUp(since -> {
+            queried.add(since);
+            return List.of(startedAt.plusSeconds(30), startedAt.plusSeconds(10));
+        }, change -> change, applied::add);
+        watermark.catchUp(since -> {
+            queried.add(since);
+            return List.of();
+        }, change -> change, applied::add);
+
+        // then
+        assertThat(applied).containsExactly(startedAt.plusSeconds(30), startedAt.plusSeconds(10));
+        assertThat(queried).containsExactly(
+            ChangeWatermark.since(startedAt),
+            ChangeWatermark.since(startedAt.plusSeconds(30))
+        );
+        assertThat(ChangeWatermark.since(startedAt)).isBefore(startedAt);
+    }
+
+    @Test
+    @DisplayName("성공 - 더 이른 시각이나 null로는 뒤로 가지 않는다")
+    void advanceIsMonotonic() {
+        watermark.advance(startedAt);
+        watermark.advance(startedAt.minusMinutes(5));
+        watermark.advance(null);
+
+        List<LocalDateTime> queried = new ArrayList<>();
+        watermark.catchUp(since -> {
+            queried.add(since);
+            return List.of();
+        }, change -> change, change -> { });
+
+        assertThat(queried).containsExactly(ChangeWatermark.since(startedAt));
+    }
+}
@@ -2,6 +2,7 @@ package com.runfit.domain.crew.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.runfit.common.model.AggregateVersion;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.entity.Crew;
 import com.runfit.domain.crew.entity.CrewRole;
@@ -11,6 +12,7 @@ import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
 import com.runfit.global.config.AuditConfig;
 import com.runfit.global.config.QueryDslConfig;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -318,4 +320,79 @@ class MembershipRepositoryCustomTest {
             assertThat(result.getContent().get(0).name()).isEqualTo("크루1");
         }
     }
+
+    @Nested
+    @DisplayName("사용자/크루 목록으로 역할 일괄 조회")
+    class FindRoleMap {
+
+        @Test
+        @DisplayName("성공 - 한 번의 조회로 (사용자, 크루)별 역할 반환")
+        void success() {
+            // given
+            membershipRepository.save(Membership.createLeader(user1, crew1));
+            membershipRepository.save(Membership.createMember(user2, crew1));
+            membershipRepository.save(Membership.createMember(user1, crew2));
+
+            // when
+            MembershipRoleMap result = membershipRepository.findRoleMap(
+                Set.of(user1.getUserId(), user2.getUserId()),
+                Set.of(crew1.getId(), crew2.getId())
+            );
+
+            // then
+            assertThat(result.size()).isEqualTo(3);
+            assertThat(result.get(user1.getUserId(), crew1.getId(), null)).isEqualTo(CrewRole.LEADER);
+            assertThat(result.get(user2.getUserId(), crew1.getId(), null)).isEqualTo(CrewRole.MEMBER);
+            assertThat(result.get(user1.getUserId(), crew2.getId(), null)).isEqualTo(CrewRole.MEMBER);
+            assertThat(result.get(user2.getUserId(), crew2.getId(), CrewRole.MEMBER)).isEqualTo(CrewRole.MEMBER);
+        }
+
+        @Test
+        @DisplayName("성공 - 빈 목록이면 빈 맵")
+        void success_empty() {
+            // when
+            MembershipRoleMap result = membershipRepository.findRoleMap(Set.of(), Set.of(crew1.getId()));
+
+            // then
+            assertThat(result.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("크루 멤버 명단 버전 조회")
+    class FindMemberRosterVersion {
+
+        @Test
+        @DisplayName("성공 - 명단이 그대로면 같은 버전")
+        void success_unchanged() {
+            // given
+            membershipRepository.save(Membership.createLeader(user1, crew1));
+            membershipRepository.save(Membership.createMember(user2, crew1));
+
+            // when
+            AggregateVersion first = membershipRepository.findMemberRosterVersion(crew1.getId());
+            AggregateVersion second = membershipRepository.findMemberRosterVersion(crew1.getId());
+
+            // then
+            assertThat(first.count()).isEqualTo(2);
+            assertThat(second).isEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("성공 - 역할이 바뀌면 버전이 달라짐")
+        void success_roleChanged() {
+            // given
+            membershipRepository.save(Membership.createLeader(user1, crew1));
+            Membership member = membershipRepository.save(Membership.createMember(user2, crew1));
+            AggregateVersion before = membershipRepository.findMemberRosterVersion(crew1.getId());
+
+            // when
+            member.changeRole(CrewRole.STAFF);
+            AggregateVersion after = membershipRepository.findMemberRosterVersion(crew1.getId());
+
+            // then
+            assertThat(after.count()).isEqualTo(before.count());
+            assertThat(after).isNotEqualTo(before);
+        }
+    }
 }
@@ -203,4 +203,42 @@ class MembershipRepositoryTest {
         assertThat(memberships.get(1).getUser().getUserId()).isEqualTo(user2.getUserId());
         assertThat(memberships.get(2).getUser().getUserId()).isEqualTo(user1.getUserId());
     }
+
+    @Test
+    @DisplayName("크루 ID와 사용자 ID 목록으로 역할 일괄 변경")
+    void updateRoleByCrewIdAndUserIds_success() {
+        // given
+        membershipRepository.save(Membership.createLeader(user1, crew));
+        membershipRepository.save(Membership.createMember(user2, crew));
+        membershipRepository.save(Membership.createMember(user3, crew));
+
+        // when
+        int updated = membershipRepository.updateRoleByCrewIdAndUserIds(
+            crew.getId(), List.of(user2.getUserId(), user3.getUserId()), CrewRole.STAFF);
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(membershipRepository.countByCrewIdAndRole(crew.getId(), CrewRole.STAFF)).isEqualTo(2);
+        assertThat(membershipRepository.countByCrewIdAndRole(crew.getId(), CrewRole.LEADER)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("크루 ID와 사용자 ID 목록으로 멤버십 일괄 삭제 - 다른 크루 멤버십은 유지")
+    void deleteByCrewIdAndUserIds_success() {
+        // given
+        Crew otherCrew = crewRepository.save(Crew.create("다른 크루", "설명", "서울", null));
+        membershipRepository.save(Membership.createLeader(user1, crew));
+        membershipRepository.save(Membership.createMember(user2, crew));
+        membershipRepository.save(Membership.createMember(user3, crew));
+        membershipRepository.save(Membership.createMember(user2, otherCrew));
+
+        // when
+        int deleted = membershipRepository.deleteByCrewIdAndUserIds(
+            crew.getId(), List.of(user2.getUserId(), user3.getUserId()));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(membershipRepository.countByCrewId(crew.getId())).isEqualTo(1);
+        assertThat(membershipRepository.countByCrewId(otherCrew.getId())).isEqualTo(1);
+    }
 }
@@ -0,0 +1,59 @@
+package com.runfit.domain.crew.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.runfit.domain.crew.entity.CrewRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MembershipRoleMapTest {
+
+    @Test
+    @DisplayName("저장한 (사용자, 크루) 쌍의 역할 조회, 없으면 기본값")
+    void putAndGet() {
+        // given
+        MembershipRoleMap roleMap = new MembershipRoleMap();
+        roleMap.put(1L, 10L, CrewRole.LEADER);
+        roleMap.put(10L, 1L, CrewRole.STAFF);
+
+        // when & then
+        assertThat(roleMap.get(1L, 10L, CrewRole.MEMBER)).isEqualTo(CrewRole.LEADER);
+        assertThat(roleMap.get(10L, 1L, CrewRole.MEMBER)).isEqualTo(CrewRole.STAFF);
+        assertThat(roleMap.get(1L, 1L, CrewRole.MEMBER)).isEqualTo(CrewRole.MEMBER);
+        assertThat(roleMap.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키는 덮어쓰고 크기가 늘지 않음")
+    void overwrite() {
+        // given
+        MembershipRoleMap roleMap = new MembershipRoleMap();
+        roleMap.put(1L, 1L, CrewRole.MEMBER);
+
+        // when
+        roleMap.put(1L, 1L, CrewRole.STAFF);
+
+        // then
+        assertThat(roleMap.get(1L, 1L, null)).isEqualTo(CrewRole.STAFF);
+        assertThat(roleMap.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량을 넘겨도 모든 항목 유지")
+    void grow() {
+        // given
+        MembershipRoleMap roleMap = new MembershipRoleMap(2);
+
+        // when
+        for (long userId = 1; userId <= 1000; userId++) {
+            roleMap.put(userId, userId % 7, CrewRole.values()[(int) (userId % 3)]);
+        }
+
+        // then
+        assertThat(roleMap.size()).isEqualTo(1000);
+        for (long userId = 1; userId <= 1000; userId++) {
+            assertThat(roleMap.get(userId, userId % 7, null)).isEqualTo(CrewRole.values()[(int) (userId % 3)]);
+        }
+        assertThat(roleMap.get(1001L, 0L, null)).isNull();
+    }
+}
@@ -2,8 +2,12 @@ package com.runfit.domain.crew.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.runfit.common.exception.BusinessException;
@@ -12,11 +16,16 @@ import com.runfit.domain.crew.controller.dto.request.CrewCreateRequest;
 import com.runfit.domain.crew.controller.dto.request.CrewSearchCondition;
 import com.runfit.domain.crew.controller.dto.request.CrewUpdateRequest;
 import com.runfit.domain.crew.controller.dto.request.LeaderChangeRequest;
+import com.runfit.domain.crew.controller.dto.request.MemberBulkKickRequest;
+import com.runfit.domain.crew.controller.dto.request.MemberBulkRoleChangeRequest;
 import com.runfit.domain.crew.controller.dto.request.RoleChangeRequest;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.controller.dto.response.CrewMembersResponse;
 import com.runfit.domain.crew.controller.dto.response.CrewResponse;
 import com.runfit.domain.crew.controller.dto.response.LeaderChangeResponse;
+import com.runfit.domain.crew.controller.dto.response.MemberBulkOutcome;
+import com.runfit.domain.crew.controller.dto.response.MemberBulkResponse;
+import com.runfit.domain.crew.controller.dto.response.MemberBulkResult;
 import com.runfit.domain.crew.controller.dto.response.MemberCountResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberResponse;
 import com.runfit.domain.crew.controller.dto.response.MemberRoleResponse;
@@ -25,12 +34,17 @@ import com.runfit.domain.crew.controller.dto.response.RoleChangeResponse;
 import com.runfit.domain.crew.entity.Crew;
 import com.runfit.domain.crew.entity.CrewRole;
 import com.runfit.domain.crew.entity.Membership;
+import com.runfit.domain.crew.event.CrewChangedEvent;
 import com.runfit.domain.crew.repository.CrewRepository;
 import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.crew.repository.MembershipRoleMap;
 import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +53,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -60,6 +75,15 @@ class CrewServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CrewSearchCache crewSearchCache;
+
+    @Mock
+    private CrewTextSearchService crewTextSearchService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User user;
     private User anotherUser;
     private Crew crew;
@@ -107,6 +131,7 @@ class CrewServiceTest {
             // then
             assertThat(response.name()).isEqualTo("새 크루");
             assertThat(response.memberCount()).isEqualTo(1);
+            verify(eventPublisher).publishEvent(new CrewChangedEvent(1L, "새 크루", "설명", false));
         }
 
         @Test
@@ -153,6 +178,18 @@ class CrewServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CREW_NOT_FOUND);
         }
+
+        @Test
+        @DisplayName("실패 - 버전 조회 시 크루 없음")
+        void fail_versionCrewNotFound() {
+            // given
+            given(crewRepository.findCrewVersion(999L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> crewService.getCrewDetailVersion(999L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CREW_NOT_FOUND);
+        }
     }
 
     @Nested
@@ -518,6 +555,139 @@ class CrewServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("크루 멤버 일괄 처리")
+    class BulkMembers {
+
+        private MembershipRoleMap roleMap(CrewRole leaderRole, CrewRole anotherRole) {
+            MembershipRoleMap roleMap = new MembershipRoleMap();
+            roleMap.put(1L, 1L, leaderRole);
+            roleMap.put(2L, 1L, anotherRole);
+            return roleMap;
+        }
+
+        @Test
+        @DisplayName("가져오기 성공 - 행마다 처리 결과를 반환하고 신규 멤버만 일괄 저장")
+        void importMembers_success() {
+            // given
+            User newUser = User.create("new@test.com", "password", "신규");
+            ReflectionTestUtils.setField(newUser, "userId", 3L);
+            String csv = "email\nnew@test.com\nanother@test.com\nNEW@test.com\nnot-an-email\nghost@test.com\n";
+            given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
+            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L)).willReturn(Optional.of(leaderMembership));
+            given(userRepository.findAllByEmailIn(anyList())).willReturn(List.of(newUser, anotherUser));
+            given(membershipRepository.findRoleMap(any(), any())).willReturn(roleMap(CrewRole.LEADER, CrewRole.MEMBER));
+
+            // when
+            MemberBulkResponse response = crewService.importMembers(1L, 1L, csv, false);
+
+            // then
+            assertThat(response.total()).isEqualTo(5);
+            assertThat(response.succeeded()).isEqualTo(1);
+            assertThat(response.failed()).isEqualTo(4);
+            assertThat(response.results()).extracting(MemberBulkResult::row, MemberBulkResult::outcome).containsExactly(
+                tuple(2, MemberBulkOutcome.JOINED),
+                tuple(3, MemberBulkOutcome.ALREADY_MEMBER),
+                tuple(4, MemberBulkOutcome.DUPLICATE),
+                tuple(5, MemberBulkOutcome.INVALID_EMAIL),
+                tuple(6, MemberBulkOutcome.USER_NOT_FOUND)
+            );
+            verify(userRepository).findAllByEmailIn(anyList());
+            verify(membershipRepository).saveAll(argThat(memberships -> ((List<?>) memberships).size() == 1));
+        }
+
+        @Test
+        @DisplayName("가져오기 실패 - 1,000행 초과")
+        void importMembers_fail_tooManyRows() {
+            // given
+            String csv = IntStream.rangeClosed(1, 1001)
+                .mapToObj(i -> "user" + i + "@test.com")
+                .collect(Collectors.joining("\n"));
+            given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
+            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L)).willReturn(Optional.of(leaderMembership));
+
+            // when & then
+            assertThatThrownBy(() -> crewService.importMembers(1L, 1L, csv, false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_MEMBER_IMPORT);
+            verify(userRepository, never()).findAllByEmailIn(anyList());
+        }
+
+        @Test
+        @DisplayName("역할 일괄 변경 성공 - 변경 가능한 멤버만 한 번에 갱신")
+        void changeRoles_success() {
+            // given
+            MemberBulkRoleChangeRequest request = new MemberBulkRoleChangeRequest(List.of(2L, 1L, 2L, 999L), CrewRole.STAFF);
+            given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
+            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L)).willReturn(Optional.of(leaderMembership));
+            given(membershipRepository.findRoleMap(request.userIds(), List.of(1L)))
+                .willReturn(roleMap(CrewRole.LEADER, CrewRole.MEMBER));
+
+            // when
+            MemberBulkResponse response = crewService.changeRoles(1L, 1L, request, false);
+
+            // then
+            assertThat(response.results()).extracting(MemberBulkResult::outcome).containsExactly(
+                MemberBulkOutcome.ROLE_CHANGED,
+                MemberBulkOutcome.LEADER_FORBIDDEN,
+                MemberBulkOutcome.DUPLICATE,
+                MemberBulkOutcome.NOT_MEMBER
+            );
+            verify(membershipRepository).updateRoleByCrewIdAndUserIds(1L, List.of(2L), CrewRole.STAFF);
+        }
+
+        @Test
+        @DisplayName("역할 일괄 변경 실패 - LEADER로 변경 요청")
+        void changeRoles_fail_leaderRole() {
+            // given
+            MemberBulkRoleChangeRequest request = new MemberBulkRoleChangeRequest(List.of(2L), CrewRole.LEADER);
+            given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
+            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L)).willReturn(Optional.of(leaderMembership));
+
+            // when & then
+            assertThatThrownBy(() -> crewService.changeRoles(1L, 1L, request, false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CREW_ROLE_FORBIDDEN);
+            verify(membershipRepository, never()).findRoleMap(any(), any());
+        }
+
+        @Test
+        @DisplayName("일괄 강퇴 성공 - 크루장은 제외")
+        void kickMembers_success() {
+            // given
+            MemberBulkKickRequest request = new MemberBulkKickRequest(List.of(2L, 1L));
+            given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
+            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L)).willReturn(Optional.of(leaderMembership));
+            given(membershipRepository.findRoleMap(request.userIds(), List.of(1L)))
+                .willReturn(roleMap(CrewRole.LEADER, CrewRole.STAFF));
+
+            // when
+            MemberBulkResponse response = crewService.kickMembers(1L, 1L, request, false);
+
+            // then
+            assertThat(response.results()).extracting(MemberBulkResult::userId, MemberBulkResult::outcome).containsExactly(
+                tuple(2L, MemberBulkOutcome.KICKED),
+                tuple(1L, MemberBulkOutcome.LEADER_FORBIDDEN)
+            );
+            verify(membershipRepository).deleteByCrewIdAndUserIds(1L, List.of(2L));
+        }
+
+        @Test
+        @DisplayName("일괄 강퇴 실패 - 리더가 아닌 사용자")
+        void kickMembers_fail_notLeader() {
+            // given
+            MemberBulkKickRequest request = new MemberBulkKickRequest(List.of(1L));
+            given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
+            given(membershipRepository.findByUserUserIdAndCrewId(2L, 1L)).willReturn(Optional.of(memberMembership));
+
+            // when & then
+            assertThatThrownBy(() -> crewService.kickMembers(2L, 1L, request, false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CREW_ROLE_FORBIDDEN);
+            verify(membershipRepository, never()).deleteByCrewIdAndUserIds(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("크루 삭제")
     class DeleteCrew {
@@ -566,6 +736,13 @@ class CrewServiceTest {
     @DisplayName("크루 목록 조회")
     class SearchCrews {
 
+        @BeforeEach
+        void setUpCache() {
+            // 캐시는 통과시켜 조회 로직만 검증
+            given(crewSearchCache.get(any(CrewSearchCondition.class), any(Pageable.class), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        }
+
         @Test
         @DisplayName("성공 - participants 포함")
         void success_withParticipants() {
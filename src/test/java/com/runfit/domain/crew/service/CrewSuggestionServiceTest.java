@@ -0,0 +1,97 @@
+package com.runfit.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.runfit.common.search.Suggestion;
+import com.runfit.domain.crew.controller.dto.response.CrewSuggestionResponse;
+import com.runfit.domain.crew.event.CrewChangedEvent;
+import com.runfit.domain.crew.repository.CrewRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CrewSuggestionServiceTest {
+
+    @InjectMocks
+    private CrewSuggestionService crewSuggestionService;
+
+    @Mock
+    private CrewRepository crewRepository;
+
+    @Test
+    @DisplayName("성공 - 스냅샷에 없는 크루는 동기화 때 지운다")
+    void synchronize_removesStale() {
+        // given
+        crewSuggestionService.onCrewChanged(new CrewChangedEvent(1L, "한강 러닝 크루", null, false));
+        given(crewRepository.findCrewSuggestions()).willReturn(List.of(new Suggestion(2L, "한강 야간 크루", 5L)));
+
+        // when
+        crewSuggestionService.synchronize();
+
+        // then
+        assertThat(crewSuggestionService.suggest("한강", 10))
+            .extracting(CrewSuggestionResponse::id)
+            .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("성공 - DB 조회 중 이벤트로 추가된 크루는 스냅샷에 없어도 지우지 않는다")
+    void synchronize_keepsCrewAddedDuringQuery() {
+        // given
+        given(crewRepository.findCrewSuggestions()).willAnswer(invocation -> {
+            crewSuggestionService.onCrewChanged(new CrewChangedEvent(3L, "한강 새벽 크루", null, false));
+            return List.of(new Suggestion(2L, "한강 야간 크루", 5L));
+        });
+
+        // when
+        crewSuggestionService.synchronize();
+
+        // then
+        assertThat(crewSuggestionService.suggest("한강", 10))
+            .extracting(CrewSuggestionResponse::id)
+            .containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("성공 - DB 조회 중 이벤트로 이름이 바뀐 크루는 스냅샷의 이전 이름으로 덮지 않는다")
+    void synchronize_keepsCrewRenamedDuringQuery() {
+        // given
+        crewSuggestionService.onCrewChanged(new CrewChangedEvent(1L, "한강 러닝 크루", null, false));
+        given(crewRepository.findCrewSuggestions()).willAnswer(invocation -> {
+            crewSuggestionService.onCrewChanged(new CrewChangedEvent(1L, "남산 트레일 크루", null, false));
+            return List.of(new Suggestion(1L, "한강 러닝 크루", 5L));
+        });
+
+        // when
+        crewSuggestionService.synchronize();
+
+        // then
+        assertThat(crewSuggestionService.suggest("한강", 10)).isEmpty();
+        assertThat(crewSuggestionService.suggest("남산", 10))
+            .extracting(CrewSuggestionResponse::id)
+            .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - DB 조회 중 이벤트로 삭제된 크루는 스냅샷에 남아 있어도 다시 넣지 않는다")
+    void synchronize_keepsCrewDeletedDuringQuery() {
+        // given
+        crewSuggestionService.onCrewChanged(new CrewChangedEvent(1L, "한강 러닝 크루", null, false));
+        given(crewRepository.findCrewSuggestions()).willAnswer(invocation -> {
+            crewSuggestionService.onCrewChanged(new CrewChangedEvent(1L, "한강 러닝 크루", null, true));
+            return List.of(new Suggestion(1L, "한강 러닝 크루", 5L));
+        });
+
+        // when
+        crewSuggestionService.synchronize();
+
+        // then
+        assertThat(crewSuggestionService.suggest("한강", 10)).isEmpty();
+    }
+}
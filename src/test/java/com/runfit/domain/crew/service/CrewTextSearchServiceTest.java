@@ -0,0 +1,113 @@
+package com.runfit.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.runfit.domain.crew.controller.dto.request.CrewSearchCondition;
+import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
+import com.runfit.domain.crew.event.CrewChangedEvent;
+import com.runfit.domain.crew.repository.CrewRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CrewTextSearchServiceTest {
+
+    @InjectMocks
+    private CrewTextSearchService crewTextSearchService;
+
+    @Mock
+    private CrewRepository crewRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 후보를 2개씩 나눠 거르도록 줄인다. 같은 점수면 id가 큰 크루가 앞서므로 관련도순은 5, 4, 3, 2, 1
+        ReflectionTestUtils.setField(crewTextSearchService, "maxHits", 2);
+        for (long id = 1; id <= 5; id++) {
+            crewTextSearchService.onCrewChanged(new CrewChangedEvent(id, "한강 러닝 크루 " + id, null, false));
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 검색어 + 도시 필터: 상위 후보가 필터에 걸러져도 뒤쪽 후보에서 페이지를 채운다")
+    void search_keywordWithFilter() {
+        // given
+        CrewSearchCondition condition = CrewSearchCondition.of(List.of("부산"), "한강", null);
+        PageRequest pageable = PageRequest.of(0, 10);
+        given(crewRepository.findMatchingCrewIds(condition, List.of(5L, 4L))).willReturn(List.of());
+        given(crewRepository.findMatchingCrewIds(condition, List.of(3L, 2L))).willReturn(List.of(2L));
+        given(crewRepository.findMatchingCrewIds(condition, List.of(1L))).willReturn(List.of(1L));
+        given(crewRepository.searchCrews(condition, List.of(2L, 1L), PageRequest.of(0, 2)))
+            .willReturn(new SliceImpl<>(List.of(crew(1L), crew(2L))));
+
+        // when
+        Slice<CrewListResponse> result = crewTextSearchService.search(condition, pageable);
+
+        // then
+        assertThat(result.getContent())
+            .extracting(CrewListResponse::id)
+            .containsExactly(2L, 1L);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 검색어 + 정렬: 후보가 maxHits를 넘으면 구간마다 페이지 끝까지만 정렬해 모은 뒤 다시 정렬한다")
+    void search_keywordWithSortOverLimit() {
+        // given
+        CrewSearchCondition condition = CrewSearchCondition.of(null, "한강", "memberCountDesc");
+        PageRequest pageable = PageRequest.of(0, 1);
+        PageRequest head = PageRequest.of(0, 2);
+        given(crewRepository.searchCrews(condition, List.of(5L, 4L), head))
+            .willReturn(new SliceImpl<>(List.of(crew(4L), crew(5L))));
+        given(crewRepository.searchCrews(condition, List.of(3L, 2L), head))
+            .willReturn(new SliceImpl<>(List.of(crew(3L), crew(2L))));
+        given(crewRepository.searchCrews(condition, List.of(1L), head))
+            .willReturn(new SliceImpl<>(List.of(crew(1L))));
+        Slice<CrewListResponse> expected = new SliceImpl<>(List.of(crew(3L)), pageable, true);
+        given(crewRepository.searchCrews(condition, List.of(4L, 5L, 3L, 2L, 1L), pageable)).willReturn(expected);
+
+        // when
+        Slice<CrewListResponse> result = crewTextSearchService.search(condition, pageable);
+
+        // then
+        assertThat(result).isSameAs(expected);
+        verify(crewRepository, never()).searchCrews(condition, pageable);
+        verify(crewRepository, never()).findMatchingCrewIds(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("성공 - 검색어 + 정렬: 후보가 maxHits 이하이면 전체 후보를 DB 정렬에 넘긴다")
+    void search_keywordWithSortWithinLimit() {
+        // given
+        crewTextSearchService.onCrewChanged(new CrewChangedEvent(6L, "남산 트레일", null, false));
+        CrewSearchCondition condition = CrewSearchCondition.of(null, "남산", "memberCountDesc");
+        PageRequest pageable = PageRequest.of(0, 10);
+        Slice<CrewListResponse> expected = new SliceImpl<>(List.of(crew(6L)));
+        given(crewRepository.searchCrews(condition, List.of(6L), pageable)).willReturn(expected);
+
+        // when
+        Slice<CrewListResponse> result = crewTextSearchService.search(condition, pageable);
+
+        // then
+        assertThat(result).isSameAs(expected);
+    }
+
+    private CrewListResponse crew(Long id) {
+        return new CrewListResponse(id, "한강 러닝 크루 " + id, null, "부산", null, 1L, LocalDateTime.of(2026, 1, 1, 9, 0), List.of());
+    }
+}
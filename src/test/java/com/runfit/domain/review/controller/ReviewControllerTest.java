@@ -0,0 +1,130 @@
+package com.runfit.domain.review.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.runfit.common.model.AggregateVersion;
+import com.runfit.domain.review.controller.dto.response.ReviewResponse;
+import com.runfit.domain.review.service.ReviewService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewControllerTest {
+
+    @InjectMocks
+    private ReviewController reviewController;
+
+    @Mock
+    private ReviewService reviewService;
+
+    private MockMvc mockMvc;
+
+    private final LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(reviewController).build();
+    }
+
+    @Nested
+    @DisplayName("세션 리뷰 목록 조건부 조회")
+    class GetSessionReviews {
+
+        @Test
+        @DisplayName("성공 - 200 응답에 ETag와 no-cache를 담는다")
+        void success_withETag() throws Exception {
+            // given
+            given(reviewService.getSessionReviewsVersion(1L)).willReturn(new AggregateVersion(1, 10L, updatedAt));
+            given(reviewService.getSessionReviews(1L, PageRequest.of(0, 10)))
+                .willReturn(new PageImpl<>(List.of(reviewResponse()), PageRequest.of(0, 10), 1));
+
+            // when & then
+            mockMvc.perform(get("/api/sessions/1/reviews"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.data.content[0].id").value(10));
+        }
+
+        @Test
+        @DisplayName("성공 - If-None-Match가 같으면 본문 조회 없이 304")
+        void success_notModified() throws Exception {
+            // given
+            given(reviewService.getSessionReviewsVersion(1L)).willReturn(new AggregateVersion(1, 10L, updatedAt));
+            given(reviewService.getSessionReviews(1L, PageRequest.of(0, 10)))
+                .willReturn(new PageImpl<>(List.of(reviewResponse()), PageRequest.of(0, 10), 1));
+            String eTag = mockMvc.perform(get("/api/sessions/1/reviews"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // when & then
+            mockMvc.perform(get("/api/sessions/1/reviews").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+            // 본문 조회는 첫 요청의 한 번뿐이다
+            verify(reviewService).getSessionReviews(1L, PageRequest.of(0, 10));
+        }
+
+        @Test
+        @DisplayName("성공 - 리뷰가 추가되면 ETag가 바뀌어 200")
+        void success_changedAfterWrite() throws Exception {
+            // given
+            given(reviewService.getSessionReviewsVersion(1L))
+                .willReturn(new AggregateVersion(1, 10L, updatedAt))
+                .willReturn(new AggregateVersion(2, 11L, updatedAt));
+            given(reviewService.getSessionReviews(1L, PageRequest.of(0, 10)))
+                .willReturn(new PageImpl<>(List.of(reviewResponse()), PageRequest.of(0, 10), 1));
+            String before = mockMvc.perform(get("/api/sessions/1/reviews"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // when
+            String after = mockMvc.perform(get("/api/sessions/1/reviews").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // then
+            assertThat(after).isNotEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("성공 - 페이지가 다르면 같은 버전이어도 ETag가 다르다")
+        void success_eTagPerPage() throws Exception {
+            // given
+            given(reviewService.getSessionReviewsVersion(1L)).willReturn(new AggregateVersion(1, 10L, updatedAt));
+            given(reviewService.getSessionReviews(any(), any()))
+                .willReturn(new PageImpl<>(List.of(), PageRequest.of(1, 10), 1));
+            String firstPage = mockMvc.perform(get("/api/sessions/1/reviews"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // when & then
+            mockMvc.perform(get("/api/sessions/1/reviews").param("page", "1").header(HttpHeaders.IF_NONE_MATCH, firstPage))
+                .andExpect(status().isOk());
+        }
+    }
+
+    private ReviewResponse reviewResponse() {
+        return new ReviewResponse(10L, 1L, 1L, 2L, "작성자", null, "좋은 세션", 5, null, updatedAt);
+    }
+}
@@ -0,0 +1,178 @@
+package com.runfit.domain.review.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.runfit.common.model.AggregateVersion;
+import com.runfit.domain.crew.entity.Crew;
+import com.runfit.domain.crew.repository.CrewRepository;
+import com.runfit.domain.review.entity.Review;
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.repository.SessionRepository;
+import com.runfit.domain.user.entity.User;
+import com.runfit.domain.user.repository.UserRepository;
+import com.runfit.global.config.AuditConfig;
+import com.runfit.global.config.QueryDslConfig;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, AuditConfig.class})
+class ReviewRepositoryCustomTest {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+    private User otherAuthor;
+    private Crew crew;
+    private Session session;
+    private Session otherSession;
+
+    @BeforeEach
+    void setUp() {
+        String uniqueId = String.valueOf(System.nanoTime());
+        author = userRepository.save(User.create("author-" + uniqueId + "@test.com", "password", "작성자"));
+        otherAuthor = userRepository.save(User.create("other-" + uniqueId + "@test.com", "password", "다른작성자"));
+        crew = crewRepository.save(Crew.create("리뷰 크루", "설명", "서울", null));
+        Crew otherCrew = crewRepository.save(Crew.create("다른 크루", "설명", "부산", null));
+
+        session = sessionRepository.save(createSession(crew, "리뷰 세션"));
+        otherSession = sessionRepository.save(createSession(otherCrew, "다른 크루 세션"));
+    }
+
+    @Nested
+    @DisplayName("세션 리뷰 목록 버전 조회")
+    class FindSessionReviewsVersion {
+
+        @Test
+        @DisplayName("성공 - 리뷰가 없으면 빈 버전")
+        void success_empty() {
+            // when
+            AggregateVersion version = reviewRepository.findSessionReviewsVersion(session.getId());
+
+            // then
+            assertThat(version.count()).isZero();
+            assertThat(version.checksum()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 - 리뷰 수와 리뷰 id 체크섬을 담고, 다른 세션 리뷰는 제외")
+        void success_countAndChecksum() {
+            // given
+            Review first = reviewRepository.save(Review.create(session, author, "좋아요", 5, null));
+            Review latest = reviewRepository.save(Review.create(session, otherAuthor, "또 올게요", 4, null));
+            reviewRepository.save(Review.create(otherSession, author, "다른 세션", 3, null));
+
+            // when
+            AggregateVersion version = reviewRepository.findSessionReviewsVersion(session.getId());
+
+            // then
+            assertThat(version.count()).isEqualTo(2);
+            assertThat(version.checksum()).isEqualTo(checksum(first, latest));
+            assertThat(version.lastModified()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 리뷰가 추가되거나 삭제되면 버전이 달라짐")
+        void success_changedAfterWrite() {
+            // given
+            Review first = reviewRepository.save(Review.create(session, author, "좋아요", 5, null));
+            AggregateVersion before = reviewRepository.findSessionReviewsVersion(session.getId());
+
+            // when
+            reviewRepository.save(Review.create(session, otherAuthor, "또 올게요", 4, null));
+            AggregateVersion added = reviewRepository.findSessionReviewsVersion(session.getId());
+            reviewRepository.delete(first);
+            AggregateVersion deleted = reviewRepository.findSessionReviewsVersion(session.getId());
+
+            // then
+            assertThat(added).isNotEqualTo(before);
+            assertThat(deleted).isNotEqualTo(added);
+            assertThat(deleted.count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("크루 리뷰 목록 버전 조회")
+    class FindCrewReviewsVersion {
+
+        @Test
+        @DisplayName("성공 - 크루의 모든 세션 리뷰를 모으고, 다른 크루 리뷰는 제외")
+        void success_acrossSessions() {
+            // given
+            Session secondSession = sessionRepository.save(createSession(crew, "두번째 세션"));
+            Review first = reviewRepository.save(Review.create(session, author, "좋아요", 5, null));
+            Review latest = reviewRepository.save(Review.create(secondSession, otherAuthor, "또 올게요", 4, null));
+            reviewRepository.save(Review.create(otherSession, author, "다른 크루", 3, null));
+
+            // when
+            AggregateVersion version = reviewRepository.findCrewReviewsVersion(crew.getId());
+
+            // then
+            assertThat(version.count()).isEqualTo(2);
+            assertThat(version.checksum()).isEqualTo(checksum(first, latest));
+            assertThat(version.lastModified()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 리뷰가 없으면 빈 버전")
+        void success_empty() {
+            // when
+            AggregateVersion version = reviewRepository.findCrewReviewsVersion(crew.getId());
+
+            // then
+            assertThat(version.count()).isZero();
+            assertThat(version.checksum()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 - 리뷰가 추가되면 버전이 달라짐")
+        void success_changedAfterWrite() {
+            // given
+            reviewRepository.save(Review.create(session, author, "좋아요", 5, null));
+            AggregateVersion before = reviewRepository.findCrewReviewsVersion(crew.getId());
+
+            // when
+            reviewRepository.save(Review.create(session, otherAuthor, "또 올게요", 4, null));
+            AggregateVersion after = reviewRepository.findCrewReviewsVersion(crew.getId());
+
+            // then
+            assertThat(after).isNotEqualTo(before);
+            assertThat(after.count()).isEqualTo(2);
+        }
+    }
+
+    private long checksum(Review... reviews) {
+        long checksum = 1L;
+        for (Review review : reviews) {
+            checksum = 31 * checksum + review.getId();
+        }
+        return checksum;
+    }
+
+    private Session createSession(Crew sessionCrew, String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return Session.create(
+            sessionCrew, author, name, "설명", null,
+            "서울", "강남구", null, 37.4979, 127.0276,
+            now.minusDays(1), now.minusDays(2),
+            SessionLevel.BEGINNER, 390, 20
+        );
+    }
+}
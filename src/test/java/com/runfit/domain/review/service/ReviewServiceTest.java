@@ -18,6 +18,7 @@ import com.runfit.domain.review.entity.Review;
 import com.runfit.domain.review.repository.ReviewRepository;
 import com.runfit.domain.session.entity.Session;
 import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.event.SessionCountersChangedEvent;
 import com.runfit.domain.session.repository.SessionParticipantRepository;
 import com.runfit.domain.session.repository.SessionRepository;
 import com.runfit.domain.user.entity.User;
@@ -36,6 +37,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +61,9 @@ class ReviewServiceTest {
     @Mock
     private CrewRepository crewRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User user;
     private User otherUser;
     private Crew crew;
@@ -125,6 +130,8 @@ class ReviewServiceTest {
             assertThat(response.ranks()).isEqualTo(5);
             assertThat(response.sessionId()).isEqualTo(1L);
             assertThat(response.userId()).isEqualTo(1L);
+            verify(sessionRepository).addReview(1L, 5);
+            verify(eventPublisher).publishEvent(new SessionCountersChangedEvent(1L));
         }
 
         @Test
@@ -202,6 +209,8 @@ class ReviewServiceTest {
             // then
             assertThat(response.message()).contains("삭제");
             verify(reviewRepository).delete(review);
+            verify(sessionRepository).removeReview(1L, 5);
+            verify(eventPublisher).publishEvent(new SessionCountersChangedEvent(1L));
         }
 
         @Test
@@ -0,0 +1,73 @@
+package com.runfit.domain.session.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SessionIdSetTest {
+
+    @Test
+    @DisplayName("포함 여부 조회, 중복 id는 한 번만 센다")
+    void contains() {
+        // given
+        SessionIdSet ids = SessionIdSet.of(List.of(3L, 1L, 70_000L, 3L));
+
+        // when & then
+        assertThat(ids.size()).isEqualTo(3);
+        assertThat(ids.contains(1L)).isTrue();
+        assertThat(ids.contains(3L)).isTrue();
+        assertThat(ids.contains(70_000L)).isTrue();
+        assertThat(ids.contains(2L)).isFalse();
+        assertThat(ids.contains(70_001L)).isFalse();
+        assertThat(ids.contains(1L + 65_536L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 구간에 id가 많으면 비트맵 컨테이너로 저장해도 조회 결과가 같다")
+    void denseRange() {
+        // given
+        long[] evenIds = LongStream.range(0, 20_000).map(i -> i * 2).toArray();
+        SessionIdSet ids = SessionIdSet.of(evenIds);
+
+        // when & then
+        assertThat(ids.size()).isEqualTo(20_000);
+        assertThat(ids.contains(0L)).isTrue();
+        assertThat(ids.contains(39_998L)).isTrue();
+        assertThat(ids.contains(39_999L)).isFalse();
+        assertThat(ids.contains(40_000L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 집합")
+    void empty() {
+        // when
+        SessionIdSet ids = SessionIdSet.of(List.of());
+
+        // then
+        assertThat(ids.isEmpty()).isTrue();
+        assertThat(ids.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가/제거를 반영한 새 집합을 만들고, 비트맵 컨테이너의 id도 모두 꺼낸다")
+    void with() {
+        // given
+        long[] evenIds = LongStream.range(0, 5_000).map(i -> i * 2).toArray();
+        SessionIdSet ids = SessionIdSet.of(evenIds);
+
+        // when
+        SessionIdSet changed = ids.with(List.of(1L, 70_000L), List.of(0L, 70_000L));
+
+        // then
+        assertThat(ids.toArray()).containsExactly(evenIds);
+        assertThat(changed.size()).isEqualTo(5_000);
+        assertThat(changed.contains(1L)).isTrue();
+        assertThat(changed.contains(0L)).isFalse();
+        assertThat(changed.contains(70_000L)).isFalse();
+        assertThat(changed.contains(9_998L)).isTrue();
+        assertThat(ids.with(List.of(), List.of())).isSameAs(ids);
+    }
+}
@@ -0,0 +1,154 @@
+package com.runfit.domain.session.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SessionAdmissionQueueTest {
+
+    private SessionAdmissionQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.shutdown(Duration.ZERO);
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 같은 세션의 신청은 한 워커가 도착 순서대로, batchSize 이하 묶음으로 처리")
+    void processesSessionInOrderOnOneWorker() throws InterruptedException {
+        // given
+        int requestsPerSession = 200;
+        CountDownLatch done = new CountDownLatch(requestsPerSession * 2);
+        Map<Long, List<Long>> processedUserIds = new ConcurrentHashMap<>();
+        Map<Long, List<String>> workerNames = new ConcurrentHashMap<>();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        queue = new SessionAdmissionQueue(4, 1_000, 16, batch -> {
+            batchSizes.add(batch.size());
+            for (JoinRequest request : batch) {
+                processedUserIds.computeIfAbsent(request.sessionId(), key -> new CopyOnWriteArrayList<>())
+                    .add(request.userId());
+                workerNames.computeIfAbsent(request.sessionId(), key -> new CopyOnWriteArrayList<>())
+                    .add(Thread.currentThread().getName());
+                done.countDown();
+            }
+        });
+        queue.start();
+
+        // when
+        for (long userId = 1; userId <= requestsPerSession; userId++) {
+            queue.offer(new JoinRequest("a" + userId, 1L, userId));
+            queue.offer(new JoinRequest("b" + userId, 2L, userId));
+        }
+
+        // then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        List<Long> expected = new ArrayList<>();
+        for (long userId = 1; userId <= requestsPerSession; userId++) {
+            expected.add(userId);
+        }
+        assertThat(processedUserIds.get(1L)).containsExactlyElementsOf(expected);
+        assertThat(processedUserIds.get(2L)).containsExactlyElementsOf(expected);
+        assertThat(workerNames.get(1L)).containsOnly(workerNames.get(1L).get(0));
+        assertThat(batchSizes).allMatch(size -> size >= 1 && size <= 16);
+    }
+
+    @Test
+    @DisplayName("성공 - 큐가 가득 차면 신청을 받지 않음")
+    void rejectsWhenFull() throws InterruptedException {
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        queue = new SessionAdmissionQueue(1, 2, 1, batch -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queue.start();
+        queue.offer(new JoinRequest("t0", 1L, 0L));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        boolean first = queue.offer(new JoinRequest("t1", 1L, 1L));
+        boolean second = queue.offer(new JoinRequest("t2", 1L, 2L));
+        boolean third = queue.offer(new JoinRequest("t3", 1L, 3L));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(queue.pending()).isEqualTo(2);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("성공 - 종료하면 새 신청은 받지 않고 쌓인 신청은 처리한 뒤 멈춘다")
+    void shutdownDrainsPending() throws InterruptedException {
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> processed = new CopyOnWriteArrayList<>();
+        queue = new SessionAdmissionQueue(1, 10, 1, batch -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batch.forEach(request -> processed.add(request.ticketId()));
+        });
+        queue.start();
+        queue.offer(new JoinRequest("t0", 1L, 0L));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.offer(new JoinRequest("t1", 1L, 1L));
+
+        // when
+        release.countDown();
+        List<JoinRequest> unprocessed = queue.shutdown(Duration.ofSeconds(5));
+
+        // then
+        assertThat(unprocessed).isEmpty();
+        assertThat(processed).containsExactly("t0", "t1");
+        assertThat(queue.offer(new JoinRequest("t2", 1L, 2L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 제한 시간 안에 처리하지 못한 신청은 종료 시 돌려준다")
+    void shutdownReturnsUnprocessedAfterTimeout() throws InterruptedException {
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        queue = new SessionAdmissionQueue(1, 10, 1, batch -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queue.start();
+        queue.offer(new JoinRequest("t0", 1L, 0L));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.offer(new JoinRequest("t1", 1L, 1L));
+
+        // when
+        List<JoinRequest> unprocessed = queue.shutdown(Duration.ofMillis(200));
+
+        // then
+        assertThat(unprocessed).extracting(JoinRequest::ticketId).containsExactly("t1");
+    }
+}
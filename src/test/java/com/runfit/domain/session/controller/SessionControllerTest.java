@@ -0,0 +1,112 @@
+package com.runfit.domain.session.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.runfit.domain.session.controller.dto.response.CoordsResponse;
+import com.runfit.domain.session.controller.dto.response.SessionDetailResponse;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.service.SessionService;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class SessionControllerTest {
+
+    @InjectMocks
+    private SessionController sessionController;
+
+    @Mock
+    private SessionService sessionService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(sessionController)
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .build();
+    }
+
+    @Nested
+    @DisplayName("세션 상세 조건부 조회")
+    class GetSessionDetail {
+
+        @Test
+        @DisplayName("성공 - 200 응답에 ETag와 private no-cache를 담는다")
+        void success_withETag() throws Exception {
+            // given
+            given(sessionService.getSessionDetail(1L, null)).willReturn(detail(5L));
+
+            // when & then
+            mockMvc.perform(get("/api/sessions/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, containsString("W/\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")))
+                .andExpect(jsonPath("$.data.currentParticipantCount").value(5));
+        }
+
+        @Test
+        @DisplayName("성공 - If-None-Match가 같으면 304")
+        void success_notModified() throws Exception {
+            // given
+            given(sessionService.getSessionDetail(1L, null)).willReturn(detail(5L));
+            String eTag = mockMvc.perform(get("/api/sessions/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // when & then
+            mockMvc.perform(get("/api/sessions/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("성공 - 참가 신청으로 상세가 바뀌면 ETag가 바뀌어 200")
+        void success_changedAfterWrite() throws Exception {
+            // given
+            given(sessionService.getSessionDetail(1L, null))
+                .willReturn(detail(5L))
+                .willReturn(detail(6L));
+            String before = mockMvc.perform(get("/api/sessions/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // when
+            String after = mockMvc.perform(get("/api/sessions/1").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.currentParticipantCount").value(6))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // then
+            assertThat(after).isNotEqualTo(before);
+        }
+    }
+
+    private SessionDetailResponse detail(long participantCount) {
+        LocalDateTime sessionAt = LocalDateTime.of(2026, 1, 10, 7, 0);
+        return new SessionDetailResponse(
+            1L, 1L, 1L, "테스트 세션", "설명", null, "서울", "강남구", null,
+            CoordsResponse.of(37.4979, 127.0276), sessionAt, sessionAt.minusDays(1),
+            SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20,
+            participantCount, false, sessionAt.minusDays(7)
+        );
+    }
+}
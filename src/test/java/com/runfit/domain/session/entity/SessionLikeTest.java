@@ -45,5 +45,19 @@ class SessionLikeTest {
         // then
         assertThat(sessionLike.getSession()).isEqualTo(session);
         assertThat(sessionLike.getUser()).isEqualTo(user);
+        assertThat(sessionLike.getLikedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("세션 찜 생성 - 쓰기 지연 모드는 찜을 누른 시각을 그대로 저장")
+    void create_withLikedAt() {
+        // given
+        LocalDateTime likedAt = LocalDateTime.of(2026, 10, 18, 12, 0, 30);
+
+        // when
+        SessionLike sessionLike = SessionLike.create(session, user, likedAt);
+
+        // then
+        assertThat(sessionLike.getLikedAt()).isEqualTo(likedAt);
     }
 }
@@ -2,9 +2,11 @@ package com.runfit.domain.session.entity;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.runfit.common.geo.GeoHash;
 import com.runfit.domain.crew.entity.Crew;
 import com.runfit.domain.user.entity.User;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -60,14 +62,34 @@ class SessionTest {
         assertThat(session.getLocation()).isEqualTo(location);
         assertThat(session.getLatitude()).isEqualTo(latitude);
         assertThat(session.getLongitude()).isEqualTo(longitude);
-        assertThat(session.getSessionAt()).isEqualTo(sessionAt);
-        assertThat(session.getRegisterBy()).isEqualTo(registerBy);
+        assertThat(session.getGeohash()).isEqualTo(GeoHash.encode(latitude, longitude, GeoHash.PRECISION));
+        assertThat(session.getSessionAt()).isEqualTo(sessionAt.truncatedTo(ChronoUnit.MINUTES));
+        assertThat(session.getSessionMinuteOfDay()).isEqualTo(sessionAt.getHour() * 60 + sessionAt.getMinute());
+        assertThat(session.getSessionDayOfWeek()).isEqualTo(sessionAt.getDayOfWeek().getValue());
+        assertThat(session.getRegisterBy()).isEqualTo(registerBy.truncatedTo(ChronoUnit.MINUTES));
         assertThat(session.getLevel()).isEqualTo(level);
         assertThat(session.getStatus()).isEqualTo(SessionStatus.OPEN);
         assertThat(session.getPace()).isEqualTo(pace);
         assertThat(session.getMaxParticipantCount()).isEqualTo(maxParticipantCount);
     }
 
+    @Test
+    @DisplayName("세션 생성 - 일시는 초 이하를 버리고 분 단위로 저장")
+    void create_truncatesToMinute() {
+        // when
+        Session session = Session.create(
+            crew, hostUser, "세션", "설명", null,
+            "서울", "송파구", null, 37.5145, 127.1017,
+            LocalDateTime.of(2026, 5, 2, 7, 30, 45, 123_000_000),
+            LocalDateTime.of(2026, 5, 1, 22, 0, 5),
+            SessionLevel.BEGINNER, 390, 20
+        );
+
+        // then
+        assertThat(session.getSessionAt()).isEqualTo(LocalDateTime.of(2026, 5, 2, 7, 30));
+        assertThat(session.getRegisterBy()).isEqualTo(LocalDateTime.of(2026, 5, 1, 22, 0));
+    }
+
     @Test
     @DisplayName("세션 마감 성공")
     void close_success() {
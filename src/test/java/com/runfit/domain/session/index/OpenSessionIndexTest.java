@@ -0,0 +1,269 @@
+package com.runfit.domain.session.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.runfit.common.pagination.Cursor;
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+
+class OpenSessionIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 2, 0, 0);  // 월요일
+
+    @TempDir
+    Path directory;
+
+    private OpenSessionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OpenSessionIndex(directory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    private SessionIndexEntry entry(Long id, String city, String district, SessionLevel level,
+                                    LocalDateTime sessionAt, LocalDateTime createdAt) {
+        return new SessionIndexEntry(
+            id, 1L, city, district, level, SessionStatus.OPEN,
+            sessionAt, sessionAt.minusDays(1), createdAt, 37.5145, 127.1017
+        );
+    }
+
+    private SessionSearchCondition openCondition(List<String> cities, SessionLevel level, String sort) {
+        return SessionSearchCondition.of(
+            cities, null, null, level, SessionStatus.OPEN, null, null, null, null, sort
+        );
+    }
+
+    @Nested
+    @DisplayName("필터")
+    class Filter {
+
+        @Test
+        @DisplayName("도시와 난이도로 필터링")
+        void filterByCityAndLevel() {
+            // given
+            index.apply(entry(1L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusHours(7), BASE), false);
+            index.apply(entry(2L, "서울", "송파구", SessionLevel.ADVANCED, BASE.plusHours(7), BASE), false);
+            index.apply(entry(3L, "부산", "해운대구", SessionLevel.BEGINNER, BASE.plusHours(7), BASE), false);
+
+            // when
+            SessionIdPage page = index.search(
+                openCondition(List.of("서울"), SessionLevel.BEGINNER, null), null, PageRequest.of(0, 10));
+
+            // then
+            assertThat(page.sessionIds()).containsExactly(1L);
+            assertThat(page.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("사전에 없는 도시는 결과 없음")
+        void unknownCity() {
+            // given
+            index.apply(entry(1L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusHours(7), BASE), false);
+
+            // when
+            SessionIdPage page = index.search(
+                openCondition(List.of("제주"), null, null), null, PageRequest.of(0, 10));
+
+            // then
+            assertThat(page.sessionIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("날짜, 시간대, 요일 필터는 DB 검색과 같은 기준으로 적용")
+        void filterByDateTimeAndDayOfWeek() {
+            // given
+            index.apply(entry(1L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusHours(7), BASE), false);          // 월 07:00
+            index.apply(entry(2L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusHours(20), BASE), false);         // 월 20:00
+            index.apply(entry(3L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusDays(5).plusHours(7), BASE), false); // 토 07:00
+
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, SessionStatus.OPEN,
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31),
+                LocalTime.of(6, 0), LocalTime.of(9, 0), List.of(DayOfWeek.MONDAY), null,
+                null, null, null
+            );
+
+            // when
+            SessionIdPage page = index.search(condition, null, PageRequest.of(0, 10));
+
+            // then
+            assertThat(page.sessionIds()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("반경 밖 세션 제외 및 거리순 정렬")
+        void filterByRadius() {
+            // given
+            index.apply(new SessionIndexEntry(1L, 1L, "서울", "송파구", SessionLevel.BEGINNER, SessionStatus.OPEN,
+                BASE.plusHours(7), BASE, BASE, 37.5145, 127.1017), false);   // 잠실, 약 7km
+            index.apply(new SessionIndexEntry(2L, 1L, "서울", "중구", SessionLevel.BEGINNER, SessionStatus.OPEN,
+                BASE.plusHours(7), BASE, BASE, 37.5665, 126.9780), false);   // 시청, 약 9km
+            index.apply(new SessionIndexEntry(3L, 1L, "부산", "해운대구", SessionLevel.BEGINNER, SessionStatus.OPEN,
+                BASE.plusHours(7), BASE, BASE, 35.1587, 129.1604), false);   // 해운대
+
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, SessionStatus.OPEN, null, null, null, null, null, "distanceAsc",
+                37.4979, 127.0276, 10.0   // 강남역
+            );
+
+            // when
+            SessionIdPage page = index.search(condition, null, PageRequest.of(0, 10));
+
+            // then
+            assertThat(page.sessionIds()).containsExactly(1L, 2L);
+            assertThat(page.nextCursor()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("정렬 및 페이지네이션")
+    class Paging {
+
+        @Test
+        @DisplayName("기본 정렬은 생성일 내림차순이며 커서로 다음 페이지 조회")
+        void createdAtDescWithCursor() {
+            // given
+            for (long id = 1; id <= 5; id++) {
+                index.apply(entry(id, "서울", "강남구", SessionLevel.BEGINNER,
+                    BASE.plusDays(id), BASE.minusDays(10).plusHours(id)), false);
+            }
+
+            // when
+            SessionIdPage first = index.search(openCondition(null, null, null), null, PageRequest.of(0, 2));
+            SessionIdPage second = index.search(
+                openCondition(null, null, null), Cursor.decode(first.nextCursor()), PageRequest.of(0, 2));
+            SessionIdPage last = index.search(
+                openCondition(null, null, null), Cursor.decode(second.nextCursor()), PageRequest.of(0, 2));
+
+            // then
+            assertThat(first.sessionIds()).containsExactly(5L, 4L);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.sessionIds()).containsExactly(3L, 2L);
+            assertThat(last.sessionIds()).containsExactly(1L);
+            assertThat(last.hasNext()).isFalse();
+            assertThat(last.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("세션 일시 오름차순 정렬은 같은 일시에서 id 오름차순")
+        void sessionAtAscTieBreak() {
+            // given
+            index.apply(entry(3L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusDays(1), BASE), false);
+            index.apply(entry(1L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusDays(2), BASE), false);
+            index.apply(entry(2L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusDays(1), BASE), false);
+
+            // when
+            SessionIdPage page = index.search(
+                openCondition(null, null, "sessionAtAsc"), null, PageRequest.of(0, 10));
+
+            // then
+            assertThat(page.sessionIds()).containsExactly(2L, 3L, 1L);
+        }
+
+        @Test
+        @DisplayName("offset 페이지네이션과 용량 확장")
+        void offsetPagingAfterGrow() {
+            // given
+            for (long id = 1; id <= 2000; id++) {
+                index.apply(entry(id, "서울", "강남구", SessionLevel.BEGINNER,
+                    BASE.plusMinutes(id), BASE.plusSeconds(id)), false);
+            }
+
+            // when
+            SessionIdPage page = index.search(
+                openCondition(null, null, "sessionAtAsc"), null, PageRequest.of(3, 10));
+
+            // then
+            assertThat(index.size()).isEqualTo(2000);
+            assertThat(page.sessionIds()).containsExactly(31L, 32L, 33L, 34L, 35L, 36L, 37L, 38L, 39L, 40L);
+            assertThat(page.hasNext()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("갱신")
+    class Update {
+
+        @Test
+        @DisplayName("모집중이 아니거나 삭제된 세션은 제거")
+        void removeNotOpen() {
+            // given
+            index.apply(entry(1L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusDays(1), BASE), false);
+            index.apply(entry(2L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusDays(1), BASE), false);
+
+            // when
+            index.apply(new SessionIndexEntry(1L, 1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.CLOSED,
+                BASE.plusDays(1), BASE, BASE, null, null), false);
+            index.apply(entry(2L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusDays(1), BASE), true);
+
+            // then
+            assertThat(index.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("모집 마감 시각이 지난 세션 제거")
+        void removeExpired() {
+            // given
+            index.apply(entry(1L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusDays(1), BASE), false);
+            index.apply(entry(2L, "서울", "강남구", SessionLevel.BEGINNER, BASE.plusDays(3), BASE), false);
+
+            // when
+            int removed = index.removeExpired(BASE.plusDays(1));
+
+            // then
+            assertThat(removed).isEqualTo(1);
+            assertThat(index.search(openCondition(null, null, null), null, PageRequest.of(0, 10)).sessionIds())
+                .containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("다시 열면 파일에서 세션과 반영 시각을 복원")
+        void reloadFromFile() {
+            // given
+            List<Long> expected = new ArrayList<>();
+            for (long id = 1; id <= 1500; id++) {
+                index.apply(entry(id, id % 2 == 0 ? "서울" : "부산", "구" + (id % 7), SessionLevel.BEGINNER,
+                    BASE.plusDays(1), BASE.plusSeconds(id)), false);
+                if (id % 2 == 0) {
+                    expected.add(id);
+                }
+            }
+            index.remove(2L);
+            expected.remove(Long.valueOf(2L));
+            index.advanceWatermark(BASE);
+            index.close();
+
+            // when
+            index = new OpenSessionIndex(directory);
+            SessionIdPage page = index.search(
+                openCondition(List.of("서울"), null, "sessionAtAsc"), null, PageRequest.of(0, 1000));
+
+            // then
+            assertThat(index.isRestored()).isTrue();
+            assertThat(index.size()).isEqualTo(1499);
+            assertThat(index.watermark()).isEqualTo(BASE);
+            assertThat(page.sessionIds()).containsExactlyElementsOf(expected);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.runfit.domain.session.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SessionFacetIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 2, 7, 0);  // 월요일
+
+    private SessionFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SessionFacetIndex();
+    }
+
+    private SessionIndexEntry session(Long id, String city, String district, SessionLevel level,
+                                      SessionStatus status, LocalDateTime sessionAt) {
+        return new SessionIndexEntry(
+            id, 1L, city, district, level, status,
+            sessionAt, sessionAt.minusDays(1), BASE, 37.5145, 127.1017
+        );
+    }
+
+    private SessionSearchCondition condition(List<String> cities, SessionLevel level) {
+        return SessionSearchCondition.of(cities, null, null, level, null, null, null, null, null, null);
+    }
+
+    @Nested
+    @DisplayName("패싯 집계")
+    class Facets {
+
+        @BeforeEach
+        void setUp() {
+            index.apply(session(1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+            index.apply(session(2L, "서울", "송파구", SessionLevel.ADVANCED, SessionStatus.OPEN, BASE), false);
+            index.apply(session(3L, "부산", "해운대구", SessionLevel.BEGINNER, SessionStatus.CLOSED, BASE.plusDays(1)), false);
+        }
+
+        @Test
+        @DisplayName("필터가 없으면 전체 세션을 차원별로 센다")
+        void countAll() {
+            // when
+            SessionFacets facets = index.facets(condition(null, null), null);
+
+            // then
+            assertThat(facets.total()).isEqualTo(3);
+            assertThat(facets.cities()).containsOnly(entry("서울", 2L), entry("부산", 1L));
+            assertThat(facets.levels()).containsOnly(
+                entry(SessionLevel.BEGINNER, 2L), entry(SessionLevel.ADVANCED, 1L)
+            );
+            assertThat(facets.statuses()).containsOnly(
+                entry(SessionStatus.OPEN, 2L), entry(SessionStatus.CLOSED, 1L)
+            );
+            assertThat(facets.dates()).containsOnly(
+                entry(BASE.toLocalDate(), 2L), entry(BASE.toLocalDate().plusDays(1), 1L)
+            );
+        }
+
+        @Test
+        @DisplayName("자기 차원의 필터는 제외하고 나머지 필터로 센다")
+        void excludeOwnFilter() {
+            // when
+            SessionFacets facets = index.facets(condition(List.of("서울"), SessionLevel.BEGINNER), null);
+
+            // then
+            assertThat(facets.total()).isEqualTo(1);
+            // 도시 패싯은 난이도(BEGINNER)만 적용
+            assertThat(facets.cities()).containsOnly(entry("서울", 1L), entry("부산", 1L));
+            // 난이도 패싯은 도시(서울)만 적용
+            assertThat(facets.levels()).containsOnly(
+                entry(SessionLevel.BEGINNER, 1L), entry(SessionLevel.ADVANCED, 1L)
+            );
+            // 나머지 패싯은 두 필터 모두 적용
+            assertThat(facets.districts()).containsOnly(entry("강남구", 1L));
+        }
+
+        @Test
+        @DisplayName("날짜 범위는 일 단위로 적용한다")
+        void filterByDateRange() {
+            // given
+            LocalDate nextDay = BASE.toLocalDate().plusDays(1);
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, null, nextDay, nextDay, null, null, null
+            );
+
+            // when
+            SessionFacets facets = index.facets(condition, null);
+
+            // then
+            assertThat(facets.total()).isEqualTo(1);
+            assertThat(facets.cities()).containsOnly(entry("부산", 1L));
+            assertThat(facets.dates()).containsOnly(
+                entry(BASE.toLocalDate(), 2L), entry(nextDay, 1L)
+            );
+        }
+
+        @Test
+        @DisplayName("검색어 결과가 주어지면 모든 패싯을 그 세션으로 좁힌다")
+        void filterByKeywordHits() {
+            // when
+            SessionFacets facets = index.facets(condition(List.of("서울"), null), Set.of(2L, 3L));
+
+            // then
+            assertThat(facets.total()).isEqualTo(1);
+            assertThat(facets.cities()).containsOnly(entry("서울", 1L), entry("부산", 1L));
+            assertThat(facets.levels()).containsOnly(entry(SessionLevel.ADVANCED, 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class IncrementalUpdate {
+
+        @Test
+        @DisplayName("수정된 세션은 이전 값에서 빠지고 새 값으로 집계된다")
+        void update() {
+            // given
+            index.apply(session(1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+
+            // when
+            index.apply(session(1L, "부산", "해운대구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+
+            // then
+            SessionFacets facets = index.facets(condition(null, null), null);
+            assertThat(facets.total()).isEqualTo(1);
+            assertThat(facets.cities()).containsOnly(entry("부산", 1L));
+        }
+
+        @Test
+        @DisplayName("삭제된 세션은 집계에서 제외되고 슬롯은 재사용된다")
+        void delete() {
+            // given
+            index.apply(session(1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+            index.apply(session(2L, "서울", "송파구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+
+            // when
+            index.apply(session(1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), true);
+            index.apply(session(3L, "부산", "해운대구", SessionLevel.ADVANCED, SessionStatus.OPEN, BASE), false);
+
+            // then
+            SessionFacets facets = index.facets(condition(null, null), null);
+            assertThat(index.size()).isEqualTo(2);
+            assertThat(facets.districts()).containsOnly(entry("송파구", 1L), entry("해운대구", 1L));
+        }
+
+        @Test
+        @DisplayName("모집 마감 시각이 지난 모집중 세션은 마감으로 집계된다")
+        void closeExpired() {
+            // given
+            index.apply(session(1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+            index.apply(session(2L, "서울", "송파구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE.plusDays(3)), false);
+
+            // when
+            int closed = index.closeExpired(BASE);
+
+            // then
+            assertThat(closed).isEqualTo(1);
+            assertThat(index.facets(condition(null, null), null).statuses()).containsOnly(
+                entry(SessionStatus.OPEN, 1L), entry(SessionStatus.CLOSED, 1L)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("달력")
+    class Calendar {
+
+        @Test
+        @DisplayName("기간 안의 날짜별 세션 수와 시작 시각이 이른 세션 id를 반환한다")
+        void countByDay() {
+            // given
+            index.apply(session(1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE.plusHours(2)), false);
+            index.apply(session(2L, "서울", "송파구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+            index.apply(session(3L, "서울", "송파구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE.plusHours(1)), false);
+            index.apply(session(4L, "부산", "해운대구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE.plusDays(2)), false);
+            index.apply(session(5L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE.plusDays(40)), false);
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                List.of("서울", "부산"), null, null, null, null,
+                BASE.toLocalDate(), BASE.toLocalDate().plusDays(30), null, null, null
+            );
+
+            // when
+            List<SessionCalendarDay> days = index.calendar(condition, null, 2);
+
+            // then
+            assertThat(days).containsExactly(
+                new SessionCalendarDay(BASE.toLocalDate(), 3, List.of(2L, 3L)),
+                new SessionCalendarDay(BASE.toLocalDate().plusDays(2), 1, List.of(4L))
+            );
+        }
+
+        @Test
+        @DisplayName("날짜 외의 필터를 모두 적용한다")
+        void applyOtherFilters() {
+            // given
+            index.apply(session(1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+            index.apply(session(2L, "부산", "해운대구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+            index.apply(session(3L, "서울", "송파구", SessionLevel.ADVANCED, SessionStatus.OPEN, BASE), false);
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                List.of("서울"), null, null, SessionLevel.BEGINNER, null,
+                BASE.toLocalDate(), BASE.toLocalDate(), null, null, null
+            );
+
+            // when
+            List<SessionCalendarDay> days = index.calendar(condition, null, 0);
+
+            // then
+            assertThat(days).containsExactly(new SessionCalendarDay(BASE.toLocalDate(), 1, List.of()));
+        }
+
+        @Test
+        @DisplayName("검색어 결과에 없는 세션은 날짜별 수와 id에서 빠진다")
+        void filterByKeywordHits() {
+            // given
+            index.apply(session(1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE), false);
+            index.apply(session(2L, "서울", "송파구", SessionLevel.BEGINNER, SessionStatus.OPEN, BASE.plusHours(1)), false);
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, null,
+                BASE.toLocalDate(), BASE.toLocalDate(), null, null, null
+            );
+
+            // when
+            List<SessionCalendarDay> days = index.calendar(condition, Set.of(2L), 5);
+
+            // then
+            assertThat(days).containsExactly(new SessionCalendarDay(BASE.toLocalDate(), 1, List.of(2L)));
+        }
+    }
+}
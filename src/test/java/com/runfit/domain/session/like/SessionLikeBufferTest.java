@@ -0,0 +1,79 @@
+package com.runfit.domain.session.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SessionLikeBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private SessionLikeBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new SessionLikeBuffer();
+    }
+
+    @Test
+    @DisplayName("성공 - 같은 세션의 반복 토글은 마지막 의도 하나로 합쳐지고 원래 상태로 돌아오면 사라진다")
+    void coalesceToggles() {
+        // when
+        boolean liked = buffer.record(1L, 10L, true, false, NOW);
+        boolean likedAgain = buffer.record(1L, 10L, true, false, NOW);
+        buffer.record(1L, 20L, true, false, NOW);
+        buffer.record(1L, 20L, false, false, NOW);
+
+        // then
+        assertThat(liked).isTrue();
+        assertThat(likedAgain).isFalse();
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.bufferedLikes(1L)).containsExactly(Map.entry(10L, true));
+        assertThat(buffer.bufferedLikes(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공 - 꺼낸 항목은 complete 전까지 조회에 보이고, 그 사이 들어온 의도가 위에 덮인다")
+    void drainKeepsInFlightVisible() {
+        // given
+        buffer.record(1L, 10L, true, false, NOW);
+        buffer.record(1L, 20L, false, true, NOW);
+
+        // when
+        List<SessionLikeChange> changes = buffer.drain();
+        buffer.record(1L, 10L, false, true, NOW);
+
+        // then
+        assertThat(changes).containsExactlyInAnyOrder(
+            new SessionLikeChange(1L, 10L, true, NOW),
+            new SessionLikeChange(1L, 20L, false, NOW)
+        );
+        assertThat(buffer.bufferedLikes(1L)).containsOnly(Map.entry(10L, false), Map.entry(20L, false));
+
+        buffer.complete();
+        assertThat(buffer.bufferedLikes(1L)).containsOnly(Map.entry(10L, false));
+    }
+
+    @Test
+    @DisplayName("성공 - 반영에 실패하면 새 의도와 합쳐 버퍼로 돌아간다")
+    void restoreMergesWithNewerIntent() {
+        // given
+        buffer.record(1L, 10L, true, false, NOW);
+        buffer.record(1L, 20L, true, false, NOW);
+        buffer.drain();
+        // 반영 중에 10번 찜을 취소하면 원래 상태(찜 안 함)로 돌아간다
+        buffer.record(1L, 10L, false, true, NOW);
+
+        // when
+        buffer.restore();
+
+        // then
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.drain()).containsExactly(new SessionLikeChange(1L, 20L, true, NOW));
+    }
+}
@@ -0,0 +1,101 @@
+package com.runfit.domain.session.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.runfit.domain.crew.entity.Crew;
+import com.runfit.domain.crew.repository.CrewRepository;
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionLike;
+import com.runfit.domain.session.like.SessionLikeChange;
+import com.runfit.domain.user.entity.User;
+import com.runfit.domain.user.repository.UserRepository;
+import com.runfit.global.config.AuditConfig;
+import com.runfit.global.config.QueryDslConfig;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, AuditConfig.class, SessionLikeBatchRepository.class})
+class SessionLikeBatchRepositoryTest {
+
+    @Autowired
+    private SessionLikeBatchRepository sessionLikeBatchRepository;
+
+    @Autowired
+    private SessionLikeRepository sessionLikeRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User firstUser;
+    private User secondUser;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        String uniqueId = String.valueOf(System.nanoTime());
+        firstUser = userRepository.save(User.create("first-" + uniqueId + "@test.com", "password", "첫째"));
+        secondUser = userRepository.save(User.create("second-" + uniqueId + "@test.com", "password", "둘째"));
+        Crew crew = crewRepository.save(Crew.create("테스트 크루", "설명", "서울", null));
+        LocalDateTime now = LocalDateTime.now();
+        session = sessionRepository.save(Session.create(
+            crew, firstUser, "찜 세션", "설명", null,
+            "서울", "강남구", null, 37.4979, 127.0276,
+            now.plusDays(3), now.plusDays(2),
+            SessionLevel.BEGINNER, 390, 20
+        ));
+        sessionLikeRepository.save(SessionLike.create(session, firstUser));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("성공 - 이미 있는 찜은 추가 대상에서 빠진다")
+    void findMissing() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        SessionLikeChange existing = new SessionLikeChange(firstUser.getUserId(), session.getId(), true, now);
+        SessionLikeChange missing = new SessionLikeChange(secondUser.getUserId(), session.getId(), true, now);
+
+        // when
+        List<SessionLikeChange> result = sessionLikeBatchRepository.findMissing(List.of(existing, missing), 1);
+
+        // then
+        assertThat(result).containsExactly(missing);
+    }
+
+    @Test
+    @DisplayName("성공 - 찜을 일괄 삭제하고 찜 수를 실제 행 수로 맞춘다")
+    void deleteAndRecount() {
+        // given
+        sessionLikeRepository.save(SessionLike.create(session, secondUser));
+        entityManager.flush();
+
+        // when
+        sessionLikeBatchRepository.deleteAll(
+            List.of(new SessionLikeChange(firstUser.getUserId(), session.getId(), false, LocalDateTime.now())), 100);
+        int recounted = sessionLikeBatchRepository.recountLikes(List.of(session.getId()));
+        entityManager.clear();
+
+        // then
+        assertThat(recounted).isEqualTo(1);
+        assertThat(sessionLikeRepository.existsBySessionAndUser(session, firstUser)).isFalse();
+        assertThat(sessionRepository.findById(session.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+    }
+}
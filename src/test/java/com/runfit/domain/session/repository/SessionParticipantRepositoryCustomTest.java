@@ -2,13 +2,19 @@ package com.runfit.domain.session.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.runfit.common.pagination.CursorSlice;
+import com.runfit.common.pagination.RankedCursor;
 import com.runfit.domain.crew.entity.Crew;
+import com.runfit.domain.crew.entity.CrewRole;
 import com.runfit.domain.crew.entity.Membership;
 import com.runfit.domain.crew.repository.CrewRepository;
 import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.session.activity.UserSessionActivity;
+import com.runfit.domain.session.controller.dto.response.SessionParticipantResponse;
 import com.runfit.domain.user.controller.dto.response.ParticipatingSessionResponse;
 import com.runfit.domain.session.entity.Session;
 import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionLike;
 import com.runfit.domain.session.entity.SessionParticipant;
 import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
@@ -16,6 +22,7 @@ import com.runfit.global.config.AuditConfig;
 import com.runfit.global.config.QueryDslConfig;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -36,6 +43,9 @@ class SessionParticipantRepositoryCustomTest {
     @Autowired
     private SessionRepository sessionRepository;
 
+    @Autowired
+    private SessionLikeRepository sessionLikeRepository;
+
     @Autowired
     private CrewRepository crewRepository;
 
@@ -372,6 +382,9 @@ class SessionParticipantRepositoryCustomTest {
             sessionParticipantRepository.save(SessionParticipant.create(session, user1));
             sessionParticipantRepository.save(SessionParticipant.create(session, user2));
             sessionParticipantRepository.save(SessionParticipant.create(session, hostUser));
+            sessionRepository.increaseParticipantCount(session.getId());
+            sessionRepository.increaseParticipantCount(session.getId());
+            sessionRepository.increaseParticipantCount(session.getId());
 
             // when
             Slice<ParticipatingSessionResponse> result = sessionParticipantRepository.findParticipatingSessionsByUserId(
@@ -469,138 +482,311 @@ class SessionParticipantRepositoryCustomTest {
     }
 
     @Nested
-    @DisplayName("세션 ID 목록으로 참여자 조회")
-    class FindParticipantsBySessionIds {
+    @DisplayName("세션별 참여자 미리보기 조회")
+    class FindParticipantPreviews {
 
         @Test
-        @DisplayName("성공 - 참여자 조회")
-        void success() {
+        @DisplayName("성공 - 세션마다 최근 참여자 N명만 조회")
+        void success_limitPerSession() {
             // given
-            Session session = sessionRepository.save(Session.create(
-                crew, hostUser, "세션", "설명", null,
+            Session session1 = sessionRepository.save(Session.create(
+                crew, hostUser, "세션1", "설명", null,
                 "서울", "강남구", null, 37.4979, 127.0276,
                 LocalDateTime.now().plusDays(7),
                 LocalDateTime.now().plusDays(6),
                 SessionLevel.BEGINNER, 390, 20
             ));
-            sessionParticipantRepository.save(SessionParticipant.create(session, user1));
-            sessionParticipantRepository.save(SessionParticipant.create(session, user2));
+            Session session2 = sessionRepository.save(Session.create(
+                crew, hostUser, "세션2", "설명", null,
+                "서울", "송파구", null, 37.5145, 127.1017,
+                LocalDateTime.now().plusDays(5),
+                LocalDateTime.now().plusDays(4),
+                SessionLevel.INTERMEDIATE, 360, 15
+            ));
+            User user3 = userRepository.save(User.create("user3-" + System.nanoTime() + "@test.com", "password", "사용자3"));
+
+            sessionParticipantRepository.save(SessionParticipant.create(session1, hostUser));
+            sessionParticipantRepository.save(SessionParticipant.create(session1, user1));
+            sessionParticipantRepository.save(SessionParticipant.create(session1, user2));
+            sessionParticipantRepository.save(SessionParticipant.create(session1, user3));
+            sessionParticipantRepository.save(SessionParticipant.create(session2, user1));
 
             // when
-            List<SessionParticipant> result = sessionParticipantRepository.findParticipantsBySessionIds(
-                List.of(session.getId())
+            List<SessionParticipantPreview> result = sessionParticipantRepository.findParticipantPreviews(
+                List.of(session1.getId(), session2.getId()), 3
             );
 
             // then
-            assertThat(result).hasSize(2);
-            assertThat(result).extracting(sp -> sp.getUser().getUserId())
-                .containsExactlyInAnyOrder(user1.getUserId(), user2.getUserId());
+            assertThat(result).hasSize(4);
+            assertThat(result).filteredOn(p -> p.sessionId().equals(session1.getId()))
+                .extracting(SessionParticipantPreview::userId)
+                .containsExactly(user3.getUserId(), user2.getUserId(), user1.getUserId());
+            assertThat(result).filteredOn(p -> p.sessionId().equals(session2.getId()))
+                .extracting(SessionParticipantPreview::name)
+                .containsExactly("사용자1");
         }
 
         @Test
-        @DisplayName("성공 - 여러 세션의 참여자 조회")
-        void success_multipleSessions() {
-            // given
-            Session session1 = sessionRepository.save(Session.create(
-                crew, hostUser, "세션1", "설명", null,
+        @DisplayName("성공 - 빈 세션 ID 목록")
+        void success_emptySessionIds() {
+            // when
+            List<SessionParticipantPreview> result = sessionParticipantRepository.findParticipantPreviews(List.of(), 3);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("세션 참가자 명단 조회")
+    class FindSessionParticipants {
+
+        private Session session;
+
+        @BeforeEach
+        void setUp() {
+            session = sessionRepository.save(Session.create(
+                crew, hostUser, "명단 세션", "설명", null,
                 "서울", "강남구", null, 37.4979, 127.0276,
                 LocalDateTime.now().plusDays(7),
                 LocalDateTime.now().plusDays(6),
                 SessionLevel.BEGINNER, 390, 20
             ));
-            Session session2 = sessionRepository.save(Session.create(
-                crew, hostUser, "세션2", "설명", null,
-                "서울", "송파구", null, 37.5145, 127.1017,
-                LocalDateTime.now().plusDays(5),
-                LocalDateTime.now().plusDays(4),
-                SessionLevel.INTERMEDIATE, 360, 15
-            ));
+            sessionParticipantRepository.save(SessionParticipant.create(session, user1));
+            sessionParticipantRepository.save(SessionParticipant.create(session, user2));
+            sessionParticipantRepository.save(SessionParticipant.create(session, hostUser));
+        }
 
-            sessionParticipantRepository.save(SessionParticipant.create(session1, user1));
-            sessionParticipantRepository.save(SessionParticipant.create(session2, user2));
+        @Test
+        @DisplayName("성공 - 참가 순 정렬, 멤버십 역할 함께 조회")
+        void success_orderByJoinedAt() {
+            // when
+            Slice<SessionParticipantResponse> result = sessionParticipantRepository.findSessionParticipants(
+                session.getId(), crew.getId(), null, false, null, PageRequest.of(0, 10)
+            );
+
+            // then
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.getContent())
+                .extracting(SessionParticipantResponse::userId)
+                .containsExactly(user1.getUserId(), user2.getUserId(), hostUser.getUserId());
+            assertThat(result.getContent())
+                .extracting(SessionParticipantResponse::role)
+                .containsExactly(CrewRole.MEMBER, CrewRole.MEMBER, CrewRole.LEADER);
+            assertThat(result.getContent().get(0).name()).isEqualTo("사용자1");
+        }
 
+        @Test
+        @DisplayName("성공 - 역할순 정렬")
+        void success_orderByRole() {
             // when
-            List<SessionParticipant> result = sessionParticipantRepository.findParticipantsBySessionIds(
-                List.of(session1.getId(), session2.getId())
+            Slice<SessionParticipantResponse> result = sessionParticipantRepository.findSessionParticipants(
+                session.getId(), crew.getId(), null, true, null, PageRequest.of(0, 10)
             );
 
             // then
-            assertThat(result).hasSize(2);
+            assertThat(result.getContent())
+                .extracting(SessionParticipantResponse::userId)
+                .containsExactly(hostUser.getUserId(), user1.getUserId(), user2.getUserId());
         }
 
         @Test
-        @DisplayName("성공 - 빈 세션 ID 목록")
-        void success_emptySessionIds() {
+        @DisplayName("성공 - 역할 필터")
+        void success_filterByRole() {
             // when
-            List<SessionParticipant> result = sessionParticipantRepository.findParticipantsBySessionIds(
-                List.of()
+            Slice<SessionParticipantResponse> result = sessionParticipantRepository.findSessionParticipants(
+                session.getId(), crew.getId(), CrewRole.LEADER, false, null, PageRequest.of(0, 10)
             );
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(result.getContent())
+                .extracting(SessionParticipantResponse::userId)
+                .containsExactly(hostUser.getUserId());
         }
 
         @Test
-        @DisplayName("성공 - null 세션 ID 목록")
-        void success_nullSessionIds() {
+        @DisplayName("성공 - 역할 필터에 맞는 참가자 수")
+        void success_countByRole() {
             // when
-            List<SessionParticipant> result = sessionParticipantRepository.findParticipantsBySessionIds(null);
+            long leaderCount = sessionParticipantRepository.countSessionParticipants(
+                session.getId(), crew.getId(), CrewRole.LEADER);
+            long memberCount = sessionParticipantRepository.countSessionParticipants(
+                session.getId(), crew.getId(), CrewRole.MEMBER);
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(leaderCount).isEqualTo(1);
+            assertThat(memberCount).isEqualTo(2);
         }
 
         @Test
-        @DisplayName("성공 - joinedAt 내림차순 정렬")
-        void success_sortByJoinedAtDesc() {
+        @DisplayName("성공 - 멤버십이 없는 참가자는 MEMBER로 조회")
+        void success_withoutMembership() {
             // given
-            Session session = sessionRepository.save(Session.create(
-                crew, hostUser, "세션", "설명", null,
+            User outsider = userRepository.save(User.create("outsider-" + System.nanoTime() + "@test.com", "password", "외부인"));
+            sessionParticipantRepository.save(SessionParticipant.create(session, outsider));
+
+            // when
+            Slice<SessionParticipantResponse> result = sessionParticipantRepository.findSessionParticipants(
+                session.getId(), crew.getId(), null, false, null, PageRequest.of(0, 10)
+            );
+
+            // then
+            assertThat(result.getContent()).hasSize(4);
+            assertThat(result.getContent().get(3).userId()).isEqualTo(outsider.getUserId());
+            assertThat(result.getContent().get(3).role()).isEqualTo(CrewRole.MEMBER);
+        }
+
+        @Test
+        @DisplayName("성공 - 커서 페이지네이션 (역할순)")
+        void success_cursorPaginationByRole() {
+            // given
+            Slice<SessionParticipantResponse> first = sessionParticipantRepository.findSessionParticipants(
+                session.getId(), crew.getId(), null, true, null, PageRequest.of(0, 2)
+            );
+            String nextCursor = CursorSlice.nextCursorOf(first);
+
+            // when
+            Slice<SessionParticipantResponse> second = sessionParticipantRepository.findSessionParticipants(
+                session.getId(), crew.getId(), null, true, RankedCursor.decode(nextCursor), PageRequest.of(0, 2)
+            );
+
+            // then
+            assertThat(first.hasNext()).isTrue();
+            assertThat(first.getContent())
+                .extracting(SessionParticipantResponse::userId)
+                .containsExactly(hostUser.getUserId(), user1.getUserId());
+            assertThat(second.hasNext()).isFalse();
+            assertThat(second.getContent())
+                .extracting(SessionParticipantResponse::userId)
+                .containsExactly(user2.getUserId());
+        }
+
+        @Test
+        @DisplayName("성공 - 커서 페이지네이션 (참가 순)")
+        void success_cursorPaginationByJoinedAt() {
+            // given
+            Slice<SessionParticipantResponse> first = sessionParticipantRepository.findSessionParticipants(
+                session.getId(), crew.getId(), null, false, null, PageRequest.of(0, 1)
+            );
+
+            // when
+            Slice<SessionParticipantResponse> second = sessionParticipantRepository.findSessionParticipants(
+                session.getId(), crew.getId(), null, false,
+                RankedCursor.decode(CursorSlice.nextCursorOf(first)), PageRequest.of(0, 2)
+            );
+
+            // then
+            assertThat(first.getContent())
+                .extracting(SessionParticipantResponse::userId)
+                .containsExactly(user1.getUserId());
+            assertThat(second.getContent())
+                .extracting(SessionParticipantResponse::userId)
+                .containsExactly(user2.getUserId(), hostUser.getUserId());
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자 찜/참여 세션 id 조회")
+    class FindUserSessionActivity {
+
+        @Test
+        @DisplayName("성공 - 찜한 세션과 참여한 세션을 구분해 조회")
+        void success() {
+            // given
+            Session joinedSession = sessionRepository.save(Session.create(
+                crew, hostUser, "참여 세션", "설명", null,
                 "서울", "강남구", null, 37.4979, 127.0276,
                 LocalDateTime.now().plusDays(7),
                 LocalDateTime.now().plusDays(6),
                 SessionLevel.BEGINNER, 390, 20
             ));
+            Session likedSession = sessionRepository.save(Session.create(
+                crew, hostUser, "찜 세션", "설명", null,
+                "서울", "송파구", null, 37.5145, 127.1017,
+                LocalDateTime.now().plusDays(5),
+                LocalDateTime.now().plusDays(4),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+            sessionParticipantRepository.save(SessionParticipant.create(joinedSession, user1));
+            sessionParticipantRepository.save(SessionParticipant.create(likedSession, user2));
+            sessionLikeRepository.save(SessionLike.create(likedSession, user1));
 
-            // user1 먼저 참여, user2 나중에 참여
-            SessionParticipant p1 = sessionParticipantRepository.save(SessionParticipant.create(session, user1));
-            // 약간의 지연
-            SessionParticipant p2 = sessionParticipantRepository.save(SessionParticipant.create(session, user2));
+            // when
+            UserSessionActivity activity = sessionParticipantRepository.findUserSessionActivity(user1.getUserId());
 
+            // then
+            assertThat(activity.joined(joinedSession.getId())).isTrue();
+            assertThat(activity.joined(likedSession.getId())).isFalse();
+            assertThat(activity.liked(likedSession.getId())).isTrue();
+            assertThat(activity.liked(joinedSession.getId())).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 활동이 없으면 빈 집합")
+        void success_empty() {
             // when
-            List<SessionParticipant> result = sessionParticipantRepository.findParticipantsBySessionIds(
-                List.of(session.getId())
-            );
+            UserSessionActivity activity = sessionParticipantRepository.findUserSessionActivity(user2.getUserId());
 
             // then
-            assertThat(result).hasSize(2);
-            // joinedAt 내림차순이므로 나중에 참여한 user2가 먼저
-            assertThat(result.get(0).getUser().getUserId()).isEqualTo(user2.getUserId());
-            assertThat(result.get(1).getUser().getUserId()).isEqualTo(user1.getUserId());
+            assertThat(activity.likedSessionIds().isEmpty()).isTrue();
+            assertThat(activity.joinedSessionIds().isEmpty()).isTrue();
         }
+    }
+
+    @Nested
+    @DisplayName("크루 참가 내역 스트림 조회")
+    class StreamCrewParticipants {
 
         @Test
-        @DisplayName("성공 - User fetch join 확인")
-        void success_fetchJoinUser() {
+        @DisplayName("성공 - 세션 일시, 참가 순으로 역할과 함께 조회하고 삭제된 세션은 제외")
+        void success() {
             // given
-            Session session = sessionRepository.save(Session.create(
-                crew, hostUser, "세션", "설명", null,
+            Session later = sessionRepository.save(Session.create(
+                crew, hostUser, "나중 세션", "설명", null,
+                "서울", "강남구", null, 37.4979, 127.0276,
+                LocalDateTime.now().plusDays(8),
+                LocalDateTime.now().plusDays(7),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+            Session earlier = sessionRepository.save(Session.create(
+                crew, hostUser, "먼저 세션", "설명", null,
                 "서울", "강남구", null, 37.4979, 127.0276,
                 LocalDateTime.now().plusDays(7),
                 LocalDateTime.now().plusDays(6),
                 SessionLevel.BEGINNER, 390, 20
             ));
-            sessionParticipantRepository.save(SessionParticipant.create(session, user1));
+            Session deleted = sessionRepository.save(Session.create(
+                crew, hostUser, "삭제된 세션", "설명", null,
+                "서울", "강남구", null, 37.4979, 127.0276,
+                LocalDateTime.now().plusDays(5),
+                LocalDateTime.now().plusDays(4),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+            User outsider = userRepository.save(User.create("outsider-" + System.nanoTime() + "@test.com", "password", "외부인"));
+            sessionParticipantRepository.save(SessionParticipant.create(later, user1));
+            sessionParticipantRepository.save(SessionParticipant.create(earlier, hostUser));
+            sessionParticipantRepository.save(SessionParticipant.create(earlier, outsider));
+            sessionParticipantRepository.save(SessionParticipant.create(deleted, user2));
+            deleted.delete();
 
             // when
-            List<SessionParticipant> result = sessionParticipantRepository.findParticipantsBySessionIds(
-                List.of(session.getId())
-            );
+            List<CrewParticipantExportRow> rows;
+            try (Stream<CrewParticipantExportRow> stream =
+                     sessionParticipantRepository.streamCrewParticipants(crew.getId(), 100)) {
+                rows = stream.toList();
+            }
 
             // then
-            assertThat(result).hasSize(1);
-            // User 정보가 fetch join되어 있어야 함
-            assertThat(result.get(0).getUser().getName()).isEqualTo("사용자1");
+            assertThat(rows)
+                .extracting(CrewParticipantExportRow::sessionId)
+                .containsExactly(earlier.getId(), earlier.getId(), later.getId());
+            assertThat(rows)
+                .extracting(CrewParticipantExportRow::userId)
+                .containsExactly(hostUser.getUserId(), outsider.getUserId(), user1.getUserId());
+            assertThat(rows)
+                .extracting(CrewParticipantExportRow::role)
+                .containsExactly(CrewRole.LEADER, CrewRole.MEMBER, CrewRole.MEMBER);
+            assertThat(rows.get(0).sessionName()).isEqualTo("먼저 세션");
         }
     }
 }
@@ -2,6 +2,8 @@ package com.runfit.domain.session.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.runfit.common.pagination.Cursor;
+import com.runfit.common.pagination.CursorSlice;
 import com.runfit.domain.crew.entity.Crew;
 import com.runfit.domain.crew.entity.Membership;
 import com.runfit.domain.crew.repository.CrewRepository;
@@ -10,14 +12,21 @@ import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
 import com.runfit.domain.session.controller.dto.response.SessionListResponse;
 import com.runfit.domain.session.entity.Session;
 import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.index.SessionIdPage;
 import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
 import com.runfit.global.config.AuditConfig;
 import com.runfit.global.config.QueryDslConfig;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,6 +35,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 @DataJpaTest
@@ -111,7 +121,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -129,7 +139,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -147,7 +157,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -164,7 +174,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -183,7 +193,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -202,7 +212,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -215,6 +225,26 @@ class SessionRepositoryCustomTest {
                 });
         }
 
+        @Test
+        @DisplayName("요일 필터링 성공 (sessionAt 기준)")
+        void searchSessions_byDayOfWeek_success() {
+            // given
+            DayOfWeek dayOfWeek = LocalDateTime.now().plusDays(3).getDayOfWeek();
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, null, null, null, null, null,
+                List.of(dayOfWeek), null, null, null, null
+            );
+
+            // when
+            Slice<SessionListResponse> result = search(
+                condition, null, PageRequest.of(0, 10)
+            );
+
+            // then
+            assertThat(result.getContent()).extracting(SessionListResponse::name)
+                .containsExactly("강남 아침 러닝");
+        }
+
         @Test
         @DisplayName("날짜 범위 필터링 성공 (sessionAt 기준)")
         void searchSessions_byDateRange_success() {
@@ -227,7 +257,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -250,7 +280,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -274,7 +304,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -293,7 +323,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -315,7 +345,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -342,7 +372,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 2)
             );
 
@@ -360,7 +390,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -370,6 +400,154 @@ class SessionRepositoryCustomTest {
         }
     }
 
+    @Nested
+    @DisplayName("반경 검색")
+    class RadiusSearch {
+
+        @Test
+        @DisplayName("성공 - 반경 내 세션만 가까운 순으로 조회")
+        void searchSessions_withinRadius_distanceAsc() {
+            // given - 강남역 기준 10km
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, null, null, null, null, null, null, "distanceAsc",
+                37.4979, 127.0276, 10.0
+            );
+
+            // when
+            Slice<SessionListResponse> result = search(
+                condition, null, PageRequest.of(0, 10)
+            );
+
+            // then
+            assertThat(result.getContent()).extracting(SessionListResponse::name)
+                .containsExactly("강남 아침 러닝", "송파 저녁 러닝");
+        }
+
+        @Test
+        @DisplayName("성공 - 반경을 넓히면 더 먼 세션도 포함")
+        void searchSessions_widerRadius() {
+            // given
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, null, null, null, null, null, null, "distanceAsc",
+                37.4979, 127.0276, 50.0
+            );
+
+            // when
+            Slice<SessionListResponse> result = search(
+                condition, null, PageRequest.of(0, 10)
+            );
+
+            // then
+            assertThat(result.getContent()).extracting(SessionListResponse::name)
+                .containsExactly("강남 아침 러닝", "송파 저녁 러닝", "성남 야간 러닝");
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 페이지네이션")
+    class CursorPagination {
+
+        @Test
+        @DisplayName("성공 - nextCursor로 다음 페이지를 중복/누락 없이 조회")
+        void searchSessions_cursor_nextPage() {
+            // given
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, null, null, null, null, null, "sessionAtAsc"
+            );
+            Slice<SessionListResponse> firstPage = search(
+                condition, null, PageRequest.of(0, 2)
+            );
+            String nextCursor = CursorSlice.nextCursorOf(firstPage);
+
+            // when
+            Slice<SessionListResponse> secondPage = search(
+                condition, Cursor.decode(nextCursor), PageRequest.of(0, 2)
+            );
+
+            // then
+            assertThat(nextCursor).isNotNull();
+            assertThat(firstPage.getContent()).extracting(SessionListResponse::name)
+                .containsExactly("성남 야간 러닝", "강남 아침 러닝");
+            assertThat(secondPage.getContent()).extracting(SessionListResponse::name)
+                .containsExactly("송파 저녁 러닝", "가평 트레일 러닝");
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(CursorSlice.nextCursorOf(secondPage)).isNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 기본 정렬(최근 생성순)에서도 커서로 이어서 조회")
+        void searchSessions_cursor_defaultSort() {
+            // given
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, null, null, null, null, null, null
+            );
+            Slice<SessionListResponse> firstPage = search(
+                condition, null, PageRequest.of(0, 3)
+            );
+
+            // when
+            Slice<SessionListResponse> secondPage = search(
+                condition, Cursor.decode(CursorSlice.nextCursorOf(firstPage)), PageRequest.of(0, 3)
+            );
+
+            // then
+            assertThat(firstPage.getContent()).hasSize(3);
+            assertThat(secondPage.getContent()).hasSize(1);
+            assertThat(firstPage.getContent()).extracting(SessionListResponse::id)
+                .doesNotContain(secondPage.getContent().get(0).id());
+        }
+
+        @Test
+        @DisplayName("성공 - 메모리 인덱스가 만든 분 단위 커서로 DB 경로에서 이어서 조회")
+        void searchSessions_cursor_fromIndexMinutePrecision() {
+            // given - 같은 분에 초만 다르게 입력한 세션 두 개
+            LocalDateTime minute = LocalDateTime.now().plusDays(20).truncatedTo(ChronoUnit.MINUTES);
+            Session first = sessionRepository.save(Session.create(
+                seoulCrew, hostUser, "망원 새벽 러닝 1", "설명", null,
+                "서울", "마포구", null, 37.5558, 126.8951,
+                minute.plusSeconds(40), minute.minusDays(1),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+            Session second = sessionRepository.save(Session.create(
+                seoulCrew, hostUser, "망원 새벽 러닝 2", "설명", null,
+                "서울", "마포구", null, 37.5558, 126.8951,
+                minute.plusSeconds(10), minute.minusDays(1),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, List.of("마포구"), null, null, null, null, null, null, null, "sessionAtAsc"
+            );
+
+            // when - 인덱스는 (epoch 분, id) 순이라 첫 세션 다음 커서를 분 단위 키로 만든다
+            Slice<SessionListResponse> result = search(
+                condition, new Cursor(minute, first.getId()), PageRequest.of(0, 10)
+            );
+
+            // then
+            assertThat(result.getContent()).extracting(SessionListResponse::id)
+                .containsExactly(second.getId());
+        }
+
+        @Test
+        @DisplayName("성공 - 내가 만든 세션 목록 커서 조회")
+        void findMyHostedSessions_cursor() {
+            // given
+            Slice<SessionListResponse> firstPage = sessionRepository.findMyHostedSessions(
+                hostUser.getUserId(), PageRequest.of(0, 2)
+            );
+
+            // when
+            Slice<SessionListResponse> secondPage = sessionRepository.findMyHostedSessions(
+                hostUser.getUserId(), Cursor.decode(CursorSlice.nextCursorOf(firstPage)), PageRequest.of(0, 2)
+            );
+
+            // then
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(secondPage.getContent()).hasSize(2);
+            assertThat(secondPage.hasNext()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("내가 만든 세션 목록 조회")
     class FindMyHostedSessions {
@@ -476,7 +654,7 @@ class SessionRepositoryCustomTest {
     class SessionListWithParticipants {
 
         @Test
-        @DisplayName("searchSessions - participants 필드가 빈 리스트로 반환")
+        @DisplayName("세션 카드 - participants 필드가 빈 리스트로 반환")
         void searchSessions_participantsEmpty() {
             // given
             SessionSearchCondition condition = SessionSearchCondition.of(
@@ -484,7 +662,7 @@ class SessionRepositoryCustomTest {
             );
 
             // when
-            Slice<SessionListResponse> result = sessionRepository.searchSessions(
+            Slice<SessionListResponse> result = search(
                 condition, null, PageRequest.of(0, 10)
             );
 
@@ -494,4 +672,79 @@ class SessionRepositoryCustomTest {
             assertThat(result.getContent().get(0).participants()).isEmpty();
         }
     }
+
+    // 서비스와 같이 id 페이지를 조회한 뒤 카드로 채운다
+    private Slice<SessionListResponse> search(SessionSearchCondition condition, Cursor cursor, Pageable pageable) {
+        SessionIdPage page = sessionRepository.searchSessionIds(condition, cursor, pageable);
+        Map<Long, SessionListResponse> cardsById = sessionRepository.findSessionListByIds(page.sessionIds()).stream()
+            .collect(Collectors.toMap(SessionListResponse::id, Function.identity()));
+        List<SessionListResponse> content = page.sessionIds().stream().map(cardsById::get).toList();
+        return new CursorSlice<>(content, pageable, page.hasNext(), page.nextCursor());
+    }
+
+    @Nested
+    @DisplayName("인덱스 적재/동기화용 조회")
+    class FindIndexRows {
+
+        @Test
+        @DisplayName("성공 - 삭제되지 않은 세션을 인덱스 컬럼만으로 조회")
+        void success_excludeDeleted() {
+            // given
+            Session deleted = sessionRepository.save(Session.create(
+                seoulCrew, hostUser, "삭제된 러닝", "설명", null,
+                "서울", "마포구", "망원한강공원", 37.5558, 126.8951,
+                LocalDateTime.now().plusDays(4), LocalDateTime.now().plusDays(3),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+            deleted.delete();
+            sessionRepository.flush();
+
+            // when
+            List<SessionChangedEvent> rows = sessionRepository.findIndexRows(null);
+
+            // then
+            assertThat(rows)
+                .extracting(SessionChangedEvent::name)
+                .contains("강남 아침 러닝", "가평 트레일 러닝")
+                .doesNotContain("삭제된 러닝");
+            SessionChangedEvent gangnam = rows.stream()
+                .filter(row -> row.name().equals("강남 아침 러닝"))
+                .findFirst()
+                .orElseThrow();
+            assertThat(gangnam.entry().crewId()).isEqualTo(seoulCrew.getId());
+            assertThat(gangnam.entry().district()).isEqualTo("강남구");
+            assertThat(gangnam.entry().latitude()).isEqualTo(37.4979);
+            assertThat(gangnam.deleted()).isFalse();
+            assertThat(gangnam.updatedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 변경분 조회는 삭제된 세션도 삭제 표시와 함께 포함")
+        void success_updatedSinceIncludesDeleted() {
+            // given
+            LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+            Session deleted = sessionRepository.save(Session.create(
+                seoulCrew, hostUser, "삭제된 러닝", "설명", null,
+                "서울", "마포구", "망원한강공원", 37.5558, 126.8951,
+                LocalDateTime.now().plusDays(4), LocalDateTime.now().plusDays(3),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+            deleted.delete();
+            sessionRepository.flush();
+
+            // when
+            List<SessionChangedEvent> changes = sessionRepository.findIndexRowsUpdatedSince(since);
+            List<SessionChangedEvent> future = sessionRepository.findIndexRowsUpdatedSince(LocalDateTime.now().plusDays(1));
+
+            // then
+            assertThat(changes)
+                .filteredOn(change -> change.entry().id().equals(deleted.getId()))
+                .singleElement()
+                .satisfies(change -> {
+                    assertThat(change.deleted()).isTrue();
+                    assertThat(change.location()).isEqualTo("망원한강공원");
+                });
+            assertThat(future).isEmpty();
+        }
+    }
 }
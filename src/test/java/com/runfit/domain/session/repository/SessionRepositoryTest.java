@@ -8,6 +8,7 @@ import com.runfit.domain.crew.repository.CrewRepository;
 import com.runfit.domain.crew.repository.MembershipRepository;
 import com.runfit.domain.session.entity.Session;
 import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionParticipant;
 import com.runfit.domain.session.entity.SessionStatus;
 import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 @DataJpaTest
@@ -38,6 +40,12 @@ class SessionRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SessionParticipantRepository sessionParticipantRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User hostUser;
     private Crew crew;
 
@@ -206,4 +214,75 @@ class SessionRepositoryTest {
             assertThat(updatedCount).isEqualTo(3);
         }
     }
+
+    @Nested
+    @DisplayName("집계 카운터")
+    class Counters {
+
+        @Test
+        @DisplayName("성공 - 참가자 수 증가/감소")
+        void increaseAndDecreaseParticipantCount() {
+            // given
+            Session session = sessionRepository.save(Session.create(
+                crew, hostUser, "세션", "설명", null,
+                "서울", "강남구", null, 37.4979, 127.0276,
+                LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(2),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+
+            // when
+            sessionRepository.increaseParticipantCount(session.getId());
+            sessionRepository.increaseParticipantCount(session.getId());
+            sessionRepository.decreaseParticipantCount(session.getId());
+            entityManager.clear();
+
+            // then
+            Session updated = sessionRepository.findById(session.getId()).orElseThrow();
+            assertThat(updated.getParticipantCount()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("성공 - 카운터는 0 미만으로 내려가지 않음")
+        void decreaseParticipantCount_notBelowZero() {
+            // given
+            Session session = sessionRepository.save(Session.create(
+                crew, hostUser, "세션", "설명", null,
+                "서울", "강남구", null, 37.4979, 127.0276,
+                LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(2),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+
+            // when
+            int updatedCount = sessionRepository.decreaseParticipantCount(session.getId());
+
+            // then
+            assertThat(updatedCount).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("성공 - 실제 참가자 수와 어긋난 카운터 보정")
+        void reconcileCounters() {
+            // given
+            Session session = sessionRepository.save(Session.create(
+                crew, hostUser, "세션", "설명", null,
+                "서울", "강남구", null, 37.4979, 127.0276,
+                LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(2),
+                SessionLevel.BEGINNER, 390, 20
+            ));
+            sessionParticipantRepository.save(SessionParticipant.create(session, hostUser));
+
+            // when
+            int repairedCount = sessionRepository.reconcileCounters();
+
+            // then
+            assertThat(repairedCount).isEqualTo(1);
+
+            Session reconciled = sessionRepository.findById(session.getId()).orElseThrow();
+            assertThat(reconciled.getParticipantCount()).isEqualTo(1L);
+            assertThat(reconciled.getLikeCount()).isEqualTo(0L);
+        }
+    }
 }
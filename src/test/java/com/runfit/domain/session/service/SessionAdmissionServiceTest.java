@@ -0,0 +1,141 @@
+package com.runfit.domain.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import com.runfit.domain.session.admission.JoinRequest;
+import com.runfit.domain.session.admission.JoinTicket;
+import com.runfit.domain.session.admission.JoinTicketStatus;
+import com.runfit.domain.session.admission.SessionAdmissionQueue;
+import com.runfit.domain.session.repository.SessionRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SessionAdmissionServiceTest {
+
+    @InjectMocks
+    private SessionAdmissionService sessionAdmissionService;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SessionAdmissionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        // 워커를 띄우지 않고 대기열만 바꿔 끼워 신청이 처리 전 상태로 남게 한다
+        ReflectionTestUtils.setField(sessionAdmissionService, "tickets", Caffeine.newBuilder().build());
+        ReflectionTestUtils.setField(sessionAdmissionService, "transactionTemplate",
+            new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(sessionAdmissionService, "queue", queue);
+    }
+
+    @Test
+    @DisplayName("실패 - 같은 세션에 처리 중인 신청이 있으면 대기열에 넣지 않고 거절")
+    void submit_rejectsWhilePending() {
+        // given
+        given(queue.offer(any(JoinRequest.class))).willReturn(true);
+        sessionAdmissionService.submit(1L, 10L);
+
+        // when & then
+        assertThatThrownBy(() -> sessionAdmissionService.submit(1L, 10L))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.JOIN_ALREADY_PENDING);
+        verify(queue, times(1)).offer(any(JoinRequest.class));
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 세션이나 다른 사용자의 신청은 함께 대기할 수 있다")
+    void submit_allowsOtherSessionOrUser() {
+        // given
+        given(queue.offer(any(JoinRequest.class))).willReturn(true);
+        sessionAdmissionService.submit(1L, 10L);
+
+        // when
+        JoinTicket otherSession = sessionAdmissionService.submit(1L, 20L);
+        JoinTicket otherUser = sessionAdmissionService.submit(2L, 10L);
+
+        // then
+        assertThat(otherSession.status()).isEqualTo(JoinTicketStatus.PENDING);
+        assertThat(otherUser.status()).isEqualTo(JoinTicketStatus.PENDING);
+        verify(queue, times(3)).offer(any(JoinRequest.class));
+    }
+
+    @Test
+    @DisplayName("성공 - 대기열이 가득 차 거절된 신청은 바로 다시 낼 수 있다")
+    void submit_allowsRetryAfterQueueFull() {
+        // given
+        given(queue.offer(any(JoinRequest.class))).willReturn(false, true);
+        assertThatThrownBy(() -> sessionAdmissionService.submit(1L, 10L))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.JOIN_QUEUE_FULL);
+
+        // when
+        JoinTicket ticket = sessionAdmissionService.submit(1L, 10L);
+
+        // then
+        assertThat(ticket.status()).isEqualTo(JoinTicketStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("성공 - 처리 결과가 나온 뒤에는 같은 세션에 다시 신청할 수 있다")
+    void submit_allowsAfterCompletion() {
+        // given
+        given(queue.offer(any(JoinRequest.class))).willReturn(true);
+        given(sessionRepository.findByIdForUpdate(10L)).willReturn(Optional.empty());
+        JoinTicket first = sessionAdmissionService.submit(1L, 10L);
+        ReflectionTestUtils.invokeMethod(sessionAdmissionService, "process",
+            List.of(new JoinRequest(first.ticketId(), 10L, 1L)));
+
+        // when
+        JoinTicket second = sessionAdmissionService.submit(1L, 10L);
+
+        // then
+        assertThat(sessionAdmissionService.getTicket(1L, first.ticketId()).errorCode())
+            .isEqualTo(ErrorCode.SESSION_NOT_FOUND);
+        assertThat(second.ticketId()).isNotEqualTo(first.ticketId());
+        assertThat(second.status()).isEqualTo(JoinTicketStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("성공 - 종료 때 처리하지 못한 신청은 대기열 혼잡으로 거절하고 다시 신청할 수 있게 한다")
+    void shutdown_rejectsUnprocessed() {
+        // given
+        given(queue.offer(any(JoinRequest.class))).willReturn(true);
+        JoinTicket ticket = sessionAdmissionService.submit(1L, 10L);
+        given(queue.shutdown(any(Duration.class)))
+            .willReturn(List.of(new JoinRequest(ticket.ticketId(), 10L, 1L)));
+
+        // when
+        ReflectionTestUtils.invokeMethod(sessionAdmissionService, "shutdown");
+
+        // then
+        JoinTicket rejected = sessionAdmissionService.getTicket(1L, ticket.ticketId());
+        assertThat(rejected.status()).isEqualTo(JoinTicketStatus.REJECTED);
+        assertThat(rejected.errorCode()).isEqualTo(ErrorCode.JOIN_QUEUE_FULL);
+        assertThat(sessionAdmissionService.submit(1L, 10L).status()).isEqualTo(JoinTicketStatus.PENDING);
+    }
+}
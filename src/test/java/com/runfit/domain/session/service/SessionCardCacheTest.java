@@ -0,0 +1,142 @@
+package com.runfit.domain.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.runfit.domain.session.controller.dto.response.CoordsResponse;
+import com.runfit.domain.session.controller.dto.response.SessionListResponse;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
+import com.runfit.domain.session.event.SessionCountersChangedEvent;
+import com.runfit.domain.session.repository.SessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SessionCardCacheTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    private MeterRegistry meterRegistry;
+    private SessionCardCache sessionCardCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sessionCardCache = new SessionCardCache(sessionRepository, meterRegistry);
+        sessionCardCache.initialize();
+    }
+
+    @Test
+    @DisplayName("성공 - 요청한 id 순서대로 반환하고 조회되지 않은 id는 건너뜀")
+    void getCards_keepsOrder() {
+        // given
+        given(sessionRepository.findSessionListByIds(List.of(3L, 2L, 1L)))
+            .willReturn(List.of(card(1L, LocalDateTime.now().plusDays(1)), card(3L, LocalDateTime.now().plusDays(1))));
+
+        // when
+        List<SessionListResponse> result = sessionCardCache.getCards(List.of(3L, 2L, 1L));
+
+        // then
+        assertThat(result).extracting(SessionListResponse::id).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("성공 - 캐시에 없는 id만 DB에서 조회하고 적중률을 메트릭으로 기록")
+    void getCards_loadsOnlyMisses() {
+        // given
+        given(sessionRepository.findSessionListByIds(List.of(1L)))
+            .willReturn(List.of(card(1L, LocalDateTime.now().plusDays(1))));
+        given(sessionRepository.findSessionListByIds(List.of(2L)))
+            .willReturn(List.of(card(2L, LocalDateTime.now().plusDays(1))));
+        sessionCardCache.getCards(List.of(1L));
+
+        // when
+        List<SessionListResponse> result = sessionCardCache.getCards(List.of(1L, 2L));
+
+        // then
+        assertThat(result).extracting(SessionListResponse::id).containsExactly(1L, 2L);
+        verify(sessionRepository).findSessionListByIds(List.of(2L));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", SessionCardCache.CACHE_NAME).tag("result", "hit")
+            .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("runfit.session.cards.hydrate").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공 - 카운터 변경 이벤트를 받으면 해당 카드를 다시 조회")
+    void onSessionCountersChanged_invalidates() {
+        // given
+        given(sessionRepository.findSessionListByIds(List.of(1L)))
+            .willReturn(List.of(card(1L, LocalDateTime.now().plusDays(1))));
+        sessionCardCache.getCards(List.of(1L));
+
+        // when
+        sessionCardCache.onSessionCountersChanged(new SessionCountersChangedEvent(1L));
+        sessionCardCache.getCards(List.of(1L));
+
+        // then
+        verify(sessionRepository, times(2)).findSessionListByIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("성공 - 조회 도중 커밋된 변경 이벤트가 있으면 그 조회가 채운 카드는 다음 조회에 쓰지 않음")
+    void getCards_discardsCardLoadedAcrossInvalidation() {
+        // given
+        willAnswer(invocation -> {
+            sessionCardCache.onSessionCountersChanged(new SessionCountersChangedEvent(1L));
+            return List.of(card(1L, LocalDateTime.now().plusDays(1)));
+        }).willReturn(List.of(card(1L, LocalDateTime.now().plusDays(1))))
+            .given(sessionRepository).findSessionListByIds(List.of(1L));
+        sessionCardCache.getCards(List.of(1L));
+
+        // when
+        List<SessionListResponse> result = sessionCardCache.getCards(List.of(1L));
+
+        // then
+        assertThat(result).extracting(SessionListResponse::id).containsExactly(1L);
+        verify(sessionRepository, times(2)).findSessionListByIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("성공 - 일괄 마감 이벤트는 마감 시각이 지난 모집중 카드만 무효화")
+    void onExpiredSessionsClosed_removesExpiredOpenCards() {
+        // given
+        LocalDateTime closedAt = LocalDateTime.now();
+        given(sessionRepository.findSessionListByIds(List.of(1L, 2L)))
+            .willReturn(List.of(card(1L, closedAt.minusHours(1)), card(2L, closedAt.plusDays(1))));
+        given(sessionRepository.findSessionListByIds(List.of(1L)))
+            .willReturn(List.of(card(1L, closedAt.minusHours(1))));
+        sessionCardCache.getCards(List.of(1L, 2L));
+
+        // when
+        sessionCardCache.onExpiredSessionsClosed(new ExpiredSessionsClosedEvent(closedAt));
+        sessionCardCache.getCards(List.of(1L, 2L));
+
+        // then
+        verify(sessionRepository).findSessionListByIds(List.of(1L));
+    }
+
+    private SessionListResponse card(Long sessionId, LocalDateTime registerBy) {
+        return new SessionListResponse(
+            sessionId, 1L, 1L, "세션" + sessionId, null, "서울", "강남구", null,
+            new CoordsResponse(37.5145, 127.1017),
+            registerBy.plusDays(1), registerBy,
+            SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 0L, false, false, LocalDateTime.now(),
+            null,
+            List.of()
+        );
+    }
+}
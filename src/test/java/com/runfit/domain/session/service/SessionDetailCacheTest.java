@@ -0,0 +1,145 @@
+package com.runfit.domain.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import com.runfit.domain.crew.entity.Crew;
+import com.runfit.domain.session.controller.dto.response.SessionDetailResponse;
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.event.SessionCountersChangedEvent;
+import com.runfit.domain.session.repository.SessionParticipantRepository;
+import com.runfit.domain.session.repository.SessionRepository;
+import com.runfit.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SessionDetailCacheTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionParticipantRepository sessionParticipantRepository;
+
+    private SessionDetailCache sessionDetailCache;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        sessionDetailCache = new SessionDetailCache(sessionRepository, sessionParticipantRepository, new SimpleMeterRegistry());
+        sessionDetailCache.initialize();
+
+        User hostUser = User.create("host@test.com", "password", "호스트");
+        ReflectionTestUtils.setField(hostUser, "userId", 1L);
+        Crew crew = Crew.create("테스트 크루", "설명", "서울", null);
+        ReflectionTestUtils.setField(crew, "id", 1L);
+
+        session = Session.create(
+            crew, hostUser, "테스트 세션", "설명", null,
+            "서울", "송파구", null, 37.5145, 127.1017,
+            LocalDateTime.now().plusDays(7),
+            LocalDateTime.now().plusDays(6),
+            SessionLevel.BEGINNER, 390, 20
+        );
+        ReflectionTestUtils.setField(session, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("성공 - 같은 버전이면 DB를 다시 조회하지 않음")
+    void get_cachedWithinVersion() {
+        // given
+        given(sessionRepository.findByIdWithCrewAndHostUser(1L)).willReturn(Optional.of(session));
+        given(sessionParticipantRepository.countBySession(session)).willReturn(5L);
+
+        // when
+        sessionDetailCache.get(1L);
+        SessionDetailResponse response = sessionDetailCache.get(1L);
+
+        // then
+        assertThat(response.currentParticipantCount()).isEqualTo(5L);
+        assertThat(response.liked()).isFalse();
+        verify(sessionRepository).findByIdWithCrewAndHostUser(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - 참가 인원 변경 이벤트로 버전이 오르면 새로 조회")
+    void get_reloadsAfterCountersChanged() {
+        // given
+        given(sessionRepository.findByIdWithCrewAndHostUser(1L)).willReturn(Optional.of(session));
+        given(sessionParticipantRepository.countBySession(session)).willReturn(5L, 6L);
+        sessionDetailCache.get(1L);
+
+        // when
+        sessionDetailCache.onSessionCountersChanged(new SessionCountersChangedEvent(1L));
+        SessionDetailResponse response = sessionDetailCache.get(1L);
+
+        // then
+        assertThat(response.currentParticipantCount()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("성공 - 세션 수정 이벤트로 버전이 오르면 새로 조회")
+    void get_reloadsAfterSessionChanged() {
+        // given
+        given(sessionRepository.findByIdWithCrewAndHostUser(1L)).willReturn(Optional.of(session));
+        given(sessionParticipantRepository.countBySession(session)).willReturn(5L);
+        sessionDetailCache.get(1L);
+
+        // when
+        sessionDetailCache.onSessionChanged(SessionChangedEvent.from(session));
+        sessionDetailCache.get(1L);
+
+        // then
+        verify(sessionRepository, times(2)).findByIdWithCrewAndHostUser(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - 일괄 마감 이벤트는 마감 시각이 지난 모집중 세션만 새로 조회")
+    void get_reloadsAfterExpiredSessionsClosed() {
+        // given
+        given(sessionRepository.findByIdWithCrewAndHostUser(1L)).willReturn(Optional.of(session));
+        given(sessionParticipantRepository.countBySession(session)).willReturn(5L);
+        sessionDetailCache.get(1L);
+
+        // when
+        sessionDetailCache.onExpiredSessionsClosed(new ExpiredSessionsClosedEvent(LocalDateTime.now()));
+        sessionDetailCache.get(1L);
+        sessionDetailCache.onExpiredSessionsClosed(new ExpiredSessionsClosedEvent(LocalDateTime.now().plusDays(7)));
+        sessionDetailCache.get(1L);
+
+        // then
+        verify(sessionRepository, times(2)).findByIdWithCrewAndHostUser(1L);
+    }
+
+    @Test
+    @DisplayName("실패 - 세션 없음은 캐시하지 않음")
+    void get_sessionNotFound() {
+        // given
+        given(sessionRepository.findByIdWithCrewAndHostUser(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> sessionDetailCache.get(999L))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SESSION_NOT_FOUND);
+        assertThatThrownBy(() -> sessionDetailCache.get(999L))
+            .isInstanceOf(BusinessException.class);
+        verify(sessionRepository, times(2)).findByIdWithCrewAndHostUser(999L);
+    }
+}
@@ -0,0 +1,241 @@
+package com.runfit.domain.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.runfit.common.exception.BusinessException;
+import com.runfit.common.exception.ErrorCode;
+import com.runfit.domain.crew.entity.Crew;
+import com.runfit.domain.crew.entity.Membership;
+import com.runfit.domain.crew.repository.CrewRepository;
+import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.session.admission.JoinTicket;
+import com.runfit.domain.session.admission.JoinTicketStatus;
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.repository.SessionParticipantRepository;
+import com.runfit.domain.session.repository.SessionRepository;
+import com.runfit.domain.user.entity.User;
+import com.runfit.domain.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class SessionJoinConcurrencyTest {
+
+    private static final int JOINER_COUNT = 300;
+    private static final int MAX_PARTICIPANT_COUNT = 30;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private SessionAdmissionService sessionAdmissionService;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SessionParticipantRepository sessionParticipantRepository;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Session session;
+    private List<User> joiners;
+
+    @BeforeEach
+    void setUp() {
+        String uniqueId = String.valueOf(System.nanoTime());
+        User host = userRepository.save(User.create("host-" + uniqueId + "@test.com", "password", "호스트"));
+        Crew crew = crewRepository.save(Crew.create("동시성 크루", "설명", "서울", null));
+        membershipRepository.save(Membership.createLeader(host, crew));
+
+        joiners = new ArrayList<>();
+        for (int i = 0; i < JOINER_COUNT; i++) {
+            joiners.add(User.create("joiner" + i + "-" + uniqueId + "@test.com", "password", "참가자" + i));
+        }
+        joiners = userRepository.saveAll(joiners);
+        membershipRepository.saveAll(joiners.stream().map(user -> Membership.createMember(user, crew)).toList());
+
+        session = sessionRepository.save(Session.create(
+            crew, host, "인기 세션", "설명", null,
+            "서울", "강남구", null, 37.4979, 127.0276,
+            LocalDateTime.now().plusDays(7),
+            LocalDateTime.now().plusDays(6),
+            SessionLevel.BEGINNER, 390, MAX_PARTICIPANT_COUNT
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionParticipantRepository.deleteAllInBatch();
+        sessionRepository.deleteAllInBatch();
+        membershipRepository.deleteAllInBatch();
+        crewRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("성공 - 정원보다 많은 인원이 동시에 신청해도 정원만큼만 참가")
+    void concurrentJoinsNeverOverbook() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(JOINER_COUNT);
+        AtomicInteger joined = new AtomicInteger();
+        Map<ErrorCode, AtomicInteger> failures = new ConcurrentHashMap<>();
+        List<Throwable> unexpected = new ArrayList<>();
+
+        for (User joiner : joiners) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    sessionService.joinSession(joiner.getUserId(), session.getId());
+                    joined.incrementAndGet();
+                } catch (BusinessException e) {
+                    failures.computeIfAbsent(e.getErrorCode(), key -> new AtomicInteger()).incrementAndGet();
+                } catch (Throwable e) {
+                    synchronized (unexpected) {
+                        unexpected.add(e);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(unexpected).isEmpty();
+        assertThat(joined.get()).isEqualTo(MAX_PARTICIPANT_COUNT);
+        assertThat(failures.keySet()).containsExactly(ErrorCode.SESSION_FULL);
+        assertThat(failures.get(ErrorCode.SESSION_FULL).get()).isEqualTo(JOINER_COUNT - MAX_PARTICIPANT_COUNT);
+        assertThat(sessionParticipantRepository.countBySessionId(session.getId())).isEqualTo(MAX_PARTICIPANT_COUNT);
+        assertThat(sessionRepository.findParticipantCount(session.getId())).isEqualTo(MAX_PARTICIPANT_COUNT);
+    }
+
+    @Test
+    @DisplayName("성공 - 같은 사용자가 동시에 여러 번 신청해도 한 번만 참가")
+    void concurrentDuplicateJoinsCountOnce() throws InterruptedException {
+        // given
+        User joiner = joiners.get(0);
+        int attempts = THREAD_COUNT;
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(attempts);
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger alreadyJoined = new AtomicInteger();
+
+        for (int i = 0; i < attempts; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    sessionService.joinSession(joiner.getUserId(), session.getId());
+                    joined.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.ALREADY_JOINED_SESSION) {
+                        alreadyJoined.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(joined.get()).isEqualTo(1);
+        assertThat(alreadyJoined.get()).isEqualTo(attempts - 1);
+        assertThat(sessionParticipantRepository.countBySessionId(session.getId())).isEqualTo(1);
+        assertThat(sessionRepository.findParticipantCount(session.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 - 대기열 모드에서도 정원만큼만 도착 순서대로 참가")
+    void queuedJoinsNeverOverbook() throws InterruptedException {
+        // given
+        session.useQueuedJoin(true);
+        sessionRepository.save(session);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch submitted = new CountDownLatch(JOINER_COUNT);
+        Map<Long, String> ticketIds = new ConcurrentHashMap<>();
+
+        for (User joiner : joiners) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    ticketIds.put(joiner.getUserId(),
+                        sessionAdmissionService.submit(joiner.getUserId(), session.getId()).ticketId());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    submitted.countDown();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        assertThat(submitted.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+        assertThat(sessionAdmissionService.isQueued(session.getId())).isTrue();
+
+        List<JoinTicket> results = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 60_000;
+        for (User joiner : joiners) {
+            JoinTicket ticket = sessionAdmissionService.getTicket(joiner.getUserId(), ticketIds.get(joiner.getUserId()));
+            while (!ticket.isDone() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+                ticket = sessionAdmissionService.getTicket(joiner.getUserId(), ticket.ticketId());
+            }
+            results.add(ticket);
+        }
+
+        // then
+        assertThat(results).allMatch(JoinTicket::isDone);
+        assertThat(results).filteredOn(ticket -> ticket.status() == JoinTicketStatus.JOINED)
+            .hasSize(MAX_PARTICIPANT_COUNT)
+            .extracting(JoinTicket::currentParticipantCount)
+            .doesNotHaveDuplicates()
+            .allMatch(count -> count <= MAX_PARTICIPANT_COUNT);
+        assertThat(results).filteredOn(ticket -> ticket.status() == JoinTicketStatus.REJECTED)
+            .extracting(JoinTicket::errorCode)
+            .containsOnly(ErrorCode.SESSION_FULL);
+        assertThat(sessionParticipantRepository.countBySessionId(session.getId())).isEqualTo(MAX_PARTICIPANT_COUNT);
+        assertThat(sessionRepository.findParticipantCount(session.getId())).isEqualTo(MAX_PARTICIPANT_COUNT);
+    }
+}
@@ -0,0 +1,108 @@
+package com.runfit.domain.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.controller.dto.response.SessionListResponse;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+class SessionSearchCacheTest {
+
+    private SessionSearchCache sessionSearchCache;
+
+    @BeforeEach
+    void setUp() {
+        sessionSearchCache = new SessionSearchCache(new SimpleMeterRegistry());
+        sessionSearchCache.initialize();
+    }
+
+    @Test
+    @DisplayName("성공 - 도시/구 순서와 중복이 달라도 같은 결과를 공유")
+    void get_sharesNormalizedCondition() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        PageRequest pageable = PageRequest.of(0, 10);
+        SessionSearchCondition first = SessionSearchCondition.of(
+            List.of("서울", "부산"), List.of("송파구", "강남구"), null, null, null, null, null, null, null, null
+        );
+        SessionSearchCondition second = SessionSearchCondition.of(
+            List.of("부산", "서울", "서울"), List.of("강남구", "송파구"), null, null, null, null, null, null, null, null
+        );
+
+        // when
+        sessionSearchCache.get(first, pageable, () -> load(loads, pageable));
+        sessionSearchCache.get(second, pageable, () -> load(loads, pageable));
+
+        // then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("성공 - 페이지가 다르면 따로 조회")
+    void get_separatesPages() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        SessionSearchCondition condition = SessionSearchCondition.of(
+            null, null, null, null, null, null, null, null, null, null
+        );
+
+        // when
+        sessionSearchCache.get(condition, PageRequest.of(0, 10), () -> load(loads, PageRequest.of(0, 10)));
+        sessionSearchCache.get(condition, PageRequest.of(1, 10), () -> load(loads, PageRequest.of(1, 10)));
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("성공 - 일괄 마감 이벤트를 받으면 다시 조회")
+    void onExpiredSessionsClosed_invalidates() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        PageRequest pageable = PageRequest.of(0, 10);
+        SessionSearchCondition condition = SessionSearchCondition.of(
+            null, null, null, null, null, null, null, null, null, null
+        );
+        sessionSearchCache.get(condition, pageable, () -> load(loads, pageable));
+
+        // when
+        sessionSearchCache.onExpiredSessionsClosed(new ExpiredSessionsClosedEvent(LocalDateTime.now()));
+        sessionSearchCache.get(condition, pageable, () -> load(loads, pageable));
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("성공 - 커서 요청과 위치 검색은 캐시하지 않음")
+    void isCacheable() {
+        // given
+        SessionSearchCondition plain = SessionSearchCondition.of(
+            null, null, null, null, null, null, null, null, null, null
+        );
+        SessionSearchCondition nearby = SessionSearchCondition.of(
+            null, null, null, null, null, null, null, null, null, null, null,
+            37.5145, 127.1017, null
+        );
+
+        // when & then
+        assertThat(sessionSearchCache.isCacheable(plain, null)).isTrue();
+        assertThat(sessionSearchCache.isCacheable(plain, "cursor")).isFalse();
+        assertThat(sessionSearchCache.isCacheable(nearby, null)).isFalse();
+    }
+
+    private Slice<SessionListResponse> load(AtomicInteger loads, PageRequest pageable) {
+        loads.incrementAndGet();
+        return new SliceImpl<>(List.of(), pageable, false);
+    }
+}
@@ -3,36 +3,56 @@ package com.runfit.domain.session.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.runfit.common.exception.BusinessException;
 import com.runfit.common.exception.ErrorCode;
+import com.runfit.common.pagination.CursorSlice;
+import com.runfit.common.pagination.RankedCursor;
 import com.runfit.domain.crew.entity.Crew;
 import com.runfit.domain.crew.entity.CrewRole;
 import com.runfit.domain.crew.entity.Membership;
 import com.runfit.domain.crew.repository.CrewRepository;
 import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.crew.repository.MembershipRoleMap;
+import com.runfit.domain.session.activity.SessionIdSet;
+import com.runfit.domain.session.activity.UserSessionActivity;
 import com.runfit.domain.session.controller.dto.request.Coords;
 import com.runfit.domain.session.controller.dto.request.SessionCreateRequest;
+import com.runfit.domain.session.controller.dto.request.SessionRecurrence;
 import com.runfit.domain.session.controller.dto.request.SessionUpdateRequest;
 import com.runfit.domain.session.controller.dto.response.SessionDetailResponse;
 import com.runfit.domain.session.controller.dto.response.SessionJoinResponse;
 import com.runfit.domain.session.controller.dto.response.SessionLikeResponse;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionResponse;
+import com.runfit.domain.session.controller.dto.response.SessionSeriesResponse;
 import com.runfit.domain.session.entity.Session;
 import com.runfit.domain.session.entity.SessionLevel;
 import com.runfit.domain.session.entity.SessionLike;
 import com.runfit.domain.session.entity.SessionParticipant;
+import com.runfit.domain.session.event.SessionActivityChangedEvent;
+import com.runfit.domain.session.event.SessionCountersChangedEvent;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.index.SessionIdPage;
 import com.runfit.domain.session.repository.SessionLikeRepository;
+import com.runfit.domain.session.repository.SessionParticipantPreview;
 import com.runfit.domain.session.repository.SessionParticipantRepository;
 import com.runfit.domain.session.repository.SessionRepository;
 import com.runfit.domain.user.entity.User;
 import com.runfit.domain.user.repository.UserRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -49,6 +69,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,6 +97,27 @@ class SessionServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private SessionIndexService sessionIndexService;
+
+    @Mock
+    private SessionTextSearchService sessionTextSearchService;
+
+    @Mock
+    private UserSessionActivityService userSessionActivityService;
+
+    @Mock
+    private SessionCardCache sessionCardCache;
+
+    @Mock
+    private SessionDetailCache sessionDetailCache;
+
+    @Mock
+    private SessionSearchCache sessionSearchCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User hostUser;
     private User participantUser;
     private Crew crew;
@@ -110,6 +153,18 @@ class SessionServiceTest {
         ReflectionTestUtils.setField(session, "id", 1L);
     }
 
+    private MembershipRoleMap roleMap(Long userId, Long crewId, CrewRole role) {
+        MembershipRoleMap roleMap = new MembershipRoleMap();
+        roleMap.put(userId, crewId, role);
+        return roleMap;
+    }
+
+    private SessionParticipantPreview preview(Long sessionId, User user, LocalDateTime joinedAt) {
+        return new SessionParticipantPreview(
+            sessionId, user.getUserId(), user.getName(), user.getImage(), user.getIntroduction(), joinedAt
+        );
+    }
+
     @Nested
     @DisplayName("세션 생성")
     class CreateSession {
@@ -122,7 +177,7 @@ class SessionServiceTest {
                 1L, "한강 야간 러닝", "설명", null,
                 "서울", "송파구", null, new Coords(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, 20, 390
+                SessionLevel.BEGINNER, 20, 390, null, null
             );
             given(userRepository.findById(1L)).willReturn(Optional.of(hostUser));
             given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
@@ -156,7 +211,7 @@ class SessionServiceTest {
                 1L, "한강 야간 러닝", "설명", null,
                 "서울", "송파구", null, new Coords(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, 20, 390
+                SessionLevel.BEGINNER, 20, 390, null, null
             );
             given(userRepository.findById(1L)).willReturn(Optional.of(hostUser));
             given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
@@ -177,6 +232,7 @@ class SessionServiceTest {
 
             // then
             verify(sessionParticipantRepository).save(any(SessionParticipant.class));
+            verify(sessionRepository).increaseParticipantCount(1L);
         }
 
         @Test
@@ -187,7 +243,7 @@ class SessionServiceTest {
                 1L, "세션", "설명", null,
                 "서울", "송파구", null, new Coords(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, 20, 390
+                SessionLevel.BEGINNER, 20, 390, null, null
             );
             given(userRepository.findById(2L)).willReturn(Optional.of(participantUser));
             given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
@@ -207,7 +263,7 @@ class SessionServiceTest {
                 999L, "세션", "설명", null,
                 "서울", "송파구", null, new Coords(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, 20, 390
+                SessionLevel.BEGINNER, 20, 390, null, null
             );
             given(userRepository.findById(1L)).willReturn(Optional.of(hostUser));
             given(crewRepository.findByIdAndDeletedIsNull(999L)).willReturn(Optional.empty());
@@ -219,6 +275,115 @@ class SessionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("반복 세션 생성")
+    class CreateSessionSeries {
+
+        private final LocalDateTime firstSessionAt = LocalDate.now()
+            .with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atTime(19, 0);
+
+        private SessionCreateRequest seriesRequest(SessionRecurrence recurrence) {
+            return new SessionCreateRequest(
+                1L, "월요 정기 러닝", "설명", null,
+                "서울", "송파구", null, new Coords(37.5145, 127.1017),
+                firstSessionAt, firstSessionAt.minusHours(3),
+                SessionLevel.BEGINNER, 20, 390, null, recurrence
+            );
+        }
+
+        private void givenSavedSessionsWithIds() {
+            given(sessionRepository.saveAll(anyList())).willAnswer(invocation -> {
+                List<Session> sessions = invocation.getArgument(0);
+                for (int i = 0; i < sessions.size(); i++) {
+                    ReflectionTestUtils.setField(sessions.get(i), "id", 100L + i);
+                }
+                return sessions;
+            });
+        }
+
+        @Test
+        @DisplayName("성공 - 매주 52회를 권한 확인 한 번과 일괄 저장으로 생성")
+        void success_weekly() {
+            // given
+            SessionCreateRequest request = seriesRequest(
+                new SessionRecurrence(null, null, firstSessionAt.toLocalDate().plusWeeks(51)));
+            given(userRepository.findById(1L)).willReturn(Optional.of(hostUser));
+            given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
+            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L)).willReturn(Optional.of(staffMembership));
+            givenSavedSessionsWithIds();
+
+            // when
+            SessionSeriesResponse response = sessionService.createSessionSeries(1L, request, false);
+
+            // then
+            assertThat(response.count()).isEqualTo(52);
+            assertThat(response.sessions().get(51).sessionAt()).isEqualTo(firstSessionAt.plusWeeks(51));
+            assertThat(response.sessions()).allSatisfy(session -> {
+                assertThat(session.registerBy()).isEqualTo(session.sessionAt().minusHours(3));
+                assertThat(session.currentParticipantCount()).isEqualTo(1L);
+            });
+            verify(membershipRepository).findByUserUserIdAndCrewId(1L, 1L);
+            verify(crewRepository).findByIdAndDeletedIsNull(1L);
+            verify(sessionRepository, never()).save(any(Session.class));
+            verify(sessionParticipantRepository).saveAll(argThat(participants -> ((List<?>) participants).size() == 52));
+            verify(sessionRepository).increaseParticipantCountAll(argThat(ids -> ids.size() == 52));
+        }
+
+        @Test
+        @DisplayName("성공 - 지정한 요일마다 날짜순으로 생성")
+        void success_daysOfWeek() {
+            // given
+            SessionCreateRequest request = seriesRequest(new SessionRecurrence(
+                List.of(DayOfWeek.WEDNESDAY, DayOfWeek.MONDAY), 1, firstSessionAt.toLocalDate().plusDays(9)));
+            given(userRepository.findById(1L)).willReturn(Optional.of(hostUser));
+            given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
+            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L)).willReturn(Optional.of(staffMembership));
+            givenSavedSessionsWithIds();
+
+            // when
+            SessionSeriesResponse response = sessionService.createSessionSeries(1L, request, false);
+
+            // then
+            assertThat(response.sessions()).extracting(SessionResponse::sessionAt).containsExactly(
+                firstSessionAt,
+                firstSessionAt.plusDays(2),
+                firstSessionAt.plusWeeks(1),
+                firstSessionAt.plusWeeks(1).plusDays(2)
+            );
+        }
+
+        @Test
+        @DisplayName("실패 - 최대 횟수 초과")
+        void fail_tooManyOccurrences() {
+            // given
+            SessionCreateRequest request = seriesRequest(
+                new SessionRecurrence(null, null, firstSessionAt.toLocalDate().plusWeeks(SessionRecurrence.MAX_OCCURRENCES)));
+
+            // when & then
+            assertThatThrownBy(() -> sessionService.createSessionSeries(1L, request, false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_RECURRENCE);
+            verify(sessionRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("실패 - 권한 없음 (일반 멤버)")
+        void fail_noPermission() {
+            // given
+            SessionCreateRequest request = seriesRequest(
+                new SessionRecurrence(null, null, firstSessionAt.toLocalDate().plusWeeks(3)));
+            given(userRepository.findById(2L)).willReturn(Optional.of(participantUser));
+            given(crewRepository.findByIdAndDeletedIsNull(1L)).willReturn(Optional.of(crew));
+            given(membershipRepository.findByUserUserIdAndCrewId(2L, 1L)).willReturn(Optional.of(memberMembership));
+
+            // when & then
+            assertThatThrownBy(() -> sessionService.createSessionSeries(2L, request, false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CREW_ROLE_FORBIDDEN);
+            verify(sessionRepository, never()).saveAll(anyList());
+        }
+    }
+
     @Nested
     @DisplayName("세션 상세 조회")
     class GetSessionDetail {
@@ -227,9 +392,9 @@ class SessionServiceTest {
         @DisplayName("성공 - 로그인 사용자")
         void success_withUser() {
             // given
-            given(sessionRepository.findByIdWithCrewAndHostUser(1L)).willReturn(Optional.of(session));
-            given(sessionParticipantRepository.countBySession(session)).willReturn(5L);
-            given(sessionLikeRepository.existsBySessionIdAndUserUserId(1L, 2L)).willReturn(true);
+            given(sessionDetailCache.get(1L)).willReturn(SessionDetailResponse.from(session, 5L, false));
+            given(userSessionActivityService.get(2L))
+                .willReturn(new UserSessionActivity(SessionIdSet.of(1L), SessionIdSet.empty()));
 
             // when
             SessionDetailResponse response = sessionService.getSessionDetail(1L, 2L);
@@ -244,8 +409,7 @@ class SessionServiceTest {
         @DisplayName("성공 - 비로그인 사용자")
         void success_withoutUser() {
             // given
-            given(sessionRepository.findByIdWithCrewAndHostUser(1L)).willReturn(Optional.of(session));
-            given(sessionParticipantRepository.countBySession(session)).willReturn(5L);
+            given(sessionDetailCache.get(1L)).willReturn(SessionDetailResponse.from(session, 5L, false));
 
             // when
             SessionDetailResponse response = sessionService.getSessionDetail(1L, null);
@@ -259,7 +423,7 @@ class SessionServiceTest {
         @DisplayName("실패 - 세션 없음")
         void fail_sessionNotFound() {
             // given
-            given(sessionRepository.findByIdWithCrewAndHostUser(999L)).willReturn(Optional.empty());
+            given(sessionDetailCache.get(999L)).willThrow(new BusinessException(ErrorCode.SESSION_NOT_FOUND));
 
             // when & then
             assertThatThrownBy(() -> sessionService.getSessionDetail(999L, null))
@@ -276,12 +440,11 @@ class SessionServiceTest {
         @DisplayName("성공")
         void success() {
             // given
-            given(userRepository.findById(2L)).willReturn(Optional.of(participantUser));
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
             given(membershipRepository.existsByUserUserIdAndCrewId(2L, 1L)).willReturn(true);
-            given(sessionParticipantRepository.existsBySessionAndUser(session, participantUser)).willReturn(false);
-            given(sessionParticipantRepository.countBySession(session)).willReturn(5L);
-            given(sessionParticipantRepository.save(any(SessionParticipant.class))).willReturn(null);
+            given(sessionRepository.reserveSeat(eq(1L), any(LocalDateTime.class))).willReturn(1);
+            given(userRepository.getReferenceById(2L)).willReturn(participantUser);
+            given(sessionRepository.findParticipantCount(1L)).willReturn(6L);
 
             // when
             SessionJoinResponse response = sessionService.joinSession(2L, 1L);
@@ -290,13 +453,15 @@ class SessionServiceTest {
             assertThat(response.message()).contains("참가 신청");
             assertThat(response.currentParticipantCount()).isEqualTo(6L);
             assertThat(response.maxParticipantCount()).isEqualTo(20);
+            verify(sessionParticipantRepository).saveAndFlush(any(SessionParticipant.class));
+            verify(eventPublisher).publishEvent(new SessionActivityChangedEvent(2L));
+            verify(eventPublisher).publishEvent(new SessionCountersChangedEvent(1L));
         }
 
         @Test
         @DisplayName("실패 - 크루 미가입자")
         void fail_notCrewMember() {
             // given
-            given(userRepository.findById(2L)).willReturn(Optional.of(participantUser));
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
             given(membershipRepository.existsByUserUserIdAndCrewId(2L, 1L)).willReturn(false);
 
@@ -304,16 +469,35 @@ class SessionServiceTest {
             assertThatThrownBy(() -> sessionService.joinSession(2L, 1L))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_CREW_MEMBER);
+            verify(sessionRepository, never()).reserveSeat(any(), any());
         }
 
         @Test
-        @DisplayName("실패 - 이미 참가")
+        @DisplayName("실패 - 이미 참가 (유니크 제약 위반)")
         void fail_alreadyJoined() {
             // given
-            given(userRepository.findById(2L)).willReturn(Optional.of(participantUser));
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
             given(membershipRepository.existsByUserUserIdAndCrewId(2L, 1L)).willReturn(true);
-            given(sessionParticipantRepository.existsBySessionAndUser(session, participantUser)).willReturn(true);
+            given(sessionRepository.reserveSeat(eq(1L), any(LocalDateTime.class))).willReturn(1);
+            given(userRepository.getReferenceById(2L)).willReturn(participantUser);
+            given(sessionParticipantRepository.saveAndFlush(any(SessionParticipant.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+
+            // when & then
+            assertThatThrownBy(() -> sessionService.joinSession(2L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_JOINED_SESSION);
+            verify(eventPublisher, never()).publishEvent(new SessionCountersChangedEvent(1L));
+        }
+
+        @Test
+        @DisplayName("실패 - 정원이 찬 세션에 이미 참가")
+        void fail_alreadyJoinedFullSession() {
+            // given
+            given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
+            given(membershipRepository.existsByUserUserIdAndCrewId(2L, 1L)).willReturn(true);
+            given(sessionRepository.reserveSeat(eq(1L), any(LocalDateTime.class))).willReturn(0);
+            given(sessionParticipantRepository.existsBySessionIdAndUserUserId(1L, 2L)).willReturn(true);
 
             // when & then
             assertThatThrownBy(() -> sessionService.joinSession(2L, 1L))
@@ -325,16 +509,16 @@ class SessionServiceTest {
         @DisplayName("실패 - 정원 초과")
         void fail_sessionFull() {
             // given
-            given(userRepository.findById(2L)).willReturn(Optional.of(participantUser));
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
             given(membershipRepository.existsByUserUserIdAndCrewId(2L, 1L)).willReturn(true);
-            given(sessionParticipantRepository.existsBySessionAndUser(session, participantUser)).willReturn(false);
-            given(sessionParticipantRepository.countBySession(session)).willReturn(20L);
+            given(sessionRepository.reserveSeat(eq(1L), any(LocalDateTime.class))).willReturn(0);
+            given(sessionParticipantRepository.existsBySessionIdAndUserUserId(1L, 2L)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> sessionService.joinSession(2L, 1L))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SESSION_FULL);
+            verify(sessionParticipantRepository, never()).saveAndFlush(any(SessionParticipant.class));
         }
 
         @Test
@@ -342,9 +526,10 @@ class SessionServiceTest {
         void fail_sessionClosed() {
             // given
             session.close();
-            given(userRepository.findById(2L)).willReturn(Optional.of(participantUser));
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
             given(membershipRepository.existsByUserUserIdAndCrewId(2L, 1L)).willReturn(true);
+            given(sessionRepository.reserveSeat(eq(1L), any(LocalDateTime.class))).willReturn(0);
+            given(sessionParticipantRepository.existsBySessionIdAndUserUserId(1L, 2L)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> sessionService.joinSession(2L, 1L))
@@ -366,7 +551,7 @@ class SessionServiceTest {
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
             given(sessionParticipantRepository.findBySessionAndUser(session, participantUser))
                 .willReturn(Optional.of(participant));
-            given(sessionParticipantRepository.countBySession(session)).willReturn(4L);
+            given(sessionRepository.findParticipantCount(1L)).willReturn(4L);
 
             // when
             SessionJoinResponse response = sessionService.cancelJoinSession(2L, 1L);
@@ -375,6 +560,8 @@ class SessionServiceTest {
             assertThat(response.message()).contains("취소");
             assertThat(response.currentParticipantCount()).isEqualTo(4L);
             verify(sessionParticipantRepository).delete(participant);
+            verify(sessionRepository).decreaseParticipantCount(1L);
+            verify(eventPublisher).publishEvent(new SessionCountersChangedEvent(1L));
         }
 
         @Test
@@ -411,6 +598,8 @@ class SessionServiceTest {
 
             // then
             assertThat(response.message()).contains("추가");
+            verify(sessionRepository).increaseLikeCount(1L);
+            verify(eventPublisher).publishEvent(new SessionActivityChangedEvent(2L));
         }
 
         @Test
@@ -448,6 +637,8 @@ class SessionServiceTest {
             // then
             assertThat(response.message()).contains("취소");
             verify(sessionLikeRepository).delete(sessionLike);
+            verify(sessionRepository).decreaseLikeCount(1L);
+            verify(eventPublisher).publishEvent(new SessionActivityChangedEvent(2L));
         }
 
         @Test
@@ -470,82 +661,83 @@ class SessionServiceTest {
     @DisplayName("세션 참가자 목록 조회")
     class GetSessionParticipants {
 
+        private final PageRequest pageable = PageRequest.of(0, 50);
+
+        private SessionParticipantResponse participantResponse(User user, CrewRole role, LocalDateTime joinedAt) {
+            return new SessionParticipantResponse(
+                user.getUserId(), user.getName(), user.getImage(), user.getIntroduction(), role, joinedAt
+            );
+        }
+
         @Test
         @DisplayName("성공 - 기본 조회 (파라미터 없음)")
         void success() {
             // given
-            SessionParticipant participant1 = SessionParticipant.create(session, hostUser);
-            ReflectionTestUtils.setField(participant1, "joinedAt", LocalDateTime.now().minusDays(2));
-
-            SessionParticipant participant2 = SessionParticipant.create(session, participantUser);
-            ReflectionTestUtils.setField(participant2, "joinedAt", LocalDateTime.now().minusDays(1));
+            ReflectionTestUtils.setField(session, "participantCount", 2L);
+            List<SessionParticipantResponse> participants = List.of(
+                participantResponse(hostUser, CrewRole.STAFF, LocalDateTime.now().minusDays(2)),
+                participantResponse(participantUser, CrewRole.MEMBER, LocalDateTime.now().minusDays(1))
+            );
 
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
-            given(sessionParticipantRepository.findAllBySessionIdWithUser(1L))
-                .willReturn(List.of(participant1, participant2));
-            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L))
-                .willReturn(Optional.of(staffMembership));
-            given(membershipRepository.findByUserUserIdAndCrewId(2L, 1L))
-                .willReturn(Optional.of(memberMembership));
+            given(sessionParticipantRepository.findSessionParticipants(1L, 1L, null, false, null, pageable))
+                .willReturn(new SliceImpl<>(participants, pageable, false));
 
             // when
-            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, null, null);
+            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, null, null, null, pageable);
 
             // then
             assertThat(response.totalCount()).isEqualTo(2);
+            assertThat(response.hasNext()).isFalse();
+            assertThat(response.nextCursor()).isNull();
             assertThat(response.participants()).hasSize(2);
             assertThat(response.participants().get(0).userId()).isEqualTo(1L);
             assertThat(response.participants().get(0).role()).isEqualTo(CrewRole.STAFF);
             assertThat(response.participants().get(1).userId()).isEqualTo(2L);
             assertThat(response.participants().get(1).role()).isEqualTo(CrewRole.MEMBER);
+            verify(membershipRepository, never()).findByUserUserIdAndCrewId(any(), any());
         }
 
         @Test
         @DisplayName("성공 - 역할별 필터링 (staff)")
         void success_filterByRole() {
             // given
-            SessionParticipant participant1 = SessionParticipant.create(session, hostUser);
-            ReflectionTestUtils.setField(participant1, "joinedAt", LocalDateTime.now().minusDays(2));
+            List<SessionParticipantResponse> participants = List.of(
+                participantResponse(hostUser, CrewRole.STAFF, LocalDateTime.now().minusDays(2))
+            );
 
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
-            given(sessionParticipantRepository.findAllBySessionIdAndRoleWithUser(1L, 1L, CrewRole.STAFF))
-                .willReturn(List.of(participant1));
-            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L))
-                .willReturn(Optional.of(staffMembership));
+            given(sessionParticipantRepository.findSessionParticipants(1L, 1L, CrewRole.STAFF, false, null, pageable))
+                .willReturn(new SliceImpl<>(participants, pageable, false));
+            given(sessionParticipantRepository.countSessionParticipants(1L, 1L, CrewRole.STAFF)).willReturn(1L);
 
             // when
-            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, "staff", null);
+            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, "staff", null, null, pageable);
 
             // then
-            assertThat(response.totalCount()).isEqualTo(1);
             assertThat(response.participants()).hasSize(1);
             assertThat(response.participants().get(0).userId()).isEqualTo(1L);
             assertThat(response.participants().get(0).role()).isEqualTo(CrewRole.STAFF);
+            assertThat(response.totalCount()).isEqualTo(1);
         }
 
         @Test
         @DisplayName("성공 - 역할순 정렬 (roleAsc)")
         void success_sortByRole() {
             // given
-            SessionParticipant participant1 = SessionParticipant.create(session, hostUser);
-            ReflectionTestUtils.setField(participant1, "joinedAt", LocalDateTime.now().minusDays(2));
-
-            SessionParticipant participant2 = SessionParticipant.create(session, participantUser);
-            ReflectionTestUtils.setField(participant2, "joinedAt", LocalDateTime.now().minusDays(1));
+            List<SessionParticipantResponse> participants = List.of(
+                participantResponse(hostUser, CrewRole.STAFF, LocalDateTime.now().minusDays(2)),
+                participantResponse(participantUser, CrewRole.MEMBER, LocalDateTime.now().minusDays(1))
+            );
 
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
-            given(sessionParticipantRepository.findAllBySessionIdWithUserOrderByRole(1L, 1L))
-                .willReturn(List.of(participant1, participant2));
-            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L))
-                .willReturn(Optional.of(staffMembership));
-            given(membershipRepository.findByUserUserIdAndCrewId(2L, 1L))
-                .willReturn(Optional.of(memberMembership));
+            given(sessionParticipantRepository.findSessionParticipants(1L, 1L, null, true, null, pageable))
+                .willReturn(new SliceImpl<>(participants, pageable, false));
 
             // when
-            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, null, "roleAsc");
+            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, null, "roleAsc", null, pageable);
 
             // then
-            assertThat(response.totalCount()).isEqualTo(2);
             assertThat(response.participants()).hasSize(2);
         }
 
@@ -553,21 +745,45 @@ class SessionServiceTest {
         @DisplayName("성공 - 역할 필터 + 역할순 정렬")
         void success_filterAndSortByRole() {
             // given
-            SessionParticipant participant1 = SessionParticipant.create(session, hostUser);
-            ReflectionTestUtils.setField(participant1, "joinedAt", LocalDateTime.now().minusDays(2));
+            List<SessionParticipantResponse> participants = List.of(
+                participantResponse(hostUser, CrewRole.STAFF, LocalDateTime.now().minusDays(2))
+            );
 
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
-            given(sessionParticipantRepository.findAllBySessionIdAndRoleWithUserOrderByRole(1L, 1L, CrewRole.STAFF))
-                .willReturn(List.of(participant1));
-            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L))
-                .willReturn(Optional.of(staffMembership));
+            given(sessionParticipantRepository.findSessionParticipants(1L, 1L, CrewRole.STAFF, true, null, pageable))
+                .willReturn(new SliceImpl<>(participants, pageable, false));
+            given(sessionParticipantRepository.countSessionParticipants(1L, 1L, CrewRole.STAFF)).willReturn(1L);
 
             // when
-            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, "staff", "roleAsc");
+            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, "staff", "roleAsc", null, pageable);
 
             // then
-            assertThat(response.totalCount()).isEqualTo(1);
             assertThat(response.participants()).hasSize(1);
+            assertThat(response.totalCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 커서로 다음 페이지 조회")
+        void success_withCursor() {
+            // given
+            LocalDateTime joinedAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+            String cursor = RankedCursor.encode(2, joinedAt, 10L);
+            String nextCursor = RankedCursor.encode(3, joinedAt.plusHours(1), 11L);
+            List<SessionParticipantResponse> participants = List.of(
+                participantResponse(participantUser, CrewRole.MEMBER, joinedAt.plusHours(1))
+            );
+
+            given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
+            given(sessionParticipantRepository.findSessionParticipants(
+                1L, 1L, null, true, new RankedCursor(2, joinedAt, 10L), pageable))
+                .willReturn(new CursorSlice<>(participants, pageable, true, nextCursor));
+
+            // when
+            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, null, "roleAsc", cursor, pageable);
+
+            // then
+            assertThat(response.hasNext()).isTrue();
+            assertThat(response.nextCursor()).isEqualTo(nextCursor);
         }
 
         @Test
@@ -575,11 +791,11 @@ class SessionServiceTest {
         void success_noParticipants() {
             // given
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
-            given(sessionParticipantRepository.findAllBySessionIdWithUser(1L))
-                .willReturn(List.of());
+            given(sessionParticipantRepository.findSessionParticipants(1L, 1L, null, false, null, pageable))
+                .willReturn(new SliceImpl<>(List.of(), pageable, false));
 
             // when
-            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, null, null);
+            SessionParticipantsResponse response = sessionService.getSessionParticipants(1L, null, null, null, pageable);
 
             // then
             assertThat(response.totalCount()).isEqualTo(0);
@@ -593,7 +809,7 @@ class SessionServiceTest {
             given(sessionRepository.findByIdAndNotDeleted(999L)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> sessionService.getSessionParticipants(999L, null, null))
+            assertThatThrownBy(() -> sessionService.getSessionParticipants(999L, null, null, null, pageable))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SESSION_NOT_FOUND);
         }
@@ -605,10 +821,22 @@ class SessionServiceTest {
             given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
 
             // when & then
-            assertThatThrownBy(() -> sessionService.getSessionParticipants(1L, "invalid", null))
+            assertThatThrownBy(() -> sessionService.getSessionParticipants(1L, "invalid", null, null, pageable))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BAD_REQUEST);
         }
+
+        @Test
+        @DisplayName("실패 - 잘못된 커서")
+        void fail_invalidCursor() {
+            // given
+            given(sessionRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(session));
+
+            // when & then
+            assertThatThrownBy(() -> sessionService.getSessionParticipants(1L, null, "roleAsc", "invalid", pageable))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        }
     }
 
     @Nested
@@ -715,6 +943,7 @@ class SessionServiceTest {
 
             // then
             assertThat(session.isDeleted()).isTrue();
+            verify(eventPublisher).publishEvent(any(SessionChangedEvent.class));
         }
 
         @Test
@@ -750,16 +979,16 @@ class SessionServiceTest {
         @DisplayName("성공 - 빈 결과")
         void success_empty() {
             // given
-            given(sessionRepository.findMyHostedSessions(any(Long.class), any()))
+            given(sessionRepository.findMyHostedSessions(any(Long.class), any(), any()))
                 .willReturn(new SliceImpl<>(List.of()));
 
             // when
-            var result = sessionService.getMyHostedSessions(1L, PageRequest.of(0, 10));
+            var result = sessionService.getMyHostedSessions(1L, null, PageRequest.of(0, 10));
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
-            verify(sessionRepository).findMyHostedSessions(1L, PageRequest.of(0, 10));
+            verify(sessionRepository).findMyHostedSessions(1L, null, PageRequest.of(0, 10));
         }
 
         @Test
@@ -771,26 +1000,22 @@ class SessionServiceTest {
                 1L, 1L, 1L, "테스트 세션", null, "서울", "강남구", null,
                 new CoordsResponse(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, false, LocalDateTime.now(),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, false, false, LocalDateTime.now(),
                 4.5,
                 List.of()
             );
 
-            Slice<SessionListResponse> mockSlice = new SliceImpl<>(
-                List.of(sessionWithoutParticipants), pageable, false
-            );
-
-            SessionParticipant participant1 = SessionParticipant.create(session, hostUser);
-            ReflectionTestUtils.setField(participant1, "joinedAt", LocalDateTime.now().minusDays(1));
+            SessionParticipantPreview participant1 = preview(1L, hostUser, LocalDateTime.now().minusDays(1));
 
-            given(sessionRepository.findMyHostedSessions(1L, pageable)).willReturn(mockSlice);
-            given(sessionParticipantRepository.findParticipantsBySessionIds(List.of(1L)))
+            given(sessionRepository.findMyHostedSessions(1L, null, pageable)).willReturn(mockSlice);
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(1L), 3))
                 .willReturn(List.of(participant1));
-            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L))
-                .willReturn(Optional.of(staffMembership));
+            given(userSessionActivityService.get(1L)).willReturn(UserSessionActivity.empty());
+            given(membershipRepository.findRoleMap(Set.of(1L), Set.of(1L)))
+                .willReturn(roleMap(1L, 1L, CrewRole.STAFF));
 
             // when
-            Slice<SessionListResponse> result = sessionService.getMyHostedSessions(1L, pageable);
+            Slice<SessionListResponse> result = sessionService.getMyHostedSessions(1L, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
@@ -800,7 +1025,7 @@ class SessionServiceTest {
         }
 
         @Test
-        @DisplayName("성공 - 참여자가 3명 초과시 3명만 반환")
+        @DisplayName("성공 - 세션별 참여자 미리보기는 설정된 인원(3명)만큼 조회")
         void success_limitThreeParticipants() {
             // given
             PageRequest pageable = PageRequest.of(0, 10);
@@ -808,43 +1033,34 @@ class SessionServiceTest {
                 1L, 1L, 1L, "테스트 세션", null, "서울", "강남구", null,
                 new CoordsResponse(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, false, LocalDateTime.now(),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, false, false, LocalDateTime.now(),
                 4.5,
                 List.of()
             );
 
-            Slice<SessionListResponse> mockSlice = new SliceImpl<>(
-                List.of(sessionWithoutParticipants), pageable, false
-            );
-
             User user3 = User.create("user3@test.com", "password", "사용자3");
             ReflectionTestUtils.setField(user3, "userId", 3L);
-            User user4 = User.create("user4@test.com", "password", "사용자4");
-            ReflectionTestUtils.setField(user4, "userId", 4L);
-            User user5 = User.create("user5@test.com", "password", "사용자5");
-            ReflectionTestUtils.setField(user5, "userId", 5L);
-
-            SessionParticipant p1 = SessionParticipant.create(session, hostUser);
-            ReflectionTestUtils.setField(p1, "joinedAt", LocalDateTime.now().minusDays(1));
-            SessionParticipant p2 = SessionParticipant.create(session, participantUser);
-            ReflectionTestUtils.setField(p2, "joinedAt", LocalDateTime.now().minusDays(2));
-            SessionParticipant p3 = SessionParticipant.create(session, user3);
-            ReflectionTestUtils.setField(p3, "joinedAt", LocalDateTime.now().minusDays(3));
-            SessionParticipant p4 = SessionParticipant.create(session, user4);
-            ReflectionTestUtils.setField(p4, "joinedAt", LocalDateTime.now().minusDays(4));
-
-            given(sessionRepository.findMyHostedSessions(1L, pageable)).willReturn(mockSlice);
-            given(sessionParticipantRepository.findParticipantsBySessionIds(List.of(1L)))
-                .willReturn(List.of(p1, p2, p3, p4));
-            given(membershipRepository.findByUserUserIdAndCrewId(any(), any()))
-                .willReturn(Optional.of(memberMembership));
+
+            SessionParticipantPreview p1 = preview(1L, hostUser, LocalDateTime.now().minusDays(1));
+            SessionParticipantPreview p2 = preview(1L, participantUser, LocalDateTime.now().minusDays(2));
+            SessionParticipantPreview p3 = preview(1L, user3, LocalDateTime.now().minusDays(3));
+
+            given(sessionRepository.findMyHostedSessions(1L, null, pageable)).willReturn(mockSlice);
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(1L), 3))
+                .willReturn(List.of(p1, p2, p3));
+            given(userSessionActivityService.get(1L)).willReturn(UserSessionActivity.empty());
+            given(membershipRepository.findRoleMap(Set.of(1L, 2L, 3L), Set.of(1L)))
+                .willReturn(MembershipRoleMap.empty());
 
             // when
-            Slice<SessionListResponse> result = sessionService.getMyHostedSessions(1L, pageable);
+            Slice<SessionListResponse> result = sessionService.getMyHostedSessions(1L, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).participants()).hasSize(3);
+            assertThat(result.getContent().get(0).participants())
+                .extracting(SessionParticipantResponse::userId)
+                .containsExactly(1L, 2L, 3L);
         }
     }
 
@@ -861,11 +1077,11 @@ class SessionServiceTest {
             );
             PageRequest pageable = PageRequest.of(0, 10);
 
-            given(sessionRepository.searchSessions(condition, 1L, pageable))
-                .willReturn(new SliceImpl<>(List.of(), pageable, false));
+            given(sessionRepository.searchSessionIds(condition, null, pageable))
+                .willReturn(new SessionIdPage(List.of(), false, null));
 
             // when
-            Slice<SessionListResponse> result = sessionService.searchSessions(condition, 1L, pageable);
+            Slice<SessionListResponse> result = sessionService.searchSessions(condition, 1L, null, pageable);
 
             // then
             assertThat(result.getContent()).isEmpty();
@@ -884,32 +1100,125 @@ class SessionServiceTest {
                 1L, 1L, 1L, "테스트 세션", null, "서울", "강남구", null,
                 new CoordsResponse(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, false, LocalDateTime.now(),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, false, false, LocalDateTime.now(),
                 4.5,
                 List.of()
             );
 
-            Slice<SessionListResponse> mockSlice = new SliceImpl<>(
-                List.of(sessionWithoutParticipants), pageable, false
-            );
-
-            SessionParticipant participant = SessionParticipant.create(session, hostUser);
-            ReflectionTestUtils.setField(participant, "joinedAt", LocalDateTime.now().minusDays(1));
+            SessionParticipantPreview participant = preview(1L, hostUser, LocalDateTime.now().minusDays(1));
 
-            given(sessionRepository.searchSessions(condition, 1L, pageable)).willReturn(mockSlice);
-            given(sessionParticipantRepository.findParticipantsBySessionIds(List.of(1L)))
+            given(sessionRepository.searchSessionIds(condition, null, pageable))
+                .willReturn(new SessionIdPage(List.of(1L), false, null));
+            given(sessionCardCache.getCards(List.of(1L))).willReturn(List.of(sessionWithoutParticipants));
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(1L), 3))
                 .willReturn(List.of(participant));
-            given(membershipRepository.findByUserUserIdAndCrewId(1L, 1L))
-                .willReturn(Optional.of(staffMembership));
+            given(userSessionActivityService.get(1L))
+                .willReturn(new UserSessionActivity(SessionIdSet.of(1L), SessionIdSet.of(1L)));
+            given(membershipRepository.findRoleMap(Set.of(1L), Set.of(1L)))
+                .willReturn(roleMap(1L, 1L, CrewRole.STAFF));
 
             // when
-            Slice<SessionListResponse> result = sessionService.searchSessions(condition, 1L, pageable);
+            Slice<SessionListResponse> result = sessionService.searchSessions(condition, 1L, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).participants()).hasSize(1);
             assertThat(result.getContent().get(0).participants().get(0).name()).isEqualTo("호스트");
             assertThat(result.getContent().get(0).participants().get(0).role()).isEqualTo(CrewRole.STAFF);
+            assertThat(result.getContent().get(0).liked()).isTrue();
+            assertThat(result.getContent().get(0).joined()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 모집중 검색은 인덱스가 정한 id 페이지를 카드 캐시로 채움")
+        void success_fromIndex() {
+            // given
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, SessionStatus.OPEN, null, null, null, null, null
+            );
+            PageRequest pageable = PageRequest.of(0, 2);
+
+            SessionListResponse first = new SessionListResponse(
+                2L, 1L, 1L, "두번째 생성 세션", null, "서울", "강남구", null,
+                new CoordsResponse(37.5145, 127.1017),
+                LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 0L, false, false, LocalDateTime.now(),
+                null,
+                List.of()
+            );
+            SessionListResponse second = new SessionListResponse(
+                1L, 1L, 1L, "첫번째 생성 세션", null, "서울", "강남구", null,
+                new CoordsResponse(37.5145, 127.1017),
+                LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 0L, false, false, LocalDateTime.now().minusDays(1),
+                null,
+                List.of()
+            );
+
+            given(sessionIndexService.canServe(condition)).willReturn(true);
+            given(sessionIndexService.search(condition, null, pageable))
+                .willReturn(new SessionIdPage(List.of(2L, 1L), true, "next"));
+            given(sessionCardCache.getCards(List.of(2L, 1L))).willReturn(List.of(first, second));
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(2L, 1L), 3))
+                .willReturn(List.of());
+            given(userSessionActivityService.get(1L)).willReturn(UserSessionActivity.empty());
+
+            // when
+            Slice<SessionListResponse> result = sessionService.searchSessions(condition, 1L, null, pageable);
+
+            // then
+            assertThat(result.getContent()).extracting(SessionListResponse::id).containsExactly(2L, 1L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(CursorSlice.nextCursorOf(result)).isEqualTo("next");
+        }
+
+        @Test
+        @DisplayName("성공 - 공유 캐시 결과에 사용자별 찜/참여 여부만 덧씌움")
+        void success_fromSharedCache() {
+            // given
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                List.of("서울"), null, null, null, null, null, null, null, null, null
+            );
+            PageRequest pageable = PageRequest.of(0, 10);
+
+            SessionListResponse cached = new SessionListResponse(
+                1L, 1L, 1L, "테스트 세션", null, "서울", "강남구", null,
+                new CoordsResponse(37.5145, 127.1017),
+                LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, false, false, LocalDateTime.now(),
+                null,
+                List.of()
+            );
+
+            given(sessionSearchCache.isCacheable(condition, null)).willReturn(true);
+            given(sessionSearchCache.get(eq(condition), eq(pageable), any()))
+                .willReturn(new CursorSlice<>(List.of(cached), pageable, true, "next"));
+            given(userSessionActivityService.get(1L))
+                .willReturn(new UserSessionActivity(SessionIdSet.of(1L), SessionIdSet.empty()));
+
+            // when
+            Slice<SessionListResponse> result = sessionService.searchSessions(condition, 1L, null, pageable);
+
+            // then
+            assertThat(result.getContent().get(0).liked()).isTrue();
+            assertThat(result.getContent().get(0).joined()).isFalse();
+            assertThat(CursorSlice.nextCursorOf(result)).isEqualTo("next");
+            verify(sessionRepository, never()).searchSessionIds(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 위도만 입력")
+        void fail_latitudeOnly() {
+            // given
+            SessionSearchCondition condition = SessionSearchCondition.of(
+                null, null, null, null, null, null, null, null, null, null, "distanceAsc",
+                37.4979, null, 5.0
+            );
+
+            // when & then
+            assertThatThrownBy(() -> sessionService.searchSessions(condition, 1L, null, PageRequest.of(0, 10)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_LOCATION);
         }
     }
 }
@@ -0,0 +1,112 @@
+package com.runfit.domain.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.runfit.domain.session.controller.dto.response.SessionSuggestionResponse;
+import com.runfit.domain.session.entity.Session;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.index.SessionIndexEntry;
+import com.runfit.domain.session.repository.SessionRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SessionSuggestionServiceTest {
+
+    @InjectMocks
+    private SessionSuggestionService sessionSuggestionService;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Test
+    @DisplayName("성공 - DB 조회 중 이벤트로 추가된 세션은 스냅샷에 없어도 지우지 않는다")
+    void synchronize_keepsSessionAddedDuringQuery() {
+        // given
+        sessionSuggestionService.onSessionChanged(changed(1L, "한강 아침 러닝"));
+        given(sessionRepository.findAllByStatusAndDeletedIsNull(SessionStatus.OPEN)).willAnswer(invocation -> {
+            sessionSuggestionService.onSessionChanged(changed(2L, "한강 야간 러닝"));
+            return List.of();
+        });
+
+        // when
+        sessionSuggestionService.synchronize();
+
+        // then
+        assertThat(sessionSuggestionService.suggest("한강", 10))
+            .extracting(SessionSuggestionResponse::id)
+            .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("성공 - DB 조회 중 이벤트로 이름이 바뀐 세션은 스냅샷의 이전 이름으로 덮지 않는다")
+    void synchronize_keepsSessionRenamedDuringQuery() {
+        // given
+        sessionSuggestionService.onSessionChanged(changed(1L, "한강 아침 러닝"));
+        given(sessionRepository.findAllByStatusAndDeletedIsNull(SessionStatus.OPEN)).willAnswer(invocation -> {
+            sessionSuggestionService.onSessionChanged(changed(1L, "남산 트레일"));
+            return List.of(session(1L, "한강 아침 러닝"));
+        });
+
+        // when
+        sessionSuggestionService.synchronize();
+
+        // then
+        assertThat(sessionSuggestionService.suggest("한강", 10)).isEmpty();
+        assertThat(sessionSuggestionService.suggest("남산", 10))
+            .extracting(SessionSuggestionResponse::id)
+            .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - DB 조회 중 이벤트로 삭제된 세션은 스냅샷에 남아 있어도 다시 넣지 않는다")
+    void synchronize_keepsSessionDeletedDuringQuery() {
+        // given
+        sessionSuggestionService.onSessionChanged(changed(1L, "한강 아침 러닝"));
+        given(sessionRepository.findAllByStatusAndDeletedIsNull(SessionStatus.OPEN)).willAnswer(invocation -> {
+            sessionSuggestionService.onSessionChanged(changed(1L, "한강 아침 러닝", true));
+            return List.of(session(1L, "한강 아침 러닝"));
+        });
+
+        // when
+        sessionSuggestionService.synchronize();
+
+        // then
+        assertThat(sessionSuggestionService.suggest("한강", 10)).isEmpty();
+    }
+
+    private Session session(Long id, String name) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 0);
+        Session session = Session.create(
+            null, null, name, "설명", null,
+            "서울", "강남구", null, null, null,
+            now.plusDays(7), now.plusDays(6),
+            SessionLevel.BEGINNER, 390, 20
+        );
+        ReflectionTestUtils.setField(session, "id", id);
+        return session;
+    }
+
+    private SessionChangedEvent changed(Long id, String name) {
+        return changed(id, name, false);
+    }
+
+    private SessionChangedEvent changed(Long id, String name, boolean deleted) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 0);
+        SessionIndexEntry entry = new SessionIndexEntry(
+            id, 1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN,
+            now.plusDays(7), now.plusDays(6), now, null, null
+        );
+        return new SessionChangedEvent(entry, name, null, null, deleted, now);
+    }
+}
@@ -0,0 +1,140 @@
+package com.runfit.domain.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.runfit.common.pagination.Cursor;
+import com.runfit.domain.session.controller.dto.request.SessionSearchCondition;
+import com.runfit.domain.session.entity.SessionLevel;
+import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.SessionChangedEvent;
+import com.runfit.domain.session.index.SessionIdPage;
+import com.runfit.domain.session.index.SessionIndexEntry;
+import com.runfit.domain.session.repository.SessionRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SessionTextSearchServiceTest {
+
+    @InjectMocks
+    private SessionTextSearchService sessionTextSearchService;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 후보를 2개씩 나눠 거르도록 줄인다. 같은 점수면 id가 큰 세션이 앞서므로 관련도순은 5, 4, 3, 2, 1
+        ReflectionTestUtils.setField(sessionTextSearchService, "maxHits", 2);
+        for (long id = 1; id <= 5; id++) {
+            sessionTextSearchService.onSessionChanged(changed(id, "한강 러닝 " + id));
+        }
+        sessionTextSearchService.onSessionChanged(changed(6L, "남산 트레일"));
+    }
+
+    @Test
+    @DisplayName("성공 - 검색어 + 필터: 상위 후보가 필터에 걸러져도 뒤쪽 후보에서 페이지를 채운다")
+    void search_keywordWithFilter() {
+        // given
+        SessionSearchCondition condition = condition("한강", null);
+        given(sessionRepository.findMatchingSessionIds(condition, List.of(5L, 4L))).willReturn(List.of());
+        given(sessionRepository.findMatchingSessionIds(condition, List.of(3L, 2L))).willReturn(List.of(2L));
+        given(sessionRepository.findMatchingSessionIds(condition, List.of(1L))).willReturn(List.of(1L));
+
+        // when
+        SessionIdPage page = sessionTextSearchService.search(condition, null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.sessionIds()).containsExactly(2L, 1L);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 검색어 + 필터: 페이지를 채우면 남은 후보는 조회하지 않는다")
+    void search_keywordWithFilterStopsWhenPageFilled() {
+        // given
+        SessionSearchCondition condition = condition("한강", null);
+        given(sessionRepository.findMatchingSessionIds(condition, List.of(5L, 4L))).willReturn(List.of(4L));
+        given(sessionRepository.findMatchingSessionIds(condition, List.of(3L, 2L))).willReturn(List.of(3L, 2L));
+
+        // when
+        SessionIdPage page = sessionTextSearchService.search(condition, null, PageRequest.of(0, 2));
+
+        // then
+        assertThat(page.sessionIds()).containsExactly(4L, 3L);
+        assertThat(page.hasNext()).isTrue();
+        verify(sessionRepository, never()).findMatchingSessionIds(condition, List.of(1L));
+    }
+
+    @Test
+    @DisplayName("성공 - 검색어 + 정렬: 후보가 maxHits 이하이면 전체 후보를 DB 정렬에 넘긴다")
+    void search_keywordWithSortWithinLimit() {
+        // given
+        SessionSearchCondition condition = condition("남산", "sessionAtAsc");
+        PageRequest pageable = PageRequest.of(0, 10);
+        SessionIdPage expected = new SessionIdPage(List.of(6L), false, null);
+        given(sessionRepository.searchSessionIds(condition, List.of(6L), null, pageable)).willReturn(expected);
+
+        // when
+        SessionIdPage page = sessionTextSearchService.search(condition, null, pageable);
+
+        // then
+        assertThat(page).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("성공 - 검색어 + 정렬: 후보가 maxHits를 넘으면 구간마다 페이지 끝까지만 정렬해 모은 뒤 다시 정렬한다")
+    void search_keywordWithSortOverLimit() {
+        // given
+        SessionSearchCondition condition = condition("한강", "sessionAtAsc");
+        PageRequest pageable = PageRequest.of(0, 1);
+        PageRequest head = PageRequest.of(0, 2);
+        given(sessionRepository.searchSessionIds(condition, List.of(5L, 4L), null, head))
+            .willReturn(new SessionIdPage(List.of(4L, 5L), false, null));
+        given(sessionRepository.searchSessionIds(condition, List.of(3L, 2L), null, head))
+            .willReturn(new SessionIdPage(List.of(2L), false, null));
+        given(sessionRepository.searchSessionIds(condition, List.of(1L), null, head))
+            .willReturn(new SessionIdPage(List.of(1L), false, null));
+        SessionIdPage expected = new SessionIdPage(List.of(1L), true, "cursor");
+        given(sessionRepository.searchSessionIds(condition, List.of(4L, 5L, 2L, 1L), null, pageable))
+            .willReturn(expected);
+
+        // when
+        SessionIdPage page = sessionTextSearchService.search(condition, null, pageable);
+
+        // then
+        assertThat(page).isEqualTo(expected);
+        verify(sessionRepository, never()).searchSessionIds(condition, (Cursor) null, pageable);
+        verify(sessionRepository, never()).findMatchingSessionIds(any(), anyList());
+    }
+
+    private SessionSearchCondition condition(String keyword, String sort) {
+        return SessionSearchCondition.of(
+            null, null, 1L, null, null, null, null, null, null, null, sort,
+            null, null, null, keyword
+        );
+    }
+
+    private SessionChangedEvent changed(Long id, String name) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 0);
+        SessionIndexEntry entry = new SessionIndexEntry(
+            id, 1L, "서울", "강남구", SessionLevel.BEGINNER, SessionStatus.OPEN,
+            now.plusDays(7), now.plusDays(6), now, null, null
+        );
+        return new SessionChangedEvent(entry, name, null, null, false, now);
+    }
+}
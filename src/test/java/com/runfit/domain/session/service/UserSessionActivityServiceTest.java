@@ -0,0 +1,57 @@
+package com.runfit.domain.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.runfit.domain.session.activity.SessionIdSet;
+import com.runfit.domain.session.activity.UserSessionActivity;
+import com.runfit.domain.session.like.SessionLikeBuffer;
+import com.runfit.domain.session.repository.SessionParticipantRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserSessionActivityServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Mock
+    private SessionParticipantRepository sessionParticipantRepository;
+
+    private SessionLikeBuffer sessionLikeBuffer;
+    private UserSessionActivityService userSessionActivityService;
+
+    @BeforeEach
+    void setUp() {
+        sessionLikeBuffer = new SessionLikeBuffer();
+        userSessionActivityService = new UserSessionActivityService(sessionParticipantRepository, sessionLikeBuffer);
+        userSessionActivityService.initialize();
+    }
+
+    @Test
+    @DisplayName("성공 - 버퍼에 남은 찜/찜 취소는 캐시된 집합 위에 바로 보인다")
+    void get_overlaysBufferedLikes() {
+        // given
+        given(sessionParticipantRepository.findUserSessionActivity(1L))
+            .willReturn(new UserSessionActivity(SessionIdSet.of(10L), SessionIdSet.of(30L)));
+        userSessionActivityService.get(1L);
+
+        // when
+        sessionLikeBuffer.record(1L, 10L, false, true, NOW);
+        sessionLikeBuffer.record(1L, 20L, true, false, NOW);
+        UserSessionActivity activity = userSessionActivityService.get(1L);
+
+        // then
+        assertThat(activity.liked(10L)).isFalse();
+        assertThat(activity.liked(20L)).isTrue();
+        assertThat(activity.joined(30L)).isTrue();
+        verify(sessionParticipantRepository, times(1)).findUserSessionActivity(1L);
+    }
+}
@@ -9,20 +9,23 @@ import com.runfit.common.exception.ErrorCode;
 import com.runfit.domain.crew.controller.dto.response.CrewListResponse;
 import com.runfit.domain.crew.entity.CrewRole;
 import com.runfit.domain.crew.repository.MembershipRepository;
+import com.runfit.domain.crew.repository.MembershipRoleMap;
 import com.runfit.domain.review.controller.dto.response.ReviewResponse;
 import com.runfit.domain.review.service.ReviewService;
+import com.runfit.domain.session.activity.SessionIdSet;
+import com.runfit.domain.session.activity.UserSessionActivity;
 import com.runfit.domain.session.controller.dto.response.CoordsResponse;
 import com.runfit.domain.session.controller.dto.response.SessionParticipantResponse;
 import com.runfit.domain.user.controller.dto.response.ParticipatingSessionResponse;
-import com.runfit.domain.session.entity.Session;
 import com.runfit.domain.session.entity.SessionLevel;
-import com.runfit.domain.session.entity.SessionParticipant;
 import com.runfit.domain.session.entity.SessionStatus;
 import com.runfit.domain.session.repository.SessionLikeRepository;
+import com.runfit.domain.session.repository.SessionParticipantPreview;
 import com.runfit.domain.session.repository.SessionParticipantRepository;
 import com.runfit.domain.session.service.SessionService;
+import com.runfit.domain.session.service.SessionLikeWriteBehindService;
+import com.runfit.domain.session.service.UserSessionActivityService;
 import com.runfit.domain.session.controller.dto.response.SessionListResponse;
-import com.runfit.domain.crew.entity.Membership;
 import com.runfit.domain.user.controller.dto.request.UserUpdateRequest;
 import com.runfit.domain.user.controller.dto.response.MyCrewResponse;
 import com.runfit.domain.user.controller.dto.response.UserProfileResponse;
@@ -32,7 +35,7 @@ import com.runfit.domain.user.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import org.mockito.Mockito;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -70,6 +73,12 @@ class UserServiceTest {
     @Mock
     private SessionService sessionService;
 
+    @Mock
+    private UserSessionActivityService userSessionActivityService;
+
+    @Mock
+    private SessionLikeWriteBehindService sessionLikeWriteBehindService;
+
     @Nested
     @DisplayName("내가 찜한 세션 목록 조회")
     class GetMyLikedSessions {
@@ -85,14 +94,14 @@ class UserServiceTest {
                 1L, 1L, 2L, "한강 야간 러닝", "https://example.com/session1.jpg",
                 "서울", "송파구", null, new CoordsResponse(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, true, LocalDateTime.now(),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, true, false, LocalDateTime.now(),
                 4.5, List.of()
             );
             SessionListResponse likedSession2 = new SessionListResponse(
                 2L, 2L, 3L, "북한산 트레일 러닝", "https://example.com/session2.jpg",
                 "서울", "은평구", null, new CoordsResponse(37.6584, 126.9747),
                 LocalDateTime.now().plusDays(14), LocalDateTime.now().plusDays(13),
-                SessionLevel.ADVANCED, SessionStatus.OPEN, 360, 15, 3L, true, LocalDateTime.now(),
+                SessionLevel.ADVANCED, SessionStatus.OPEN, 360, 15, 3L, true, false, LocalDateTime.now(),
                 4.0, List.of()
             );
 
@@ -100,11 +109,13 @@ class UserServiceTest {
                 List.of(likedSession1, likedSession2), pageable, false
             );
 
-            given(sessionLikeRepository.findLikedSessionsByUserId(userId, pageable))
+            given(sessionLikeRepository.findLikedSessionsByUserId(userId, null, pageable))
                 .willReturn(mockSlice);
+            given(userSessionActivityService.get(userId))
+                .willReturn(new UserSessionActivity(SessionIdSet.of(1L, 2L), SessionIdSet.of(1L)));
 
             // when
-            Slice<SessionListResponse> result = userService.getMyLikedSessions(userId, pageable);
+            Slice<SessionListResponse> result = userService.getMyLikedSessions(userId, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(2);
@@ -112,7 +123,9 @@ class UserServiceTest {
             assertThat(result.getContent().get(0).id()).isEqualTo(1L);
             assertThat(result.getContent().get(0).name()).isEqualTo("한강 야간 러닝");
             assertThat(result.getContent().get(0).liked()).isTrue();
+            assertThat(result.getContent().get(0).joined()).isTrue();
             assertThat(result.getContent().get(1).id()).isEqualTo(2L);
+            assertThat(result.getContent().get(1).joined()).isFalse();
         }
 
         @Test
@@ -124,11 +137,11 @@ class UserServiceTest {
 
             Slice<SessionListResponse> mockSlice = new SliceImpl<>(List.of(), pageable, false);
 
-            given(sessionLikeRepository.findLikedSessionsByUserId(userId, pageable))
+            given(sessionLikeRepository.findLikedSessionsByUserId(userId, null, pageable))
                 .willReturn(mockSlice);
 
             // when
-            Slice<SessionListResponse> result = userService.getMyLikedSessions(userId, pageable);
+            Slice<SessionListResponse> result = userService.getMyLikedSessions(userId, null, pageable);
 
             // then
             assertThat(result.getContent()).isEmpty();
@@ -145,13 +158,13 @@ class UserServiceTest {
             SessionListResponse likedSession1 = new SessionListResponse(
                 1L, 1L, 2L, "세션1", null, "서울", "강남구", null, new CoordsResponse(37.4979, 127.0276),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, true, LocalDateTime.now(),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, true, false, LocalDateTime.now(),
                 null, List.of()
             );
             SessionListResponse likedSession2 = new SessionListResponse(
                 2L, 1L, 3L, "세션2", null, "서울", "서초구", null, new CoordsResponse(37.4837, 127.0324),
                 LocalDateTime.now().plusDays(8), LocalDateTime.now().plusDays(7),
-                SessionLevel.INTERMEDIATE, SessionStatus.OPEN, 360, 15, 3L, true, LocalDateTime.now(),
+                SessionLevel.INTERMEDIATE, SessionStatus.OPEN, 360, 15, 3L, true, false, LocalDateTime.now(),
                 null, List.of()
             );
 
@@ -159,11 +172,12 @@ class UserServiceTest {
                 List.of(likedSession1, likedSession2), pageable, true
             );
 
-            given(sessionLikeRepository.findLikedSessionsByUserId(userId, pageable))
+            given(sessionLikeRepository.findLikedSessionsByUserId(userId, null, pageable))
                 .willReturn(mockSlice);
+            given(userSessionActivityService.get(userId)).willReturn(UserSessionActivity.empty());
 
             // when
-            Slice<SessionListResponse> result = userService.getMyLikedSessions(userId, pageable);
+            Slice<SessionListResponse> result = userService.getMyLikedSessions(userId, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(2);
@@ -496,11 +510,11 @@ class UserServiceTest {
                 List.of(crew1, crew2), pageable, false
             );
 
-            given(membershipRepository.findMyCrewsByUserId(userId, pageable))
+            given(membershipRepository.findMyCrewsByUserId(userId, null, pageable))
                 .willReturn(mockSlice);
 
             // when
-            Slice<MyCrewResponse> result = userService.getMyCrews(userId, pageable);
+            Slice<MyCrewResponse> result = userService.getMyCrews(userId, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(2);
@@ -518,11 +532,11 @@ class UserServiceTest {
 
             Slice<MyCrewResponse> mockSlice = new SliceImpl<>(List.of(), pageable, false);
 
-            given(membershipRepository.findMyCrewsByUserId(userId, pageable))
+            given(membershipRepository.findMyCrewsByUserId(userId, null, pageable))
                 .willReturn(mockSlice);
 
             // when
-            Slice<MyCrewResponse> result = userService.getMyCrews(userId, pageable);
+            Slice<MyCrewResponse> result = userService.getMyCrews(userId, null, pageable);
 
             // then
             assertThat(result.getContent()).isEmpty();
@@ -545,7 +559,7 @@ class UserServiceTest {
                 1L, 1L, userId, "한강 야간 러닝", "https://example.com/session1.jpg",
                 "서울", "송파구", null, new CoordsResponse(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, true, LocalDateTime.now(),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 5L, true, false, LocalDateTime.now(),
                 4.5, List.of()
             );
 
@@ -553,11 +567,11 @@ class UserServiceTest {
                 List.of(session1), pageable, false
             );
 
-            given(sessionService.getMyHostedSessions(userId, pageable))
+            given(sessionService.getMyHostedSessions(userId, null, pageable))
                 .willReturn(mockSlice);
 
             // when
-            Slice<SessionListResponse> result = userService.getMyHostedSessions(userId, pageable);
+            Slice<SessionListResponse> result = userService.getMyHostedSessions(userId, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
@@ -575,11 +589,11 @@ class UserServiceTest {
 
             Slice<SessionListResponse> mockSlice = new SliceImpl<>(List.of(), pageable, false);
 
-            given(sessionService.getMyHostedSessions(userId, pageable))
+            given(sessionService.getMyHostedSessions(userId, null, pageable))
                 .willReturn(mockSlice);
 
             // when
-            Slice<SessionListResponse> result = userService.getMyHostedSessions(userId, pageable);
+            Slice<SessionListResponse> result = userService.getMyHostedSessions(userId, null, pageable);
 
             // then
             assertThat(result.getContent()).isEmpty();
@@ -602,7 +616,7 @@ class UserServiceTest {
                 1L, 1L, 2L, "한강 야간 러닝", "https://example.com/session1.jpg",
                 "서울", "송파구", null, new CoordsResponse(37.5145, 127.1017),
                 LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(6),
-                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 12L, true, LocalDateTime.now(),
+                SessionLevel.BEGINNER, SessionStatus.OPEN, 390, 20, 12L, false, LocalDateTime.now(),
                 4.5, false,
                 List.of()
             );
@@ -611,18 +625,21 @@ class UserServiceTest {
                 List.of(session1), pageable, false
             );
 
-            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, pageable))
+            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, null, pageable))
                 .willReturn(mockSlice);
-            given(sessionParticipantRepository.findParticipantsBySessionIds(List.of(1L)))
+            given(userSessionActivityService.get(userId))
+                .willReturn(new UserSessionActivity(SessionIdSet.of(1L), SessionIdSet.of(1L)));
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(1L), 3))
                 .willReturn(List.of());
 
             // when
-            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, pageable);
+            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.hasNext()).isFalse();
             assertThat(result.getContent().get(0).id()).isEqualTo(1L);
+            assertThat(result.getContent().get(0).liked()).isTrue();
         }
 
         @Test
@@ -646,13 +663,14 @@ class UserServiceTest {
                 List.of(session), pageable, false
             );
 
-            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, status, pageable))
+            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, status, null, pageable))
                 .willReturn(mockSlice);
-            given(sessionParticipantRepository.findParticipantsBySessionIds(List.of(1L)))
+            given(userSessionActivityService.get(userId)).willReturn(UserSessionActivity.empty());
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(1L), 3))
                 .willReturn(List.of());
 
             // when
-            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, status, pageable);
+            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, status, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
@@ -680,13 +698,14 @@ class UserServiceTest {
                 List.of(session), pageable, false
             );
 
-            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, status, pageable))
+            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, status, null, pageable))
                 .willReturn(mockSlice);
-            given(sessionParticipantRepository.findParticipantsBySessionIds(List.of(2L)))
+            given(userSessionActivityService.get(userId)).willReturn(UserSessionActivity.empty());
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(2L), 3))
                 .willReturn(List.of());
 
             // when
-            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, status, pageable);
+            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, status, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
@@ -702,11 +721,11 @@ class UserServiceTest {
 
             Slice<ParticipatingSessionResponse> mockSlice = new SliceImpl<>(List.of(), pageable, false);
 
-            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, pageable))
+            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, null, pageable))
                 .willReturn(mockSlice);
 
             // when
-            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, pageable);
+            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, null, pageable);
 
             // then
             assertThat(result.getContent()).isEmpty();
@@ -735,49 +754,25 @@ class UserServiceTest {
                 List.of(session), pageable, false
             );
 
-            // Mock 참여자 생성
-            User participant1 = Mockito.mock(User.class);
-            given(participant1.getUserId()).willReturn(10L);
-            given(participant1.getName()).willReturn("참여자1");
-            given(participant1.getImage()).willReturn("image1.jpg");
-            given(participant1.getIntroduction()).willReturn("소개1");
-
-            User participant2 = Mockito.mock(User.class);
-            given(participant2.getUserId()).willReturn(11L);
-            given(participant2.getName()).willReturn("참여자2");
-            given(participant2.getImage()).willReturn("image2.jpg");
-            given(participant2.getIntroduction()).willReturn("소개2");
+            SessionParticipantPreview sp1 = new SessionParticipantPreview(
+                sessionId, 10L, "참여자1", "image1.jpg", "소개1", LocalDateTime.now());
+            SessionParticipantPreview sp2 = new SessionParticipantPreview(
+                sessionId, 11L, "참여자2", "image2.jpg", "소개2", LocalDateTime.now());
 
-            Session mockSession = Mockito.mock(Session.class);
-            given(mockSession.getId()).willReturn(sessionId);
+            MembershipRoleMap roleMap = new MembershipRoleMap();
+            roleMap.put(10L, crewId, CrewRole.LEADER);
+            roleMap.put(11L, crewId, CrewRole.MEMBER);
 
-            SessionParticipant sp1 = Mockito.mock(SessionParticipant.class);
-            given(sp1.getSession()).willReturn(mockSession);
-            given(sp1.getUser()).willReturn(participant1);
-            given(sp1.getJoinedAt()).willReturn(LocalDateTime.now());
-
-            SessionParticipant sp2 = Mockito.mock(SessionParticipant.class);
-            given(sp2.getSession()).willReturn(mockSession);
-            given(sp2.getUser()).willReturn(participant2);
-            given(sp2.getJoinedAt()).willReturn(LocalDateTime.now());
-
-            Membership membership1 = Mockito.mock(Membership.class);
-            given(membership1.getRole()).willReturn(CrewRole.LEADER);
-
-            Membership membership2 = Mockito.mock(Membership.class);
-            given(membership2.getRole()).willReturn(CrewRole.MEMBER);
-
-            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, pageable))
+            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, null, pageable))
                 .willReturn(mockSlice);
-            given(sessionParticipantRepository.findParticipantsBySessionIds(List.of(sessionId)))
+            given(userSessionActivityService.get(userId)).willReturn(UserSessionActivity.empty());
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(sessionId), 3))
                 .willReturn(List.of(sp1, sp2));
-            given(membershipRepository.findByUserUserIdAndCrewId(10L, crewId))
-                .willReturn(Optional.of(membership1));
-            given(membershipRepository.findByUserUserIdAndCrewId(11L, crewId))
-                .willReturn(Optional.of(membership2));
+            given(membershipRepository.findRoleMap(Set.of(10L, 11L), Set.of(crewId)))
+                .willReturn(roleMap);
 
             // when
-            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, pageable);
+            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
@@ -792,7 +787,7 @@ class UserServiceTest {
         }
 
         @Test
-        @DisplayName("성공 - participants는 최대 3명까지만 포함")
+        @DisplayName("성공 - participants는 설정된 미리보기 인원(3명)으로 조회")
         void success_participantsLimitedToThree() {
             // given
             Long userId = 1L;
@@ -813,41 +808,25 @@ class UserServiceTest {
                 List.of(session), pageable, false
             );
 
-            Session mockSession = Mockito.mock(Session.class);
-            given(mockSession.getId()).willReturn(sessionId);
-
-            // 5명의 참여자 생성 (처음 3명만 실제로 사용됨)
-            List<SessionParticipant> participants = new java.util.ArrayList<>();
-            for (int i = 1; i <= 5; i++) {
-                User user = Mockito.mock(User.class);
-                SessionParticipant sp = Mockito.mock(SessionParticipant.class);
-                given(sp.getSession()).willReturn(mockSession);
-                given(sp.getUser()).willReturn(user);
-
-                // 처음 3명만 실제로 처리되므로 3명에 대해서만 상세 mock 설정
-                if (i <= 3) {
-                    given(user.getUserId()).willReturn((long) i);
-                    given(user.getName()).willReturn("참여자" + i);
-                    given(user.getImage()).willReturn("image" + i + ".jpg");
-                    given(user.getIntroduction()).willReturn("소개" + i);
-                    given(sp.getJoinedAt()).willReturn(LocalDateTime.now());
-
-                    Membership membership = Mockito.mock(Membership.class);
-                    given(membership.getRole()).willReturn(CrewRole.MEMBER);
-                    given(membershipRepository.findByUserUserIdAndCrewId((long) i, crewId))
-                        .willReturn(Optional.of(membership));
-                }
-
-                participants.add(sp);
+            // 미리보기 인원 제한은 쿼리에서 적용되므로 설정값(3명)으로 조회하는지 확인
+            List<SessionParticipantPreview> participants = new java.util.ArrayList<>();
+            MembershipRoleMap roleMap = new MembershipRoleMap();
+            for (int i = 1; i <= 3; i++) {
+                participants.add(new SessionParticipantPreview(
+                    sessionId, (long) i, "참여자" + i, "image" + i + ".jpg", "소개" + i, LocalDateTime.now()));
+                roleMap.put(i, crewId, CrewRole.MEMBER);
             }
+            given(membershipRepository.findRoleMap(Set.of(1L, 2L, 3L), Set.of(crewId)))
+                .willReturn(roleMap);
 
-            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, pageable))
+            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, null, pageable))
                 .willReturn(mockSlice);
-            given(sessionParticipantRepository.findParticipantsBySessionIds(List.of(sessionId)))
+            given(userSessionActivityService.get(userId)).willReturn(UserSessionActivity.empty());
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(sessionId), 3))
                 .willReturn(participants);
 
             // when
-            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, pageable);
+            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
@@ -880,29 +859,19 @@ class UserServiceTest {
                 List.of(session), pageable, false
             );
 
-            User participant = Mockito.mock(User.class);
-            given(participant.getUserId()).willReturn(10L);
-            given(participant.getName()).willReturn("참여자");
-            given(participant.getImage()).willReturn("image.jpg");
-            given(participant.getIntroduction()).willReturn("소개");
-
-            Session mockSession = Mockito.mock(Session.class);
-            given(mockSession.getId()).willReturn(sessionId);
-
-            SessionParticipant sp = Mockito.mock(SessionParticipant.class);
-            given(sp.getSession()).willReturn(mockSession);
-            given(sp.getUser()).willReturn(participant);
-            given(sp.getJoinedAt()).willReturn(LocalDateTime.now());
+            SessionParticipantPreview sp = new SessionParticipantPreview(
+                sessionId, 10L, "참여자", "image.jpg", "소개", LocalDateTime.now());
 
-            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, pageable))
+            given(sessionParticipantRepository.findParticipatingSessionsByUserId(userId, null, null, pageable))
                 .willReturn(mockSlice);
-            given(sessionParticipantRepository.findParticipantsBySessionIds(List.of(sessionId)))
+            given(userSessionActivityService.get(userId)).willReturn(UserSessionActivity.empty());
+            given(sessionParticipantRepository.findParticipantPreviews(List.of(sessionId), 3))
                 .willReturn(List.of(sp));
-            given(membershipRepository.findByUserUserIdAndCrewId(10L, crewId))
-                .willReturn(Optional.empty());
+            given(membershipRepository.findRoleMap(Set.of(10L), Set.of(crewId)))
+                .willReturn(MembershipRoleMap.empty());
 
             // when
-            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, pageable);
+            Slice<ParticipatingSessionResponse> result = userService.getMyParticipatingSessions(userId, null, null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
@@ -0,0 +1,57 @@
+package com.runfit.global.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.runfit.domain.session.event.SessionCountersReconciledEvent;
+import com.runfit.domain.session.repository.SessionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class SessionCounterReconciliationSchedulerTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SessionCounterReconciliationScheduler sessionCounterReconciliationScheduler;
+
+    @Test
+    @DisplayName("성공 - 스케줄러가 카운터 보정 쿼리 호출")
+    void reconcileCounters_callsRepository() {
+        // given
+        when(sessionRepository.reconcileCounters()).thenReturn(3);
+
+        // when
+        sessionCounterReconciliationScheduler.reconcileCounters();
+
+        // then
+        verify(sessionRepository).reconcileCounters();
+        verify(eventPublisher).publishEvent(new SessionCountersReconciledEvent(3));
+    }
+
+    @Test
+    @DisplayName("성공 - 보정할 세션이 없어도 정상 동작")
+    void reconcileCounters_noDrift() {
+        // given
+        when(sessionRepository.reconcileCounters()).thenReturn(0);
+
+        // when
+        sessionCounterReconciliationScheduler.reconcileCounters();
+
+        // then
+        verify(sessionRepository).reconcileCounters();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -2,10 +2,12 @@ package com.runfit.global.scheduler;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.runfit.domain.session.entity.SessionStatus;
+import com.runfit.domain.session.event.ExpiredSessionsClosedEvent;
 import com.runfit.domain.session.repository.SessionRepository;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class SessionStatusSchedulerTest {
@@ -21,6 +24,9 @@ class SessionStatusSchedulerTest {
     @Mock
     private SessionRepository sessionRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SessionStatusScheduler sessionStatusScheduler;
 
@@ -43,6 +49,7 @@ class SessionStatusSchedulerTest {
             eq(SessionStatus.CLOSED),
             any(LocalDateTime.class)
         );
+        verify(eventPublisher).publishEvent(any(ExpiredSessionsClosedEvent.class));
     }
 
     @Test
@@ -64,5 +71,6 @@ class SessionStatusSchedulerTest {
             eq(SessionStatus.CLOSED),
             any(LocalDateTime.class)
         );
+        verify(eventPublisher, never()).publishEvent(any(ExpiredSessionsClosedEvent.class));
     }
 }